@@ -0,0 +1,80 @@
+package br.com.contmatic.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link Automato} contra {@link Pattern} em entradas hostis de
+ * tamanho crescente, rejeitadas apenas no ultimo caractere.
+ *
+ * O tempo medio dividido por {@code tamanho} deve ficar constante para o
+ * automato; para a expressao, cresce com o retrocesso.
+ *
+ * @author gabriel.santos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AutomatoBenchmark {
+
+	private static final Pattern EMAIL = Pattern.compile(RegexType.EMAIL);
+
+	private static final Pattern URL = Pattern.compile(RegexType.URL);
+
+	@Param({ "16", "256", "4096", "65536" })
+	public int tamanho;
+
+	private String email;
+
+	private String site;
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder("a@");
+		while (sb.length() < tamanho) {
+			sb.append("a.");
+		}
+		email = sb.append('!').toString();
+		sb = new StringBuilder("www.");
+		while (sb.length() < tamanho) {
+			sb.append("a;");
+		}
+		site = sb.append(';').toString();
+	}
+
+	@Benchmark
+	public boolean emailAutomato() {
+		return Automato.EMAIL.corresponde(email);
+	}
+
+	@Benchmark
+	public boolean emailPattern() {
+		return EMAIL.matcher(email).matches();
+	}
+
+	@Benchmark
+	public boolean siteAutomato() {
+		return Automato.URL.corresponde(site);
+	}
+
+	@Benchmark
+	public boolean sitePattern() {
+		return URL.matcher(site).matches();
+	}
+
+}
@@ -0,0 +1,116 @@
+package br.com.contmatic.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.telefone.TelefoneDDDType;
+import br.com.contmatic.telefone.TelefoneType;
+
+/**
+ * Compara a insercao e a busca de telefones num {@link HashSet} com o equals e
+ * o hashCode por reflexao, como eram, e com os gerados por
+ * {@link br.com.contmatic.processador.ProcessadorDeIgualdade}.
+ *
+ * As buscas usam outras instancias, iguais as inseridas, para que o equals
+ * compare os campos. Com 10 milhoes de telefones o fork precisa de um heap
+ * grande.
+ *
+ * @author gabriel.santos
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms8g", "-Xmx8g" })
+@State(Scope.Thread)
+public class IgualdadeBenchmark {
+
+	private static final int PRIMEIRO_NUMERO = 900_000_000;
+
+	@Param({ "REFLEXAO", "GERADA" })
+	public String igualdade;
+
+	@Param({ "100000", "10000000" })
+	public int tamanho;
+
+	private Object[] elementos;
+
+	private Object[] consultas;
+
+	private Set<Object> conjunto;
+
+	@Setup
+	public void setUp() {
+		elementos = new Object[tamanho];
+		consultas = new Object[tamanho];
+		for (int i = 0; i < tamanho; i++) {
+			elementos[i] = elemento(i);
+			consultas[i] = elemento(i);
+		}
+		conjunto = insere();
+	}
+
+	private Object elemento(int indice) {
+		TelefoneDDDType[] ddds = TelefoneDDDType.values();
+		Telefone telefone = new Telefone(ddds[indice % ddds.length], Integer.toString(PRIMEIRO_NUMERO + indice),
+				TelefoneType.CELULAR);
+		return "REFLEXAO".equals(igualdade) ? new PorReflexao(telefone) : telefone;
+	}
+
+	@Benchmark
+	public Set<Object> insere() {
+		Set<Object> telefones = new HashSet<>(tamanho * 4 / 3 + 1);
+		for (Object elemento : elementos) {
+			telefones.add(elemento);
+		}
+		return telefones;
+	}
+
+	@Benchmark
+	public int busca() {
+		int encontrados = 0;
+		for (Object consulta : consultas) {
+			if (conjunto.contains(consulta)) {
+				encontrados++;
+			}
+		}
+		return encontrados;
+	}
+
+	/** Telefone com o equals e o hashCode que as classes de dominio usavam. */
+	private static final class PorReflexao {
+
+		private final Telefone telefone;
+
+		PorReflexao(Telefone telefone) {
+			this.telefone = telefone;
+		}
+
+		@Override
+		public int hashCode() {
+			return HashCodeBuilder.reflectionHashCode(telefone);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof PorReflexao && EqualsBuilder.reflectionEquals(telefone, ((PorReflexao) obj).telefone);
+		}
+	}
+
+}
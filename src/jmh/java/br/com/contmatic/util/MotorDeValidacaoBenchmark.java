@@ -0,0 +1,89 @@
+package br.com.contmatic.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara os motores de {@link MotorDeValidacao} em documentos isolados e na
+ * validacao em lote.
+ *
+ * @author gabriel.santos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MotorDeValidacaoBenchmark {
+
+	private static final int TAMANHO_DO_LOTE = 10_000;
+
+	@Param({ "ESCALAR", "SWAR" })
+	public MotorDeValidacao motor;
+
+	private ByteBuffer cpfs;
+
+	private ByteBuffer cnpjs;
+
+	private byte[] loteDeCpfs;
+
+	private byte[] loteDeCnpjs;
+
+	private int indice;
+
+	@Setup
+	public void setUp() {
+		GeradorDeDocumentos gerador = new GeradorDeDocumentos(42);
+		loteDeCpfs = gerador.geraCpfs(TAMANHO_DO_LOTE);
+		loteDeCnpjs = gerador.geraCnpjs(TAMANHO_DO_LOTE);
+		cpfs = ByteBuffer.wrap(loteDeCpfs).order(ByteOrder.LITTLE_ENDIAN);
+		cnpjs = ByteBuffer.wrap(loteDeCnpjs).order(ByteOrder.LITTLE_ENDIAN);
+		MotorDeValidacao.setPadrao(motor);
+	}
+
+	@TearDown
+	public void tearDown() {
+		MotorDeValidacao.setPadrao(MotorDeValidacao.doSistema());
+	}
+
+	@Benchmark
+	public boolean isCPF() {
+		indice = indice == TAMANHO_DO_LOTE - 1 ? 0 : indice + 1;
+		return motor.isCPF(cpfs, indice * Validate.TAMANHO_CPF);
+	}
+
+	@Benchmark
+	public boolean isCNPJ() {
+		indice = indice == TAMANHO_DO_LOTE - 1 ? 0 : indice + 1;
+		return motor.isCNPJ(cnpjs, indice * Validate.TAMANHO_CNPJ);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public BitSet isCPFEmLote() {
+		return Validate.isCPFEmLote(loteDeCpfs, TAMANHO_DO_LOTE);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public BitSet isCNPJEmLote() {
+		return Validate.isCNPJEmLote(loteDeCnpjs, TAMANHO_DO_LOTE);
+	}
+
+}
@@ -0,0 +1,105 @@
+package br.com.contmatic.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark de {@link RegexType#validaEspacosIncorretosECaracteresEspeciais}.
+ *
+ * Entradas invalidas lancam {@link IllegalArgumentException}, entao o custo
+ * da excecao faz parte da medicao, como acontece nos setters. Os casos
+ * adversariais sao textos longos com o erro apenas no fim.
+ *
+ * @author gabriel.santos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegexTypeBenchmark {
+
+	private static final int TAMANHO_DO_TEXTO_LONGO = 4_096;
+
+	@Param({ "VALIDO", "CARACTERE_ESPECIAL", "ESPACO_NO_INICIO", "ESPACOS_DUPLICADOS", "LONGO_VALIDO",
+			"LONGO_COM_ESPECIAL_NO_FIM", "LONGO_COM_ESPACOS_NO_FIM" })
+	public String caso;
+
+	private String texto;
+
+	@Setup
+	public void setUp() {
+		switch (caso) {
+		case "VALIDO":
+			texto = "Gabriel Bueno Santos";
+			break;
+		case "CARACTERE_ESPECIAL":
+			texto = "Gabriel@Bueno";
+			break;
+		case "ESPACO_NO_INICIO":
+			texto = " Gabriel Bueno";
+			break;
+		case "ESPACOS_DUPLICADOS":
+			texto = "Gabriel  Bueno";
+			break;
+		case "LONGO_VALIDO":
+			texto = textoLongo("");
+			break;
+		case "LONGO_COM_ESPECIAL_NO_FIM":
+			texto = textoLongo("#");
+			break;
+		case "LONGO_COM_ESPACOS_NO_FIM":
+			texto = textoLongo("  a");
+			break;
+		default:
+			throw new IllegalArgumentException(caso);
+		}
+	}
+
+	@Benchmark
+	public boolean validaEspacosIncorretosECaracteresEspeciais() {
+		try {
+			return RegexType.validaEspacosIncorretosECaracteresEspeciais(texto);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public int validaEspacosIncorretosECaracteresEspeciaisSemExcecao() {
+		return ValidacaoSemExcecao.validaEspacosIncorretosECaracteresEspeciais(texto);
+	}
+
+	@Benchmark
+	public boolean contemCaracteresEspeciais() {
+		return RegexType.contemCaracteresEspeciais(texto);
+	}
+
+	@Benchmark
+	public boolean contemMaisQueUmEspacoEntreAsPalavras() {
+		return RegexType.contemMaisQueUmEspacoEntreAsPalavras(texto);
+	}
+
+	private static String textoLongo(String sufixo) {
+		StringBuilder sb = new StringBuilder(TAMANHO_DO_TEXTO_LONGO + sufixo.length());
+		while (sb.length() < TAMANHO_DO_TEXTO_LONGO) {
+			sb.append("Contmatic Phoenix ");
+		}
+		sb.setLength(TAMANHO_DO_TEXTO_LONGO);
+		sb.setCharAt(TAMANHO_DO_TEXTO_LONGO - 1, 'x');
+		return sb.append(sufixo).toString();
+	}
+
+}
@@ -0,0 +1,86 @@
+package br.com.contmatic.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.endereco.EstadoType;
+import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.telefone.TelefoneDDDType;
+import br.com.contmatic.telefone.TelefoneType;
+
+/**
+ * Compara o toString por reflexao, como era, com o {@link EscritorDeTexto}
+ * numa empresa com telefones e enderecos; rode com {@code -prof gc} para ver
+ * a alocacao por operacao.
+ *
+ * @author gabriel.santos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TextoBenchmark {
+
+	private static final int QUANTIDADE = 10;
+
+	private Empresa empresa;
+
+	private StringBuilder destino;
+
+	private EscritorDeTexto escritor;
+
+	@Setup
+	public void setUp() {
+		Set<Telefone> telefones = new HashSet<>();
+		Set<Endereco> enderecos = new HashSet<>();
+		for (int i = 0; i < QUANTIDADE; i++) {
+			telefones.add(new Telefone(TelefoneDDDType.DDD11, Integer.toString(940038460 + i), TelefoneType.CELULAR));
+			enderecos.add(new Endereco("04517020", "Rua Padre Estevao Pernet", i + 1, "Apartamento", "Tatuape",
+					"Sao Paulo", EstadoType.SP));
+		}
+		empresa = new Empresa("00682547000114", "Bueno Developers", telefones, enderecos);
+		destino = new StringBuilder(4096);
+		escritor = EscritorDeTexto.chaveValor(destino);
+	}
+
+	@Benchmark
+	public String reflexao() {
+		return ToStringBuilder.reflectionToString(empresa, ToStringStyle.MULTI_LINE_STYLE);
+	}
+
+	@Benchmark
+	public String emTexto() {
+		return empresa.toString();
+	}
+
+	@Benchmark
+	public int reaproveitandoODestino() {
+		destino.setLength(0);
+		escritor.escreve(empresa);
+		return destino.length();
+	}
+
+	@Benchmark
+	public String json() {
+		return EscritorDeTexto.emTexto(empresa, FormatoDeTexto.JSON);
+	}
+
+}
@@ -0,0 +1,116 @@
+package br.com.contmatic.util;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark dos caminhos quentes de {@link Validate}.
+ *
+ * Cada caso tem uma entrada de CPF e uma de CNPJ: documentos validos,
+ * invalidos pelo digito verificador e entradas adversariais, que so sao
+ * recusadas no ultimo caractere, tem todos os digitos iguais ou tamanho
+ * errado.
+ *
+ * @author gabriel.santos
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidateBenchmark {
+
+	private static final int TAMANHO_DO_LOTE = 10_000;
+
+	@Param({ "VALIDO", "DIGITO_INCORRETO", "LETRA_NO_FIM", "DIGITOS_REPETIDOS", "TAMANHO_ERRADO", "MASCARA" })
+	public String caso;
+
+	private String cpf;
+
+	private String cnpj;
+
+	private byte[] loteDeCpfs;
+
+	private byte[] loteDeCnpjs;
+
+	@Setup
+	public void setUp() {
+		switch (caso) {
+		case "VALIDO":
+			cpf = "39609538878";
+			cnpj = "35667373000103";
+			break;
+		case "DIGITO_INCORRETO":
+			cpf = "39609538877";
+			cnpj = "35667373000104";
+			break;
+		case "LETRA_NO_FIM":
+			cpf = "3960953887a";
+			cnpj = "3566737300010a";
+			break;
+		case "DIGITOS_REPETIDOS":
+			cpf = "11111111111";
+			cnpj = "11111111111111";
+			break;
+		case "TAMANHO_ERRADO":
+			cpf = "396095388780000000000";
+			cnpj = "356673730001030000000";
+			break;
+		case "MASCARA":
+			cpf = "396.095.388-78";
+			cnpj = "35.667.373/0001-03";
+			break;
+		default:
+			throw new IllegalArgumentException(caso);
+		}
+		GeradorDeDocumentos gerador = new GeradorDeDocumentos(42);
+		loteDeCpfs = gerador.geraCpfs(TAMANHO_DO_LOTE);
+		loteDeCnpjs = gerador.geraCnpjs(TAMANHO_DO_LOTE);
+	}
+
+	@Benchmark
+	public boolean isCPF() {
+		return Validate.isCPF(cpf);
+	}
+
+	@Benchmark
+	public boolean isCNPJ() {
+		return Validate.isCNPJ(cnpj);
+	}
+
+	@Benchmark
+	public boolean isCPFComOuSemMascara() {
+		return Validate.isCPFComOuSemMascara(cpf);
+	}
+
+	@Benchmark
+	public boolean isCNPJComOuSemMascara() {
+		return Validate.isCNPJComOuSemMascara(cnpj);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public BitSet isCPFEmLote() {
+		return Validate.isCPFEmLote(loteDeCpfs, TAMANHO_DO_LOTE);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public BitSet isCNPJEmLote() {
+		return Validate.isCNPJEmLote(loteDeCnpjs, TAMANHO_DO_LOTE);
+	}
+
+}
@@ -0,0 +1,171 @@
+package br.com.contmatic.documento;
+
+import static br.com.contmatic.util.Constantes.CNPJ_INVALIDO;
+import static br.com.contmatic.util.Constantes.CNPJ_VAZIO;
+import static br.com.contmatic.util.GeradorDeDocumentos.TAMANHO_BASE_CNPJ;
+import static br.com.contmatic.util.Validate.TAMANHO_CNPJ;
+
+import br.com.contmatic.util.GeradorDeDocumentos;
+import br.com.contmatic.util.Validate;
+
+/**
+ * CNPJ ja validado, guardado em um {@code long}.
+ *
+ * O CNPJ numerico e guardado como os seus 14 digitos. O alfanumerico e
+ * guardado como {@code -(1 + base)}, sendo {@code base} os 12 primeiros
+ * caracteres lidos em base 36. A validacao acontece uma unica vez, na criacao;
+ * igualdade, hash e ordenacao comparam apenas o valor primitivo. O texto, que
+ * no alfanumerico inclui recalcular os digitos verificadores, e montado na
+ * primeira chamada de {@link #toString()} e guardado, como o hash de
+ * {@link String}: em corrida, duas threads podem monta-lo, mas sempre com o
+ * mesmo valor.
+ *
+ * @author gabriel.santos
+ */
+public final class Cnpj implements Comparable<Cnpj> {
+
+	/** Quantidade de bases alfanumericas de 12 caracteres: 36^12. */
+	private static final long QUANTIDADE_DE_BASES_ALFANUMERICAS = 4_738_381_338_321_616_896L;
+
+	private static final int RAIZ_ALFANUMERICA = 36;
+
+	/** Os 14 digitos do CNPJ numerico, ou a base codificada do alfanumerico. */
+	private final long numero;
+
+	/** Os 14 caracteres em texto, montados na primeira chamada de {@link #toString()}. */
+	private String texto;
+
+	private Cnpj(long numero) {
+		this.numero = numero;
+	}
+
+	/**
+	 * Cria um CNPJ numerico ou alfanumerico, sem mascara ou no formato
+	 * {@value Validate#MASCARA_CNPJ}. A mascara e removida e os digitos
+	 * verificadores conferidos em uma unica passada.
+	 *
+	 * @param cnpj o CNPJ com ou sem mascara
+	 * @return o CNPJ
+	 * @throws IllegalArgumentException se o CNPJ for nulo ou vazio
+	 * @throws IllegalStateException    se o CNPJ nao for valido
+	 */
+	public static Cnpj valueOf(CharSequence cnpj) {
+		if (cnpj == null || cnpj.length() == 0) {
+			throw new IllegalArgumentException(CNPJ_VAZIO);
+		}
+		long digitos = Validate.digitosDoCnpj(cnpj);
+		if (digitos != Validate.FORMATO_NAO_RECONHECIDO) {
+			return valueOf(digitos);
+		}
+		if (!Validate.isCNPJComOuSemMascara(cnpj)) {
+			throw new IllegalStateException(CNPJ_INVALIDO);
+		}
+		return new Cnpj(codificaAlfanumerico(cnpj));
+	}
+
+	/**
+	 * Cria um CNPJ a partir do valor devolvido por {@link #longValue()}.
+	 *
+	 * @param cnpj os 14 digitos do CNPJ numerico, ou a base codificada do
+	 *             alfanumerico
+	 * @return o CNPJ
+	 * @throws IllegalStateException se o CNPJ nao for valido
+	 */
+	public static Cnpj valueOf(long cnpj) {
+		boolean valido = cnpj < 0 ? isAlfanumericoValido(cnpj) : Validate.isCNPJ(cnpj);
+		if (!valido) {
+			throw new IllegalStateException(CNPJ_INVALIDO);
+		}
+		return new Cnpj(cnpj);
+	}
+
+	public long longValue() {
+		return numero;
+	}
+
+	public boolean isAlfanumerico() {
+		return numero < 0;
+	}
+
+	private static long codificaAlfanumerico(CharSequence cnpj) {
+		long base = 0;
+		int lidos = 0;
+		for (int i = 0; lidos < TAMANHO_BASE_CNPJ; i++) {
+			int valor = Character.digit(cnpj.charAt(i), RAIZ_ALFANUMERICA);
+			if (valor >= 0) {
+				base = base * RAIZ_ALFANUMERICA + valor;
+				lidos++;
+			}
+		}
+		return -1 - base;
+	}
+
+	/**
+	 * A base codificada so e valida se tiver ao menos uma letra; bases apenas
+	 * com digitos pertencem ao CNPJ numerico.
+	 */
+	private static boolean isAlfanumericoValido(long cnpj) {
+		long base = -1 - cnpj;
+		if (base >= QUANTIDADE_DE_BASES_ALFANUMERICAS) {
+			return false;
+		}
+		for (int i = 0; i < TAMANHO_BASE_CNPJ; i++) {
+			if (base % RAIZ_ALFANUMERICA >= 10) {
+				return true;
+			}
+			base /= RAIZ_ALFANUMERICA;
+		}
+		return false;
+	}
+
+	@Override
+	public int compareTo(Cnpj outro) {
+		return Long.compare(numero, outro.numero);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(numero);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Cnpj && ((Cnpj) obj).numero == numero;
+	}
+
+	/**
+	 * Os 14 caracteres do CNPJ, com zeros a esquerda.
+	 *
+	 * @return o CNPJ sem mascara
+	 */
+	@Override
+	public String toString() {
+		String resultado = texto;
+		if (resultado == null) {
+			resultado = monta();
+			texto = resultado;
+		}
+		return resultado;
+	}
+
+	private String monta() {
+		if (isAlfanumerico()) {
+			char[] base = new char[TAMANHO_BASE_CNPJ];
+			long resto = -1 - numero;
+			for (int i = TAMANHO_BASE_CNPJ - 1; i >= 0; i--) {
+				int valor = (int) (resto % RAIZ_ALFANUMERICA);
+				base[i] = Character.toUpperCase(Character.forDigit(valor, RAIZ_ALFANUMERICA));
+				resto /= RAIZ_ALFANUMERICA;
+			}
+			return GeradorDeDocumentos.completaCnpj(new String(base));
+		}
+		char[] digitos = new char[TAMANHO_CNPJ];
+		long resto = numero;
+		for (int i = TAMANHO_CNPJ - 1; i >= 0; i--) {
+			digitos[i] = (char) ('0' + resto % 10);
+			resto /= 10;
+		}
+		return new String(digitos);
+	}
+
+}
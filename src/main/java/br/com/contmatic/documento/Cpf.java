@@ -0,0 +1,106 @@
+package br.com.contmatic.documento;
+
+import static br.com.contmatic.util.Constantes.CPF_INVALIDO;
+import static br.com.contmatic.util.Constantes.CPF_VAZIO;
+import static br.com.contmatic.util.Validate.TAMANHO_CPF;
+
+import br.com.contmatic.util.Validate;
+
+/**
+ * CPF ja validado, guardado como os seus 11 digitos em um {@code long}.
+ *
+ * A validacao acontece uma unica vez, na criacao; igualdade, hash e ordenacao
+ * comparam apenas o valor primitivo. O texto e montado na primeira chamada de
+ * {@link #toString()} e guardado, como o hash de {@link String}: em corrida,
+ * duas threads podem monta-lo, mas sempre com o mesmo valor.
+ *
+ * @author gabriel.santos
+ */
+public final class Cpf implements Comparable<Cpf> {
+
+	/** Os 11 digitos do CPF. */
+	private final long numero;
+
+	/** Os 11 digitos em texto, montados na primeira chamada de {@link #toString()}. */
+	private String texto;
+
+	private Cpf(long numero) {
+		this.numero = numero;
+	}
+
+	/**
+	 * Cria um CPF a partir dos seus digitos, sem mascara ou no formato
+	 * {@value Validate#MASCARA_CPF}. A mascara e removida e os digitos
+	 * verificadores conferidos em uma unica passada.
+	 *
+	 * @param cpf o CPF com ou sem mascara
+	 * @return o CPF
+	 * @throws IllegalArgumentException se o CPF for nulo ou vazio
+	 * @throws IllegalStateException    se o CPF nao for valido
+	 */
+	public static Cpf valueOf(CharSequence cpf) {
+		if (cpf == null || cpf.length() == 0) {
+			throw new IllegalArgumentException(CPF_VAZIO);
+		}
+		return valueOf(Validate.digitosDoCpf(cpf));
+	}
+
+	/**
+	 * Cria um CPF a partir do seu valor numerico.
+	 *
+	 * @param cpf os 11 digitos do CPF como numero
+	 * @return o CPF
+	 * @throws IllegalStateException se o CPF nao for valido
+	 */
+	public static Cpf valueOf(long cpf) {
+		if (!Validate.isCPF(cpf)) {
+			throw new IllegalStateException(CPF_INVALIDO);
+		}
+		return new Cpf(cpf);
+	}
+
+	public long longValue() {
+		return numero;
+	}
+
+	@Override
+	public int compareTo(Cpf outro) {
+		return Long.compare(numero, outro.numero);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(numero);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Cpf && ((Cpf) obj).numero == numero;
+	}
+
+	/**
+	 * Os 11 digitos do CPF, com zeros a esquerda.
+	 *
+	 * @return o CPF sem mascara
+	 */
+	@Override
+	public String toString() {
+		String resultado = texto;
+		if (resultado == null) {
+			resultado = monta();
+			texto = resultado;
+		}
+		return resultado;
+	}
+
+	private String monta() {
+		char[] digitos = new char[TAMANHO_CPF];
+		long resto = numero;
+		for (int i = TAMANHO_CPF - 1; i >= 0; i--) {
+			digitos[i] = (char) ('0' + resto % 10);
+			resto /= 10;
+		}
+		return new String(digitos);
+	}
+
+}
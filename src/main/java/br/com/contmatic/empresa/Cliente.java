@@ -1,9 +1,9 @@
 package br.com.contmatic.empresa;
 
+import static br.com.contmatic.util.CodigoDeErro.OK;
 import static br.com.contmatic.util.Constantes.BOLETO_NEGATIVO;
 import static br.com.contmatic.util.Constantes.BOLETO_VAZIO;
-import static br.com.contmatic.util.Constantes.CPF_INCORRETO;
-import static br.com.contmatic.util.Constantes.CPF_INVALIDO;
+import static br.com.contmatic.util.Constantes.CPF_FORMATADO_SIZE;
 import static br.com.contmatic.util.Constantes.CPF_SIZE;
 import static br.com.contmatic.util.Constantes.CPF_VAZIO;
 import static br.com.contmatic.util.Constantes.EMAIL_INVALIDO;
@@ -12,68 +12,70 @@ import static br.com.contmatic.util.Constantes.EMAIL_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.EMAIL_TAMANHO;
 import static br.com.contmatic.util.Constantes.EMAIL_VAZIO;
 import static br.com.contmatic.util.Constantes.NOME_INVALIDO;
-import static br.com.contmatic.util.Constantes.NOME_MAX_SIZE;
-import static br.com.contmatic.util.Constantes.NOME_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.NOME_TAMANHO;
 import static br.com.contmatic.util.Constantes.NOME_VAZIO;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CPF_GRANDE_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CPF_PEQUENO_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_EMAIL_GRANDE_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_EMAIL_PEQUENO_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_GRANDE_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MAX;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.TELEFONE_VAZIO;
-import static br.com.contmatic.util.RegexType.EMAIL;
-import static br.com.contmatic.util.RegexType.LETRAS;
-import static br.com.contmatic.util.RegexType.NUMEROS;
-import static br.com.contmatic.util.RegexType.validaSeNaoTemEspacosIncorretosECaracteresEspeciaos;
-import static br.com.contmatic.util.Validate.isNotCPF;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaBoleto;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaCpf;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaEmail;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaNome;
 
 import java.math.BigDecimal;
 import java.util.Set;
 
 import javax.validation.Valid;
-import javax.validation.constraints.Email;
 import javax.validation.constraints.Min;
-import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
 import org.hibernate.validator.constraints.NotBlank;
-import org.hibernate.validator.constraints.br.CPF;
 
+import br.com.contmatic.documento.Cpf;
+import br.com.contmatic.processador.Chave;
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
+import br.com.contmatic.telefone.ConjuntoDeTelefones;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.EmailValido;
+import br.com.contmatic.util.Equivalencia;
+import br.com.contmatic.util.ErrosDeValidacao;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.Letras;
+import br.com.contmatic.util.ResultadoDeValidacao;
 
 /**
  * The Class Cliente.
  * 
  * @author gabriel.santos
  */
-public class Cliente {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Cliente implements Escrevivel {
 
 	/** The cpf. */
-	@CPF(message = CPF_INVALIDO)
 	@NotNull(message = CPF_VAZIO)
-	@Pattern(regexp = NUMEROS, message = CPF_INCORRETO)
-	private String cpf;
+	@Chave
+	private Cpf cpf;
 
 	/** The nome. */
 	@NotBlank(message = NOME_VAZIO)
-	@Pattern(regexp = LETRAS, message = NOME_INVALIDO)
+	@Letras(message = NOME_INVALIDO)
 	@Size(min = 2, max = 80, message = NOME_TAMANHO)
-	private String nome;
+	private NomeValidado nome;
 
 	/** The email. */
-	@Email(message = EMAIL_INVALIDO)
 	@NotBlank(message = EMAIL_VAZIO)
-	@Pattern(regexp = EMAIL, message = EMAIL_INVALIDO)
+	@EmailValido(message = EMAIL_INVALIDO)
 	@Size(min = 5, max = 100, message = EMAIL_TAMANHO)
 	private String email;
 
@@ -86,7 +88,7 @@ public class Cliente {
 
 	/** The boleto. */
 	@Min(value = 1, message = BOLETO_NEGATIVO)
-	@NotEmpty(message = BOLETO_VAZIO)
+	@NotNull(message = BOLETO_VAZIO)
 	private BigDecimal boleto;
 
 	/**
@@ -112,26 +114,16 @@ public class Cliente {
 	}
 
 	public String getCpf() {
-		return cpf;
+		return cpf == null ? null : cpf.toString();
 	}
 
 	public void setCpf(String cpf) {
 		this.validaCpfIncorreto(cpf);
-		this.validaCalculoCpf(cpf);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoCpf(cpf);
-		this.cpf = cpf;
+		this.cpf = this.validaCalculoCpf(cpf);
 	}
 	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoCpf(String cpf) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(cpf)) {
-			throw new IllegalArgumentException(CPF_INVALIDO);
-		}
-	}
-	
-	private void validaCalculoCpf(String cpf) {
-		if (isNotCPF(cpf)) {
-			throw new IllegalStateException(CPF_INVALIDO);
-		}
+	private Cpf validaCalculoCpf(String cpf) {
+		return Cpf.valueOf(cpf);
 	}
 
 	private void validaCpfIncorreto(String cpf) {
@@ -141,7 +133,7 @@ public class Cliente {
 	}
 
 	private void validaCpfComTamanhoMaior(String cpf) {
-		if (cpf.length() > CPF_SIZE) {
+		if (cpf.length() > CPF_SIZE && cpf.length() != CPF_FORMATADO_SIZE) {
 			throw new IllegalArgumentException(TAMANHO_DO_CPF_GRANDE_DEMAIS);
 		}
 	}
@@ -158,46 +150,44 @@ public class Cliente {
 		}
 	}
 	
-	public String getNome() {
-		return nome;
+	public Cpf getCpfDocumento() {
+		return cpf;
 	}
 
-	public void setNome(String nome) {
-		this.validaNomeIncorreto(nome);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoNome(nome);
-		this.nome = nome;
+	public void setCpfDocumento(Cpf cpf) {
+		this.validaCpfNullo(cpf);
+		this.cpf = cpf;
 	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoNome(String nome) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(nome)) {
-			throw new IllegalArgumentException(NOME_INVALIDO);
+
+	private void validaCpfNullo(Cpf cpf) {
+		if (cpf == null) {
+			throw new IllegalArgumentException(CPF_VAZIO);
 		}
 	}
 
-	private void validaNomeIncorreto(String nome) {
-		this.validaNomeNulloOuVazio(nome);
-		this.validaNomeMenorQueOTamanhoMinimo(nome);
-		this.validaNomeMaiorQueOTamanhoMinimo(nome);
+	public String getNome() {
+		return nome == null ? null : nome.toString();
 	}
 
-	private void validaNomeMaiorQueOTamanhoMinimo(String nome) {
-		if (nome.length() > NOME_MAX_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_GRANDE_DEMAIS);
-		}
+	public void setNome(String nome) {
+		this.nome = NomeValidado.valueOf(nome);
 	}
 
-	private void validaNomeMenorQueOTamanhoMinimo(String nome) {
-		if (nome.length() < NOME_MIN_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_PEQUENO_DEMAIS);
-		}
+	public NomeValidado getNomeValidado() {
+		return nome;
+	}
+
+	public void setNomeValidado(NomeValidado nome) {
+		this.validaNomeNullo(nome);
+		this.nome = nome;
 	}
 
-	private void validaNomeNulloOuVazio(String nome) {
-		if (nome == null || nome.trim().isEmpty()) {
+	private void validaNomeNullo(NomeValidado nome) {
+		if (nome == null) {
 			throw new IllegalArgumentException(NOME_VAZIO);
 		}
 	}
-
+	
 	public String getEmail() {
 		return email;
 	}
@@ -231,13 +221,20 @@ public class Cliente {
 		}
 	}
 
-	public @Valid Set<Telefone> getTelefone() {
+	public Set<Telefone> getTelefone() {
 		return telefones;
 	}
 
+	/**
+	 * Copia os telefones num {@link ConjuntoDeTelefones}; o conjunto recebido
+	 * nao e guardado. Os telefones que nao cabem num codigo sao copiados como
+	 * recebidos e apontados pela validacao.
+	 *
+	 * @param telefone os telefones
+	 */
 	public void setTelefones(Set<Telefone> telefone) {
 		this.validaTelefoneNullo(telefone);
-		this.telefones = telefone;
+		this.telefones = ConjuntoDeTelefones.compacta(telefone);
 	}
 	
 	private void validaTelefoneNullo(Set<Telefone> telefones) {
@@ -261,6 +258,117 @@ public class Cliente {
 		}
 	}
 
+	/**
+	 * Cria um construtor que valida todos os campos de uma vez.
+	 *
+	 * @return o construtor
+	 */
+	public static Construtor construtor() {
+		return new Construtor();
+	}
+
+	/**
+	 * Construtor de {@link Cliente} que faz as verificacoes dos setters sem
+	 * lancar excecao e devolve todos os campos com erro de uma vez. Os campos
+	 * do construtor {@link Cliente#Cliente(String, String, Set, BigDecimal)} sao
+	 * obrigatorios; o e-mail so e validado se for informado.
+	 */
+	public static final class Construtor {
+
+		public static final int CPF = 0;
+
+		public static final int NOME = 1;
+
+		public static final int EMAIL = 2;
+
+		public static final int TELEFONES = 3;
+
+		public static final int BOLETO = 4;
+
+		private static final int QUANTIDADE_DE_CAMPOS = 5;
+
+		private String cpf;
+
+		private String nome;
+
+		private String email;
+
+		private Set<Telefone> telefones;
+
+		private BigDecimal boleto;
+
+		private Construtor() {
+		}
+
+		public Construtor cpf(String cpf) {
+			this.cpf = cpf;
+			return this;
+		}
+
+		public Construtor nome(String nome) {
+			this.nome = nome;
+			return this;
+		}
+
+		public Construtor email(String email) {
+			this.email = email;
+			return this;
+		}
+
+		/**
+		 * Copia os telefones como {@link Cliente#setTelefones(Set)}.
+		 *
+		 * @param telefones os telefones
+		 * @return o construtor
+		 */
+		public Construtor telefones(Set<Telefone> telefones) {
+			this.telefones = ConjuntoDeTelefones.compacta(telefones);
+			return this;
+		}
+
+		public Construtor boleto(BigDecimal boleto) {
+			this.boleto = boleto;
+			return this;
+		}
+
+		/**
+		 * Valida todos os campos e constroi o cliente se nao houver erros.
+		 *
+		 * @return o cliente ou os erros de todos os campos
+		 */
+		public ResultadoDeValidacao<Cliente> constroi() {
+			ErrosDeValidacao erros = new ErrosDeValidacao(QUANTIDADE_DE_CAMPOS);
+			erros.registra(CPF, validaCpf(cpf));
+			erros.registra(NOME, validaNome(nome));
+			if (email != null) {
+				erros.registra(EMAIL, validaEmail(email));
+			}
+			erros.registra(TELEFONES, telefones == null ? CodigoDeErro.TELEFONE_VAZIO : OK);
+			erros.registra(BOLETO, validaBoleto(boleto));
+			if (!erros.isVazio()) {
+				return ResultadoDeValidacao.invalido(erros);
+			}
+			Cliente cliente = new Cliente();
+			cliente.cpf = Cpf.valueOf(cpf);
+			cliente.nome = new NomeValidado(nome);
+			cliente.email = email;
+			cliente.telefones = telefones;
+			cliente.boleto = boleto;
+			return ResultadoDeValidacao.valido(cliente, erros);
+		}
+	}
+
+	/**
+	 * Equivalencia em que dois clientes sao o mesmo quando tem o mesmo CPF,
+	 * para deduplicar registros ou reconhecer atualizacoes; o equals continua
+	 * comparando todos os campos.
+	 *
+	 * @return a equivalencia pelo CPF
+	 */
+	public static Equivalencia<Cliente> porCpf() {
+		return ClienteIgualdade.POR_CHAVE;
+	}
+
 	/**
 	 * Hash code.
 	 *
@@ -268,7 +376,7 @@ public class Cliente {
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		return ClienteIgualdade.hash(this);
 	}
 
 	/**
@@ -279,9 +387,14 @@ public class Cliente {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		return ClienteIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		ClienteTexto.escreve(this, escritor);
+	}
+
 	/**
 	 * To string.
 	 *
@@ -289,7 +402,7 @@ public class Cliente {
 	 */
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 
 }
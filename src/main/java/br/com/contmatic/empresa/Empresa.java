@@ -1,17 +1,13 @@
 package br.com.contmatic.empresa;
 
-import static br.com.contmatic.util.Constantes.CNPJ_INCORRETO;
-import static br.com.contmatic.util.Constantes.CNPJ_INVALIDO;
+import static br.com.contmatic.util.CodigoDeErro.OK;
+import static br.com.contmatic.util.Constantes.CNPJ_FORMATADO_SIZE;
 import static br.com.contmatic.util.Constantes.CNPJ_SIZE;
 import static br.com.contmatic.util.Constantes.CNPJ_VAZIO;
-import static br.com.contmatic.util.Constantes.CPF_INVALIDO;
 import static br.com.contmatic.util.Constantes.ENDERECO_QTDE_MAX;
 import static br.com.contmatic.util.Constantes.ENDERECO_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.ENDERECO_VAZIO;
 import static br.com.contmatic.util.Constantes.NOME_INCORRETO;
-import static br.com.contmatic.util.Constantes.NOME_INVALIDO;
-import static br.com.contmatic.util.Constantes.NOME_MAX_SIZE;
-import static br.com.contmatic.util.Constantes.NOME_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.NOME_TAMANHO;
 import static br.com.contmatic.util.Constantes.NOME_VAZIO;
 import static br.com.contmatic.util.Constantes.SITE_INVALIDO;
@@ -20,62 +16,71 @@ import static br.com.contmatic.util.Constantes.SITE_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.SITE_VAZIO;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CNPJ_GRANDE_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CNPJ_PEQUENO_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_GRANDE_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_SITE_GRANDE_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_SITE_PEQUENO_DEMAIS;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MAX;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.TELEFONE_VAZIO;
-import static br.com.contmatic.util.RegexType.LETRAS_NUMEROS;
-import static br.com.contmatic.util.RegexType.NUMEROS;
-import static br.com.contmatic.util.RegexType.URL;
-import static br.com.contmatic.util.RegexType.validaSeNaoTemEspacosIncorretosECaracteresEspeciaos;
-import static br.com.contmatic.util.Validate.isNotCNPJ;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaCnpj;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaNome;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaSite;
 
 import java.util.Set;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
-import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.NotBlank;
 import org.hibernate.validator.constraints.URL;
-import org.hibernate.validator.constraints.br.CNPJ;
 
+import br.com.contmatic.documento.Cnpj;
 import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.endereco.EnderecoValidador;
+import br.com.contmatic.processador.Chave;
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
+import br.com.contmatic.telefone.ConjuntoDeTelefones;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.telefone.TelefoneValidador;
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.Equivalencia;
+import br.com.contmatic.util.ErrosDeValidacao;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.LetrasNumeros;
+import br.com.contmatic.util.ResultadoDeValidacao;
+import br.com.contmatic.util.SiteValido;
+import br.com.contmatic.util.ValidadorDeGrafos;
 
 /**
  * The Class Empresa.
  * 
  * @author gabriel.santos
  */
-public class Empresa {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Empresa implements Escrevivel {
 
 	/** The cnpj. */
-	@CNPJ(message = CNPJ_INVALIDO)
-	@NotBlank(message = CNPJ_VAZIO)
-	@Pattern(regexp = NUMEROS, message = CNPJ_INCORRETO)
-	private String cnpj;
+	@NotNull(message = CNPJ_VAZIO)
+	@Chave
+	private Cnpj cnpj;
 
 	/** The nome. */
 	@NotBlank(message = NOME_VAZIO)
-	@Pattern(regexp = LETRAS_NUMEROS, message = NOME_INCORRETO)
+	@LetrasNumeros(message = NOME_INCORRETO)
 	@Size(min = 2, max = 100, message = NOME_TAMANHO)
-	private String nome;
+	private NomeValidado nome;
 
 	/** The site. */
 	@URL
 	@Length(min = 5, max = 60)
 	@NotBlank(message = SITE_VAZIO)
-	@Pattern(regexp = URL, message =  SITE_INVALIDO)
+	@SiteValido(message = SITE_INVALIDO)
 	private String site;
 
 	/** The telefones. */
@@ -115,26 +120,16 @@ public class Empresa {
 	}
 
 	public String getCnpj() {
-		return cnpj;
+		return cnpj == null ? null : cnpj.toString();
 	}
 
 	public void setCnpj(String cnpj) {
 		this.validaCnpjIncorreto(cnpj);
-		this.validaCnpjInvalido(cnpj);
-		this.validaEspacosIncorretosECaracteresEspeciais(cnpj);
-		this.cnpj = cnpj;
-	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciais(String cnpj) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(cnpj)) {
-			throw new IllegalArgumentException(CPF_INVALIDO);
-		}
+		this.cnpj = this.validaCnpjInvalido(cnpj);
 	}
 	
-	private void validaCnpjInvalido(String cnpj) {
-		if (isNotCNPJ(cnpj)) {
-			throw new IllegalStateException(CNPJ_INVALIDO);
-		}
+	private Cnpj validaCnpjInvalido(String cnpj) {
+		return Cnpj.valueOf(cnpj);
 	}
 	
 	private void validaCnpjIncorreto(String cnpj) {
@@ -144,7 +139,7 @@ public class Empresa {
 	}
 
 	private void validaCnpjComTamanhoMaior(String cnpj) {
-		if (cnpj.length() > CNPJ_SIZE) {
+		if (cnpj.length() > CNPJ_SIZE && cnpj.length() != CNPJ_FORMATADO_SIZE) {
 			throw new IllegalArgumentException(TAMANHO_DO_CNPJ_GRANDE_DEMAIS);
 		}
 	}
@@ -161,42 +156,40 @@ public class Empresa {
 		}
 	}
 
-	public String getNome() {
-		return nome;
+	public Cnpj getCnpjDocumento() {
+		return cnpj;
 	}
 
-	public void setNome(String nome) {
-		this.validaNomeIncorreto(nome);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoNome(nome);
-		this.nome = nome;
+	public void setCnpjDocumento(Cnpj cnpj) {
+		this.validaCnpjNullo(cnpj);
+		this.cnpj = cnpj;
 	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoNome(String nome) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(nome)) {
-			throw new IllegalArgumentException(NOME_INVALIDO);
+
+	private void validaCnpjNullo(Cnpj cnpj) {
+		if (cnpj == null) {
+			throw new IllegalArgumentException(CNPJ_VAZIO);
 		}
 	}
-	
-	private void validaNomeIncorreto(String nome) {
-		this.validaNomeNulloOuIncorreto(nome);
-		this.validaNomeMenorQueOTamanhoMinimo(nome);
-		this.validaNomeMaiorQueOTamanhoMaximo(nome);
+
+	public String getNome() {
+		return nome == null ? null : nome.toString();
 	}
 
-	private void validaNomeMaiorQueOTamanhoMaximo(String nome) {
-		if (nome.length() > NOME_MAX_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_GRANDE_DEMAIS);
-		}
+	public void setNome(String nome) {
+		this.nome = NomeValidado.valueOf(nome);
 	}
 
-	private void validaNomeMenorQueOTamanhoMinimo(String nome) {
-		if (nome.length() < NOME_MIN_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_PEQUENO_DEMAIS);
-		}
+	public NomeValidado getNomeValidado() {
+		return nome;
+	}
+
+	public void setNomeValidado(NomeValidado nome) {
+		this.validaNomeNullo(nome);
+		this.nome = nome;
 	}
 
-	private void validaNomeNulloOuIncorreto(String nome) {
-		if (nome == null || nome.trim().isEmpty()) {
+	private void validaNomeNullo(NomeValidado nome) {
+		if (nome == null) {
 			throw new IllegalArgumentException(NOME_VAZIO);
 		}
 	}
@@ -234,13 +227,20 @@ public class Empresa {
 		}
 	}
 
-	public @Valid Set<Telefone> getTelefone() {
+	public Set<Telefone> getTelefone() {
 		return telefones;
 	}
 	
+	/**
+	 * Copia os telefones num {@link ConjuntoDeTelefones}; o conjunto recebido
+	 * nao e guardado. Os telefones que nao cabem num codigo sao copiados como
+	 * recebidos e apontados pela validacao.
+	 *
+	 * @param telefone os telefones
+	 */
 	public void setTelefones(Set<Telefone> telefone) {
 		this.validaTelefoneNullo(telefone);
-		this.telefones = telefone;
+		this.telefones = ConjuntoDeTelefones.compacta(telefone);
 	}
 	
 	private void validaTelefoneNullo(Set<Telefone> telefone) {
@@ -249,7 +249,7 @@ public class Empresa {
 		}
 	}
 
-	public @Valid Set<Endereco> getEndereco() {
+	public Set<Endereco> getEndereco() {
 		return enderecos;
 	}
 
@@ -264,6 +264,127 @@ public class Empresa {
 		}
 	}
 
+	/**
+	 * Cria um construtor que valida todos os campos de uma vez.
+	 *
+	 * @return o construtor
+	 */
+	public static Construtor construtor() {
+		return new Construtor();
+	}
+
+	/**
+	 * Construtor de {@link Empresa} que faz as verificacoes dos setters sem
+	 * lancar excecao e devolve todos os campos com erro de uma vez. Os campos
+	 * do construtor {@link Empresa#Empresa(String, String, Set, Set)} sao
+	 * obrigatorios; o site so e validado se for informado.
+	 */
+	public static final class Construtor {
+
+		public static final int CNPJ = 0;
+
+		public static final int NOME = 1;
+
+		public static final int SITE = 2;
+
+		public static final int TELEFONES = 3;
+
+		public static final int ENDERECOS = 4;
+
+		private static final int QUANTIDADE_DE_CAMPOS = 5;
+
+		private String cnpj;
+
+		private String nome;
+
+		private String site;
+
+		private Set<Telefone> telefones;
+
+		private Set<Endereco> enderecos;
+
+		private Construtor() {
+		}
+
+		public Construtor cnpj(String cnpj) {
+			this.cnpj = cnpj;
+			return this;
+		}
+
+		public Construtor nome(String nome) {
+			this.nome = nome;
+			return this;
+		}
+
+		public Construtor site(String site) {
+			this.site = site;
+			return this;
+		}
+
+		/**
+		 * Copia os telefones como {@link Empresa#setTelefones(Set)}.
+		 *
+		 * @param telefones os telefones
+		 * @return o construtor
+		 */
+		public Construtor telefones(Set<Telefone> telefones) {
+			this.telefones = ConjuntoDeTelefones.compacta(telefones);
+			return this;
+		}
+
+		public Construtor enderecos(Set<Endereco> enderecos) {
+			this.enderecos = enderecos;
+			return this;
+		}
+
+		/**
+		 * Valida todos os campos e constroi a empresa se nao houver erros.
+		 *
+		 * @return a empresa ou os erros de todos os campos
+		 */
+		public ResultadoDeValidacao<Empresa> constroi() {
+			ErrosDeValidacao erros = new ErrosDeValidacao(QUANTIDADE_DE_CAMPOS);
+			erros.registra(CNPJ, validaCnpj(cnpj));
+			erros.registra(NOME, validaNome(nome));
+			if (site != null) {
+				erros.registra(SITE, validaSite(site));
+			}
+			erros.registra(TELEFONES, telefones == null ? CodigoDeErro.TELEFONE_VAZIO : OK);
+			erros.registra(ENDERECOS, enderecos == null ? CodigoDeErro.ENDERECO_VAZIO : OK);
+			if (!erros.isVazio()) {
+				return ResultadoDeValidacao.invalido(erros);
+			}
+			Empresa empresa = new Empresa();
+			empresa.cnpj = Cnpj.valueOf(cnpj);
+			empresa.nome = new NomeValidado(nome);
+			empresa.site = site;
+			empresa.telefones = telefones;
+			empresa.enderecos = enderecos;
+			return ResultadoDeValidacao.valido(empresa, erros);
+		}
+	}
+
+	/**
+	 * Equivalencia de empresas pelo CNPJ.
+	 *
+	 * @return a equivalencia pelo CNPJ
+	 */
+	public static Equivalencia<Empresa> porCnpj() {
+		return EmpresaIgualdade.POR_CHAVE;
+	}
+
+	/**
+	 * Validador de empresas com os seus telefones e enderecos em paralelo.
+	 *
+	 * @return o validador
+	 */
+	public static ValidadorDeGrafos<Empresa> validadorDeGrafos() {
+		return ValidadorDeGrafos.<Empresa>construtor(EmpresaValidador::valida)
+				.filhos(Empresa::getTelefone, TelefoneValidador::valida)
+				.filhos(Empresa::getEndereco, EnderecoValidador::valida)
+				.constroi();
+	}
+
 	/**
 	 * Hash code.
 	 *
@@ -271,7 +392,7 @@ public class Empresa {
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		return EmpresaIgualdade.hash(this);
 	}
 
 	/**
@@ -282,9 +403,14 @@ public class Empresa {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		return EmpresaIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		EmpresaTexto.escreve(this, escritor);
+	}
+
 	/**
 	 * To string.
 	 *
@@ -292,7 +418,7 @@ public class Empresa {
 	 */
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 
 }
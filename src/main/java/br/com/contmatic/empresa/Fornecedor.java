@@ -1,79 +1,79 @@
 package br.com.contmatic.empresa;
 
-import static br.com.contmatic.util.Constantes.CNPJ_INCORRETO;
-import static br.com.contmatic.util.Constantes.CNPJ_INVALIDO;
+import static br.com.contmatic.util.CodigoDeErro.OK;
+import static br.com.contmatic.util.Constantes.CNPJ_FORMATADO_SIZE;
 import static br.com.contmatic.util.Constantes.CNPJ_SIZE;
 import static br.com.contmatic.util.Constantes.CNPJ_VAZIO;
-import static br.com.contmatic.util.Constantes.CPF_INVALIDO;
 import static br.com.contmatic.util.Constantes.ENDERECO_QTDE_MAX;
 import static br.com.contmatic.util.Constantes.ENDERECO_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.ENDERECO_SIZE_MAX;
 import static br.com.contmatic.util.Constantes.ENDERECO_VAZIO;
 import static br.com.contmatic.util.Constantes.NOME_INCORRETO;
-import static br.com.contmatic.util.Constantes.NOME_INVALIDO;
-import static br.com.contmatic.util.Constantes.NOME_MAX_SIZE;
-import static br.com.contmatic.util.Constantes.NOME_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.NOME_TAMANHO;
 import static br.com.contmatic.util.Constantes.NOME_VAZIO;
-import static br.com.contmatic.util.Constantes.PRODUTO_INCORRETO;
-import static br.com.contmatic.util.Constantes.PRODUTO_INVALIDO;
 import static br.com.contmatic.util.Constantes.PRODUTO_VAZIO;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CNPJ_GRANDE_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CNPJ_PEQUENO_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_GRANDE_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MAX;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.TELEFONE_SIZE_MAX;
 import static br.com.contmatic.util.Constantes.TELEFONE_VAZIO;
-import static br.com.contmatic.util.RegexType.LETRAS;
-import static br.com.contmatic.util.RegexType.NUMEROS;
-import static br.com.contmatic.util.RegexType.validaSeNaoTemEspacosIncorretosECaracteresEspeciaos;
-import static br.com.contmatic.util.Validate.isNotCNPJ;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaCnpj;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaNome;
 
 import java.util.Set;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.NotEmpty;
-import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
-import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.NotBlank;
-import org.hibernate.validator.constraints.br.CNPJ;
 
 import com.google.common.base.Preconditions;
 
+import br.com.contmatic.documento.Cnpj;
 import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.endereco.EnderecoValidador;
+import br.com.contmatic.processador.Chave;
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
+import br.com.contmatic.telefone.ConjuntoDeTelefones;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.telefone.TelefoneValidador;
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.Equivalencia;
+import br.com.contmatic.util.ErrosDeValidacao;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.Letras;
+import br.com.contmatic.util.ResultadoDeValidacao;
+import br.com.contmatic.util.ValidadorDeGrafos;
 
 /**
  * The Class Fornecedor.
  * 
  * @author gabriel.santos
  */
-public class Fornecedor {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Fornecedor implements Escrevivel {
 
 	/** The cnpj. */
-	@CNPJ(message = CNPJ_INVALIDO)
-	@NotBlank(message = CNPJ_VAZIO)
-	@Pattern(regexp = NUMEROS, message = CNPJ_INCORRETO)
-	private String cnpj;
+	@NotNull(message = CNPJ_VAZIO)
+	@Chave
+	private Cnpj cnpj;
 
 	/** The nome. */
 	@NotBlank(message = NOME_VAZIO)
-	@Pattern(regexp = LETRAS, message = NOME_INCORRETO)
+	@Letras(message = NOME_INCORRETO)
 	@Size(min = 2, max = 100, message = NOME_TAMANHO)
-	private String nome;
+	private NomeValidado nome;
 
 	/** The produto. */
-	@NotBlank(message = PRODUTO_VAZIO)
-	@Length(min = 2, max = 80, message = PRODUTO_INCORRETO)
-	@Pattern(regexp = LETRAS	, message = PRODUTO_INVALIDO)
+	@NotNull(message = PRODUTO_VAZIO)
 	private Set<Produto> produto;
 
 	/** The telefones. */
@@ -125,26 +125,16 @@ public class Fornecedor {
 	}
 
 	public String getCnpj() {
-		return cnpj;
+		return cnpj == null ? null : cnpj.toString();
 	}
 
 	public void setCnpj(String cnpj) {
 		this.validaCnpjIncorreto(cnpj);
-		this.validaCnpjInvalido(cnpj);
-		this.validaEspacosIncorretosECaracteresEspeciais(cnpj);
-		this.cnpj = cnpj;
-	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciais(String cnpj) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(cnpj)) {
-			throw new IllegalArgumentException(CPF_INVALIDO);
-		}
+		this.cnpj = this.validaCnpjInvalido(cnpj);
 	}
 	
-	private void validaCnpjInvalido(String cnpj) {
-		if (isNotCNPJ(cnpj)) {
-			throw new IllegalStateException(CNPJ_INVALIDO);
-		}
+	private Cnpj validaCnpjInvalido(String cnpj) {
+		return Cnpj.valueOf(cnpj);
 	}
 	
 	private void validaCnpjIncorreto(String cnpj) {
@@ -154,7 +144,7 @@ public class Fornecedor {
 	}
 
 	private void validaCnpjComTamanhoMaior(String cnpj) {
-		if (cnpj.length() > CNPJ_SIZE) {
+		if (cnpj.length() > CNPJ_SIZE && cnpj.length() != CNPJ_FORMATADO_SIZE) {
 			throw new IllegalArgumentException(TAMANHO_DO_CNPJ_GRANDE_DEMAIS);
 		}
 	}
@@ -171,46 +161,44 @@ public class Fornecedor {
 		}
 	}
 
-	public String getNome() {
-		return nome;
+	public Cnpj getCnpjDocumento() {
+		return cnpj;
 	}
 
-	public void setNome(String nome) {
-		this.validaNomeIncorreto(nome);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoNome(nome);
-		this.nome = nome;
+	public void setCnpjDocumento(Cnpj cnpj) {
+		this.validaCnpjNullo(cnpj);
+		this.cnpj = cnpj;
 	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoNome(String nome) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(nome)) {
-			throw new IllegalArgumentException(NOME_INVALIDO);
+
+	private void validaCnpjNullo(Cnpj cnpj) {
+		if (cnpj == null) {
+			throw new IllegalArgumentException(CNPJ_VAZIO);
 		}
 	}
-	
-	private void validaNomeIncorreto(String nome) {
-		this.validaNomeNulloOuVazio(nome);
-		this.validaNomeMenorQueOTamanhoMinimo(nome);
-		this.validaNomeMaiorQueOTamanhoMinimo(nome);
+
+	public String getNome() {
+		return nome == null ? null : nome.toString();
 	}
 
-	private void validaNomeMaiorQueOTamanhoMinimo(String nome) {
-		if (nome.length() > NOME_MAX_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_GRANDE_DEMAIS);
-		}
+	public void setNome(String nome) {
+		this.nome = NomeValidado.valueOf(nome);
 	}
 
-	private void validaNomeMenorQueOTamanhoMinimo(String nome) {
-		if (nome.length() < NOME_MIN_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_PEQUENO_DEMAIS);
-		}
+	public NomeValidado getNomeValidado() {
+		return nome;
+	}
+
+	public void setNomeValidado(NomeValidado nome) {
+		this.validaNomeNullo(nome);
+		this.nome = nome;
 	}
 
-	private void validaNomeNulloOuVazio(String nome) {
-		if (nome == null || nome.trim().isEmpty()) {
+	private void validaNomeNullo(NomeValidado nome) {
+		if (nome == null) {
 			throw new IllegalArgumentException(NOME_VAZIO);
 		}
 	}
-
+	
 	public Set<Produto> getProduto() {
 		return produto;
 	}
@@ -226,14 +214,21 @@ public class Fornecedor {
 		}
 	}
 
-	public @Valid Set<Telefone> getTelefone() {
+	public Set<Telefone> getTelefone() {
 		return telefones;
 	}
 	
+	/**
+	 * Copia os telefones num {@link ConjuntoDeTelefones}; o conjunto recebido
+	 * nao e guardado. Os telefones que nao cabem num codigo sao copiados como
+	 * recebidos e apontados pela validacao.
+	 *
+	 * @param telefone os telefones
+	 */
 	public void setTelefones(Set<Telefone> telefone) {
 		Preconditions.checkArgument(telefone.size() < 2, TELEFONE_SIZE_MAX);
 		this.validaTelefoneNullo(telefone);
-		this.telefones = telefone;
+		this.telefones = ConjuntoDeTelefones.compacta(telefone);
 	}
 	
 	private void validaTelefoneNullo(Set<Telefone> telefone) {
@@ -242,7 +237,7 @@ public class Fornecedor {
 		}
 	}
 
-	public @Valid Set<Endereco> getEndereco() {
+	public Set<Endereco> getEndereco() {
 		return enderecos;
 	}
 	
@@ -258,6 +253,125 @@ public class Fornecedor {
 		}
 	}
 
+	/**
+	 * Cria um construtor que valida todos os campos de uma vez.
+	 *
+	 * @return o construtor
+	 */
+	public static Construtor construtor() {
+		return new Construtor();
+	}
+
+	/**
+	 * Construtor de {@link Fornecedor} que faz as verificacoes dos setters sem
+	 * lancar excecao e devolve todos os campos com erro de uma vez. Todos os
+	 * campos sao obrigatorios, como em
+	 * {@link Fornecedor#Fornecedor(String, String, Set, Set, Set)}.
+	 */
+	public static final class Construtor {
+
+		public static final int CNPJ = 0;
+
+		public static final int NOME = 1;
+
+		public static final int TELEFONES = 2;
+
+		public static final int PRODUTOS = 3;
+
+		public static final int ENDERECOS = 4;
+
+		private static final int QUANTIDADE_DE_CAMPOS = 5;
+
+		private String cnpj;
+
+		private String nome;
+
+		private Set<Telefone> telefones;
+
+		private Set<Produto> produtos;
+
+		private Set<Endereco> enderecos;
+
+		private Construtor() {
+		}
+
+		public Construtor cnpj(String cnpj) {
+			this.cnpj = cnpj;
+			return this;
+		}
+
+		public Construtor nome(String nome) {
+			this.nome = nome;
+			return this;
+		}
+
+		/**
+		 * Copia os telefones como {@link Fornecedor#setTelefones(Set)}.
+		 *
+		 * @param telefones os telefones
+		 * @return o construtor
+		 */
+		public Construtor telefones(Set<Telefone> telefones) {
+			this.telefones = ConjuntoDeTelefones.compacta(telefones);
+			return this;
+		}
+
+		public Construtor produtos(Set<Produto> produtos) {
+			this.produtos = produtos;
+			return this;
+		}
+
+		public Construtor enderecos(Set<Endereco> enderecos) {
+			this.enderecos = enderecos;
+			return this;
+		}
+
+		/**
+		 * Valida todos os campos e constroi o fornecedor se nao houver erros.
+		 *
+		 * @return o fornecedor ou os erros de todos os campos
+		 */
+		public ResultadoDeValidacao<Fornecedor> constroi() {
+			ErrosDeValidacao erros = new ErrosDeValidacao(QUANTIDADE_DE_CAMPOS);
+			erros.registra(CNPJ, validaCnpj(cnpj));
+			erros.registra(NOME, validaNome(nome));
+			erros.registra(TELEFONES, telefones == null ? CodigoDeErro.TELEFONE_VAZIO : OK);
+			erros.registra(PRODUTOS, produtos == null ? CodigoDeErro.PRODUTO_VAZIO : OK);
+			erros.registra(ENDERECOS, enderecos == null ? CodigoDeErro.ENDERECO_VAZIO : OK);
+			if (!erros.isVazio()) {
+				return ResultadoDeValidacao.invalido(erros);
+			}
+			Fornecedor fornecedor = new Fornecedor();
+			fornecedor.cnpj = Cnpj.valueOf(cnpj);
+			fornecedor.nome = new NomeValidado(nome);
+			fornecedor.telefones = telefones;
+			fornecedor.produto = produtos;
+			fornecedor.enderecos = enderecos;
+			return ResultadoDeValidacao.valido(fornecedor, erros);
+		}
+	}
+
+	/**
+	 * Equivalencia de fornecedores pelo CNPJ.
+	 *
+	 * @return a equivalencia pelo CNPJ
+	 */
+	public static Equivalencia<Fornecedor> porCnpj() {
+		return FornecedorIgualdade.POR_CHAVE;
+	}
+
+	/**
+	 * Validador de fornecedores com os seus telefones e enderecos em paralelo.
+	 *
+	 * @return o validador
+	 */
+	public static ValidadorDeGrafos<Fornecedor> validadorDeGrafos() {
+		return ValidadorDeGrafos.<Fornecedor>construtor(FornecedorValidador::valida)
+				.filhos(Fornecedor::getTelefone, TelefoneValidador::valida)
+				.filhos(Fornecedor::getEndereco, EnderecoValidador::valida)
+				.constroi();
+	}
+
 	/**
 	 * Hash code.
 	 *
@@ -265,7 +379,7 @@ public class Fornecedor {
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		return FornecedorIgualdade.hash(this);
 	}
 
 	/**
@@ -276,9 +390,14 @@ public class Fornecedor {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		return FornecedorIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		FornecedorTexto.escreve(this, escritor);
+	}
+
 	/**
 	 * To string.
 	 *
@@ -286,7 +405,7 @@ public class Fornecedor {
 	 */
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 
 }
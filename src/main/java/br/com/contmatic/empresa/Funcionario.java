@@ -1,7 +1,7 @@
 package br.com.contmatic.empresa;
 
-import static br.com.contmatic.util.Constantes.CPF_INCORRETO;
-import static br.com.contmatic.util.Constantes.CPF_INVALIDO;
+import static br.com.contmatic.util.CodigoDeErro.OK;
+import static br.com.contmatic.util.Constantes.CPF_FORMATADO_SIZE;
 import static br.com.contmatic.util.Constantes.CPF_SIZE;
 import static br.com.contmatic.util.Constantes.CPF_VAZIO;
 import static br.com.contmatic.util.Constantes.DATA_CONTRATACAO_FUTURA;
@@ -13,10 +13,8 @@ import static br.com.contmatic.util.Constantes.ENDERECO_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.ENDERECO_VAZIO;
 import static br.com.contmatic.util.Constantes.IDADE_MINIMA;
 import static br.com.contmatic.util.Constantes.IDADE_MINIMA_MENSAGEM;
+import static br.com.contmatic.util.Constantes.IDADE_VAZIA;
 import static br.com.contmatic.util.Constantes.NOME_INCORRETO;
-import static br.com.contmatic.util.Constantes.NOME_INVALIDO;
-import static br.com.contmatic.util.Constantes.NOME_MAX_SIZE;
-import static br.com.contmatic.util.Constantes.NOME_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.NOME_TAMANHO;
 import static br.com.contmatic.util.Constantes.NOME_VAZIO;
 import static br.com.contmatic.util.Constantes.SALARIO_MINIMO;
@@ -24,15 +22,11 @@ import static br.com.contmatic.util.Constantes.SALARIO_MINIMO_MENSAGEM;
 import static br.com.contmatic.util.Constantes.SALARIO_NEGATIVO;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CPF_GRANDE_DEMAIS;
 import static br.com.contmatic.util.Constantes.TAMANHO_DO_CPF_PEQUENO_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_GRANDE_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MAX;
 import static br.com.contmatic.util.Constantes.TELEFONE_QTDE_MINIMA;
 import static br.com.contmatic.util.Constantes.TELEFONE_VAZIO;
-import static br.com.contmatic.util.RegexType.LETRAS;
-import static br.com.contmatic.util.RegexType.NUMEROS;
-import static br.com.contmatic.util.RegexType.validaSeNaoTemEspacosIncorretosECaracteresEspeciaos;
-import static br.com.contmatic.util.Validate.isNotCPF;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaCpf;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaNome;
 
 import java.math.BigDecimal;
 import java.util.Set;
@@ -40,44 +34,53 @@ import java.util.Set;
 import javax.validation.Valid;
 import javax.validation.constraints.Future;
 import javax.validation.constraints.Min;
-import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Past;
-import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Size;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
 import org.hibernate.validator.constraints.NotBlank;
-import org.hibernate.validator.constraints.br.CPF;
 import org.joda.time.LocalDate;
 
+import br.com.contmatic.documento.Cpf;
 import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.processador.Chave;
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
+import br.com.contmatic.telefone.ConjuntoDeTelefones;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.Equivalencia;
+import br.com.contmatic.util.ErrosDeValidacao;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.Letras;
+import br.com.contmatic.util.ResultadoDeValidacao;
+import br.com.contmatic.util.ValidacaoSemExcecao;
 
 /**
  * The Class Funcionario.
  * 
  * @author gabriel.santos
  */ 
-public class Funcionario {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Funcionario implements Escrevivel {
 
 	/** The cpf. */
-	@CPF(message = CPF_INVALIDO)
 	@NotNull(message = CPF_VAZIO)
-	@Pattern(regexp = NUMEROS, message = CPF_INCORRETO)
-	private String cpf;
+	@Chave
+	private Cpf cpf;
 
 	/** The nome. */
 	@NotBlank(message = NOME_VAZIO)
-	@Pattern(regexp = LETRAS, message = NOME_INCORRETO)
+	@Letras(message = NOME_INCORRETO)
 	@Size(min = 2, max = 80, message = NOME_TAMANHO)
-	private String nome;
+	private NomeValidado nome;
 
 	/** The idade. */
-	@NotEmpty
+	@NotNull(message = IDADE_VAZIA)
 	@Min(value = 1, message = IDADE_MINIMA_MENSAGEM)
 	private Integer idade;
 
@@ -154,26 +157,16 @@ public class Funcionario {
 	}
 
 	public String getCpf() {
-		return cpf;
+		return cpf == null ? null : cpf.toString();
 	}
 
 	public void setCpf(String cpf) {
 		this.validaCpfIncorreto(cpf);
-		this.validaCalculoCpf(cpf);
-		this.validaEspacosIncorretosECaracteresEspeciais(cpf);
-		this.cpf = cpf;
-	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciais(String cpf) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(cpf)) {
-			throw new IllegalArgumentException(CPF_INVALIDO);
-		}
+		this.cpf = this.validaCalculoCpf(cpf);
 	}
 	
-	private void validaCalculoCpf(String cpf) {
-		if (isNotCPF(cpf)) {
-			throw new IllegalStateException(CPF_INVALIDO);
-		}
+	private Cpf validaCalculoCpf(String cpf) {
+		return Cpf.valueOf(cpf);
 	}
 	
 	private void validaCpfIncorreto(String cpf) {
@@ -195,55 +188,58 @@ public class Funcionario {
 	}
 
 	private void validaCpfComTamanhoMaior(String cpf) {
-		if (cpf.length() > CPF_SIZE) {
+		if (cpf.length() > CPF_SIZE && cpf.length() != CPF_FORMATADO_SIZE) {
 			throw new IllegalArgumentException(TAMANHO_DO_CPF_GRANDE_DEMAIS);
 		}
 	}
 
-	public String getNome() {
-		return nome;
+	public Cpf getCpfDocumento() {
+		return cpf;
 	}
 
-	public void setNome(String nome) {
-		this.validaNomeIncorreto(nome);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoNome(nome);
-		this.nome = nome;
+	public void setCpfDocumento(Cpf cpf) {
+		this.validaCpfNullo(cpf);
+		this.cpf = cpf;
 	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoNome(String nome) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(nome)) {
-			throw new IllegalArgumentException(NOME_INVALIDO);
+
+	private void validaCpfNullo(Cpf cpf) {
+		if (cpf == null) {
+			throw new IllegalArgumentException(CPF_VAZIO);
 		}
 	}
-	
-	private void validaNomeIncorreto(String nome) {
-		this.validaNomeNulloOuVazio(nome);
-		this.validaNomeMenorQueOTamanhoMinimo(nome);
-		this.validaNomeMaiorQueOTamanhoMinimo(nome);
+
+	public String getNome() {
+		return nome == null ? null : nome.toString();
 	}
 
-	private void validaNomeMaiorQueOTamanhoMinimo(String nome) {
-		if (nome.length() > NOME_MAX_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_GRANDE_DEMAIS);
-		}
+	public void setNome(String nome) {
+		this.nome = NomeValidado.valueOf(nome);
 	}
 
-	private void validaNomeMenorQueOTamanhoMinimo(String nome) {
-		if (nome.length() < NOME_MIN_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_PEQUENO_DEMAIS);
-		}
+	public NomeValidado getNomeValidado() {
+		return nome;
 	}
 
-	private void validaNomeNulloOuVazio(String nome) {
-		if (nome == null || nome.trim().isEmpty()) {
+	public void setNomeValidado(NomeValidado nome) {
+		this.validaNomeNullo(nome);
+		this.nome = nome;
+	}
+
+	private void validaNomeNullo(NomeValidado nome) {
+		if (nome == null) {
 			throw new IllegalArgumentException(NOME_VAZIO);
 		}
 	}
-
+	
 	public int getIdade() {
 		return idade;
 	}
 
+	/** A idade como guardada, nula se nao informada, para o codigo gerado. */
+	Integer idade() {
+		return idade;
+	}
+
 	public void setIdade(int idade) {
 		this.validaIdade(idade);
 		this.idade = idade;
@@ -255,13 +251,20 @@ public class Funcionario {
 		}
 	}
 
-	public @Valid Set<Telefone> getTelefone() {
+	public Set<Telefone> getTelefone() {
 		return telefones;
 	}
 	
+	/**
+	 * Copia os telefones num {@link ConjuntoDeTelefones}; o conjunto recebido
+	 * nao e guardado. Os telefones que nao cabem num codigo sao copiados como
+	 * recebidos e apontados pela validacao.
+	 *
+	 * @param telefone os telefones
+	 */
 	public void setTelefones(Set<Telefone> telefone) {
 		this.validaTelefoneNullo(telefone);
-		this.telefones = telefone;
+		this.telefones = ConjuntoDeTelefones.compacta(telefone);
 	}
 	
 	private void validaTelefoneNullo(Set<Telefone> telefone) {
@@ -270,7 +273,7 @@ public class Funcionario {
 		} 	
 	}
 
-	public @Valid Set<Endereco> getEndereco() {
+	public Set<Endereco> getEndereco() {
 		return enderecos;
 	}
 	
@@ -316,6 +319,140 @@ public class Funcionario {
 		this.dataSalario = dataSalario;
 	}
 
+	/**
+	 * Cria um construtor que valida todos os campos de uma vez.
+	 *
+	 * @return o construtor
+	 */
+	public static Construtor construtor() {
+		return new Construtor();
+	}
+
+	/**
+	 * Construtor de {@link Funcionario} que faz as verificacoes dos setters sem
+	 * lancar excecao e devolve todos os campos com erro de uma vez. Os campos
+	 * validados sao obrigatorios, como no construtor completo; as datas nao tem
+	 * validacao.
+	 */
+	public static final class Construtor {
+
+		public static final int CPF = 0;
+
+		public static final int NOME = 1;
+
+		public static final int IDADE = 2;
+
+		public static final int TELEFONES = 3;
+
+		public static final int ENDERECOS = 4;
+
+		public static final int SALARIO = 5;
+
+		private static final int QUANTIDADE_DE_CAMPOS = 6;
+
+		private String cpf;
+
+		private String nome;
+
+		private Integer idade;
+
+		private Set<Telefone> telefones;
+
+		private Set<Endereco> enderecos;
+
+		private BigDecimal salario;
+
+		private LocalDate dataContratacao;
+
+		private LocalDate dataSalario;
+
+		private Construtor() {
+		}
+
+		public Construtor cpf(String cpf) {
+			this.cpf = cpf;
+			return this;
+		}
+
+		public Construtor nome(String nome) {
+			this.nome = nome;
+			return this;
+		}
+
+		public Construtor idade(Integer idade) {
+			this.idade = idade;
+			return this;
+		}
+
+		/**
+		 * Copia os telefones como {@link Funcionario#setTelefones(Set)}.
+		 *
+		 * @param telefones os telefones
+		 * @return o construtor
+		 */
+		public Construtor telefones(Set<Telefone> telefones) {
+			this.telefones = ConjuntoDeTelefones.compacta(telefones);
+			return this;
+		}
+
+		public Construtor enderecos(Set<Endereco> enderecos) {
+			this.enderecos = enderecos;
+			return this;
+		}
+
+		public Construtor salario(BigDecimal salario) {
+			this.salario = salario;
+			return this;
+		}
+
+		public Construtor dataContratacao(LocalDate dataContratacao) {
+			this.dataContratacao = dataContratacao;
+			return this;
+		}
+
+		public Construtor dataSalario(LocalDate dataSalario) {
+			this.dataSalario = dataSalario;
+			return this;
+		}
+
+		/**
+		 * Valida todos os campos e constroi o funcionario se nao houver erros.
+		 *
+		 * @return o funcionario ou os erros de todos os campos
+		 */
+		public ResultadoDeValidacao<Funcionario> constroi() {
+			ErrosDeValidacao erros = new ErrosDeValidacao(QUANTIDADE_DE_CAMPOS);
+			erros.registra(CPF, validaCpf(cpf));
+			erros.registra(NOME, validaNome(nome));
+			erros.registra(IDADE, ValidacaoSemExcecao.validaIdade(idade));
+			erros.registra(TELEFONES, telefones == null ? CodigoDeErro.TELEFONE_VAZIO : OK);
+			erros.registra(ENDERECOS, enderecos == null ? CodigoDeErro.ENDERECO_VAZIO : OK);
+			erros.registra(SALARIO, ValidacaoSemExcecao.validaSalario(salario));
+			if (!erros.isVazio()) {
+				return ResultadoDeValidacao.invalido(erros);
+			}
+			Funcionario funcionario = new Funcionario();
+			funcionario.cpf = Cpf.valueOf(cpf);
+			funcionario.nome = new NomeValidado(nome);
+			funcionario.idade = idade;
+			funcionario.telefones = telefones;
+			funcionario.enderecos = enderecos;
+			funcionario.salario = salario;
+			funcionario.dataContratacao = dataContratacao;
+			funcionario.dataSalario = dataSalario;
+			return ResultadoDeValidacao.valido(funcionario, erros);
+		}
+	}
+
+	/**
+	 * Equivalencia de funcionarios pelo CPF.
+	 *
+	 * @return a equivalencia pelo CPF
+	 */
+	public static Equivalencia<Funcionario> porCpf() {
+		return FuncionarioIgualdade.POR_CHAVE;
+	}
+
 	/**
 	 * Hash code.
 	 *
@@ -323,7 +460,7 @@ public class Funcionario {
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		return FuncionarioIgualdade.hash(this);
 	}
 
 	/**
@@ -334,9 +471,14 @@ public class Funcionario {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		return FuncionarioIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		FuncionarioTexto.escreve(this, escritor);
+	}
+
 	/**
 	 * To string.
 	 *
@@ -344,7 +486,7 @@ public class Funcionario {
 	 */
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 
 }
@@ -0,0 +1,96 @@
+package br.com.contmatic.empresa;
+
+import static br.com.contmatic.util.CodigoDeErro.OK;
+
+import br.com.contmatic.util.ClasseDeCaracteres;
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.TextoClassificado;
+import br.com.contmatic.util.ValidacaoSemExcecao;
+
+/**
+ * Nome ja validado pelas regras dos setters das entidades: preenchido, entre
+ * {@code NOME_MIN_SIZE} e {@code NOME_MAX_SIZE} caracteres, sem caracteres
+ * especiais e sem espacos incorretos.
+ *
+ * A validacao acontece uma unica vez, na criacao, que tambem guarda se o nome
+ * tem apenas letras ou letras e numeros, como {@link TextoClassificado}.
+ *
+ * @author gabriel.santos
+ */
+public final class NomeValidado implements TextoClassificado, Comparable<NomeValidado> {
+
+	private final String texto;
+
+	private final boolean letras;
+
+	private final boolean letrasNumeros;
+
+	/** Para textos que ja passaram por {@link ValidacaoSemExcecao#validaNome}. */
+	NomeValidado(String texto) {
+		this.texto = texto;
+		this.letras = ClasseDeCaracteres.LETRAS.corresponde(texto);
+		this.letrasNumeros = letras || ClasseDeCaracteres.LETRAS_NUMEROS.corresponde(texto);
+	}
+
+	/**
+	 * Cria um nome validado.
+	 *
+	 * @param nome o nome
+	 * @return o nome validado
+	 * @throws IllegalArgumentException com a mensagem da primeira regra violada
+	 */
+	public static NomeValidado valueOf(CharSequence nome) {
+		String texto = nome == null ? null : nome.toString();
+		int codigo = ValidacaoSemExcecao.validaNome(texto);
+		if (codigo != OK) {
+			throw new IllegalArgumentException(CodigoDeErro.mensagem(codigo));
+		}
+		return new NomeValidado(texto);
+	}
+
+	@Override
+	public boolean isLetras() {
+		return letras;
+	}
+
+	@Override
+	public boolean isLetrasNumeros() {
+		return letrasNumeros;
+	}
+
+	@Override
+	public int length() {
+		return texto.length();
+	}
+
+	@Override
+	public char charAt(int indice) {
+		return texto.charAt(indice);
+	}
+
+	@Override
+	public CharSequence subSequence(int inicio, int fim) {
+		return texto.subSequence(inicio, fim);
+	}
+
+	@Override
+	public int compareTo(NomeValidado outro) {
+		return texto.compareTo(outro.texto);
+	}
+
+	@Override
+	public int hashCode() {
+		return texto.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof NomeValidado && ((NomeValidado) obj).texto.equals(texto);
+	}
+
+	@Override
+	public String toString() {
+		return texto;
+	}
+
+}
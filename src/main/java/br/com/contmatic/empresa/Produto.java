@@ -3,40 +3,48 @@ package br.com.contmatic.empresa;
 import static br.com.contmatic.util.Constantes.ID_MINIMO;
 import static br.com.contmatic.util.Constantes.ID_VAZIO;
 import static br.com.contmatic.util.Constantes.NOME_INVALIDO;
-import static br.com.contmatic.util.Constantes.NOME_MAX_SIZE;
-import static br.com.contmatic.util.Constantes.NOME_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.NOME_VAZIO;
 import static br.com.contmatic.util.Constantes.PRECO_MINIMO;
 import static br.com.contmatic.util.Constantes.PRECO_MINIMO_MENSAGEM;
 import static br.com.contmatic.util.Constantes.QUANTIDADE_MINIMA;
 import static br.com.contmatic.util.Constantes.QUANTIDADE_MINIMA_MENSAGEM;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_GRANDE_DEMAIS;
-import static br.com.contmatic.util.Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS;
-import static br.com.contmatic.util.RegexType.validaSeNaoTemEspacosIncorretosECaracteresEspeciaos;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaId;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaNome;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaPreco;
+import static br.com.contmatic.util.ValidacaoSemExcecao.validaQuantidade;
 
 import java.math.BigDecimal;
 
-import javax.validation.constraints.Pattern;
-
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
-
+import br.com.contmatic.processador.Chave;
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
 import br.com.contmatic.util.Constantes;
-import br.com.contmatic.util.RegexType;
+import br.com.contmatic.util.Equivalencia;
+import br.com.contmatic.util.ErrosDeValidacao;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.Letras;
+import br.com.contmatic.util.ResultadoDeValidacao;
 
-public class Produto {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Produto implements Escrevivel {
 
+	@Chave
 	private Integer id;
 
-	@Pattern(regexp = RegexType.LETRAS, message = Constantes.NOME_INVALIDO)
-	private String nome;
+	@Letras(message = Constantes.NOME_INVALIDO)
+	private NomeValidado nome;
 
 	private Integer quantidade;
 
 	private BigDecimal preco;
 
+	/** O hash calculado, ou zero enquanto nao for calculado ou depois de uma alteracao. */
+	private transient int hash;
+
 	public Produto(Integer id, String nome) {
 		super();
 		this.setId(id);		
@@ -50,6 +58,9 @@ public class Produto {
 		this.setPreco(preco);
 	}
 
+	private Produto() {
+	}
+
 	public Integer getId() {
 		return id;
 	}
@@ -57,6 +68,7 @@ public class Produto {
 	public void setId(Integer id) {
 		this.validaIdIncorreto(id);
 		this.id = id;
+		this.hash = 0;
 	}
 
 	private void validaIdIncorreto(Integer id) {
@@ -66,45 +78,30 @@ public class Produto {
 	}
 	
 	public String getNome() {
-		return nome;
+		return nome == null ? null : nome.toString();
 	}
 
 	public void setNome(String nome) {
-		this.validaNomeIncorreto(nome);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoNome(nome);
-		this.nome = nome;
-	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoNome(String nome) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(nome)) {
-			throw new IllegalArgumentException(NOME_INVALIDO);
-		}
-	}
-	
-	private void validaNomeIncorreto(String nome) {
-		this.validaNomeNulloOuVazio(nome);
-		this.validaNomePequenoDemais(nome);
-		this.validaNomeGrandeDemais(nome);
+		this.nome = NomeValidado.valueOf(nome);
+		this.hash = 0;
 	}
 
-	private void validaNomeGrandeDemais(String nome) {
-		if (nome.length() > NOME_MAX_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_GRANDE_DEMAIS);
-		}
+	public NomeValidado getNomeValidado() {
+		return nome;
 	}
 
-	private void validaNomePequenoDemais(String nome) {
-		if (nome.length() < NOME_MIN_SIZE) {
-			throw new IllegalArgumentException(TAMANHO_DO_NOME_PEQUENO_DEMAIS);
-		}
+	public void setNomeValidado(NomeValidado nome) {
+		this.validaNomeNullo(nome);
+		this.nome = nome;
+		this.hash = 0;
 	}
 
-	private void validaNomeNulloOuVazio(String nome) {
-		if (nome == null || nome.trim().isEmpty()) {
+	private void validaNomeNullo(NomeValidado nome) {
+		if (nome == null) {
 			throw new IllegalArgumentException(NOME_VAZIO);
 		}
 	}
-
+	
 	public Integer getQuantidade() {
 		return quantidade;
 	}
@@ -112,6 +109,7 @@ public class Produto {
 	public void setQuantidade(Integer quantidade) {
 		this.validaQuantidadeIncorreta(quantidade);
 		this.quantidade = quantidade;
+		this.hash = 0;
 	}
 
 	private void validaQuantidadeIncorreta(Integer quantidade) {
@@ -128,6 +126,7 @@ public class Produto {
 	public void setPreco(BigDecimal preco) {
 		this.validaPrecoIncorreto(preco);
 		this.preco = preco;
+		this.hash = 0;
 	}
 
 	private void validaPrecoIncorreto(BigDecimal preco) {
@@ -136,19 +135,126 @@ public class Produto {
 		}
 	}
 
+	/**
+	 * Cria um construtor que valida todos os campos de uma vez.
+	 *
+	 * @return o construtor
+	 */
+	public static Construtor construtor() {
+		return new Construtor();
+	}
+
+	/**
+	 * Construtor de {@link Produto} que faz as verificacoes dos setters sem
+	 * lancar excecao e devolve todos os campos com erro de uma vez. Id e nome
+	 * sao obrigatorios; quantidade e preco so sao validados se forem
+	 * informados, como nos dois construtores de {@link Produto}.
+	 */
+	public static final class Construtor {
+
+		public static final int ID = 0;
+
+		public static final int NOME = 1;
+
+		public static final int QUANTIDADE = 2;
+
+		public static final int PRECO = 3;
+
+		private static final int QUANTIDADE_DE_CAMPOS = 4;
+
+		private Integer id;
+
+		private String nome;
+
+		private Integer quantidade;
+
+		private BigDecimal preco;
+
+		private Construtor() {
+		}
+
+		public Construtor id(Integer id) {
+			this.id = id;
+			return this;
+		}
+
+		public Construtor nome(String nome) {
+			this.nome = nome;
+			return this;
+		}
+
+		public Construtor quantidade(Integer quantidade) {
+			this.quantidade = quantidade;
+			return this;
+		}
+
+		public Construtor preco(BigDecimal preco) {
+			this.preco = preco;
+			return this;
+		}
+
+		/**
+		 * Valida todos os campos e constroi o produto se nao houver erros.
+		 *
+		 * @return o produto ou os erros de todos os campos
+		 */
+		public ResultadoDeValidacao<Produto> constroi() {
+			ErrosDeValidacao erros = new ErrosDeValidacao(QUANTIDADE_DE_CAMPOS);
+			erros.registra(ID, validaId(id));
+			erros.registra(NOME, validaNome(nome));
+			if (quantidade != null) {
+				erros.registra(QUANTIDADE, validaQuantidade(quantidade));
+			}
+			if (preco != null) {
+				erros.registra(PRECO, validaPreco(preco));
+			}
+			if (!erros.isVazio()) {
+				return ResultadoDeValidacao.invalido(erros);
+			}
+			Produto produto = new Produto();
+			produto.id = id;
+			produto.nome = new NomeValidado(nome);
+			produto.quantidade = quantidade;
+			produto.preco = preco;
+			return ResultadoDeValidacao.valido(produto, erros);
+		}
+	}
+
+	/**
+	 * Equivalencia de produtos pelo id.
+	 *
+	 * @return a equivalencia pelo id
+	 */
+	public static Equivalencia<Produto> porId() {
+		return ProdutoIgualdade.POR_CHAVE;
+	}
+
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		int h = hash;
+		if (h == 0) {
+			h = ProdutoIgualdade.hash(this);
+			hash = h;
+		}
+		return h;
 	}
 
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		if (obj instanceof Produto && hash != 0 && ((Produto) obj).hash != 0 && hash != ((Produto) obj).hash) {
+			return false;
+		}
+		return ProdutoIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		ProdutoTexto.escreve(this, escritor);
+	}
+
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 
 }
@@ -0,0 +1,81 @@
+package br.com.contmatic.endereco;
+
+import static br.com.contmatic.util.CodigoDeErro.OK;
+
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.TextoClassificado;
+import br.com.contmatic.util.ValidacaoSemExcecao;
+
+/**
+ * CEP ja validado por {@link ValidacaoSemExcecao#validaCep}, que inclui a
+ * regra de {@code @CepValido}. A validacao acontece uma unica vez, na criacao,
+ * e o CEP responde {@link TextoClassificado#isCep()} sem percorrer o texto de
+ * novo.
+ *
+ * @author gabriel.santos
+ */
+public final class Cep implements TextoClassificado, Comparable<Cep> {
+
+	private final String texto;
+
+	private Cep(String texto) {
+		this.texto = texto;
+	}
+
+	/**
+	 * Cria um CEP validado.
+	 *
+	 * @param cep os 8 digitos do CEP
+	 * @return o CEP
+	 * @throws IllegalArgumentException com a mensagem da primeira regra violada
+	 */
+	public static Cep valueOf(CharSequence cep) {
+		String texto = cep == null ? null : cep.toString();
+		int codigo = ValidacaoSemExcecao.validaCep(texto);
+		if (codigo != OK) {
+			throw new IllegalArgumentException(CodigoDeErro.mensagem(codigo));
+		}
+		return new Cep(texto);
+	}
+
+	@Override
+	public boolean isCep() {
+		return true;
+	}
+
+	@Override
+	public int length() {
+		return texto.length();
+	}
+
+	@Override
+	public char charAt(int indice) {
+		return texto.charAt(indice);
+	}
+
+	@Override
+	public CharSequence subSequence(int inicio, int fim) {
+		return texto.subSequence(inicio, fim);
+	}
+
+	@Override
+	public int compareTo(Cep outro) {
+		return texto.compareTo(outro.texto);
+	}
+
+	@Override
+	public int hashCode() {
+		return texto.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Cep && ((Cep) obj).texto.equals(texto);
+	}
+
+	@Override
+	public String toString() {
+		return texto;
+	}
+
+}
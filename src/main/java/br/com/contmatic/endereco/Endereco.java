@@ -5,8 +5,6 @@ import static br.com.contmatic.util.Constantes.BAIRRO_MAX_SIZE;
 import static br.com.contmatic.util.Constantes.BAIRRO_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.BAIRRO_VAZIO;
 import static br.com.contmatic.util.Constantes.CEP_INCORRETO;
-import static br.com.contmatic.util.Constantes.CEP_INVALIDO;
-import static br.com.contmatic.util.Constantes.CEP_SIZE;
 import static br.com.contmatic.util.Constantes.CEP_VAZIO;
 import static br.com.contmatic.util.Constantes.CIDADE_INCORRETO;
 import static br.com.contmatic.util.Constantes.CIDADE_MAX_SIZE;
@@ -21,68 +19,92 @@ import static br.com.contmatic.util.Constantes.ESTADO_VAZIO;
 import static br.com.contmatic.util.Constantes.NUMERO_INCORRETO;
 import static br.com.contmatic.util.Constantes.NUMERO_MINIMO;
 import static br.com.contmatic.util.Constantes.NUMERO_VAZIO;
+import static br.com.contmatic.util.Constantes.OBJETO_CONGELADO;
 import static br.com.contmatic.util.Constantes.RUA_INCORRETO;
 import static br.com.contmatic.util.Constantes.RUA_INVALIDA;
 import static br.com.contmatic.util.Constantes.RUA_MAX_SIZE;
 import static br.com.contmatic.util.Constantes.RUA_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.RUA_VAZIA;
-import static br.com.contmatic.util.RegexType.CEP;
-import static br.com.contmatic.util.RegexType.LETRAS_NUMEROS;
 import static br.com.contmatic.util.RegexType.validaSeNaoTemEspacosIncorretosECaracteresEspeciaos;
 
 import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Pattern;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
+import br.com.contmatic.util.CepValido;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.LetrasNumeros;
 
 /**
  * The Class Endereco.
  * 
  * @author gabriel.santos
  */
-public class Endereco {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Endereco implements Escrevivel {
 
 	/** The cep. */
 	@NotBlank(message = CEP_VAZIO)
-	@Pattern(regexp = CEP, message = CEP_INCORRETO)
-	private String cep;
+	@CepValido(message = CEP_INCORRETO)
+	private Cep cep;
 
 	/** The rua. */
 	@Size(min = 2, max = 80)
 	@NotBlank(message = RUA_VAZIA)
-	@Pattern(regexp = LETRAS_NUMEROS, message = RUA_INCORRETO)
+	@LetrasNumeros(message = RUA_INCORRETO)
 	private String rua;
 
 	/** The numero. */
-	@NotBlank(message = NUMERO_VAZIO)
+	@NotNull(message = NUMERO_VAZIO)
 	private Integer numero;
 
 	/** The complemento. */
 	@Size(min = 2, max = 80)
 	@NotBlank(message = COMPLEMENTO_VAZIO)
-	@Pattern(regexp = LETRAS_NUMEROS, message = COMPLEMENTO_INCORRETO)
+	@LetrasNumeros(message = COMPLEMENTO_INCORRETO)
 	private String complemento;
 
 	/** The bairro. */
 	@Size(min = 2, max = 40)
 	@NotBlank(message = BAIRRO_VAZIO)
-	@Pattern(regexp = LETRAS_NUMEROS, message = BAIRRO_INCORRETO)
+	@LetrasNumeros(message = BAIRRO_INCORRETO)
 	private String bairro;
 
 	/** The cidade. */
 	@Size(min = 2, max = 40)
 	@NotBlank(message = CIDADE_VAZIO)
-	@Pattern(regexp = LETRAS_NUMEROS, message = CIDADE_INCORRETO)
+	@LetrasNumeros(message = CIDADE_INCORRETO)
 	private String cidade;
 
 	/** The estado. */
-	@NotBlank(message = ESTADO_VAZIO)
+	@NotNull(message = ESTADO_VAZIO)
 	private EstadoType estado;
 
+	/** O hash calculado, ou zero enquanto nao for calculado ou depois de uma alteracao. */
+	private transient int hash;
+
+	/** Se o endereco foi congelado e nao aceita mais alteracoes. */
+	private transient boolean congelado;
+
+	/** Os enderecos canonicos, compartilhados enquanto alguem os referencia. */
+	private static final Interner<Endereco> CANONICOS = Interners.newWeakInterner();
+
+	/**
+	 * Instantiates a new endereco.
+	 */
+	public Endereco() {
+
+	}
+
 	/**
 	 * Instantiates a new endereco.
 	 *
@@ -117,23 +139,28 @@ public class Endereco {
 	}
 
 	public String getCep() {
-		return cep;
+		return cep == null ? null : cep.toString();
 	}
 
 	public void setCep(String cep) {
-		this.validaCepIncorreto(cep);
-		this.validaEspacosIncorretosECaracteresEspeciaisNoCep(cep);
-		this.cep = cep;
+		this.verificaSeMutavel();
+		this.cep = Cep.valueOf(cep);
+		this.hash = 0;
 	}
-	
-	private void validaEspacosIncorretosECaracteresEspeciaisNoCep(String cep) {
-		if (validaSeNaoTemEspacosIncorretosECaracteresEspeciaos(cep)) {
-			throw new IllegalArgumentException(CEP_INVALIDO);
-		}
+
+	public Cep getCepValidado() {
+		return cep;
 	}
 
-	private void validaCepIncorreto(String cep) {
-		if (cep == null || cep.trim().isEmpty() || cep.length() < CEP_SIZE || cep.length() > CEP_SIZE) {
+	public void setCepValidado(Cep cep) {
+		this.verificaSeMutavel();
+		this.validaCepNullo(cep);
+		this.cep = cep;
+		this.hash = 0;
+	}
+
+	private void validaCepNullo(Cep cep) {
+		if (cep == null) {
 			throw new IllegalArgumentException(CEP_INCORRETO);
 		}
 	}
@@ -143,9 +170,11 @@ public class Endereco {
 	}
 
 	public void setRua(String rua) {
+		this.verificaSeMutavel();
 		this.validaRuaIncorreto(rua);
 		this.validaEspacosIncorretosECaracteresEspeciaisNaRua(rua);
 		this.rua = rua;
+		this.hash = 0;
 	}
 	
 	private void validaEspacosIncorretosECaracteresEspeciaisNaRua(String rua) {
@@ -164,9 +193,16 @@ public class Endereco {
 		return numero;
 	}
 
+	/** O numero como guardado, nulo se nao informado, para o codigo gerado. */
+	Integer numero() {
+		return numero;
+	}
+
 	public void setNumero(Integer numero) {
+		this.verificaSeMutavel();
 		this.validaNumeroIncorreto(numero);
 		this.numero = numero;
+		this.hash = 0;
 	}
 
 	private void validaNumeroIncorreto(Integer numero) {
@@ -179,9 +215,11 @@ public class Endereco {
 	}
 
 	public void setComplemento(String complemento) {
+		this.verificaSeMutavel();
 		this.validaComplementoIncorreto(complemento);
 		this.validaEspacosIncorretosECaracteresEspeciaisNoComplemento(complemento);
 		this.complemento = complemento;
+		this.hash = 0;
 	}
 	
 	private void validaEspacosIncorretosECaracteresEspeciaisNoComplemento(String complemento) {
@@ -202,9 +240,11 @@ public class Endereco {
 	}
 
 	public void setBairro(String bairro) {
+		this.verificaSeMutavel();
 		this.validaBairroIncorreto(bairro);
 		this.validaEspacosIncorretosECaracteresEspeciaisNoBairro(bairro);
 		this.bairro = bairro;
+		this.hash = 0;
 	}
 	
 	private void validaEspacosIncorretosECaracteresEspeciaisNoBairro(String bairro) {
@@ -225,9 +265,11 @@ public class Endereco {
 	}
 
 	public void setCidade(String cidade) {
+		this.verificaSeMutavel();
 		this.validaCidadeIncorreto(cidade);
 		this.validaEspacosIncorretosECaracteresEspeciaisNaCidade(cidade);
 		this.cidade = cidade;
+		this.hash = 0;
 	}
 	
 	private void validaEspacosIncorretosECaracteresEspeciaisNaCidade(String cidade) {
@@ -248,8 +290,10 @@ public class Endereco {
 	}
 
 	public void setEstado(EstadoType estado) {
+		this.verificaSeMutavel();
 		this.estadoVazio(estado);
 		this.estado = estado;
+		this.hash = 0;
 	}
 
 	public void estadoVazio(EstadoType estado) {
@@ -258,6 +302,53 @@ public class Endereco {
 		}
 	}
 
+	public boolean isCongelado() {
+		return congelado;
+	}
+
+	/**
+	 * Congela o endereco: o hash e calculado uma vez e os setters passam a
+	 * lancar {@link IllegalStateException}. Nao ha como descongelar.
+	 *
+	 * @return o proprio endereco, congelado
+	 */
+	public Endereco congela() {
+		if (!congelado) {
+			this.hashCode();
+			this.congelado = true;
+		}
+		return this;
+	}
+
+	/**
+	 * Devolve a instancia canonica e congelada de um endereco igual a este,
+	 * para que as entidades compartilhem uma unica instancia. Se este ainda nao
+	 * estiver congelado, a canonica e uma copia e ele continua mutavel.
+	 *
+	 * @return o endereco canonico
+	 */
+	public Endereco canonico() {
+		return CANONICOS.intern(congelado ? this : this.copia().congela());
+	}
+
+	private Endereco copia() {
+		Endereco copia = new Endereco();
+		copia.cep = cep;
+		copia.rua = rua;
+		copia.numero = numero;
+		copia.complemento = complemento;
+		copia.bairro = bairro;
+		copia.cidade = cidade;
+		copia.estado = estado;
+		return copia;
+	}
+
+	private void verificaSeMutavel() {
+		if (congelado) {
+			throw new IllegalStateException(OBJETO_CONGELADO);
+		}
+	}
+
 	/**
 	 * Hash code.
 	 *
@@ -265,7 +356,12 @@ public class Endereco {
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		int h = hash;
+		if (h == 0) {
+			h = EnderecoIgualdade.hash(this);
+			hash = h;
+		}
+		return h;
 	}
 
 	/**
@@ -276,9 +372,17 @@ public class Endereco {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		if (obj instanceof Endereco && hash != 0 && ((Endereco) obj).hash != 0 && hash != ((Endereco) obj).hash) {
+			return false;
+		}
+		return EnderecoIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		EnderecoTexto.escreve(this, escritor);
+	}
+
 	/**
 	 * To string.
 	 *
@@ -286,7 +390,7 @@ public class Endereco {
 	 */
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 	
 }
@@ -0,0 +1,20 @@
+package br.com.contmatic.processador;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca os campos que identificam um objeto de uma classe com
+ * {@link GeraIgualdade}. A classe gerada passa a ter a equivalencia
+ * {@code POR_CHAVE}, que compara e combina apenas esses campos.
+ *
+ * @author gabriel.santos
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.SOURCE)
+public @interface Chave {
+}
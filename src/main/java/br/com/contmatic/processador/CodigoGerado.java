@@ -0,0 +1,36 @@
+package br.com.contmatic.processador;
+
+import javax.lang.model.util.Elements;
+
+/**
+ * Trechos comuns ao codigo escrito pelos geradores.
+ *
+ * @author gabriel.santos
+ */
+final class CodigoGerado {
+
+	/** As anotacoes {@code @Generated} conhecidas, da mais nova para a mais antiga. */
+	private static final String[] ANOTACOES_DE_GERADO = { "javax.annotation.processing.Generated",
+			"javax.annotation.Generated" };
+
+	private CodigoGerado() {
+	}
+
+	/**
+	 * A linha com a anotacao {@code @Generated} que existe no classpath da
+	 * compilacao: a do JDK 9 em diante, a do JDK 8, ou nenhuma.
+	 *
+	 * @param elementos os elementos do ambiente de processamento
+	 * @param gerador   o processador que gerou o codigo
+	 * @return a anotacao com a quebra de linha, ou vazio
+	 */
+	static String anotacaoDeGerado(Elements elementos, Class<?> gerador) {
+		for (String anotacao : ANOTACOES_DE_GERADO) {
+			if (elementos.getTypeElement(anotacao) != null) {
+				return "@" + anotacao + "(\"" + gerador.getName() + "\")\n";
+			}
+		}
+		return "";
+	}
+
+}
@@ -0,0 +1,23 @@
+package br.com.contmatic.processador;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Informa ao {@link ProcessadorDeValidadores} o custo de uma restricao
+ * propria. Restricoes proprias sem esta anotacao sao avaliadas por ultimo,
+ * como {@link NivelDeCusto#DIGITO_VERIFICADOR}.
+ *
+ * @author gabriel.santos
+ */
+@Documented
+@Target(ElementType.ANNOTATION_TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface Custo {
+
+	NivelDeCusto value();
+
+}
@@ -0,0 +1,20 @@
+package br.com.contmatic.processador;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca uma classe de dominio para que o {@link ProcessadorDeTexto} gere, no
+ * mesmo pacote, a classe {@code <Classe>Texto}, que escreve os seus campos num
+ * {@code EscritorDeTexto}.
+ *
+ * @author gabriel.santos
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GeraTexto {
+}
@@ -0,0 +1,20 @@
+package br.com.contmatic.processador;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca uma classe de dominio para que o {@link ProcessadorDeValidadores}
+ * gere, no mesmo pacote, a classe {@code <Classe>Validador} com as restricoes
+ * de Bean Validation dos seus campos e getters.
+ *
+ * @author gabriel.santos
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GeraValidador {
+}
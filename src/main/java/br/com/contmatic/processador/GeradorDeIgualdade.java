@@ -0,0 +1,297 @@
+package br.com.contmatic.processador;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Gera o codigo da igualdade de uma classe marcada com {@link GeraIgualdade}.
+ *
+ * O equals compara primeiro os campos primitivos e enums, depois os demais
+ * objetos, os arrays e por ultimo as colecoes, para que a diferenca mais
+ * barata de achar encerre a comparacao. O hashCode combina os campos na ordem
+ * de declaracao, com o multiplicador 31 de {@code Objects.hash}, sem guardar
+ * nada no objeto: quem quiser guardar o hash faz isso no proprio hashCode,
+ * num campo privado e transiente. Os campos marcados com {@link Chave} geram
+ * tambem a equivalencia {@code POR_CHAVE}.
+ *
+ * @author gabriel.santos
+ */
+final class GeradorDeIgualdade {
+
+	/** Sufixo do nome da classe gerada. */
+	static final String SUFIXO = "Igualdade";
+
+	private static final String EQUIVALENCIA = "br.com.contmatic.util.Equivalencia";
+
+	private final ProcessingEnvironment ambiente;
+
+	private final Elements elementos;
+
+	private final Types tipos;
+
+	private final TypeElement classe;
+
+	private final List<Campo> campos = new ArrayList<>();
+
+	private final List<Campo> chaves = new ArrayList<>();
+
+	GeradorDeIgualdade(ProcessingEnvironment ambiente, TypeElement classe) {
+		this.ambiente = ambiente;
+		this.elementos = ambiente.getElementUtils();
+		this.tipos = ambiente.getTypeUtils();
+		this.classe = classe;
+	}
+
+	/**
+	 * Le os campos da classe e escreve a classe gerada, se nao houver erros.
+	 *
+	 * @throws IOException se nao for possivel escrever o arquivo
+	 */
+	void gera() throws IOException {
+		if (!tipos.isSameType(classe.getSuperclass(), elementos.getTypeElement(Object.class.getName()).asType())) {
+			erro("@GeraIgualdade so pode anotar classes que estendem Object", classe);
+			return;
+		}
+		boolean valido = true;
+		for (VariableElement campo : ElementFilter.fieldsIn(classe.getEnclosedElements())) {
+			if (campo.getModifiers().contains(Modifier.STATIC) || campo.getModifiers().contains(Modifier.TRANSIENT)) {
+				if (campo.getAnnotation(Chave.class) != null) {
+					erro("@Chave nao pode marcar campos estaticos ou transientes", campo);
+					valido = false;
+				}
+				continue;
+			}
+			String leitura = LeituraDeCampo.leitura(tipos, classe, campo);
+			if (leitura == null) {
+				erro(campo.getSimpleName() + " nao pode ser privado sem um getter do mesmo tipo para ser lido pela"
+						+ " igualdade gerada", campo);
+				valido = false;
+				continue;
+			}
+			Campo lido = new Campo(leitura, campo.asType());
+			campos.add(lido);
+			if (campo.getAnnotation(Chave.class) != null) {
+				chaves.add(lido);
+			}
+		}
+		if (valido) {
+			escreve();
+		}
+	}
+
+	private void erro(String mensagem, Element elemento) {
+		ambiente.getMessager().printMessage(Kind.ERROR, mensagem, elemento);
+	}
+
+	/** A ordem do campo no equals: os mais baratos de comparar primeiro. */
+	private int custo(TypeMirror tipo) {
+		if (tipo.getKind().isPrimitive() || isEnum(tipo)) {
+			return 0;
+		}
+		if (tipo.getKind() == TypeKind.ARRAY) {
+			return 2;
+		}
+		if (isSubtipo(tipo, "java.util.Collection") || isSubtipo(tipo, "java.util.Map")) {
+			return 3;
+		}
+		return 1;
+	}
+
+	private static boolean isEnum(TypeMirror tipo) {
+		return tipo.getKind() == TypeKind.DECLARED && ((DeclaredType) tipo).asElement().getKind() == ElementKind.ENUM;
+	}
+
+	private boolean isSubtipo(TypeMirror tipo, String nome) {
+		TypeElement supertipo = elementos.getTypeElement(nome);
+		return supertipo != null && tipos.isSubtype(tipos.erasure(tipo), tipos.erasure(supertipo.asType()));
+	}
+
+	private static String comparacao(Campo campo) {
+		String a = "objeto." + campo.leitura;
+		String b = "outro." + campo.leitura;
+		switch (campo.tipo.getKind()) {
+		case FLOAT:
+			return "Float.compare(" + a + ", " + b + ") == 0";
+		case DOUBLE:
+			return "Double.compare(" + a + ", " + b + ") == 0";
+		case ARRAY:
+			return (isArrayDePrimitivos(campo.tipo) ? "java.util.Arrays.equals(" : "java.util.Arrays.deepEquals(")
+					+ a + ", " + b + ")";
+		default:
+			if (campo.tipo.getKind().isPrimitive() || isEnum(campo.tipo)) {
+				return a + " == " + b;
+			}
+			return "java.util.Objects.equals(" + a + ", " + b + ")";
+		}
+	}
+
+	private static String hash(Campo campo) {
+		String valor = "objeto." + campo.leitura;
+		switch (campo.tipo.getKind()) {
+		case BOOLEAN:
+			return "Boolean.hashCode(" + valor + ")";
+		case LONG:
+			return "Long.hashCode(" + valor + ")";
+		case FLOAT:
+			return "Float.hashCode(" + valor + ")";
+		case DOUBLE:
+			return "Double.hashCode(" + valor + ")";
+		case BYTE:
+		case SHORT:
+		case CHAR:
+		case INT:
+			return valor;
+		case ARRAY:
+			return (isArrayDePrimitivos(campo.tipo) ? "java.util.Arrays.hashCode(" : "java.util.Arrays.deepHashCode(")
+					+ valor + ")";
+		default:
+			return "java.util.Objects.hashCode(" + valor + ")";
+		}
+	}
+
+	private static boolean isArrayDePrimitivos(TypeMirror tipo) {
+		return ((ArrayType) tipo).getComponentType().getKind().isPrimitive();
+	}
+
+	private void escreve() throws IOException {
+		String pacote = elementos.getPackageOf(classe).getQualifiedName().toString();
+		String entidade = classe.getQualifiedName().toString();
+		if (!classe.getTypeParameters().isEmpty()) {
+			List<String> curingas = new ArrayList<>();
+			classe.getTypeParameters().forEach(parametro -> curingas.add("?"));
+			entidade += "<" + String.join(", ", curingas) + ">";
+		}
+		String nome = classe.getSimpleName() + SUFIXO;
+		List<Campo> ordemDoEquals = new ArrayList<>(campos);
+		ordemDoEquals.sort(Comparator.comparingInt(campo -> custo(campo.tipo)));
+		StringBuilder codigo = new StringBuilder();
+		if (!pacote.isEmpty()) {
+			codigo.append("package ").append(pacote).append(";\n\n");
+		}
+		codigo.append("/**\n");
+		codigo.append(" * Equals e hashCode de {@link ").append(classe.getQualifiedName())
+				.append("} gerados a partir\n");
+		codigo.append(" * dos campos da classe. Nao deve ser editado.\n");
+		codigo.append(" */\n");
+		codigo.append(CodigoGerado.anotacaoDeGerado(elementos, ProcessadorDeIgualdade.class));
+		codigo.append("public final class ").append(nome).append(" {\n\n");
+		if (!chaves.isEmpty()) {
+			codigo.append("\t/** Equivalencia apenas pelos campos marcados com {@code @Chave}. */\n");
+			codigo.append("\tpublic static final ").append(EQUIVALENCIA).append('<').append(entidade)
+					.append("> POR_CHAVE = ").append(EQUIVALENCIA).append(".de(").append(nome)
+					.append("::chavesIguais,\n\t\t\t").append(nome).append("::hashDaChave);\n\n");
+		}
+		codigo.append("\tprivate ").append(nome).append("() {\n\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Compara o objeto com outro da mesma classe, campo a campo.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto o objeto\n");
+		codigo.append("\t * @param obj    o outro objeto\n");
+		codigo.append("\t * @return true, se forem da mesma classe e tiverem os campos iguais\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static boolean iguais(").append(entidade).append(" objeto, Object obj) {\n");
+		codigo.append("\t\tif (objeto == obj) {\n");
+		codigo.append("\t\t\treturn true;\n");
+		codigo.append("\t\t}\n");
+		codigo.append("\t\tif (obj == null || objeto.getClass() != obj.getClass()) {\n");
+		codigo.append("\t\t\treturn false;\n");
+		codigo.append("\t\t}\n");
+		if (ordemDoEquals.isEmpty()) {
+			codigo.append("\t\treturn true;\n");
+		} else {
+			codigo.append("\t\t").append(entidade).append(" outro = (").append(entidade).append(") obj;\n");
+			List<String> comparacoes = new ArrayList<>();
+			for (Campo campo : ordemDoEquals) {
+				comparacoes.add(comparacao(campo));
+			}
+			codigo.append("\t\treturn ").append(String.join("\n\t\t\t\t&& ", comparacoes)).append(";\n");
+		}
+		codigo.append("\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Combina o hash dos campos do objeto.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto o objeto\n");
+		codigo.append("\t * @return o hash\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static int hash(").append(entidade).append(" objeto) {\n");
+		codigo.append("\t\tint h = 1;\n");
+		for (Campo campo : campos) {
+			codigo.append("\t\th = 31 * h + ").append(hash(campo)).append(";\n");
+		}
+		codigo.append("\t\treturn h;\n");
+		codigo.append("\t}\n\n");
+		if (!chaves.isEmpty()) {
+			escreveChave(codigo, entidade);
+		}
+		codigo.append("}\n");
+		JavaFileObject arquivo = ambiente.getFiler().createSourceFile(
+				pacote.isEmpty() ? nome : pacote + "." + nome, classe);
+		try (Writer escritor = arquivo.openWriter()) {
+			escritor.write(codigo.toString());
+		}
+	}
+
+	private void escreveChave(StringBuilder codigo, String entidade) {
+		List<String> comparacoes = new ArrayList<>();
+		for (Campo campo : chaves) {
+			comparacoes.add(comparacao(campo));
+		}
+		codigo.append("\t/**\n");
+		codigo.append("\t * Compara apenas os campos da chave.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto o objeto\n");
+		codigo.append("\t * @param outro  o outro objeto\n");
+		codigo.append("\t * @return true, se as chaves forem iguais\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static boolean chavesIguais(").append(entidade).append(" objeto, ").append(entidade)
+				.append(" outro) {\n");
+		codigo.append("\t\treturn ").append(String.join("\n\t\t\t\t&& ", comparacoes)).append(";\n");
+		codigo.append("\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Combina o hash dos campos da chave.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto o objeto\n");
+		codigo.append("\t * @return o hash da chave\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static int hashDaChave(").append(entidade).append(" objeto) {\n");
+		codigo.append("\t\tint h = 1;\n");
+		for (Campo campo : chaves) {
+			codigo.append("\t\th = 31 * h + ").append(hash(campo)).append(";\n");
+		}
+		codigo.append("\t\treturn h;\n");
+		codigo.append("\t}\n\n");
+	}
+
+	/** Campo que entra na igualdade. */
+	private static final class Campo {
+
+		private final String leitura;
+
+		private final TypeMirror tipo;
+
+		Campo(String leitura, TypeMirror tipo) {
+			this.leitura = leitura;
+			this.tipo = tipo;
+		}
+	}
+
+}
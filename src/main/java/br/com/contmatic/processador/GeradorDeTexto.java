@@ -0,0 +1,128 @@
+package br.com.contmatic.processador;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Gera o codigo da escrita em texto de uma classe marcada com
+ * {@link GeraTexto}: abre o objeto com o nome simples da classe, escreve cada
+ * campo com a sobrecarga de {@code EscritorDeTexto.campo} do seu tipo e fecha
+ * o objeto. Se o escritor omitir o objeto por causa da profundidade, os campos
+ * nao sao lidos.
+ *
+ * @author gabriel.santos
+ */
+final class GeradorDeTexto {
+
+	/** Sufixo do nome da classe gerada. */
+	static final String SUFIXO = "Texto";
+
+	private static final String ESCRITOR = "br.com.contmatic.util.EscritorDeTexto";
+
+	private final ProcessingEnvironment ambiente;
+
+	private final Elements elementos;
+
+	private final TypeElement classe;
+
+	private final List<String> campos = new ArrayList<>();
+
+	GeradorDeTexto(ProcessingEnvironment ambiente, TypeElement classe) {
+		this.ambiente = ambiente;
+		this.elementos = ambiente.getElementUtils();
+		this.classe = classe;
+	}
+
+	/**
+	 * Le os campos da classe e escreve a classe gerada, se nao houver erros.
+	 *
+	 * @throws IOException se nao for possivel escrever o arquivo
+	 */
+	void gera() throws IOException {
+		boolean valido = true;
+		for (VariableElement campo : ElementFilter.fieldsIn(classe.getEnclosedElements())) {
+			if (campo.getModifiers().contains(Modifier.STATIC) || campo.getModifiers().contains(Modifier.TRANSIENT)) {
+				continue;
+			}
+			String leitura = LeituraDeCampo.leitura(ambiente.getTypeUtils(), classe, campo);
+			if (leitura == null) {
+				ambiente.getMessager().printMessage(Kind.ERROR, campo.getSimpleName()
+						+ " nao pode ser privado sem um getter do mesmo tipo para ser lido pela escrita gerada", campo);
+				valido = false;
+				continue;
+			}
+			campos.add(escrita(campo.getSimpleName().toString(), leitura, campo.asType()));
+		}
+		if (valido) {
+			escreve();
+		}
+	}
+
+	private static String escrita(String nome, String leitura, TypeMirror tipo) {
+		String valor = "objeto." + leitura;
+		if (tipo.getKind() == TypeKind.ARRAY && ((ArrayType) tipo).getComponentType().getKind().isPrimitive()) {
+			valor = "java.util.Arrays.toString(" + valor + ")";
+		}
+		return "\t\tescritor.campo(\"" + nome + "\", " + valor + ");\n";
+	}
+
+	private void escreve() throws IOException {
+		String pacote = elementos.getPackageOf(classe).getQualifiedName().toString();
+		String entidade = classe.getQualifiedName().toString();
+		if (!classe.getTypeParameters().isEmpty()) {
+			List<String> curingas = new ArrayList<>();
+			classe.getTypeParameters().forEach(parametro -> curingas.add("?"));
+			entidade += "<" + String.join(", ", curingas) + ">";
+		}
+		String nome = classe.getSimpleName() + SUFIXO;
+		StringBuilder codigo = new StringBuilder();
+		if (!pacote.isEmpty()) {
+			codigo.append("package ").append(pacote).append(";\n\n");
+		}
+		codigo.append("/**\n");
+		codigo.append(" * Escrita em texto de {@link ").append(classe.getQualifiedName())
+				.append("} gerada a partir\n");
+		codigo.append(" * dos campos da classe. Nao deve ser editada.\n");
+		codigo.append(" */\n");
+		codigo.append(CodigoGerado.anotacaoDeGerado(elementos, ProcessadorDeTexto.class));
+		codigo.append("public final class ").append(nome).append(" {\n\n");
+		codigo.append("\tprivate ").append(nome).append("() {\n\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Escreve o objeto e os seus campos.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto   o objeto\n");
+		codigo.append("\t * @param escritor o escritor\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static void escreve(").append(entidade).append(" objeto, ").append(ESCRITOR)
+				.append(" escritor) {\n");
+		codigo.append("\t\tif (!escritor.abre(\"").append(classe.getSimpleName()).append("\")) {\n");
+		codigo.append("\t\t\treturn;\n");
+		codigo.append("\t\t}\n");
+		for (String campo : campos) {
+			codigo.append(campo);
+		}
+		codigo.append("\t\tescritor.fecha();\n");
+		codigo.append("\t}\n\n");
+		codigo.append("}\n");
+		JavaFileObject arquivo = ambiente.getFiler().createSourceFile(
+				pacote.isEmpty() ? nome : pacote + "." + nome, classe);
+		try (Writer escritor = arquivo.openWriter()) {
+			escritor.write(codigo.toString());
+		}
+	}
+
+}
@@ -0,0 +1,737 @@
+package br.com.contmatic.processador;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+/**
+ * Gera o codigo do validador de uma classe marcada com {@link GeraValidador}.
+ *
+ * Cada campo ou getter com restricoes vira um bloco que le o valor uma vez e
+ * testa as restricoes da mais barata para a mais cara, segundo
+ * {@link NivelDeCusto}; as cascatas de {@code @Valid} vem depois de todos os
+ * campos. Expressoes regulares, limites em
+ * {@code BigDecimal}, mensagens com parametros e validadores de restricoes
+ * proprias viram constantes da classe gerada.
+ *
+ * @author gabriel.santos
+ */
+final class GeradorDeValidador {
+
+	/** Sufixo do nome da classe gerada. */
+	static final String SUFIXO = "Validador";
+
+	private static final String SUPORTE = "br.com.contmatic.util.ValidacaoGerada";
+
+	private static final String VALIDATE = "br.com.contmatic.util.Validate";
+
+	private static final String MODO = "br.com.contmatic.util.ModoDeValidacao";
+
+	private static final String OBJETO_VAZIO = "br.com.contmatic.util.Constantes.OBJETO_VAZIO";
+
+	private static final String MODO_VAZIO = "br.com.contmatic.util.Constantes.MODO_DE_VALIDACAO_VAZIO";
+
+	private static final String CONSTRAINT = "javax.validation.Constraint";
+
+	private static final String CONSTRAINT_VALIDATOR = "javax.validation.ConstraintValidator";
+
+	private static final String VALID = "javax.validation.Valid";
+
+	private static final String GRUPO_PADRAO = "javax.validation.groups.Default";
+
+	private static final String NOT_NULL = "javax.validation.constraints.NotNull";
+
+	private static final String NOT_BLANK = "javax.validation.constraints.NotBlank";
+
+	private static final String NOT_EMPTY = "javax.validation.constraints.NotEmpty";
+
+	private static final String SIZE = "javax.validation.constraints.Size";
+
+	private static final String PATTERN = "javax.validation.constraints.Pattern";
+
+	private static final String MIN = "javax.validation.constraints.Min";
+
+	private static final String MAX = "javax.validation.constraints.Max";
+
+	private static final String PAST = "javax.validation.constraints.Past";
+
+	private static final String FUTURE = "javax.validation.constraints.Future";
+
+	private static final String NOT_BLANK_HIBERNATE = "org.hibernate.validator.constraints.NotBlank";
+
+	private static final String NOT_EMPTY_HIBERNATE = "org.hibernate.validator.constraints.NotEmpty";
+
+	private static final String LENGTH = "org.hibernate.validator.constraints.Length";
+
+	private static final String URL = "org.hibernate.validator.constraints.URL";
+
+	private static final String CPF = "org.hibernate.validator.constraints.br.CPF";
+
+	private static final String CNPJ = "org.hibernate.validator.constraints.br.CNPJ";
+
+	private static final String CHAR_SEQUENCE = "java.lang.CharSequence";
+
+	private final ProcessingEnvironment ambiente;
+
+	private final Elements elementos;
+
+	private final Types tipos;
+
+	private final TypeElement classe;
+
+	private final StringBuilder constantes = new StringBuilder();
+
+	private final StringBuilder inicializacao = new StringBuilder();
+
+	private final StringBuilder declaracoes = new StringBuilder();
+
+	private final StringBuilder corpo = new StringBuilder();
+
+	private final StringBuilder cascatas = new StringBuilder();
+
+	private int contador;
+
+	private boolean cascata;
+
+	GeradorDeValidador(ProcessingEnvironment ambiente, TypeElement classe) {
+		this.ambiente = ambiente;
+		this.elementos = ambiente.getElementUtils();
+		this.tipos = ambiente.getTypeUtils();
+		this.classe = classe;
+	}
+
+	/**
+	 * Percorre os campos e getters da classe e escreve o validador.
+	 *
+	 * @throws IOException se o arquivo gerado nao puder ser escrito
+	 */
+	void gera() throws IOException {
+		for (Element membro : classe.getEnclosedElements()) {
+			if (membro.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			if (membro.getKind() == ElementKind.FIELD) {
+				String leitura = LeituraDeCampo.leitura(tipos, classe, (VariableElement) membro);
+				propriedade(membro, membro.asType(), leitura == null ? null : "objeto." + leitura);
+			} else if (membro.getKind() == ElementKind.METHOD && isGetter((ExecutableElement) membro)) {
+				propriedade(membro, ((ExecutableElement) membro).getReturnType(),
+						membro.getModifiers().contains(Modifier.PRIVATE) ? null
+								: "objeto." + membro.getSimpleName() + "()");
+			}
+		}
+		escreve();
+	}
+
+	private static boolean isGetter(ExecutableElement metodo) {
+		String nome = metodo.getSimpleName().toString();
+		return metodo.getParameters().isEmpty() && metodo.getReturnType().getKind() != TypeKind.VOID
+				&& (nome.startsWith("get") || nome.startsWith("is"));
+	}
+
+	private void propriedade(Element membro, TypeMirror tipo, String acesso) {
+		List<AnnotationMirror> anotacoes = new ArrayList<>();
+		boolean valida = false;
+		for (AnnotationMirror anotacao : membro.getAnnotationMirrors()) {
+			if (nome(anotacao).equals(VALID)) {
+				valida = true;
+			} else {
+				adicionaRestricoes(anotacao, anotacoes);
+			}
+		}
+		if (anotacoes.isEmpty() && !valida) {
+			return;
+		}
+		if (acesso == null) {
+			ambiente.getMessager().printMessage(Kind.ERROR, membro.getSimpleName()
+					+ " tem restricoes e nao pode ser privado sem um getter do mesmo tipo para ser lido pelo"
+					+ " validador gerado", membro);
+			return;
+		}
+		List<Restricao> restricoes = new ArrayList<>();
+		Map<String, Integer> indices = new HashMap<>();
+		for (AnnotationMirror anotacao : anotacoes) {
+			int indice = indices.merge(nome(anotacao), 1, Integer::sum) - 1;
+			if (pertenceAoGrupoPadrao(anotacao)) {
+				restricoes.add(new Restricao(anotacao, indice, custo(anotacao)));
+			}
+		}
+		restricoes.sort(Comparator.comparing(Restricao::getCusto));
+		String validador = valida ? validadorEmCascata(tipo, membro) : null;
+		String liberaCascata = validador != null && !restricoes.isEmpty() ? "cascata" + contador++ : null;
+		StringBuilder verificacoes = new StringBuilder();
+		for (Restricao restricao : restricoes) {
+			String condicao = condicao(restricao.anotacao, tipo, membro, restricao.indice);
+			if (condicao != null) {
+				verificacoes.append("\t\t\tif (").append(condicao).append(") {\n");
+				verificacoes.append("\t\t\t\tmensagens.add(").append(mensagem(restricao.anotacao)).append(");\n");
+				verificacoes.append("\t\t\t\tif (modo.paraNoObjeto()) {\n");
+				verificacoes.append("\t\t\t\t\treturn false;\n");
+				verificacoes.append("\t\t\t\t}\n");
+				verificacoes.append("\t\t\t\tif (modo.paraNoCampo()) {\n");
+				if (liberaCascata != null) {
+					verificacoes.append("\t\t\t\t\t").append(liberaCascata).append(" = false;\n");
+				}
+				verificacoes.append("\t\t\t\t\tbreak campo;\n");
+				verificacoes.append("\t\t\t\t}\n");
+				verificacoes.append("\t\t\t}\n");
+			}
+		}
+		if (verificacoes.length() > 0) {
+			corpo.append("\t\tcampo: {\n");
+			corpo.append("\t\t\t").append(nomeDoTipo(tipo)).append(" valor = ").append(acesso).append(";\n");
+			corpo.append(verificacoes);
+			corpo.append("\t\t}\n");
+		}
+		if (validador != null) {
+			if (liberaCascata != null) {
+				declaracoes.append("\t\tboolean ").append(liberaCascata).append(" = true;\n");
+			}
+			cascatas.append("\t\t{\n");
+			cascatas.append("\t\t\t").append(nomeDoTipo(tipo)).append(" valor = ").append(acesso).append(";\n");
+			cascatas.append(cascata(tipo, validador, liberaCascata));
+			cascatas.append("\t\t}\n");
+		}
+	}
+
+	/** O custo da restricao; as proprias informam o seu com {@link Custo}. */
+	private static NivelDeCusto custo(AnnotationMirror restricao) {
+		switch (nome(restricao)) {
+		case NOT_NULL:
+		case NOT_BLANK:
+		case NOT_BLANK_HIBERNATE:
+		case NOT_EMPTY:
+		case NOT_EMPTY_HIBERNATE:
+			return NivelDeCusto.NULO;
+		case SIZE:
+		case LENGTH:
+		case MIN:
+		case MAX:
+		case PAST:
+		case FUTURE:
+			return NivelDeCusto.TAMANHO;
+		case PATTERN:
+		case URL:
+			return NivelDeCusto.CARACTERES;
+		case CPF:
+		case CNPJ:
+			return NivelDeCusto.DIGITO_VERIFICADOR;
+		default:
+			Custo custo = restricao.getAnnotationType().asElement().getAnnotation(Custo.class);
+			return custo == null ? NivelDeCusto.DIGITO_VERIFICADOR : custo.value();
+		}
+	}
+
+	/** Adiciona a restricao, ou as restricoes de uma lista como {@code @Size.List}. */
+	private void adicionaRestricoes(AnnotationMirror anotacao, List<AnnotationMirror> restricoes) {
+		if (metaRestricao(anotacao.getAnnotationType().asElement()) != null) {
+			restricoes.add(anotacao);
+			return;
+		}
+		Object valor = atributo(anotacao, "value");
+		if (!(valor instanceof List)) {
+			return;
+		}
+		for (Object item : (List<?>) valor) {
+			Object conteudo = ((AnnotationValue) item).getValue();
+			if (conteudo instanceof AnnotationMirror
+					&& metaRestricao(((AnnotationMirror) conteudo).getAnnotationType().asElement()) != null) {
+				restricoes.add((AnnotationMirror) conteudo);
+			}
+		}
+	}
+
+	/** O {@code @Constraint} que faz da anotacao uma restricao, ou null. */
+	private static AnnotationMirror metaRestricao(Element tipoDaAnotacao) {
+		for (AnnotationMirror meta : tipoDaAnotacao.getAnnotationMirrors()) {
+			if (nome(meta).equals(CONSTRAINT)) {
+				return meta;
+			}
+		}
+		return null;
+	}
+
+	private boolean pertenceAoGrupoPadrao(AnnotationMirror restricao) {
+		Object grupos = atributo(restricao, "groups");
+		if (!(grupos instanceof List) || ((List<?>) grupos).isEmpty()) {
+			return true;
+		}
+		for (Object grupo : (List<?>) grupos) {
+			if (((AnnotationValue) grupo).getValue().toString().equals(GRUPO_PADRAO)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String condicao(AnnotationMirror restricao, TypeMirror tipo, Element membro, int indice) {
+		switch (nome(restricao)) {
+		case NOT_NULL:
+			return tipo.getKind().isPrimitive() ? null : "valor == null";
+		case NOT_BLANK:
+		case NOT_BLANK_HIBERNATE:
+			return isDoTipo(tipo, CHAR_SEQUENCE) ? "valor == null || valor.toString().trim().isEmpty()"
+					: inaplicavel(restricao, tipo, membro);
+		case NOT_EMPTY:
+		case NOT_EMPTY_HIBERNATE:
+			String tamanho = tamanho(tipo);
+			return tamanho != null ? "valor == null || " + tamanho + " == 0" : inaplicavel(restricao, tipo, membro);
+		case SIZE:
+			return limitesDeTamanho(tamanho(tipo), restricao, tipo, membro);
+		case LENGTH:
+			return limitesDeTamanho(isDoTipo(tipo, CHAR_SEQUENCE) ? "valor.length()" : null, restricao, tipo, membro);
+		case PATTERN:
+			return padrao(restricao, tipo, membro);
+		case MIN:
+			return limite(restricao, tipo, membro, "<");
+		case MAX:
+			return limite(restricao, tipo, membro, ">");
+		case PAST:
+			return data(restricao, tipo, membro, true);
+		case FUTURE:
+			return data(restricao, tipo, membro, false);
+		case URL:
+			return isDoTipo(tipo, CHAR_SEQUENCE) ? "!" + SUPORTE + ".isUrl(valor, " + literal(atributo(restricao, "protocol"))
+					+ ", " + literal(atributo(restricao, "host")) + ", " + atributo(restricao, "port") + ")"
+					: inaplicavel(restricao, tipo, membro);
+		case CPF:
+			return isDoTipo(tipo, CHAR_SEQUENCE) ? "valor != null && !" + VALIDATE + ".isCPFComOuSemMascara(valor)"
+					: inaplicavel(restricao, tipo, membro);
+		case CNPJ:
+			return isDoTipo(tipo, CHAR_SEQUENCE) ? "valor != null && !" + VALIDATE + ".isCNPJComOuSemMascara(valor)"
+					: inaplicavel(restricao, tipo, membro);
+		default:
+			return propria(restricao, tipo, membro, indice);
+		}
+	}
+
+	/** A expressao do tamanho de textos, colecoes, mapas e arrays, ou null. */
+	private String tamanho(TypeMirror tipo) {
+		if (tipo.getKind() == TypeKind.ARRAY) {
+			return "valor.length";
+		}
+		if (isDoTipo(tipo, CHAR_SEQUENCE)) {
+			return "valor.length()";
+		}
+		if (isDoTipo(tipo, "java.util.Collection") || isDoTipo(tipo, "java.util.Map")) {
+			return "valor.size()";
+		}
+		return null;
+	}
+
+	private String limitesDeTamanho(String tamanho, AnnotationMirror restricao, TypeMirror tipo, Element membro) {
+		if (tamanho == null) {
+			return inaplicavel(restricao, tipo, membro);
+		}
+		int minimo = (Integer) atributo(restricao, "min");
+		int maximo = (Integer) atributo(restricao, "max");
+		List<String> limites = new ArrayList<>();
+		if (minimo > 0) {
+			limites.add(tamanho + " < " + minimo);
+		}
+		if (maximo < Integer.MAX_VALUE) {
+			limites.add(tamanho + " > " + maximo);
+		}
+		return limites.isEmpty() ? null : "valor != null && (" + String.join(" || ", limites) + ")";
+	}
+
+	private String padrao(AnnotationMirror restricao, TypeMirror tipo, Element membro) {
+		if (!isDoTipo(tipo, CHAR_SEQUENCE)) {
+			return inaplicavel(restricao, tipo, membro);
+		}
+		List<String> flags = new ArrayList<>();
+		for (Object flag : (List<?>) atributo(restricao, "flags")) {
+			flags.add("java.util.regex.Pattern." + ((Element) ((AnnotationValue) flag).getValue()).getSimpleName());
+		}
+		String nome = "PADRAO_" + contador++;
+		constantes.append("\tprivate static final java.util.regex.Pattern ").append(nome)
+				.append(" = java.util.regex.Pattern.compile(").append(literal(atributo(restricao, "regexp")))
+				.append(flags.isEmpty() ? "" : ", " + String.join(" | ", flags)).append(");\n\n");
+		return "valor != null && !" + nome + ".matcher(valor).matches()";
+	}
+
+	/** {@code @Min} e {@code @Max} com a mesma conversao do Hibernate Validator. */
+	private String limite(AnnotationMirror restricao, TypeMirror tipo, Element membro, String operador) {
+		long valor = (Long) atributo(restricao, "value");
+		switch (tipo.getKind()) {
+		case BYTE:
+		case SHORT:
+		case INT:
+		case LONG:
+		case FLOAT:
+		case DOUBLE:
+			return "(long) valor " + operador + " " + valor + "L";
+		default:
+			break;
+		}
+		for (String classeNumerica : new String[] { "java.math.BigDecimal", "java.math.BigInteger" }) {
+			if (isDoTipo(tipo, classeNumerica)) {
+				String nome = "LIMITE_" + contador++;
+				constantes.append("\tprivate static final ").append(classeNumerica).append(' ').append(nome).append(" = ")
+						.append(classeNumerica).append(".valueOf(").append(valor).append("L);\n\n");
+				return "valor != null && valor.compareTo(" + nome + ") " + operador + " 0";
+			}
+		}
+		if (isDoTipo(tipo, "java.lang.Number")) {
+			return "valor != null && valor.longValue() " + operador + " " + valor + "L";
+		}
+		return inaplicavel(restricao, tipo, membro);
+	}
+
+	/** {@code @Past} e {@code @Future} com a mesma comparacao do Hibernate Validator. */
+	private String data(AnnotationMirror restricao, TypeMirror tipo, Element membro, boolean passado) {
+		if (isDoTipo(tipo, "org.joda.time.ReadablePartial")) {
+			return "valor != null && !valor.toDateTime((org.joda.time.ReadableInstant) null)."
+					+ (passado ? "isBeforeNow()" : "isAfterNow()");
+		}
+		if (isDoTipo(tipo, "org.joda.time.ReadableInstant")) {
+			return "valor != null && !valor." + (passado ? "isBefore" : "isAfter")
+					+ "((org.joda.time.ReadableInstant) null)";
+		}
+		String operador = passado ? " >= " : " <= ";
+		if (isDoTipo(tipo, "java.util.Date")) {
+			return "valor != null && valor.getTime()" + operador + "System.currentTimeMillis()";
+		}
+		if (isDoTipo(tipo, "java.util.Calendar")) {
+			return "valor != null && valor.getTimeInMillis()" + operador + "System.currentTimeMillis()";
+		}
+		return inaplicavel(restricao, tipo, membro);
+	}
+
+	/**
+	 * Restricoes proprias, como {@code @Letras}: o validador declarado em
+	 * {@code validatedBy} vira uma constante, inicializada com a anotacao do
+	 * membro, e recebe um contexto nulo.
+	 */
+	private String propria(AnnotationMirror restricao, TypeMirror tipo, Element membro, int indice) {
+		TypeElement tipoDaAnotacao = (TypeElement) restricao.getAnnotationType().asElement();
+		List<?> validadores = (List<?>) atributo(metaRestricao(tipoDaAnotacao), "validatedBy");
+		if (validadores.size() != 1) {
+			aviso("@" + tipoDaAnotacao.getSimpleName() + " nao e suportada pelo validador gerado e foi ignorada",
+					membro, restricao);
+			return null;
+		}
+		TypeElement validador = (TypeElement) tipos.asElement((TypeMirror) ((AnnotationValue) validadores.get(0)).getValue());
+		TypeMirror validado = tipoValidado(validador.asType());
+		TypeMirror valor = tipo.getKind().isPrimitive() ? tipos.boxedClass((PrimitiveType) tipo).asType() : tipo;
+		if (validado == null || !tipos.isAssignable(tipos.erasure(valor), tipos.erasure(validado))) {
+			return inaplicavel(restricao, tipo, membro);
+		}
+		String nome = "VALIDADOR_" + contador++;
+		String classeDoValidador = validador.getQualifiedName().toString();
+		constantes.append("\tprivate static final ").append(classeDoValidador).append(' ').append(nome)
+				.append(" = new ").append(classeDoValidador).append("();\n\n");
+		inicializacao.append("\t\t").append(nome).append(".initialize(").append(SUPORTE)
+				.append(membro.getKind() == ElementKind.FIELD ? ".anotacaoDoCampo(" : ".anotacaoDoMetodo(")
+				.append(classe.getQualifiedName()).append(".class, ").append(literal(membro.getSimpleName()))
+				.append(", ").append(tipoDaAnotacao.getQualifiedName()).append(".class, ").append(indice).append("));\n");
+		return "!" + nome + ".isValid(valor, null)";
+	}
+
+	/** O segundo argumento de {@code ConstraintValidator<A, T>} na hierarquia do validador. */
+	private TypeMirror tipoValidado(TypeMirror tipo) {
+		for (TypeMirror supertipo : tipos.directSupertypes(tipo)) {
+			if (supertipo.getKind() == TypeKind.DECLARED) {
+				DeclaredType declarado = (DeclaredType) supertipo;
+				if (((TypeElement) declarado.asElement()).getQualifiedName().contentEquals(CONSTRAINT_VALIDATOR)) {
+					return declarado.getTypeArguments().size() == 2 ? declarado.getTypeArguments().get(1) : null;
+				}
+			}
+			TypeMirror encontrado = tipoValidado(supertipo);
+			if (encontrado != null) {
+				return encontrado;
+			}
+		}
+		return null;
+	}
+
+	/** O validador gerado dos objetos em cascata, ou null com um aviso. */
+	private String validadorEmCascata(TypeMirror tipo, Element membro) {
+		TypeMirror elemento = elementoDaCascata(tipo);
+		String validador = validadorGerado(elemento);
+		if (validador == null) {
+			aviso("@Valid em " + membro.getSimpleName() + " foi ignorada: " + elemento + " nao tem @GeraValidador",
+					membro, null);
+		}
+		return validador;
+	}
+
+	private TypeMirror elementoDaCascata(TypeMirror tipo) {
+		if (tipo.getKind() == TypeKind.ARRAY) {
+			return ((ArrayType) tipo).getComponentType();
+		}
+		if (isDoTipo(tipo, "java.lang.Iterable") && argumentos(tipo).size() == 1) {
+			return limiteSuperior(argumentos(tipo).get(0));
+		}
+		if (isDoTipo(tipo, "java.util.Map") && argumentos(tipo).size() == 2) {
+			return limiteSuperior(argumentos(tipo).get(1));
+		}
+		return tipo;
+	}
+
+	private String cascata(TypeMirror tipo, String validador, String liberaCascata) {
+		cascata = true;
+		String condicao = liberaCascata == null ? "valor != null" : liberaCascata + " && valor != null";
+		TypeMirror elemento = elementoDaCascata(tipo);
+		if (elemento == tipo) {
+			return "\t\t\tif (" + condicao + " && visitados.add(valor)\n"
+					+ "\t\t\t\t\t&& !" + validador + ".valida(valor, mensagens, visitados, modo)) {\n"
+					+ "\t\t\t\treturn false;\n"
+					+ "\t\t\t}\n";
+		}
+		String iteracao = isDoTipo(tipo, "java.util.Map") ? "valor.values()" : "valor";
+		return "\t\t\tif (" + condicao + ") {\n"
+				+ "\t\t\t\tfor (" + nomeDoTipo(elemento) + " elemento : " + iteracao + ") {\n"
+				+ "\t\t\t\t\tif (elemento != null && visitados.add(elemento)\n"
+				+ "\t\t\t\t\t\t\t&& !" + validador + ".valida(elemento, mensagens, visitados, modo)) {\n"
+				+ "\t\t\t\t\t\treturn false;\n"
+				+ "\t\t\t\t\t}\n"
+				+ "\t\t\t\t}\n"
+				+ "\t\t\t}\n";
+	}
+
+	private static List<? extends TypeMirror> argumentos(TypeMirror tipo) {
+		return ((DeclaredType) tipo).getTypeArguments();
+	}
+
+	private static TypeMirror limiteSuperior(TypeMirror tipo) {
+		if (tipo.getKind() == TypeKind.WILDCARD && ((WildcardType) tipo).getExtendsBound() != null) {
+			return ((WildcardType) tipo).getExtendsBound();
+		}
+		return tipo;
+	}
+
+	private static String validadorGerado(TypeMirror tipo) {
+		if (tipo.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement elemento = (TypeElement) ((DeclaredType) tipo).asElement();
+		if (elemento.getAnnotation(GeraValidador.class) == null) {
+			return null;
+		}
+		return elemento.getQualifiedName() + SUFIXO;
+	}
+
+	/**
+	 * A mensagem da restricao: um literal, ou uma constante interpolada na
+	 * inicializacao quando a mensagem tem parametros.
+	 */
+	private String mensagem(AnnotationMirror restricao) {
+		String modelo = (String) atributo(restricao, "message");
+		if (modelo.indexOf('{') < 0 && modelo.indexOf('\\') < 0) {
+			return literal(modelo);
+		}
+		StringBuilder argumentos = new StringBuilder(literal(modelo));
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> atributo : elementos
+				.getElementValuesWithDefaults(restricao).entrySet()) {
+			Object valor = atributo.getValue().getValue();
+			String nome = atributo.getKey().getSimpleName().toString();
+			boolean constante = valor instanceof String || valor instanceof Number || valor instanceof Boolean
+					|| valor instanceof Character;
+			if (constante && !nome.equals("message")) {
+				argumentos.append(", ").append(literal(nome)).append(", ").append(atributo.getValue());
+			}
+		}
+		String nome = "MENSAGEM_" + contador++;
+		constantes.append("\tprivate static final String ").append(nome).append(" = ").append(SUPORTE)
+				.append(".interpola(").append(argumentos).append(");\n\n");
+		return nome;
+	}
+
+	private String inaplicavel(AnnotationMirror restricao, TypeMirror tipo, Element membro) {
+		aviso("@" + restricao.getAnnotationType().asElement().getSimpleName() + " nao se aplica a "
+				+ nomeDoTipo(tipo) + " e foi ignorada no validador gerado", membro, restricao);
+		return null;
+	}
+
+	private void aviso(String mensagem, Element membro, AnnotationMirror restricao) {
+		ambiente.getMessager().printMessage(Kind.WARNING, mensagem, membro, restricao);
+	}
+
+	private boolean isDoTipo(TypeMirror tipo, String nome) {
+		TypeElement alvo = elementos.getTypeElement(nome);
+		return alvo != null && !tipo.getKind().isPrimitive()
+				&& tipos.isAssignable(tipos.erasure(tipo), tipos.erasure(alvo.asType()));
+	}
+
+	private Object atributo(AnnotationMirror anotacao, String nome) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> atributo : elementos
+				.getElementValuesWithDefaults(anotacao).entrySet()) {
+			if (atributo.getKey().getSimpleName().contentEquals(nome)) {
+				return atributo.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	private static String nome(AnnotationMirror anotacao) {
+		return ((TypeElement) anotacao.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	/** O nome qualificado do tipo, sem as anotacoes de uso de tipo. */
+	private String nomeDoTipo(TypeMirror tipo) {
+		switch (tipo.getKind()) {
+		case ARRAY:
+			return nomeDoTipo(((ArrayType) tipo).getComponentType()) + "[]";
+		case DECLARED:
+			DeclaredType declarado = (DeclaredType) tipo;
+			StringBuilder nome = new StringBuilder(((TypeElement) declarado.asElement()).getQualifiedName());
+			if (!declarado.getTypeArguments().isEmpty()) {
+				List<String> argumentos = new ArrayList<>();
+				for (TypeMirror argumento : declarado.getTypeArguments()) {
+					argumentos.add(nomeDoTipo(argumento));
+				}
+				nome.append('<').append(String.join(", ", argumentos)).append('>');
+			}
+			return nome.toString();
+		case WILDCARD:
+			WildcardType curinga = (WildcardType) tipo;
+			if (curinga.getExtendsBound() != null) {
+				return "? extends " + nomeDoTipo(curinga.getExtendsBound());
+			}
+			return curinga.getSuperBound() != null ? "? super " + nomeDoTipo(curinga.getSuperBound()) : "?";
+		default:
+			if (tipo.getKind().isPrimitive()) {
+				return tipo.getKind().name().toLowerCase(Locale.ROOT);
+			}
+			return nomeDoTipo(tipos.erasure(tipo));
+		}
+	}
+
+	/** Literal Java da string, com os caracteres fora do ASCII escapados. */
+	private static String literal(Object valor) {
+		String texto = String.valueOf(valor);
+		StringBuilder literal = new StringBuilder(texto.length() + 2).append('"');
+		for (int i = 0; i < texto.length(); i++) {
+			char c = texto.charAt(i);
+			if (c == '"' || c == '\\') {
+				literal.append('\\').append(c);
+			} else if (c < ' ' || c > '~') {
+				literal.append(String.format("\\u%04x", (int) c));
+			} else {
+				literal.append(c);
+			}
+		}
+		return literal.append('"').toString();
+	}
+
+	private void escreve() throws IOException {
+		String pacote = elementos.getPackageOf(classe).getQualifiedName().toString();
+		String entidade = classe.getQualifiedName().toString();
+		String nome = classe.getSimpleName() + SUFIXO;
+		StringBuilder codigo = new StringBuilder();
+		if (!pacote.isEmpty()) {
+			codigo.append("package ").append(pacote).append(";\n\n");
+		}
+		codigo.append("/**\n");
+		codigo.append(" * Validador de {@link ").append(entidade).append("} gerado a partir das\n");
+		codigo.append(" * anotacoes de Bean Validation da classe. Nao deve ser editado.\n");
+		codigo.append(" */\n");
+		codigo.append(CodigoGerado.anotacaoDeGerado(elementos, ProcessadorDeValidadores.class));
+		codigo.append("public final class ").append(nome).append(" {\n\n");
+		codigo.append(constantes);
+		if (inicializacao.length() > 0) {
+			codigo.append("\tstatic {\n").append(inicializacao).append("\t}\n\n");
+		}
+		codigo.append("\tprivate ").append(nome).append("() {\n\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Valida o objeto e, em cascata, os objetos marcados com {@code @Valid}.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto o objeto\n");
+		codigo.append("\t * @return as mensagens das restricoes violadas\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static java.util.List<String> valida(").append(entidade).append(" objeto) {\n");
+		codigo.append("\t\treturn valida(objeto, ").append(MODO).append(".COMPLETA);\n");
+		codigo.append("\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Valida o objeto e, em cascata, os objetos marcados com {@code @Valid},\n");
+		codigo.append("\t * parando na primeira falha conforme o modo.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto o objeto\n");
+		codigo.append("\t * @param modo   quando parar de avaliar restricoes\n");
+		codigo.append("\t * @return as mensagens das restricoes violadas\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static java.util.List<String> valida(").append(entidade).append(" objeto, ")
+				.append(MODO).append(" modo) {\n");
+		codigo.append("\t\tif (objeto == null) {\n");
+		codigo.append("\t\t\tthrow new IllegalArgumentException(").append(OBJETO_VAZIO).append(");\n");
+		codigo.append("\t\t}\n");
+		codigo.append("\t\tif (modo == null) {\n");
+		codigo.append("\t\t\tthrow new IllegalArgumentException(").append(MODO_VAZIO).append(");\n");
+		codigo.append("\t\t}\n");
+		codigo.append("\t\tjava.util.List<String> mensagens = new java.util.ArrayList<>();\n");
+		codigo.append("\t\tvalida(objeto, mensagens, ").append(cascata ? SUPORTE + ".visitados(objeto)" : "null")
+				.append(", modo);\n");
+		codigo.append("\t\treturn mensagens;\n");
+		codigo.append("\t}\n\n");
+		codigo.append("\t/**\n");
+		codigo.append("\t * Valida o objeto acumulando as mensagens. Os campos sao avaliados antes\n");
+		codigo.append("\t * da cascata, e as restricoes de cada campo da mais barata para a mais cara.\n");
+		codigo.append("\t *\n");
+		codigo.append("\t * @param objeto    o objeto, nao nulo\n");
+		codigo.append("\t * @param mensagens as mensagens das restricoes violadas\n");
+		codigo.append("\t * @param visitados os objetos ja validados na cascata\n");
+		codigo.append("\t * @param modo      quando parar de avaliar restricoes\n");
+		codigo.append("\t * @return false, se o modo mandar parar toda a validacao\n");
+		codigo.append("\t */\n");
+		codigo.append("\tpublic static boolean valida(").append(entidade)
+				.append(" objeto, java.util.List<String> mensagens, java.util.Set<Object> visitados, ").append(MODO)
+				.append(" modo) {\n");
+		codigo.append(declaracoes);
+		codigo.append(corpo);
+		codigo.append(cascatas);
+		codigo.append("\t\treturn true;\n");
+		codigo.append("\t}\n\n");
+		codigo.append("}\n");
+		JavaFileObject arquivo = ambiente.getFiler().createSourceFile(
+				pacote.isEmpty() ? nome : pacote + "." + nome, classe);
+		try (Writer escritor = arquivo.openWriter()) {
+			escritor.write(codigo.toString());
+		}
+	}
+
+	/** Restricao de um membro, com a posicao entre as do mesmo tipo e o custo. */
+	private static final class Restricao {
+
+		private final AnnotationMirror anotacao;
+
+		private final int indice;
+
+		private final NivelDeCusto custo;
+
+		Restricao(AnnotationMirror anotacao, int indice, NivelDeCusto custo) {
+			this.anotacao = anotacao;
+			this.indice = indice;
+			this.custo = custo;
+		}
+
+		NivelDeCusto getCusto() {
+			return custo;
+		}
+	}
+
+}
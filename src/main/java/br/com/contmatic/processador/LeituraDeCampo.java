@@ -0,0 +1,74 @@
+package br.com.contmatic.processador;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+/**
+ * Como o codigo gerado le um campo da classe: direto, se o campo nao for
+ * privado, ou pelo getter sem parametros que devolve o mesmo tipo do campo.
+ * Entre os getters do mesmo tipo vale, nesta ordem, o de nome
+ * {@code getCampo}/{@code isCampo}, o acessor com o nome do campo (como
+ * {@code numero()}, para um {@code Integer} cujo getter publico devolve
+ * {@code int}), um que comece com {@code getCampo} (como
+ * {@code getCpfDocumento}) e um cujo nome seja o inicio do campo (como
+ * {@code getTelefone} para {@code telefones}).
+ *
+ * @author gabriel.santos
+ */
+final class LeituraDeCampo {
+
+	private LeituraDeCampo() {
+	}
+
+	/**
+	 * A leitura do campo a partir do objeto, sem o {@code objeto.} do inicio.
+	 *
+	 * @param tipos  os tipos do ambiente de processamento
+	 * @param classe a classe do campo
+	 * @param campo  o campo
+	 * @return o nome do campo, a chamada do getter ou null, se o campo for
+	 *         privado e nao tiver getter do mesmo tipo
+	 */
+	static String leitura(Types tipos, TypeElement classe, VariableElement campo) {
+		if (!campo.getModifiers().contains(Modifier.PRIVATE)) {
+			return campo.getSimpleName().toString();
+		}
+		String nome = campo.getSimpleName().toString();
+		String propriedade = Character.toUpperCase(nome.charAt(0)) + nome.substring(1);
+		ExecutableElement escolhido = null;
+		int melhor = Integer.MAX_VALUE;
+		for (ExecutableElement metodo : ElementFilter.methodsIn(classe.getEnclosedElements())) {
+			if (metodo.getModifiers().contains(Modifier.STATIC) || metodo.getModifiers().contains(Modifier.PRIVATE)
+					|| !metodo.getParameters().isEmpty() || !tipos.isSameType(metodo.getReturnType(), campo.asType())) {
+				continue;
+			}
+			int prioridade = prioridade(metodo.getSimpleName().toString(), nome, propriedade);
+			if (prioridade < melhor) {
+				melhor = prioridade;
+				escolhido = metodo;
+			}
+		}
+		return escolhido == null ? null : escolhido.getSimpleName() + "()";
+	}
+
+	private static int prioridade(String getter, String campo, String propriedade) {
+		if (getter.equals("get" + propriedade) || getter.equals("is" + propriedade)) {
+			return 0;
+		}
+		if (getter.equals(campo)) {
+			return 1;
+		}
+		if (getter.startsWith("get" + propriedade)) {
+			return 2;
+		}
+		if (getter.length() > 3 && getter.startsWith("get") && propriedade.startsWith(getter.substring(3))) {
+			return 3;
+		}
+		return Integer.MAX_VALUE;
+	}
+
+}
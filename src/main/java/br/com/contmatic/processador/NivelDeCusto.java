@@ -0,0 +1,23 @@
+package br.com.contmatic.processador;
+
+/**
+ * Custo relativo de uma restricao, na ordem em que os validadores gerados as
+ * avaliam.
+ *
+ * @author gabriel.santos
+ */
+public enum NivelDeCusto {
+
+	/** Nulo ou vazio. */
+	NULO,
+
+	/** Tamanho, limites numericos e datas. */
+	TAMANHO,
+
+	/** Classe de caracteres, expressao regular ou automato. */
+	CARACTERES,
+
+	/** Calculo de digito verificador. */
+	DIGITO_VERIFICADOR;
+
+}
@@ -0,0 +1,58 @@
+package br.com.contmatic.processador;
+
+import java.io.IOException;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Processador de anotacoes que gera o equals e o hashCode das classes marcadas
+ * com {@link GeraIgualdade}.
+ *
+ * Para cada classe e gerada {@code <Classe>Igualdade}, no mesmo pacote, que
+ * compara e combina os campos da classe diretamente, na mesma semantica do
+ * {@code EqualsBuilder.reflectionEquals} e do
+ * {@code HashCodeBuilder.reflectionHashCode}: entram todos os campos que nao
+ * sao estaticos nem transientes. Os campos privados sao lidos pelo getter do
+ * mesmo tipo, como descrito em {@link LeituraDeCampo}. Se houver
+ * campos marcados com {@link Chave}, a classe gerada tambem tem a
+ * equivalencia {@code POR_CHAVE}, que considera apenas esses campos.
+ *
+ * @author gabriel.santos
+ */
+@SupportedAnnotationTypes({ "br.com.contmatic.processador.GeraIgualdade", "br.com.contmatic.processador.Chave" })
+public class ProcessadorDeIgualdade extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> anotacoes, RoundEnvironment ambiente) {
+		for (Element elemento : ambiente.getElementsAnnotatedWith(GeraIgualdade.class)) {
+			if (elemento.getKind() != ElementKind.CLASS
+					|| ((TypeElement) elemento).getNestingKind() != NestingKind.TOP_LEVEL) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"@GeraIgualdade so pode anotar classes de primeiro nivel", elemento);
+				continue;
+			}
+			try {
+				new GeradorDeIgualdade(processingEnv, (TypeElement) elemento).gera();
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"Nao foi possivel gerar a igualdade: " + e.getMessage(), elemento);
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,55 @@
+package br.com.contmatic.processador;
+
+import java.io.IOException;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Processador de anotacoes que gera a escrita em texto das classes marcadas
+ * com {@link GeraTexto}.
+ *
+ * Para cada classe e gerada {@code <Classe>Texto}, no mesmo pacote, que
+ * escreve os campos que nao sao estaticos nem transientes, na ordem de
+ * declaracao, num {@code EscritorDeTexto}, os mesmos que o
+ * {@code ToStringBuilder.reflectionToString} mostrava. Os campos privados sao
+ * lidos pelo getter do mesmo tipo, como descrito em {@link LeituraDeCampo}.
+ *
+ * @author gabriel.santos
+ */
+@SupportedAnnotationTypes("br.com.contmatic.processador.GeraTexto")
+public class ProcessadorDeTexto extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> anotacoes, RoundEnvironment ambiente) {
+		for (Element elemento : ambiente.getElementsAnnotatedWith(GeraTexto.class)) {
+			if (elemento.getKind() != ElementKind.CLASS
+					|| ((TypeElement) elemento).getNestingKind() != NestingKind.TOP_LEVEL) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"@GeraTexto so pode anotar classes de primeiro nivel", elemento);
+				continue;
+			}
+			try {
+				new GeradorDeTexto(processingEnv, (TypeElement) elemento).gera();
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"Nao foi possivel gerar a escrita em texto: " + e.getMessage(), elemento);
+			}
+		}
+		return true;
+	}
+
+}
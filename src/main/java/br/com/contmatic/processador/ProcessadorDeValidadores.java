@@ -0,0 +1,60 @@
+package br.com.contmatic.processador;
+
+import java.io.IOException;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Processador de anotacoes que gera os validadores das classes marcadas com
+ * {@link GeraValidador}.
+ *
+ * Para cada classe e gerada {@code <Classe>Validador}, no mesmo pacote, com as
+ * restricoes de Bean Validation dos campos e getters traduzidas em codigo
+ * direto: os campos sao lidos sem reflexao, as expressoes regulares sao
+ * compiladas uma vez e as mensagens sao as mesmas das anotacoes, ja
+ * interpoladas na inicializacao da classe. As restricoes sao avaliadas em
+ * ordem de custo e o {@code ModoDeValidacao} permite parar na primeira falha
+ * de cada campo ou do objeto. Restricoes que nao se aplicam ao
+ * tipo do campo geram um aviso de compilacao e sao ignoradas. Os campos
+ * privados sao lidos pelo getter do mesmo tipo, como descrito em
+ * {@link LeituraDeCampo}; getters privados com restricoes nao sao aceitos.
+ *
+ * @author gabriel.santos
+ */
+@SupportedAnnotationTypes("br.com.contmatic.processador.GeraValidador")
+public class ProcessadorDeValidadores extends AbstractProcessor {
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> anotacoes, RoundEnvironment ambiente) {
+		for (Element elemento : ambiente.getElementsAnnotatedWith(GeraValidador.class)) {
+			if (elemento.getKind() != ElementKind.CLASS
+					|| ((TypeElement) elemento).getNestingKind() != NestingKind.TOP_LEVEL) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"@GeraValidador so pode anotar classes de primeiro nivel", elemento);
+				continue;
+			}
+			try {
+				new GeradorDeValidador(processingEnv, (TypeElement) elemento).gera();
+			} catch (IOException e) {
+				processingEnv.getMessager().printMessage(Kind.ERROR,
+						"Nao foi possivel gerar o validador: " + e.getMessage(), elemento);
+			}
+		}
+		return true;
+	}
+
+}
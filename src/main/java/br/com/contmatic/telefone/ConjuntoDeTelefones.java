@@ -0,0 +1,288 @@
+package br.com.contmatic.telefone;
+
+import static br.com.contmatic.util.Constantes.CODIGO_DE_TELEFONE_INVALIDO;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Conjunto de telefones guardados como codigos de {@link TelefoneCompactado}
+ * num {@code long[]} ordenado, sem um objeto por telefone. Os telefones lidos
+ * do conjunto sao copias congeladas; para mudar um telefone, remova-o e
+ * adicione o novo. Pensado para os poucos telefones de cada entidade: a busca
+ * e binaria e a insercao desloca o array.
+ *
+ * Os telefones que nao cabem num codigo, como os que a validacao das
+ * entidades vai apontar, sao aceitos e guardados como recebidos num conjunto
+ * a parte, lidos depois dos compactados.
+ *
+ * @author gabriel.santos
+ */
+public final class ConjuntoDeTelefones extends AbstractSet<Telefone> {
+
+	private static final long[] VAZIO = {};
+
+	private long[] codigos;
+
+	private int tamanho;
+
+	private int alteracoes;
+
+	/** Os telefones que nao cabem num codigo, ou null enquanto nao houver nenhum. */
+	private Set<Telefone> outros;
+
+	/**
+	 * Instantiates a new conjunto de telefones.
+	 */
+	public ConjuntoDeTelefones() {
+		this.codigos = VAZIO;
+	}
+
+	private ConjuntoDeTelefones(int capacidade) {
+		this.codigos = capacidade == 0 ? VAZIO : new long[capacidade];
+	}
+
+	/**
+	 * Copia os telefones num novo conjunto. O conjunto recebido nunca e
+	 * guardado; os telefones que nao cabem num codigo entram na copia como
+	 * recebidos, para que a validacao das entidades continue apontando-os.
+	 *
+	 * @param telefones os telefones
+	 * @return o novo conjunto, ou null se os telefones forem null
+	 */
+	public static Set<Telefone> compacta(Set<Telefone> telefones) {
+		if (telefones == null) {
+			return null;
+		}
+		if (telefones instanceof ConjuntoDeTelefones) {
+			ConjuntoDeTelefones original = (ConjuntoDeTelefones) telefones;
+			ConjuntoDeTelefones copia = new ConjuntoDeTelefones(original.tamanho);
+			System.arraycopy(original.codigos, 0, copia.codigos, 0, original.tamanho);
+			copia.tamanho = original.tamanho;
+			if (original.outros != null && !original.outros.isEmpty()) {
+				copia.outros = new HashSet<>(original.outros);
+			}
+			return copia;
+		}
+		ConjuntoDeTelefones conjunto = new ConjuntoDeTelefones(telefones.size());
+		conjunto.addAll(telefones);
+		return conjunto;
+	}
+
+	/**
+	 * Adiciona o telefone do codigo.
+	 *
+	 * @param codigo o codigo do telefone
+	 * @return true, se o telefone nao estava no conjunto
+	 * @throws IllegalArgumentException se o codigo nao representar um telefone
+	 */
+	public boolean adicionaCodigo(long codigo) {
+		if (!TelefoneCompactado.isValido(codigo)) {
+			throw new IllegalArgumentException(CODIGO_DE_TELEFONE_INVALIDO);
+		}
+		int posicao = Arrays.binarySearch(codigos, 0, tamanho, codigo);
+		if (posicao >= 0) {
+			return false;
+		}
+		posicao = -posicao - 1;
+		if (tamanho == codigos.length) {
+			codigos = Arrays.copyOf(codigos, Math.max(2, tamanho * 2));
+		}
+		System.arraycopy(codigos, posicao, codigos, posicao + 1, tamanho - posicao);
+		codigos[posicao] = codigo;
+		tamanho++;
+		alteracoes++;
+		return true;
+	}
+
+	/**
+	 * Verifica se o telefone do codigo esta no conjunto.
+	 *
+	 * @param codigo o codigo do telefone
+	 * @return true, se o telefone esta no conjunto
+	 */
+	public boolean contemCodigo(long codigo) {
+		return Arrays.binarySearch(codigos, 0, tamanho, codigo) >= 0;
+	}
+
+	/**
+	 * Remove o telefone do codigo.
+	 *
+	 * @param codigo o codigo do telefone
+	 * @return true, se o telefone estava no conjunto
+	 */
+	public boolean removeCodigo(long codigo) {
+		int posicao = Arrays.binarySearch(codigos, 0, tamanho, codigo);
+		if (posicao < 0) {
+			return false;
+		}
+		removeNa(posicao);
+		return true;
+	}
+
+	/**
+	 * Copia os codigos dos telefones compactados, em ordem crescente.
+	 *
+	 * @return os codigos
+	 */
+	public long[] codigos() {
+		return Arrays.copyOf(codigos, tamanho);
+	}
+
+	private void removeNa(int posicao) {
+		System.arraycopy(codigos, posicao + 1, codigos, posicao, tamanho - posicao - 1);
+		tamanho--;
+		alteracoes++;
+	}
+
+	private static boolean cabe(Object objeto) {
+		return objeto instanceof Telefone && TelefoneCompactado.cabe((Telefone) objeto);
+	}
+
+	private boolean isCompacto() {
+		return outros == null || outros.isEmpty();
+	}
+
+	@Override
+	public boolean add(Telefone telefone) {
+		if (TelefoneCompactado.cabe(telefone)) {
+			return adicionaCodigo(TelefoneCompactado.compacta(telefone));
+		}
+		if (outros == null) {
+			outros = new HashSet<>();
+		}
+		if (!outros.add(telefone)) {
+			return false;
+		}
+		alteracoes++;
+		return true;
+	}
+
+	@Override
+	public boolean contains(Object objeto) {
+		if (cabe(objeto)) {
+			return contemCodigo(TelefoneCompactado.compacta((Telefone) objeto));
+		}
+		return outros != null && outros.contains(objeto);
+	}
+
+	@Override
+	public boolean remove(Object objeto) {
+		if (cabe(objeto)) {
+			return removeCodigo(TelefoneCompactado.compacta((Telefone) objeto));
+		}
+		if (outros == null || !outros.remove(objeto)) {
+			return false;
+		}
+		alteracoes++;
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return outros == null ? tamanho : tamanho + outros.size();
+	}
+
+	@Override
+	public void clear() {
+		tamanho = 0;
+		outros = null;
+		alteracoes++;
+	}
+
+	@Override
+	public Iterator<Telefone> iterator() {
+		return new Iterator<Telefone>() {
+
+			private int proximo;
+
+			private Iterator<Telefone> restantes;
+
+			private int esperadas = alteracoes;
+
+			private boolean podeRemover;
+
+			private boolean ultimoDosOutros;
+
+			@Override
+			public boolean hasNext() {
+				return proximo < tamanho || restantes().hasNext();
+			}
+
+			@Override
+			public Telefone next() {
+				if (esperadas != alteracoes) {
+					throw new ConcurrentModificationException();
+				}
+				if (proximo < tamanho) {
+					podeRemover = true;
+					ultimoDosOutros = false;
+					return TelefoneCompactado.descompacta(codigos[proximo++]);
+				}
+				if (!restantes().hasNext()) {
+					throw new NoSuchElementException();
+				}
+				Telefone telefone = restantes().next();
+				podeRemover = true;
+				ultimoDosOutros = true;
+				return telefone;
+			}
+
+			private Iterator<Telefone> restantes() {
+				if (restantes == null) {
+					restantes = outros == null ? Collections.<Telefone>emptyIterator() : outros.iterator();
+				}
+				return restantes;
+			}
+
+			@Override
+			public void remove() {
+				if (!podeRemover) {
+					throw new IllegalStateException();
+				}
+				if (esperadas != alteracoes) {
+					throw new ConcurrentModificationException();
+				}
+				if (ultimoDosOutros) {
+					restantes.remove();
+					alteracoes++;
+				} else {
+					removeNa(--proximo);
+				}
+				esperadas = alteracoes;
+				podeRemover = false;
+			}
+		};
+	}
+
+	/**
+	 * Compara com outro conjunto de telefones pelos codigos, sem descompactar,
+	 * quando nenhum dos dois guarda telefones fora dos codigos.
+	 *
+	 * @param obj the obj
+	 * @return true, if successful
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof ConjuntoDeTelefones && isCompacto() && ((ConjuntoDeTelefones) obj).isCompacto()) {
+			ConjuntoDeTelefones outro = (ConjuntoDeTelefones) obj;
+			if (tamanho != outro.tamanho) {
+				return false;
+			}
+			for (int i = 0; i < tamanho; i++) {
+				if (codigos[i] != outro.codigos[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return super.equals(obj);
+	}
+
+}
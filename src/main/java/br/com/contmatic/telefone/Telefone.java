@@ -1,43 +1,60 @@
 package br.com.contmatic.telefone;
 
 import static br.com.contmatic.util.Constantes.DDD_VAZIO;
+import static br.com.contmatic.util.Constantes.OBJETO_CONGELADO;
 import static br.com.contmatic.util.Constantes.TELEFONE_INVALIDO;
 import static br.com.contmatic.util.Constantes.TELEFONE_PREENCHIDO_INCORRETAMENTE;
 import static br.com.contmatic.util.Constantes.TEL_MAX_SIZE;
 import static br.com.contmatic.util.Constantes.TEL_MIN_SIZE;
 import static br.com.contmatic.util.Constantes.TIPO_TELEFONE_VAZIO;
-import static br.com.contmatic.util.RegexType.NUMEROS;
 
 import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Pattern;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-import org.apache.commons.lang3.builder.ToStringBuilder;
-import org.apache.commons.lang3.builder.ToStringStyle;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import br.com.contmatic.processador.GeraIgualdade;
+import br.com.contmatic.processador.GeraTexto;
+import br.com.contmatic.processador.GeraValidador;
+import br.com.contmatic.util.Escrevivel;
+import br.com.contmatic.util.EscritorDeTexto;
+import br.com.contmatic.util.Numeros;
 
 /**
  * The Class Telefone.
  * 
  * @author gabriel.santos
  */
-public class Telefone {
+@GeraIgualdade
+@GeraTexto
+@GeraValidador
+public class Telefone implements Escrevivel {
 
 	/** The ddd. */
-	@NotBlank(message = "O campo DDD do telefone não pode estar nulo")
+	@NotNull(message = "O campo DDD do telefone não pode estar nulo")
 	private TelefoneDDDType ddd;
 
 	/** The numero. */
 	@Size(min = 8, max = 10)
 	@NotBlank(message = "O campo número do telefone não pode estar nulo")
-	@Pattern(regexp = NUMEROS, message = "O campo Numero está invalido")
+	@Numeros(message = "O campo Numero está invalido")
 	private String numero;
 
 	/** The tipo telefone. */
-	@NotBlank(message = "O campo tipo do telefone não pode estar nulo")
+	@NotNull(message = "O campo tipo do telefone não pode estar nulo")
 	private TelefoneType tipoTelefone;
 
+	/** O hash calculado, ou zero enquanto nao for calculado ou depois de uma alteracao. */
+	private transient int hash;
+
+	/** Se o telefone foi congelado e nao aceita mais alteracoes. */
+	private transient boolean congelado;
+
+	/** Os telefones canonicos, compartilhados enquanto alguem os referencia. */
+	private static final Interner<Telefone> CANONICOS = Interners.newWeakInterner();
+
 	/**
 	 * Instantiates a new telefone.
 	 *
@@ -56,8 +73,10 @@ public class Telefone {
 	}
 	
 	public void setDdd(TelefoneDDDType ddd) {
+		this.verificaSeMutavel();
 		this.dddVazio(ddd);
 		this.ddd = ddd;
+		this.hash = 0;
 	}
 	
 	public void dddVazio(TelefoneDDDType ddd) {
@@ -71,8 +90,10 @@ public class Telefone {
 	}
 
 	public void setNumero(String numero) {
+		this.verificaSeMutavel();
 		this.validaNumetoTelefoneIncorreto(numero);
 		this.numero = numero;
+		this.hash = 0;
 	}
 
 	private void validaNumetoTelefoneIncorreto(String numero) {
@@ -87,9 +108,11 @@ public class Telefone {
 	}
 
 	public void setTipoTelefone(TelefoneType tipoTelefone) {
+		this.verificaSeMutavel();
 		this.tipoTelefoneVazio(tipoTelefone);
 		this.validaTipoTelefone(numero);
 		this.tipoTelefone = tipoTelefone;
+		this.hash = 0;
 	}
 	
 	public void tipoTelefoneVazio(TelefoneType tipoTelefone) {
@@ -109,6 +132,45 @@ public class Telefone {
 		}
 	}
 
+	public boolean isCongelado() {
+		return congelado;
+	}
+
+	/**
+	 * Congela o telefone: o hash e calculado uma vez e os setters passam a
+	 * lancar {@link IllegalStateException}. Nao ha como descongelar.
+	 *
+	 * @return o proprio telefone, congelado
+	 */
+	public Telefone congela() {
+		if (!congelado) {
+			this.hashCode();
+			this.congelado = true;
+		}
+		return this;
+	}
+
+	/**
+	 * Devolve a instancia canonica e congelada de um telefone igual a este,
+	 * para que as entidades compartilhem uma unica instancia. Se este ainda nao
+	 * estiver congelado, a canonica e uma copia e ele continua mutavel.
+	 *
+	 * @return o telefone canonico
+	 */
+	public Telefone canonico() {
+		return CANONICOS.intern(congelado ? this : this.copia().congela());
+	}
+
+	private Telefone copia() {
+		return new Telefone(ddd, numero, tipoTelefone);
+	}
+
+	private void verificaSeMutavel() {
+		if (congelado) {
+			throw new IllegalStateException(OBJETO_CONGELADO);
+		}
+	}
+
 	/**
 	 * Hash code.
 	 *
@@ -116,7 +178,12 @@ public class Telefone {
 	 */
 	@Override
 	public int hashCode() {
-		return HashCodeBuilder.reflectionHashCode(this);
+		int h = hash;
+		if (h == 0) {
+			h = TelefoneIgualdade.hash(this);
+			hash = h;
+		}
+		return h;
 	}
 
 	/**
@@ -127,9 +194,17 @@ public class Telefone {
 	 */
 	@Override
 	public boolean equals(Object obj) {
-		return EqualsBuilder.reflectionEquals(this, obj);
+		if (obj instanceof Telefone && hash != 0 && ((Telefone) obj).hash != 0 && hash != ((Telefone) obj).hash) {
+			return false;
+		}
+		return TelefoneIgualdade.iguais(this, obj);
 	}
 	
+	@Override
+	public void escreveEm(EscritorDeTexto escritor) {
+		TelefoneTexto.escreve(this, escritor);
+	}
+
 	/**
 	 * To string.
 	 *
@@ -137,7 +212,7 @@ public class Telefone {
 	 */
 	@Override
 	public String toString() {
-		return ToStringBuilder.reflectionToString(this, ToStringStyle.MULTI_LINE_STYLE);
+		return EscritorDeTexto.emTexto(this);
 	}
 
 }
@@ -0,0 +1,139 @@
+package br.com.contmatic.telefone;
+
+import static br.com.contmatic.util.Constantes.CODIGO_DE_TELEFONE_INVALIDO;
+import static br.com.contmatic.util.Constantes.TELEFONE_NAO_COMPACTAVEL;
+import static br.com.contmatic.util.Constantes.TEL_MAX_SIZE;
+import static br.com.contmatic.util.Constantes.TEL_MIN_SIZE;
+
+/**
+ * Codifica um {@link Telefone} num {@code long}. Do bit mais alto para o mais
+ * baixo: o codigo do DDD (7 bits), o tipo (1 bit), a quantidade de digitos do
+ * numero (4 bits) e o valor do numero (30 bits). A quantidade de digitos
+ * preserva os zeros a esquerda, e um codigo valido nunca e zero.
+ *
+ * @author gabriel.santos
+ */
+public final class TelefoneCompactado {
+
+	private static final int BITS_DO_NUMERO = 30;
+
+	private static final int BITS_DO_TAMANHO = 4;
+
+	private static final int DESLOCAMENTO_DO_TAMANHO = BITS_DO_NUMERO;
+
+	private static final int DESLOCAMENTO_DO_TIPO = DESLOCAMENTO_DO_TAMANHO + BITS_DO_TAMANHO;
+
+	private static final int DESLOCAMENTO_DO_DDD = DESLOCAMENTO_DO_TIPO + 1;
+
+	private static final long MASCARA_DO_NUMERO = (1L << BITS_DO_NUMERO) - 1;
+
+	private static final long MASCARA_DO_TAMANHO = (1L << BITS_DO_TAMANHO) - 1;
+
+	private static final long MASCARA_DO_DDD = (1L << 7) - 1;
+
+	private static final TelefoneDDDType[] DDDS = new TelefoneDDDType[100];
+
+	private static final TelefoneType[] TIPOS = TelefoneType.values();
+
+	static {
+		for (TelefoneDDDType ddd : TelefoneDDDType.values()) {
+			DDDS[ddd.getDdd()] = ddd;
+		}
+	}
+
+	private TelefoneCompactado() {
+	}
+
+	/**
+	 * Verifica se o telefone pode ser compactado: DDD e tipo preenchidos e um
+	 * numero so de digitos, com o tamanho aceito por {@link Telefone}.
+	 *
+	 * @param telefone o telefone
+	 * @return true, se o telefone cabe num codigo
+	 */
+	public static boolean cabe(Telefone telefone) {
+		if (telefone == null || telefone.getDdd() == null || telefone.getTipoTelefone() == null
+				|| telefone.getNumero() == null) {
+			return false;
+		}
+		String numero = telefone.getNumero();
+		if (numero.length() < TEL_MIN_SIZE || numero.length() > TEL_MAX_SIZE) {
+			return false;
+		}
+		for (int i = 0; i < numero.length(); i++) {
+			if (numero.charAt(i) < '0' || numero.charAt(i) > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compacta o telefone.
+	 *
+	 * @param telefone o telefone
+	 * @return o codigo do telefone
+	 * @throws IllegalArgumentException se o telefone nao couber num codigo
+	 */
+	public static long compacta(Telefone telefone) {
+		if (!cabe(telefone)) {
+			throw new IllegalArgumentException(TELEFONE_NAO_COMPACTAVEL);
+		}
+		String numero = telefone.getNumero();
+		long valor = 0;
+		for (int i = 0; i < numero.length(); i++) {
+			valor = valor * 10 + (numero.charAt(i) - '0');
+		}
+		return (long) telefone.getDdd().getDdd() << DESLOCAMENTO_DO_DDD
+				| (long) telefone.getTipoTelefone().ordinal() << DESLOCAMENTO_DO_TIPO
+				| (long) numero.length() << DESLOCAMENTO_DO_TAMANHO | valor;
+	}
+
+	/**
+	 * Verifica se o codigo foi gerado por {@link #compacta(Telefone)}.
+	 *
+	 * @param codigo o codigo
+	 * @return true, se o codigo representa um telefone
+	 */
+	public static boolean isValido(long codigo) {
+		if (codigo >>> DESLOCAMENTO_DO_DDD > MASCARA_DO_DDD || DDDS[(int) (codigo >>> DESLOCAMENTO_DO_DDD)] == null) {
+			return false;
+		}
+		int tamanho = tamanho(codigo);
+		if (tamanho < TEL_MIN_SIZE || tamanho > TEL_MAX_SIZE) {
+			return false;
+		}
+		long limite = 1;
+		for (int i = 0; i < tamanho; i++) {
+			limite *= 10;
+		}
+		return (codigo & MASCARA_DO_NUMERO) < limite;
+	}
+
+	/**
+	 * Descompacta o codigo num telefone congelado, igual ao que foi compactado.
+	 *
+	 * @param codigo o codigo
+	 * @return o telefone
+	 * @throws IllegalArgumentException se o codigo nao representar um telefone
+	 */
+	public static Telefone descompacta(long codigo) {
+		if (!isValido(codigo)) {
+			throw new IllegalArgumentException(CODIGO_DE_TELEFONE_INVALIDO);
+		}
+		char[] numero = new char[tamanho(codigo)];
+		long valor = codigo & MASCARA_DO_NUMERO;
+		for (int i = numero.length - 1; i >= 0; i--) {
+			numero[i] = (char) ('0' + valor % 10);
+			valor /= 10;
+		}
+		TelefoneDDDType ddd = DDDS[(int) (codigo >>> DESLOCAMENTO_DO_DDD)];
+		TelefoneType tipo = TIPOS[(int) (codigo >>> DESLOCAMENTO_DO_TIPO & 1)];
+		return new Telefone(ddd, new String(numero), tipo).congela();
+	}
+
+	private static int tamanho(long codigo) {
+		return (int) (codigo >>> DESLOCAMENTO_DO_TAMANHO & MASCARA_DO_TAMANHO);
+	}
+
+}
@@ -0,0 +1,148 @@
+package br.com.contmatic.util;
+
+import java.util.Arrays;
+
+/**
+ * Automatos finitos deterministicos equivalentes a {@link RegexType#EMAIL},
+ * {@link RegexType#URL} e {@link RegexType#CEP}, com {@code matches()}.
+ *
+ * Cada automato e uma tabela de transicoes indexada por estado e pela coluna
+ * do code point: uma coluna por caractere ASCII, uma para os terminadores de
+ * linha fora do ASCII e uma para os demais code points. O texto e lido uma
+ * unica vez, sem retrocesso, entao o tempo e linear no tamanho da entrada
+ * mesmo para textos montados para forcar o backtracking das expressoes.
+ *
+ * @author gabriel.santos
+ */
+public final class Automato {
+
+	/** {@code [\w-]+@([\w-]+\.)+[\w-]+} */
+	public static final Automato EMAIL = email();
+
+	/** {@code ^(www).[-a-zA-Z0-9+_|!:,.;]*[-a-zA-Z0-9+_|]} */
+	public static final Automato URL = url();
+
+	/** {@code ^[[0-9]{5}-[\\d]{3}]+$}, que e a classe {@code [-0-9{}\d]+}. */
+	public static final Automato CEP = cep();
+
+	private static final int MORTO = -1;
+
+	private static final int QUANTIDADE_ASCII = 128;
+
+	/** Coluna de U+0085, U+2028 e U+2029, que tambem terminam linha. */
+	private static final int TERMINADOR_DE_LINHA = QUANTIDADE_ASCII;
+
+	/** Coluna dos demais code points fora do ASCII. */
+	private static final int OUTRO = QUANTIDADE_ASCII + 1;
+
+	private static final int QUANTIDADE_DE_COLUNAS = QUANTIDADE_ASCII + 2;
+
+	private static final String PALAVRA = "A-Za-z0-9_-";
+
+	private final int[] transicoes;
+
+	private final boolean[] aceitacao;
+
+	private Automato(int quantidadeDeEstados) {
+		this.transicoes = new int[quantidadeDeEstados * QUANTIDADE_DE_COLUNAS];
+		this.aceitacao = new boolean[quantidadeDeEstados];
+		Arrays.fill(transicoes, MORTO);
+	}
+
+	/**
+	 * Verifica se o texto inteiro pertence a linguagem do automato.
+	 *
+	 * @param texto o texto
+	 * @return true, se o texto for aceito
+	 */
+	public boolean corresponde(CharSequence texto) {
+		int estado = 0;
+		int tamanho = texto.length();
+		for (int i = 0; i < tamanho && estado != MORTO;) {
+			int codePoint = Character.codePointAt(texto, i);
+			i += Character.charCount(codePoint);
+			estado = transicoes[estado * QUANTIDADE_DE_COLUNAS + coluna(codePoint)];
+		}
+		return estado != MORTO && aceitacao[estado];
+	}
+
+	private static int coluna(int codePoint) {
+		if (codePoint < QUANTIDADE_ASCII) {
+			return codePoint;
+		}
+		return codePoint == 0x85 || codePoint == 0x2028 || codePoint == 0x2029 ? TERMINADOR_DE_LINHA : OUTRO;
+	}
+
+	private Automato transicao(int origem, String caracteres, int destino) {
+		for (int i = 0; i < caracteres.length(); i++) {
+			char inicio = caracteres.charAt(i);
+			char fim = inicio;
+			if (i + 2 < caracteres.length() && caracteres.charAt(i + 1) == '-') {
+				fim = caracteres.charAt(i + 2);
+				i += 2;
+			}
+			for (char c = inicio; c <= fim; c++) {
+				transicoes[origem * QUANTIDADE_DE_COLUNAS + c] = destino;
+			}
+		}
+		return this;
+	}
+
+	/** O {@code .} da expressao: qualquer code point que nao termina linha. */
+	private Automato qualquerCaractere(int origem, int destino) {
+		for (int coluna = 0; coluna < QUANTIDADE_DE_COLUNAS; coluna++) {
+			transicoes[origem * QUANTIDADE_DE_COLUNAS + coluna] = destino;
+		}
+		for (char terminador : new char[] { '\n', '\r' }) {
+			transicoes[origem * QUANTIDADE_DE_COLUNAS + terminador] = MORTO;
+		}
+		transicoes[origem * QUANTIDADE_DE_COLUNAS + TERMINADOR_DE_LINHA] = MORTO;
+		return this;
+	}
+
+	private Automato aceita(int estado) {
+		aceitacao[estado] = true;
+		return this;
+	}
+
+	/**
+	 * 0: inicio; 1: usuario; 2: depois do {@code @}; 3: primeiro rotulo do
+	 * dominio; 4: depois de um ponto; 5: rotulo depois de um ponto.
+	 */
+	private static Automato email() {
+		return new Automato(6)
+				.transicao(0, PALAVRA, 1)
+				.transicao(1, PALAVRA, 1).transicao(1, "@", 2)
+				.transicao(2, PALAVRA, 3)
+				.transicao(3, PALAVRA, 3).transicao(3, ".", 4)
+				.transicao(4, PALAVRA, 5)
+				.transicao(5, PALAVRA, 5).transicao(5, ".", 4)
+				.aceita(5);
+	}
+
+	/**
+	 * 0 a 3: {@code www} e o caractere seguinte; 4: o ultimo caractere lido so
+	 * pode estar no meio; 5: o ultimo caractere lido pode terminar o texto.
+	 */
+	private static Automato url() {
+		String fim = "a-zA-Z0-9+_|-";
+		String meio = "!:,.;";
+		return new Automato(6)
+				.transicao(0, "w", 1)
+				.transicao(1, "w", 2)
+				.transicao(2, "w", 3)
+				.qualquerCaractere(3, 4)
+				.transicao(4, fim, 5).transicao(4, meio, 4)
+				.transicao(5, fim, 5).transicao(5, meio, 4)
+				.aceita(5);
+	}
+
+	private static Automato cep() {
+		String caracteres = "0-9{}\\d-";
+		return new Automato(2)
+				.transicao(0, caracteres, 1)
+				.transicao(1, caracteres, 1)
+				.aceita(1);
+	}
+
+}
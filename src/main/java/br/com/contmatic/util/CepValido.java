@@ -0,0 +1,39 @@
+package br.com.contmatic.util;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+
+import br.com.contmatic.processador.Custo;
+import br.com.contmatic.processador.NivelDeCusto;
+
+/**
+ * CEP no formato de {@link RegexType#CEP}, verificado em tempo linear por
+ * {@link Automato#CEP} em vez de {@code @Pattern}.
+ * Valores nulos sao considerados validos.
+ *
+ * @author gabriel.santos
+ */
+@Documented
+@Custo(NivelDeCusto.CARACTERES)
+@Constraint(validatedBy = CepValidoValidator.class)
+@Target({ METHOD, FIELD, ANNOTATION_TYPE, PARAMETER })
+@Retention(RUNTIME)
+public @interface CepValido {
+
+	String message() default Constantes.CEP_INCORRETO;
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+}
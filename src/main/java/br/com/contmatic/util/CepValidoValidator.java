@@ -0,0 +1,25 @@
+package br.com.contmatic.util;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The Class CepValidoValidator.
+ *
+ * @author gabriel.santos
+ */
+public class CepValidoValidator implements ConstraintValidator<CepValido, CharSequence> {
+
+	@Override
+	public void initialize(CepValido constraintAnnotation) {
+	}
+
+	@Override
+	public boolean isValid(CharSequence texto, ConstraintValidatorContext context) {
+		if (texto instanceof TextoClassificado) {
+			return ((TextoClassificado) texto).isCep();
+		}
+		return texto == null || Automato.CEP.corresponde(texto);
+	}
+
+}
@@ -0,0 +1,76 @@
+package br.com.contmatic.util;
+
+/**
+ * Classes de caracteres de {@link RegexType#LETRAS},
+ * {@link RegexType#LETRAS_NUMEROS} e {@link RegexType#NUMEROS} como tabelas de
+ * bits, para validar um texto sem expressao regular.
+ *
+ * Todos os caracteres aceitos por essas expressoes estao abaixo de 256, entao
+ * cada tabela tem 4 palavras de 64 bits. Assim como nas expressoes, o
+ * {@code \\s} dentro dos colchetes aceita a barra invertida e a letra
+ * {@code s}, e nao espacos em branco, e o intervalo {@code Á-ú} vai de U+00C1
+ * a U+00FA.
+ *
+ * @author gabriel.santos
+ */
+public enum ClasseDeCaracteres {
+
+	/** {@code ^[A-Za-záÁ-úÚÇÑ_ '\\s]+$} */
+	LETRAS(false, "A-Za-záÁ-úÚÇÑ_ '\\s"),
+
+	/** {@code ^[A-Za-záÁ-úÚÇÑ0-9_ '\\s]+$} */
+	LETRAS_NUMEROS(false, "A-Za-záÁ-úÚÇÑ0-9_ '\\s"),
+
+	/** {@code ^[0-9]*}, que aceita o texto vazio. */
+	NUMEROS(true, "0-9");
+
+	private static final int TAMANHO_DA_TABELA = 256;
+
+	private final long[] tabela = new long[TAMANHO_DA_TABELA / Long.SIZE];
+
+	private final boolean aceitaVazio;
+
+	/**
+	 * @param aceitaVazio se o texto vazio e aceito
+	 * @param caracteres  o conteudo dos colchetes da expressao, com intervalos
+	 *                    {@code a-b}
+	 */
+	ClasseDeCaracteres(boolean aceitaVazio, String caracteres) {
+		this.aceitaVazio = aceitaVazio;
+		for (int i = 0; i < caracteres.length(); i++) {
+			char inicio = caracteres.charAt(i);
+			char fim = inicio;
+			if (i + 2 < caracteres.length() && caracteres.charAt(i + 1) == '-') {
+				fim = caracteres.charAt(i + 2);
+				i += 2;
+			}
+			for (char c = inicio; c <= fim; c++) {
+				tabela[c >>> 6] |= 1L << c;
+			}
+		}
+	}
+
+	/**
+	 * Verifica se o texto inteiro e formado por caracteres da classe.
+	 *
+	 * @param texto o texto
+	 * @return true, se todos os caracteres pertencerem a classe
+	 */
+	public boolean corresponde(CharSequence texto) {
+		int tamanho = texto.length();
+		if (tamanho == 0) {
+			return aceitaVazio;
+		}
+		for (int i = 0; i < tamanho; i++) {
+			if (!contem(texto.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean contem(char caractere) {
+		return caractere < TAMANHO_DA_TABELA && (tabela[caractere >>> 6] & 1L << caractere) != 0;
+	}
+
+}
@@ -0,0 +1,111 @@
+package br.com.contmatic.util;
+
+/**
+ * Codigos de erro devolvidos por {@link ValidacaoSemExcecao}.
+ *
+ * Cada codigo corresponde a mensagem de {@link Constantes} que o setter da
+ * entidade usaria na excecao; a mensagem so e obtida quando pedida, por
+ * {@link #mensagem(int)}.
+ *
+ * @author gabriel.santos
+ */
+public final class CodigoDeErro {
+
+	public static final int OK = 0;
+
+	public static final int CPF_VAZIO = 1;
+
+	public static final int TAMANHO_DO_CPF_PEQUENO_DEMAIS = 2;
+
+	public static final int TAMANHO_DO_CPF_GRANDE_DEMAIS = 3;
+
+	public static final int CPF_INVALIDO = 4;
+
+	public static final int CNPJ_VAZIO = 5;
+
+	public static final int TAMANHO_DO_CNPJ_PEQUENO_DEMAIS = 6;
+
+	public static final int TAMANHO_DO_CNPJ_GRANDE_DEMAIS = 7;
+
+	public static final int CNPJ_INVALIDO = 8;
+
+	public static final int CEP_INCORRETO = 9;
+
+	public static final int TELEFONE_PREENCHIDO_INCORRETAMENTE = 10;
+
+	public static final int NOME_VAZIO = 11;
+
+	public static final int TAMANHO_DO_NOME_PEQUENO_DEMAIS = 12;
+
+	public static final int TAMANHO_DO_NOME_GRANDE_DEMAIS = 13;
+
+	public static final int SITE_VAZIO = 14;
+
+	public static final int TAMANHO_DO_SITE_PEQUENO_DEMAIS = 15;
+
+	public static final int TAMANHO_DO_SITE_GRANDE_DEMAIS = 16;
+
+	public static final int NAO_ACEITA_CARACTERES_ESPECIAIS = 17;
+
+	public static final int NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM = 18;
+
+	public static final int NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS = 19;
+
+	public static final int EMAIL_VAZIO = 20;
+
+	public static final int TAMANHO_DO_EMAIL_PEQUENO_DEMAIS = 21;
+
+	public static final int TAMANHO_DO_EMAIL_GRANDE_DEMAIS = 22;
+
+	public static final int TELEFONE_VAZIO = 23;
+
+	public static final int ENDERECO_VAZIO = 24;
+
+	public static final int PRODUTO_VAZIO = 25;
+
+	public static final int BOLETO_NEGATIVO = 26;
+
+	public static final int IDADE_MINIMA_MENSAGEM = 27;
+
+	public static final int SALARIO_MINIMO_MENSAGEM = 28;
+
+	public static final int ID_VAZIO = 29;
+
+	public static final int QUANTIDADE_MINIMA_MENSAGEM = 30;
+
+	public static final int PRECO_MINIMO_MENSAGEM = 31;
+
+	public static final int CEP_INVALIDO = 32;
+
+	/** Mensagens indexadas pelo codigo. */
+	private static final String[] MENSAGENS = { null, Constantes.CPF_VAZIO, Constantes.TAMANHO_DO_CPF_PEQUENO_DEMAIS,
+			Constantes.TAMANHO_DO_CPF_GRANDE_DEMAIS, Constantes.CPF_INVALIDO, Constantes.CNPJ_VAZIO,
+			Constantes.TAMANHO_DO_CNPJ_PEQUENO_DEMAIS, Constantes.TAMANHO_DO_CNPJ_GRANDE_DEMAIS,
+			Constantes.CNPJ_INVALIDO, Constantes.CEP_INCORRETO, Constantes.TELEFONE_PREENCHIDO_INCORRETAMENTE,
+			Constantes.NOME_VAZIO, Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS, Constantes.TAMANHO_DO_NOME_GRANDE_DEMAIS,
+			Constantes.SITE_VAZIO, Constantes.TAMANHO_DO_SITE_PEQUENO_DEMAIS, Constantes.TAMANHO_DO_SITE_GRANDE_DEMAIS,
+			Constantes.NAO_ACEITA_CARACTERES_ESPECIAIS, Constantes.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM,
+			Constantes.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS, Constantes.EMAIL_VAZIO,
+			Constantes.TAMANHO_DO_EMAIL_PEQUENO_DEMAIS, Constantes.TAMANHO_DO_EMAIL_GRANDE_DEMAIS, Constantes.TELEFONE_VAZIO,
+			Constantes.ENDERECO_VAZIO, Constantes.PRODUTO_VAZIO, Constantes.BOLETO_NEGATIVO,
+			Constantes.IDADE_MINIMA_MENSAGEM, Constantes.SALARIO_MINIMO_MENSAGEM, Constantes.ID_VAZIO,
+			Constantes.QUANTIDADE_MINIMA_MENSAGEM, Constantes.PRECO_MINIMO_MENSAGEM, Constantes.CEP_INVALIDO };
+
+	private CodigoDeErro() {
+	}
+
+	/**
+	 * A mensagem de {@link Constantes} correspondente ao codigo.
+	 *
+	 * @param codigo o codigo de erro
+	 * @return a mensagem, ou null para {@link #OK}
+	 * @throws IllegalArgumentException se o codigo nao existir
+	 */
+	public static String mensagem(int codigo) {
+		if (codigo < 0 || codigo >= MENSAGENS.length) {
+			throw new IllegalArgumentException(Constantes.CODIGO_DE_ERRO_INVALIDO);
+		}
+		return MENSAGENS[codigo];
+	}
+
+}
@@ -128,6 +128,8 @@ public final class Constantes {
 	
 	public static final String IDADE_MINIMA_MENSAGEM = "Idade do funcionário não pode ser menor que 14 anos.";
 	
+	public static final String IDADE_VAZIA = "O campo idade não pode estar nulo";
+	
 	public static final String SALARIO_MINIMO_MENSAGEM = "salario não pode ser menor que R$ 1.045,00";
 	
 	public static final String PRODUTO_VAZIO = "O produto não foi preenchido.";
@@ -176,10 +178,54 @@ public final class Constantes {
 	
 	public static final String TELEFONE_PREENCHIDO_INCORRETAMENTE = "O numero do telefone foi preenchido incorretamente.";
 
+	public static final String LOTE_INVALIDO = "O lote de documentos informado não é valido.";
+
+	public static final String ARQUIVO_INVALIDO = "O arquivo de documentos informado não é valido.";
+
+	public static final String BASE_DO_DOCUMENTO_INVALIDA = "A base do documento deve conter somente os digitos sem os verificadores.";
+
+	public static final String MOTOR_DE_VALIDACAO_VAZIO = "O motor de validação não pode ser nullo.";
+
+	public static final String CODIGO_DE_ERRO_INVALIDO = "O código de erro informado não existe.";
+
+	public static final String REGEX_NAO_REGISTRADA = "A expressão regular informada não está registrada em RegexType.";
+
+	public static final String CARACTERES_NAO_PERMITIDOS = "O campo contém caracteres não permitidos.";
+
+	public static final String OBJETO_COM_ERROS = "O objeto não foi construído porque há campos com erro.";
+
+	public static final String QUANTIDADE_DE_CAMPOS_INVALIDA = "A quantidade de campos deve estar entre 0 e 64.";
+
+	public static final String OBJETO_VAZIO = "O objeto a ser validado não pode ser nulo.";
+
+	public static final String MODO_DE_VALIDACAO_VAZIO = "O modo de validação não pode ser nulo.";
+
+	public static final String VALIDADOR_VAZIO = "O validador não pode ser nulo.";
+
+	public static final String LIMIAR_INVALIDO = "O limiar sequencial deve ser positivo.";
+
+	public static final String EQUIVALENCIA_VAZIA = "A equivalência não pode ser nula.";
+
+	public static final String OBJETO_COMPARADO_VAZIO = "O objeto a ser comparado não pode ser nulo.";
+
+	public static final String PROFUNDIDADE_INVALIDA = "A profundidade máxima deve estar entre 1 e 30.";
+
+	public static final String DESTINO_VAZIO = "O destino do texto não pode ser nulo.";
+
+	public static final String OBJETO_CONGELADO = "O objeto está congelado e não pode ser alterado.";
+
+	public static final String TELEFONE_NAO_COMPACTAVEL = "O telefone deve ter DDD, tipo e um número só de dígitos para ser compactado.";
+
+	public static final String CODIGO_DE_TELEFONE_INVALIDO = "O código não representa um telefone compactado.";
+
 	public static final Integer CPF_SIZE = 11;
 
 	public static final Integer CNPJ_SIZE = 14;
 
+	public static final Integer CPF_FORMATADO_SIZE = 14;
+
+	public static final Integer CNPJ_FORMATADO_SIZE = 18;
+
 	public static final Integer CEP_SIZE = 8;
 
 	public static final Integer TEL_MIN_SIZE = 8;
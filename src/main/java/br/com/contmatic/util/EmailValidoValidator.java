@@ -0,0 +1,22 @@
+package br.com.contmatic.util;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The Class EmailValidoValidator.
+ *
+ * @author gabriel.santos
+ */
+public class EmailValidoValidator implements ConstraintValidator<EmailValido, CharSequence> {
+
+	@Override
+	public void initialize(EmailValido constraintAnnotation) {
+	}
+
+	@Override
+	public boolean isValid(CharSequence texto, ConstraintValidatorContext context) {
+		return texto == null || Automato.EMAIL.corresponde(texto);
+	}
+
+}
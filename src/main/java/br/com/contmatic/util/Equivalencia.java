@@ -0,0 +1,128 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.EQUIVALENCIA_VAZIA;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Estrategia de igualdade de objetos, para escolher fora da classe o que faz
+ * dois objetos serem o mesmo: todos os campos, como no equals, ou apenas a
+ * chave, como o CPF de um cliente.
+ *
+ * Para usar a estrategia em colecoes do JDK, os objetos sao envolvidos em
+ * {@link Equivalente}, cujo equals e hashCode sao os da estrategia.
+ *
+ * @param <T> o tipo dos objetos comparados
+ * @author gabriel.santos
+ */
+public abstract class Equivalencia<T> {
+
+	private static final Equivalencia<Object> ESTRUTURAL = de(Objects::equals, Objects::hashCode);
+
+	/**
+	 * Verifica se os objetos sao equivalentes.
+	 *
+	 * @param objeto o objeto
+	 * @param outro  o outro objeto
+	 * @return true, se forem equivalentes
+	 */
+	public abstract boolean equivalentes(T objeto, T outro);
+
+	/**
+	 * Hash do objeto, igual para objetos equivalentes.
+	 *
+	 * @param objeto o objeto
+	 * @return o hash
+	 */
+	public abstract int hash(T objeto);
+
+	/**
+	 * Envolve o objeto para que as colecoes o comparem por esta equivalencia.
+	 *
+	 * @param objeto o objeto
+	 * @return o objeto envolvido
+	 */
+	public final Equivalente<T> envolve(T objeto) {
+		return new Equivalente<>(this, objeto);
+	}
+
+	/**
+	 * Remove os objetos equivalentes a um anterior, mantendo a ordem.
+	 *
+	 * @param objetos os objetos
+	 * @return o primeiro objeto de cada grupo de equivalentes
+	 */
+	public final List<T> distintos(Iterable<? extends T> objetos) {
+		Set<Equivalente<T>> vistos = new HashSet<>();
+		List<T> distintos = new ArrayList<>();
+		for (T objeto : objetos) {
+			if (vistos.add(envolve(objeto))) {
+				distintos.add(objeto);
+			}
+		}
+		return distintos;
+	}
+
+	/**
+	 * A equivalencia do equals e do hashCode dos proprios objetos.
+	 *
+	 * @param <T> o tipo dos objetos
+	 * @return a equivalencia estrutural
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Equivalencia<T> estrutural() {
+		return (Equivalencia<T>) ESTRUTURAL;
+	}
+
+	/**
+	 * Equivalencia pela chave extraida de cada objeto, com o equals e o
+	 * hashCode da chave.
+	 *
+	 * @param <T>   o tipo dos objetos
+	 * @param chave extrai a chave do objeto
+	 * @return a equivalencia pela chave
+	 */
+	public static <T> Equivalencia<T> porChave(Function<? super T, ?> chave) {
+		if (chave == null) {
+			throw new IllegalArgumentException(EQUIVALENCIA_VAZIA);
+		}
+		return de((objeto, outro) -> Objects.equals(chave.apply(objeto), chave.apply(outro)),
+				objeto -> Objects.hashCode(chave.apply(objeto)));
+	}
+
+	/**
+	 * Equivalencia com a comparacao e o hash informados, como os das classes
+	 * geradas por {@link br.com.contmatic.processador.ProcessadorDeIgualdade}.
+	 *
+	 * @param <T>          o tipo dos objetos
+	 * @param equivalentes compara dois objetos
+	 * @param hash         calcula o hash de um objeto
+	 * @return a equivalencia
+	 */
+	public static <T> Equivalencia<T> de(BiPredicate<? super T, ? super T> equivalentes,
+			ToIntFunction<? super T> hash) {
+		if (equivalentes == null || hash == null) {
+			throw new IllegalArgumentException(EQUIVALENCIA_VAZIA);
+		}
+		return new Equivalencia<T>() {
+
+			@Override
+			public boolean equivalentes(T objeto, T outro) {
+				return equivalentes.test(objeto, outro);
+			}
+
+			@Override
+			public int hash(T objeto) {
+				return hash.applyAsInt(objeto);
+			}
+		};
+	}
+
+}
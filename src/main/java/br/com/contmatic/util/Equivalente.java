@@ -0,0 +1,65 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.OBJETO_COMPARADO_VAZIO;
+
+/**
+ * Objeto envolvido por uma {@link Equivalencia}, com o equals e o hashCode da
+ * equivalencia, para ser guardado em conjuntos e usado como chave de mapas.
+ * O hash e calculado uma vez, na criacao.
+ *
+ * @param <T> o tipo do objeto
+ * @author gabriel.santos
+ */
+public final class Equivalente<T> {
+
+	private final Equivalencia<T> equivalencia;
+
+	private final T objeto;
+
+	private final int hash;
+
+	Equivalente(Equivalencia<T> equivalencia, T objeto) {
+		if (objeto == null) {
+			throw new IllegalArgumentException(OBJETO_COMPARADO_VAZIO);
+		}
+		this.equivalencia = equivalencia;
+		this.objeto = objeto;
+		this.hash = equivalencia.hash(objeto);
+	}
+
+	public T getObjeto() {
+		return objeto;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/**
+	 * Equivalentes sao iguais se tiverem a mesma equivalencia e os objetos forem
+	 * equivalentes por ela.
+	 *
+	 * @param obj o outro objeto
+	 * @return true, se forem iguais
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof Equivalente)) {
+			return false;
+		}
+		Equivalente<?> outro = (Equivalente<?>) obj;
+		return equivalencia == outro.equivalencia && hash == outro.hash
+				&& equivalencia.equivalentes(objeto, (T) outro.objeto);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(objeto);
+	}
+
+}
@@ -0,0 +1,94 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.CodigoDeErro.OK;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Erros acumulados pelos construtores das entidades.
+ *
+ * Cada campo da entidade tem um indice; o campo com erro liga o bit
+ * correspondente em {@link #getCampos()} e guarda o {@link CodigoDeErro} da
+ * primeira verificacao que falhou. Nenhuma excecao ou mensagem e criada
+ * durante a validacao; as mensagens de {@link Constantes} so sao montadas em
+ * {@link #getMensagens()}.
+ *
+ * @author gabriel.santos
+ */
+public final class ErrosDeValidacao {
+
+	/** Quantidade maxima de campos, um por bit de {@link #getCampos()}. */
+	public static final int MAXIMO_DE_CAMPOS = Long.SIZE;
+
+	private final int[] codigos;
+
+	private long campos;
+
+	/**
+	 * Instancia um acumulador vazio.
+	 *
+	 * @param quantidadeDeCampos a quantidade de campos da entidade
+	 */
+	public ErrosDeValidacao(int quantidadeDeCampos) {
+		if (quantidadeDeCampos < 0 || quantidadeDeCampos > MAXIMO_DE_CAMPOS) {
+			throw new IllegalArgumentException(Constantes.QUANTIDADE_DE_CAMPOS_INVALIDA);
+		}
+		this.codigos = new int[quantidadeDeCampos];
+	}
+
+	/**
+	 * Registra o resultado da validacao de um campo; {@link CodigoDeErro#OK} nao
+	 * altera nada.
+	 *
+	 * @param campo  o indice do campo
+	 * @param codigo o codigo de erro
+	 */
+	public void registra(int campo, int codigo) {
+		if (codigo != OK) {
+			codigos[campo] = codigo;
+			campos |= 1L << campo;
+		}
+	}
+
+	public boolean isVazio() {
+		return campos == 0;
+	}
+
+	/**
+	 * @return o bitmask dos campos com erro, com o bit {@code 1L << campo}
+	 */
+	public long getCampos() {
+		return campos;
+	}
+
+	public int getQuantidade() {
+		return Long.bitCount(campos);
+	}
+
+	/**
+	 * @param campo o indice do campo
+	 * @return o codigo de erro do campo, ou {@link CodigoDeErro#OK}
+	 */
+	public int getCodigo(int campo) {
+		return codigos[campo];
+	}
+
+	/**
+	 * @return as mensagens de {@link Constantes} dos campos com erro, na ordem
+	 *         dos indices
+	 */
+	public List<String> getMensagens() {
+		List<String> mensagens = new ArrayList<>(getQuantidade());
+		for (long restantes = campos; restantes != 0; restantes &= restantes - 1) {
+			mensagens.add(CodigoDeErro.mensagem(codigos[Long.numberOfTrailingZeros(restantes)]));
+		}
+		return mensagens;
+	}
+
+	@Override
+	public String toString() {
+		return getMensagens().toString();
+	}
+
+}
@@ -0,0 +1,20 @@
+package br.com.contmatic.util;
+
+/**
+ * Objeto que escreve os proprios campos num {@link EscritorDeTexto}, sem
+ * reflexao. As classes de dominio delegam para as classes geradas por
+ * {@link br.com.contmatic.processador.ProcessadorDeTexto}.
+ *
+ * @author gabriel.santos
+ */
+@FunctionalInterface
+public interface Escrevivel {
+
+	/**
+	 * Escreve o objeto e os seus campos.
+	 *
+	 * @param escritor o escritor
+	 */
+	void escreveEm(EscritorDeTexto escritor);
+
+}
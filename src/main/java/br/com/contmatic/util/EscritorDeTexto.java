@@ -0,0 +1,447 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.DESTINO_VAZIO;
+import static br.com.contmatic.util.Constantes.PROFUNDIDADE_INVALIDA;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Escreve objetos {@link Escrevivel} como texto compacto, em
+ * {@link FormatoDeTexto#CHAVE_VALOR} ou {@link FormatoDeTexto#JSON}, direto
+ * num {@link Appendable}.
+ *
+ * Os campos sao escritos pelas classes geradas, sem reflexao e sem textos
+ * intermediarios: textos, numeros e enums vao direto para o destino. Objetos
+ * e colecoes aninhados alem da profundidade maxima sao trocados por
+ * {@code ...}, para que um log de uma empresa nao percorra todos os seus
+ * telefones e enderecos. O escritor guarda o estado da escrita e nao e thread
+ * safe; depois de cada valor escrito ele pode ser reaproveitado com o mesmo
+ * destino, por exemplo depois de um {@code setLength(0)}.
+ *
+ * @author gabriel.santos
+ */
+public final class EscritorDeTexto {
+
+	/** Profundidade usada quando nao e informada. */
+	public static final int PROFUNDIDADE_PADRAO = 3;
+
+	/** Maior profundidade aceita, para caber a pilha de niveis num long. */
+	public static final int PROFUNDIDADE_MAXIMA = 30;
+
+	/** Niveis de objetos e colecoes que cabem na pilha de {@link #preenchidos}. */
+	private static final int NIVEL_MAXIMO = Long.SIZE - 2;
+
+	private static final String OMITIDO = "...";
+
+	private static final char[] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+	/** Acima dessa capacidade o texto da thread e descartado, para nao reter memoria. */
+	private static final int CAPACIDADE_REAPROVEITADA = 8192;
+
+	private static final ThreadLocal<EscritorDeTexto> DA_THREAD = ThreadLocal
+			.withInitial(() -> new EscritorDeTexto(new StringBuilder(256), FormatoDeTexto.CHAVE_VALOR));
+
+	private final Appendable destino;
+
+	/** O proprio destino, quando for um StringBuilder, para escrever sem IOException. */
+	private final StringBuilder texto;
+
+	private FormatoDeTexto formato;
+
+	private int profundidadeMaxima = PROFUNDIDADE_PADRAO;
+
+	/** Quantidade de objetos abertos. */
+	private int profundidade;
+
+	/** Quantidade de objetos e colecoes abertos. */
+	private int nivel;
+
+	/** Um bit por nivel: ligado se o nivel ja tem algum campo ou elemento. */
+	private long preenchidos;
+
+	private boolean ocupado;
+
+	private EscritorDeTexto(Appendable destino, FormatoDeTexto formato) {
+		if (destino == null) {
+			throw new IllegalArgumentException(DESTINO_VAZIO);
+		}
+		this.destino = destino;
+		this.texto = destino instanceof StringBuilder ? (StringBuilder) destino : null;
+		this.formato = formato;
+	}
+
+	/**
+	 * Cria um escritor no formato chave=valor.
+	 *
+	 * @param destino onde o texto e escrito
+	 * @return o escritor
+	 */
+	public static EscritorDeTexto chaveValor(Appendable destino) {
+		return new EscritorDeTexto(destino, FormatoDeTexto.CHAVE_VALOR);
+	}
+
+	/**
+	 * Cria um escritor em JSON.
+	 *
+	 * @param destino onde o texto e escrito
+	 * @return o escritor
+	 */
+	public static EscritorDeTexto json(Appendable destino) {
+		return new EscritorDeTexto(destino, FormatoDeTexto.JSON);
+	}
+
+	/**
+	 * Escreve o objeto em chave=valor num texto reaproveitado pela thread; e o
+	 * toString das classes de dominio.
+	 *
+	 * @param objeto o objeto
+	 * @return o texto
+	 */
+	public static String emTexto(Object objeto) {
+		return emTexto(objeto, FormatoDeTexto.CHAVE_VALOR);
+	}
+
+	/**
+	 * Escreve o objeto no formato informado num texto reaproveitado pela thread.
+	 *
+	 * @param objeto  o objeto
+	 * @param formato o formato
+	 * @return o texto
+	 */
+	public static String emTexto(Object objeto, FormatoDeTexto formato) {
+		EscritorDeTexto escritor = DA_THREAD.get();
+		if (escritor.ocupado) {
+			escritor = new EscritorDeTexto(new StringBuilder(), formato);
+		}
+		escritor.ocupado = true;
+		try {
+			escritor.texto.setLength(0);
+			escritor.formato = formato;
+			escritor.reinicia();
+			escritor.valor(objeto);
+			return escritor.texto.toString();
+		} finally {
+			escritor.ocupado = false;
+			if (escritor.texto.capacity() > CAPACIDADE_REAPROVEITADA) {
+				DA_THREAD.remove();
+			}
+		}
+	}
+
+	/**
+	 * Adia a escrita do objeto para o toString do valor devolvido, para que
+	 * mensagens de log descartadas nao montem o texto.
+	 *
+	 * @param objeto  o objeto
+	 * @param formato o formato
+	 * @return um valor cujo toString escreve o objeto
+	 */
+	public static Object preguicoso(Object objeto, FormatoDeTexto formato) {
+		return new Object() {
+
+			@Override
+			public String toString() {
+				return emTexto(objeto, formato);
+			}
+		};
+	}
+
+	/**
+	 * Altera quantos objetos aninhados sao escritos; os mais profundos, e as
+	 * colecoes dentro do ultimo nivel, sao trocados por {@code ...}.
+	 *
+	 * @param profundidadeMaxima de 1, so o proprio objeto, a
+	 *                           {@link #PROFUNDIDADE_MAXIMA}
+	 * @return este escritor
+	 */
+	public EscritorDeTexto comProfundidadeMaxima(int profundidadeMaxima) {
+		if (profundidadeMaxima < 1 || profundidadeMaxima > PROFUNDIDADE_MAXIMA) {
+			throw new IllegalArgumentException(PROFUNDIDADE_INVALIDA);
+		}
+		this.profundidadeMaxima = profundidadeMaxima;
+		return this;
+	}
+
+	/**
+	 * Escreve um valor completo no destino.
+	 *
+	 * @param valor o valor
+	 * @return este escritor
+	 */
+	public EscritorDeTexto escreve(Object valor) {
+		reinicia();
+		valor(valor);
+		return this;
+	}
+
+	/**
+	 * Abre um objeto; chamado pelas classes geradas antes dos campos.
+	 *
+	 * @param nome o nome simples da classe
+	 * @return false, se o objeto passou da profundidade maxima e foi omitido
+	 */
+	public boolean abre(String nome) {
+		if (profundidade >= profundidadeMaxima || nivel >= NIVEL_MAXIMO) {
+			if (formato == FormatoDeTexto.JSON) {
+				escreveJson(OMITIDO);
+			} else {
+				acrescenta(nome).acrescenta('{').acrescenta(OMITIDO).acrescenta('}');
+			}
+			return false;
+		}
+		if (formato == FormatoDeTexto.CHAVE_VALOR) {
+			acrescenta(nome);
+		}
+		acrescenta('{');
+		profundidade++;
+		empilha();
+		return true;
+	}
+
+	/** Fecha o objeto aberto por {@link #abre(String)}. */
+	public void fecha() {
+		desempilha();
+		profundidade--;
+		acrescenta('}');
+	}
+
+	/**
+	 * Escreve um campo do objeto aberto.
+	 *
+	 * @param nome  o nome do campo
+	 * @param valor o valor
+	 */
+	public void campo(String nome, Object valor) {
+		chave(nome);
+		valor(valor);
+	}
+
+	public void campo(String nome, int valor) {
+		chave(nome);
+		acrescenta(valor);
+	}
+
+	public void campo(String nome, long valor) {
+		chave(nome);
+		acrescenta(valor);
+	}
+
+	public void campo(String nome, boolean valor) {
+		chave(nome);
+		acrescenta(valor ? "true" : "false");
+	}
+
+	public void campo(String nome, double valor) {
+		chave(nome);
+		if (formato == FormatoDeTexto.JSON && (Double.isNaN(valor) || Double.isInfinite(valor))) {
+			escreveJson(Double.toString(valor));
+		} else {
+			acrescenta(valor);
+		}
+	}
+
+	public void campo(String nome, char valor) {
+		chave(nome);
+		if (formato == FormatoDeTexto.JSON) {
+			acrescenta('"');
+			escapa(valor);
+			acrescenta('"');
+		} else {
+			acrescenta(valor);
+		}
+	}
+
+	private void chave(String nome) {
+		separa();
+		if (formato == FormatoDeTexto.JSON) {
+			acrescenta('"').acrescenta(nome).acrescenta("\":");
+		} else {
+			acrescenta(nome).acrescenta('=');
+		}
+	}
+
+	private void valor(Object valor) {
+		if (valor == null) {
+			acrescenta("null");
+		} else if (valor instanceof Escrevivel) {
+			((Escrevivel) valor).escreveEm(this);
+		} else if (valor instanceof CharSequence) {
+			texto((CharSequence) valor);
+		} else if (valor instanceof Iterable) {
+			lista((Iterable<?>) valor);
+		} else if (valor instanceof Object[]) {
+			lista(Arrays.asList((Object[]) valor));
+		} else if (valor instanceof Integer || valor instanceof Long || valor instanceof Short
+				|| valor instanceof Byte) {
+			acrescenta(((Number) valor).longValue());
+		} else if (valor instanceof Number || valor instanceof Boolean) {
+			numeroOuBooleano(valor);
+		} else if (valor instanceof Enum) {
+			texto(((Enum<?>) valor).name());
+		} else {
+			texto(valor.toString());
+		}
+	}
+
+	private void numeroOuBooleano(Object valor) {
+		String escrito = valor.toString();
+		boolean naoFinito = (valor instanceof Double || valor instanceof Float)
+				&& (Double.isNaN(((Number) valor).doubleValue()) || Double.isInfinite(((Number) valor).doubleValue()));
+		if (naoFinito) {
+			texto(escrito);
+		} else {
+			acrescenta(escrito);
+		}
+	}
+
+	private void lista(Iterable<?> valores) {
+		if (profundidade >= profundidadeMaxima || nivel >= NIVEL_MAXIMO) {
+			if (formato == FormatoDeTexto.JSON) {
+				escreveJson(OMITIDO);
+			} else {
+				acrescenta('[').acrescenta(OMITIDO).acrescenta(']');
+			}
+			return;
+		}
+		acrescenta('[');
+		empilha();
+		for (Object valor : valores) {
+			separa();
+			valor(valor);
+		}
+		desempilha();
+		acrescenta(']');
+	}
+
+	/**
+	 * Os textos do dominio, como {@code NomeValidado} e {@code Cep}, devolvem a
+	 * propria String no toString, que e copiada de uma vez, e nao caractere a
+	 * caractere como um CharSequence qualquer.
+	 */
+	private void texto(CharSequence valor) {
+		String texto = valor.toString();
+		if (formato == FormatoDeTexto.JSON) {
+			escreveJson(texto);
+		} else {
+			acrescenta(texto);
+		}
+	}
+
+	private void escreveJson(CharSequence valor) {
+		acrescenta('"');
+		for (int i = 0; i < valor.length(); i++) {
+			escapa(valor.charAt(i));
+		}
+		acrescenta('"');
+	}
+
+	private void escapa(char c) {
+		switch (c) {
+		case '"':
+			acrescenta("\\\"");
+			break;
+		case '\\':
+			acrescenta("\\\\");
+			break;
+		case '\n':
+			acrescenta("\\n");
+			break;
+		case '\r':
+			acrescenta("\\r");
+			break;
+		case '\t':
+			acrescenta("\\t");
+			break;
+		default:
+			if (c < ' ') {
+				acrescenta("\\u00").acrescenta(HEXADECIMAL[c >> 4]).acrescenta(HEXADECIMAL[c & 0xF]);
+			} else {
+				acrescenta(c);
+			}
+		}
+	}
+
+	private void separa() {
+		long bit = 1L << nivel;
+		if ((preenchidos & bit) != 0) {
+			if (formato == FormatoDeTexto.JSON) {
+				acrescenta(',');
+			} else {
+				acrescenta(", ");
+			}
+		} else {
+			preenchidos |= bit;
+		}
+	}
+
+	private void empilha() {
+		nivel++;
+		preenchidos &= ~(1L << nivel);
+	}
+
+	private void desempilha() {
+		preenchidos &= ~(1L << nivel);
+		nivel--;
+	}
+
+	private void reinicia() {
+		profundidade = 0;
+		nivel = 0;
+		preenchidos = 0;
+	}
+
+	private EscritorDeTexto acrescenta(CharSequence valor) {
+		if (texto != null) {
+			texto.append(valor);
+			return this;
+		}
+		try {
+			destino.append(valor);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+
+	private EscritorDeTexto acrescenta(char valor) {
+		if (texto != null) {
+			texto.append(valor);
+			return this;
+		}
+		try {
+			destino.append(valor);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this;
+	}
+
+	private void acrescenta(long valor) {
+		if (texto != null) {
+			texto.append(valor);
+		} else {
+			acrescenta(Long.toString(valor));
+		}
+	}
+
+	private void acrescenta(double valor) {
+		if (texto != null) {
+			texto.append(valor);
+		} else {
+			acrescenta(Double.toString(valor));
+		}
+	}
+
+	/**
+	 * O texto escrito, se o destino for um {@link CharSequence}.
+	 *
+	 * @return o conteudo do destino
+	 */
+	@Override
+	public String toString() {
+		return destino.toString();
+	}
+
+}
@@ -0,0 +1,16 @@
+package br.com.contmatic.util;
+
+/**
+ * Formatos do {@link EscritorDeTexto}.
+ *
+ * @author gabriel.santos
+ */
+public enum FormatoDeTexto {
+
+	/** {@code Telefone{ddd=DDD11, numero=940038460, tipoTelefone=CELULAR}} */
+	CHAVE_VALOR,
+
+	/** {@code {"ddd":"DDD11","numero":"940038460","tipoTelefone":"CELULAR"}} */
+	JSON
+
+}
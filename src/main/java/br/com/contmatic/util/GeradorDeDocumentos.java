@@ -0,0 +1,251 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.BASE_DO_DOCUMENTO_INVALIDA;
+import static br.com.contmatic.util.Constantes.LOTE_INVALIDO;
+import static br.com.contmatic.util.Validate.PESOS_PRIMEIRO_DIGITO_CNPJ;
+import static br.com.contmatic.util.Validate.PESOS_SEGUNDO_DIGITO_CNPJ;
+import static br.com.contmatic.util.Validate.TAMANHO_CNPJ;
+import static br.com.contmatic.util.Validate.TAMANHO_CPF;
+import static br.com.contmatic.util.Validate.calculaDigitoVerificador;
+import static br.com.contmatic.util.Validate.valorNoCnpj;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Gerador de CPFs e CNPJs validos para massas de teste.
+ *
+ * A partir de uma semente, percorre as bases de 9 (CPF) ou 12 (CNPJ) digitos
+ * com um passo primo com 10, de forma que nenhum documento se repete antes de
+ * esgotar todas as bases, e os valores ficam espalhados por todo o intervalo.
+ * Bases com todos os digitos iguais sao puladas. As instancias nao sao thread
+ * safe: use um gerador por thread, com sementes diferentes.
+ *
+ * @author gabriel.santos
+ */
+public final class GeradorDeDocumentos {
+
+	/** Quantidade de digitos da base do CPF. */
+	public static final int TAMANHO_BASE_CPF = TAMANHO_CPF - 2;
+
+	/** Quantidade de digitos da base do CNPJ. */
+	public static final int TAMANHO_BASE_CNPJ = TAMANHO_CNPJ - 2;
+
+	private static final long QUANTIDADE_DE_BASES_CPF = 1_000_000_000L;
+
+	private static final long QUANTIDADE_DE_BASES_CNPJ = 1_000_000_000_000L;
+
+	private static final long REPDIGITO_CPF = 111_111_111L;
+
+	private static final long REPDIGITO_CNPJ = 111_111_111_111L;
+
+	private final long passoCpf;
+
+	private final long passoCnpj;
+
+	private long baseCpf;
+
+	private long baseCnpj;
+
+	private final byte[] rascunho = new byte[TAMANHO_CNPJ];
+
+	/**
+	 * Instancia um novo gerador.
+	 *
+	 * @param semente a semente da sequencia
+	 */
+	public GeradorDeDocumentos(long semente) {
+		long mistura = misturaBits(semente);
+		this.baseCpf = Math.floorMod(mistura, QUANTIDADE_DE_BASES_CPF);
+		this.baseCnpj = Math.floorMod(mistura >>> 7, QUANTIDADE_DE_BASES_CNPJ);
+		this.passoCpf = passoPrimoComDez(misturaBits(mistura), QUANTIDADE_DE_BASES_CPF);
+		this.passoCnpj = passoPrimoComDez(misturaBits(mistura + 1), QUANTIDADE_DE_BASES_CNPJ);
+	}
+
+	/**
+	 * Completa uma base de 9 digitos com os digitos verificadores do CPF.
+	 *
+	 * @param base os 9 primeiros digitos
+	 * @return o CPF com 11 digitos
+	 */
+	public static String completaCpf(CharSequence base) {
+		byte[] cpf = new byte[TAMANHO_CPF];
+		escreveCpf(converteBase(base, TAMANHO_BASE_CPF), cpf, 0);
+		return new String(cpf, US_ASCII);
+	}
+
+	/**
+	 * Completa uma base de 12 caracteres, numerica ou alfanumerica, com os
+	 * digitos verificadores do CNPJ.
+	 *
+	 * @param base os 12 primeiros caracteres, digitos ou letras maiusculas
+	 * @return o CNPJ com 14 caracteres
+	 */
+	public static String completaCnpj(CharSequence base) {
+		if (base == null || base.length() != TAMANHO_BASE_CNPJ) {
+			throw new IllegalArgumentException(BASE_DO_DOCUMENTO_INVALIDA);
+		}
+		byte[] cnpj = new byte[TAMANHO_CNPJ];
+		int invalidos = 0;
+		for (int i = 0; i < TAMANHO_BASE_CNPJ; i++) {
+			char caractere = base.charAt(i);
+			invalidos |= valorNoCnpj(caractere);
+			cnpj[i] = (byte) caractere;
+		}
+		if (invalidos < 0) {
+			throw new IllegalArgumentException(BASE_DO_DOCUMENTO_INVALIDA);
+		}
+		escreveDigitosVerificadoresDoCnpj(cnpj, 0);
+		return new String(cnpj, US_ASCII);
+	}
+
+	public String proximoCpf() {
+		proximoCpf(rascunho, 0);
+		return new String(rascunho, 0, TAMANHO_CPF, US_ASCII);
+	}
+
+	public String proximoCnpj() {
+		proximoCnpj(rascunho, 0);
+		return new String(rascunho, 0, TAMANHO_CNPJ, US_ASCII);
+	}
+
+	/**
+	 * Escreve o proximo CPF da sequencia em {@code destino[offset, offset + 11)}.
+	 *
+	 * @param destino o buffer ASCII
+	 * @param offset  a posicao inicial
+	 */
+	public void proximoCpf(byte[] destino, int offset) {
+		do {
+			baseCpf += passoCpf;
+			if (baseCpf >= QUANTIDADE_DE_BASES_CPF) {
+				baseCpf -= QUANTIDADE_DE_BASES_CPF;
+			}
+		} while (baseCpf % REPDIGITO_CPF == 0);
+		escreveCpf(baseCpf, destino, offset);
+	}
+
+	/**
+	 * Escreve o proximo CNPJ da sequencia em {@code destino[offset, offset + 14)}.
+	 *
+	 * @param destino o buffer ASCII
+	 * @param offset  a posicao inicial
+	 */
+	public void proximoCnpj(byte[] destino, int offset) {
+		do {
+			baseCnpj += passoCnpj;
+			if (baseCnpj >= QUANTIDADE_DE_BASES_CNPJ) {
+				baseCnpj -= QUANTIDADE_DE_BASES_CNPJ;
+			}
+		} while (baseCnpj % REPDIGITO_CNPJ == 0);
+		escreveCnpj(baseCnpj, destino, offset);
+	}
+
+	/**
+	 * Gera um buffer com {@code quantidade} CPFs lado a lado, no formato aceito
+	 * por {@link Validate#isCPFEmLote(byte[], int)}.
+	 *
+	 * @param quantidade a quantidade de CPFs
+	 * @return o buffer ASCII
+	 */
+	public byte[] geraCpfs(int quantidade) {
+		byte[] buffer = new byte[tamanhoDoLote(quantidade, TAMANHO_CPF)];
+		for (int i = 0; i < quantidade; i++) {
+			proximoCpf(buffer, i * TAMANHO_CPF);
+		}
+		return buffer;
+	}
+
+	/**
+	 * Gera um buffer com {@code quantidade} CNPJs lado a lado, no formato aceito
+	 * por {@link Validate#isCNPJEmLote(byte[], int)}.
+	 *
+	 * @param quantidade a quantidade de CNPJs
+	 * @return o buffer ASCII
+	 */
+	public byte[] geraCnpjs(int quantidade) {
+		byte[] buffer = new byte[tamanhoDoLote(quantidade, TAMANHO_CNPJ)];
+		for (int i = 0; i < quantidade; i++) {
+			proximoCnpj(buffer, i * TAMANHO_CNPJ);
+		}
+		return buffer;
+	}
+
+	private static int tamanhoDoLote(int quantidade, int tamanho) {
+		if (quantidade < 0 || (long) quantidade * tamanho > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(LOTE_INVALIDO);
+		}
+		return quantidade * tamanho;
+	}
+
+	private static void escreveCpf(long base, byte[] destino, int offset) {
+		escreveDigitos(base, destino, offset, TAMANHO_BASE_CPF);
+		int soma10 = 0;
+		int soma11 = 0;
+		for (int i = 0; i < TAMANHO_BASE_CPF; i++) {
+			int num = destino[offset + i] - '0';
+			soma10 += num * (10 - i);
+			soma11 += num * (11 - i);
+		}
+		int dig10 = calculaDigitoVerificador(soma10);
+		int dig11 = calculaDigitoVerificador(soma11 + dig10 * 2);
+		destino[offset + 9] = (byte) ('0' + dig10);
+		destino[offset + 10] = (byte) ('0' + dig11);
+	}
+
+	private static void escreveCnpj(long base, byte[] destino, int offset) {
+		escreveDigitos(base, destino, offset, TAMANHO_BASE_CNPJ);
+		escreveDigitosVerificadoresDoCnpj(destino, offset);
+	}
+
+	private static void escreveDigitosVerificadoresDoCnpj(byte[] destino, int offset) {
+		int soma13 = 0;
+		int soma14 = 0;
+		for (int i = 0; i < TAMANHO_BASE_CNPJ; i++) {
+			int num = valorNoCnpj(destino[offset + i]);
+			soma13 += num * PESOS_PRIMEIRO_DIGITO_CNPJ[i];
+			soma14 += num * PESOS_SEGUNDO_DIGITO_CNPJ[i];
+		}
+		int dig13 = calculaDigitoVerificador(soma13);
+		int dig14 = calculaDigitoVerificador(soma14 + dig13 * 2);
+		destino[offset + 12] = (byte) ('0' + dig13);
+		destino[offset + 13] = (byte) ('0' + dig14);
+	}
+
+	private static void escreveDigitos(long valor, byte[] destino, int offset, int quantidade) {
+		for (int i = offset + quantidade - 1; i >= offset; i--) {
+			destino[i] = (byte) ('0' + (int) (valor % 10));
+			valor /= 10;
+		}
+	}
+
+	private static long converteBase(CharSequence base, int tamanho) {
+		if (base == null || base.length() != tamanho) {
+			throw new IllegalArgumentException(BASE_DO_DOCUMENTO_INVALIDA);
+		}
+		long valor = 0;
+		for (int i = 0; i < tamanho; i++) {
+			int num = base.charAt(i) - '0';
+			if (num < 0 || num > 9) {
+				throw new IllegalArgumentException(BASE_DO_DOCUMENTO_INVALIDA);
+			}
+			valor = valor * 10 + num;
+		}
+		return valor;
+	}
+
+	private static long passoPrimoComDez(long aleatorio, long quantidade) {
+		long passo = Math.floorMod(aleatorio, quantidade / 2) + quantidade / 4;
+		while (passo % 2 == 0 || passo % 5 == 0) {
+			passo++;
+		}
+		return passo;
+	}
+
+	/** Finalizador do SplitMix64, para espalhar sementes proximas. */
+	private static long misturaBits(long valor) {
+		long z = valor + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+}
@@ -0,0 +1,39 @@
+package br.com.contmatic.util;
+
+import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+
+import br.com.contmatic.processador.Custo;
+import br.com.contmatic.processador.NivelDeCusto;
+
+/**
+ * Texto formado apenas por caracteres de {@link RegexType#LETRAS}. Substitui
+ * {@code @Pattern} com uma tabela de bits de {@link ClasseDeCaracteres}.
+ * Valores nulos sao considerados validos.
+ *
+ * @author gabriel.santos
+ */
+@Documented
+@Custo(NivelDeCusto.CARACTERES)
+@Constraint(validatedBy = LetrasValidator.class)
+@Target({ METHOD, FIELD, ANNOTATION_TYPE, PARAMETER })
+@Retention(RUNTIME)
+public @interface Letras {
+
+	String message() default Constantes.CARACTERES_NAO_PERMITIDOS;
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+
+}
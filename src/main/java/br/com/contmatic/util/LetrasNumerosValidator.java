@@ -0,0 +1,25 @@
+package br.com.contmatic.util;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The Class LetrasNumerosValidator.
+ *
+ * @author gabriel.santos
+ */
+public class LetrasNumerosValidator implements ConstraintValidator<LetrasNumeros, CharSequence> {
+
+	@Override
+	public void initialize(LetrasNumeros constraintAnnotation) {
+	}
+
+	@Override
+	public boolean isValid(CharSequence texto, ConstraintValidatorContext context) {
+		if (texto instanceof TextoClassificado) {
+			return ((TextoClassificado) texto).isLetrasNumeros();
+		}
+		return texto == null || ClasseDeCaracteres.LETRAS_NUMEROS.corresponde(texto);
+	}
+
+}
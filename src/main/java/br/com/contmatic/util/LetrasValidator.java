@@ -0,0 +1,25 @@
+package br.com.contmatic.util;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The Class LetrasValidator.
+ *
+ * @author gabriel.santos
+ */
+public class LetrasValidator implements ConstraintValidator<Letras, CharSequence> {
+
+	@Override
+	public void initialize(Letras constraintAnnotation) {
+	}
+
+	@Override
+	public boolean isValid(CharSequence texto, ConstraintValidatorContext context) {
+		if (texto instanceof TextoClassificado) {
+			return ((TextoClassificado) texto).isLetras();
+		}
+		return texto == null || ClasseDeCaracteres.LETRAS.corresponde(texto);
+	}
+
+}
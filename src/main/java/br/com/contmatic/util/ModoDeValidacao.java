@@ -0,0 +1,32 @@
+package br.com.contmatic.util;
+
+/**
+ * Quando os validadores gerados param de avaliar restricoes.
+ *
+ * As restricoes de cada campo sao avaliadas da mais barata para a mais cara, e
+ * a cascata dos objetos marcados com {@code @Valid} vem depois de todos os
+ * campos, entao parar na primeira falha descarta objetos invalidos sem chegar
+ * aos digitos verificadores nem aos objetos aninhados.
+ *
+ * @author gabriel.santos
+ */
+public enum ModoDeValidacao {
+
+	/** Avalia todas as restricoes. */
+	COMPLETA,
+
+	/** Para na primeira falha de cada campo, sem validar a cascata do campo. */
+	PRIMEIRA_FALHA_POR_CAMPO,
+
+	/** Para na primeira falha do objeto, incluindo os objetos em cascata. */
+	PRIMEIRA_FALHA_POR_OBJETO;
+
+	public boolean paraNoCampo() {
+		return this != COMPLETA;
+	}
+
+	public boolean paraNoObjeto() {
+		return this == PRIMEIRA_FALHA_POR_OBJETO;
+	}
+
+}
@@ -0,0 +1,208 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.MOTOR_DE_VALIDACAO_VAZIO;
+import static br.com.contmatic.util.Validate.TAMANHO_CNPJ;
+import static br.com.contmatic.util.Validate.TAMANHO_CPF;
+import static br.com.contmatic.util.Validate.calculaDigitoVerificador;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Motores de calculo dos digitos verificadores usados na validacao em lote e
+ * na validacao de arquivos.
+ *
+ * O {@link #ESCALAR} percorre o documento caractere a caractere. O
+ * {@link #SWAR} le o documento em duas palavras de 8 bytes sobrepostas,
+ * confere todos os caracteres de uma vez com aritmetica por byte e calcula as
+ * somas ponderadas multiplicando grupos de 4 valores, em faixas de 16 bits,
+ * por uma constante com os pesos. Os dois motores devolvem exatamente o mesmo
+ * resultado para qualquer entrada.
+ *
+ * O motor padrao pode ser escolhido com a propriedade de sistema
+ * {@value #PROPRIEDADE} ou com {@link #setPadrao(MotorDeValidacao)}; valores
+ * desconhecidos na propriedade caem no {@link #ESCALAR}.
+ *
+ * @author gabriel.santos
+ */
+public enum MotorDeValidacao {
+
+	ESCALAR {
+		@Override
+		public boolean isCPF(ByteBuffer cpf, int index) {
+			return Validate.isCPF(cpf, index);
+		}
+
+		@Override
+		public boolean isCNPJ(ByteBuffer cnpj, int index) {
+			return Validate.isCNPJ(cnpj, index);
+		}
+	},
+
+	SWAR {
+		@Override
+		public boolean isCPF(ByteBuffer cpf, int index) {
+			if (cpf == null || index < 0 || index > cpf.limit() - TAMANHO_CPF) {
+				return false;
+			}
+			long inicio = palavra(cpf, index);
+			long fim = palavra(cpf, index + TAMANHO_CPF - BYTES_POR_PALAVRA);
+			if ((digitos(inicio) & digitos(fim)) != ALTOS || repetido(inicio, fim)) {
+				return false;
+			}
+			inicio -= ZEROS_ASCII;
+			fim -= ZEROS_ASCII;
+			int nono = (int) (fim >>> 40) & 0xFF;
+			int dig10 = (int) (fim >>> 48) & 0xFF;
+			int dig11 = (int) (fim >>> 56);
+			int soma10 = somaPonderada(inicio, PESOS_CPF_0_A_3) + somaPonderada(inicio >>> 32, PESOS_CPF_4_A_7)
+					+ nono * 2;
+			int soma11 = soma10 + (int) ((inicio * UNS) >>> 56) + nono + dig10 * 2;
+			return dig10 == calculaDigitoVerificador(soma10) && dig11 == calculaDigitoVerificador(soma11);
+		}
+
+		@Override
+		public boolean isCNPJ(ByteBuffer cnpj, int index) {
+			if (cnpj == null || index < 0 || index > cnpj.limit() - TAMANHO_CNPJ) {
+				return false;
+			}
+			long inicio = palavra(cnpj, index);
+			long fim = palavra(cnpj, index + TAMANHO_CNPJ - BYTES_POR_PALAVRA);
+			if ((alfanumericos(inicio) & alfanumericos(fim)) != ALTOS || repetido(inicio, fim)) {
+				return false;
+			}
+			inicio -= ZEROS_ASCII;
+			fim -= ZEROS_ASCII;
+			int dig13 = (int) (fim >>> 48) & 0xFF;
+			int dig14 = (int) (fim >>> 56);
+			int soma13 = somaPonderada(inicio, PESOS_CNPJ_13_0_A_3) + somaPonderada(inicio >>> 32, PESOS_CNPJ_13_4_A_7)
+					+ somaPonderada(fim >>> 16, PESOS_CNPJ_13_8_A_11);
+			int soma14 = somaPonderada(inicio, PESOS_CNPJ_14_0_A_3) + somaPonderada(inicio >>> 32, PESOS_CNPJ_14_4_A_7)
+					+ somaPonderada(fim >>> 16, PESOS_CNPJ_14_8_A_11) + dig13 * 2;
+			return dig13 == calculaDigitoVerificador(soma13) && dig14 == calculaDigitoVerificador(soma14);
+		}
+	};
+
+	/** Propriedade de sistema com o nome do motor padrao. */
+	public static final String PROPRIEDADE = "br.com.contmatic.util.motorDeValidacao";
+
+	private static final int BYTES_POR_PALAVRA = 8;
+
+	private static final long UNS = 0x0101010101010101L;
+
+	private static final long ALTOS = 0x8080808080808080L;
+
+	private static final long ZEROS_ASCII = '0' * UNS;
+
+	private static final long PESOS_CPF_0_A_3 = pesos(10, 9, 8, 7);
+
+	private static final long PESOS_CPF_4_A_7 = pesos(6, 5, 4, 3);
+
+	private static final long PESOS_CNPJ_13_0_A_3 = pesos(Validate.PESOS_PRIMEIRO_DIGITO_CNPJ, 0);
+
+	private static final long PESOS_CNPJ_13_4_A_7 = pesos(Validate.PESOS_PRIMEIRO_DIGITO_CNPJ, 4);
+
+	private static final long PESOS_CNPJ_13_8_A_11 = pesos(Validate.PESOS_PRIMEIRO_DIGITO_CNPJ, 8);
+
+	private static final long PESOS_CNPJ_14_0_A_3 = pesos(Validate.PESOS_SEGUNDO_DIGITO_CNPJ, 0);
+
+	private static final long PESOS_CNPJ_14_4_A_7 = pesos(Validate.PESOS_SEGUNDO_DIGITO_CNPJ, 4);
+
+	private static final long PESOS_CNPJ_14_8_A_11 = pesos(Validate.PESOS_SEGUNDO_DIGITO_CNPJ, 8);
+
+	private static volatile MotorDeValidacao padrao = doSistema();
+
+	/**
+	 * Valida os 11 bytes ASCII a partir da posicao absoluta {@code index} do
+	 * buffer como um CPF, sem alterar a posicao do buffer.
+	 *
+	 * @param cpf   o buffer de bytes ASCII
+	 * @param index a posicao inicial do CPF
+	 * @return true, se for um CPF valido
+	 */
+	public abstract boolean isCPF(ByteBuffer cpf, int index);
+
+	/**
+	 * Valida os 14 bytes ASCII a partir da posicao absoluta {@code index} do
+	 * buffer como um CNPJ numerico ou alfanumerico, sem alterar a posicao do
+	 * buffer.
+	 *
+	 * @param cnpj  o buffer de bytes ASCII
+	 * @param index a posicao inicial do CNPJ
+	 * @return true, se for um CNPJ valido
+	 */
+	public abstract boolean isCNPJ(ByteBuffer cnpj, int index);
+
+	public static MotorDeValidacao getPadrao() {
+		return padrao;
+	}
+
+	public static void setPadrao(MotorDeValidacao motor) {
+		if (motor == null) {
+			throw new IllegalArgumentException(MOTOR_DE_VALIDACAO_VAZIO);
+		}
+		padrao = motor;
+	}
+
+	static MotorDeValidacao doSistema() {
+		String nome = System.getProperty(PROPRIEDADE, SWAR.name());
+		for (MotorDeValidacao motor : values()) {
+			if (motor.name().equalsIgnoreCase(nome.trim())) {
+				return motor;
+			}
+		}
+		return ESCALAR;
+	}
+
+	/** Le 8 bytes com o primeiro byte nos bits menos significativos. */
+	private static long palavra(ByteBuffer buffer, int index) {
+		long palavra = buffer.getLong(index);
+		return buffer.order() == ByteOrder.LITTLE_ENDIAN ? palavra : Long.reverseBytes(palavra);
+	}
+
+	/**
+	 * Marca com o bit alto os bytes entre {@code minimo} e {@code maximo}.
+	 * Bytes com o bit alto ligado nunca sao marcados; o vai-um que eles geram
+	 * pode afetar o byte seguinte, mas a palavra ja e invalida por causa deles.
+	 */
+	private static long entre(long palavra, char minimo, char maximo) {
+		long maiorOuIgual = palavra + (0x80 - minimo) * UNS;
+		long menorOuIgual = ~(palavra + (0x7F - maximo) * UNS);
+		return maiorOuIgual & menorOuIgual & ~palavra & ALTOS;
+	}
+
+	private static long digitos(long palavra) {
+		return entre(palavra, '0', '9');
+	}
+
+	private static long alfanumericos(long palavra) {
+		return entre(palavra, '0', '9') | entre(palavra, 'A', 'Z');
+	}
+
+	private static boolean repetido(long inicio, long fim) {
+		long primeiro = (inicio & 0xFF) * UNS;
+		return ((inicio ^ primeiro) | (fim ^ primeiro)) == 0;
+	}
+
+	/**
+	 * Espalha os 4 bytes menos significativos em faixas de 16 bits e multiplica
+	 * pelos pesos: a faixa mais alta do produto e a soma ponderada. Cada faixa
+	 * fica abaixo de 4 * 42 * 11, entao nao ha vai-um entre as faixas.
+	 */
+	private static int somaPonderada(long valores, long pesos) {
+		long faixas = valores & 0xFFFFFFFFL;
+		faixas = (faixas | (faixas << 16)) & 0x0000FFFF0000FFFFL;
+		faixas = (faixas | (faixas << 8)) & 0x00FF00FF00FF00FFL;
+		return (int) ((faixas * pesos) >>> 48);
+	}
+
+	/** Empacota os pesos de 4 posicoes consecutivas na ordem esperada por {@link #somaPonderada}. */
+	private static long pesos(int primeiro, int segundo, int terceiro, int quarto) {
+		return quarto | (long) terceiro << 16 | (long) segundo << 32 | (long) primeiro << 48;
+	}
+
+	private static long pesos(int[] pesos, int inicio) {
+		return pesos(pesos[inicio], pesos[inicio + 1], pesos[inicio + 2], pesos[inicio + 3]);
+	}
+
+}
@@ -0,0 +1,22 @@
+package br.com.contmatic.util;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The Class NumerosValidator.
+ *
+ * @author gabriel.santos
+ */
+public class NumerosValidator implements ConstraintValidator<Numeros, CharSequence> {
+
+	@Override
+	public void initialize(Numeros constraintAnnotation) {
+	}
+
+	@Override
+	public boolean isValid(CharSequence texto, ConstraintValidatorContext context) {
+		return texto == null || ClasseDeCaracteres.NUMEROS.corresponde(texto);
+	}
+
+}
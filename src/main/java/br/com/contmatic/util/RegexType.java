@@ -4,9 +4,6 @@ import static br.com.contmatic.util.Constantes.NAO_ACEITA_CARACTERES_ESPECIAIS;
 import static br.com.contmatic.util.Constantes.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM;
 import static br.com.contmatic.util.Constantes.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * The Class RegexType.
  * 
@@ -46,14 +43,19 @@ public final class RegexType {
 		return !validaEspacosIncorretosECaracteresEspeciais(string);
 	}
 	
+	/**
+	 * Verifica caracteres especiais, espacos no inicio ou no fim e espacos
+	 * repetidos em uma unica passada, com {@link VerificadorDeTexto}.
+	 *
+	 * @param string o texto
+	 * @return true, se o texto nao violar nenhuma regra
+	 * @throws IllegalArgumentException com a mensagem da primeira regra violada
+	 */
 	public static boolean validaEspacosIncorretosECaracteresEspeciais(String string) {
-		try {
-			verificaSeNaoTemCaracteresEspeciais(string);
-			verificaSeNaoTemEspacosNoInicioOuFim(string);
-			verificaSeNaoTemMaisQueUmEspacoEntreAsPalavras(string);
-		} catch (IllegalArgumentException e) {
-			throw e;
-		} 
+		int codigo = VerificadorDeTexto.verifica(string);
+		if (codigo != CodigoDeErro.OK) {
+			throw new IllegalArgumentException(CodigoDeErro.mensagem(codigo));
+		}
 		return true;
 	}
 	
@@ -64,9 +66,7 @@ public final class RegexType {
 	}
 
 	public static boolean contemCaracteresEspeciais(String string) {
-		Pattern regexCaracteresEspeciais = Pattern.compile(CARACTERES_ESPECIAIS);
-		Matcher matcherCaracteresEspeciais = regexCaracteresEspeciais.matcher(string);
-		return matcherCaracteresEspeciais.find();
+		return RegistroDeRegex.encontra(CARACTERES_ESPECIAIS, string);
 	}
 	
 	public static void verificaSeNaoTemEspacosNoInicioOuFim(String string) {
@@ -75,7 +75,7 @@ public final class RegexType {
 		}
 	}
 
-	private static boolean contemEspacosNoInicioOuFim(String string) {
+	static boolean contemEspacosNoInicioOuFim(String string) {
 		String stringSemTrim = string;
 		String stringComTrim = string.trim();
 		return !stringSemTrim.equals(stringComTrim);
@@ -88,10 +88,7 @@ public final class RegexType {
 	}
 
 	public static boolean contemMaisQueUmEspacoEntreAsPalavras(String string) {
-		String patternStr = ESPACOS_DUPLICADOS;
-		Pattern pattern = Pattern.compile(patternStr);
-		Matcher matcher = pattern.matcher(string);
-		return matcher.find();
+		return RegistroDeRegex.encontra(ESPACOS_DUPLICADOS, string);
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.REGEX_NAO_REGISTRADA;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registro com todas as expressoes de {@link RegexType} compiladas uma unica
+ * vez, na inicializacao da classe.
+ *
+ * Cada thread reaproveita um {@link Matcher} por expressao; o matcher nunca sai
+ * desta classe e e reiniciado com um texto vazio depois do uso, para nao
+ * segurar a referencia ao texto validado. Um contador por expressao registra
+ * quantas vezes ela foi executada.
+ *
+ * @author gabriel.santos
+ */
+public final class RegistroDeRegex {
+
+	private static final Map<String, Integer> INDICES = new HashMap<>();
+
+	private static final Pattern[] PADROES;
+
+	private static final LongAdder[] EXECUCOES;
+
+	private static final ThreadLocal<Matcher[]> MATCHERS;
+
+	static {
+		Map<String, Pattern> padroes = compilaConstantes();
+		PADROES = padroes.values().toArray(new Pattern[padroes.size()]);
+		EXECUCOES = new LongAdder[PADROES.length];
+		for (int i = 0; i < PADROES.length; i++) {
+			INDICES.put(PADROES[i].pattern(), i);
+			EXECUCOES[i] = new LongAdder();
+		}
+		MATCHERS = ThreadLocal.withInitial(() -> new Matcher[PADROES.length]);
+	}
+
+	private RegistroDeRegex() {
+	}
+
+	/**
+	 * O {@link Pattern} compilado de uma constante de {@link RegexType}.
+	 *
+	 * @param regex a constante de {@link RegexType}
+	 * @return o padrao compilado
+	 * @throws IllegalArgumentException se a expressao nao for de {@link RegexType}
+	 */
+	public static Pattern getPadrao(String regex) {
+		return PADROES[indice(regex)];
+	}
+
+	/**
+	 * Procura a expressao em qualquer ponto do texto, como {@link Matcher#find()}.
+	 *
+	 * @param regex a constante de {@link RegexType}
+	 * @param texto o texto
+	 * @return true, se a expressao for encontrada
+	 */
+	public static boolean encontra(String regex, CharSequence texto) {
+		int indice = indice(regex);
+		Matcher matcher = matcher(indice, texto);
+		try {
+			return matcher.find();
+		} finally {
+			matcher.reset("");
+		}
+	}
+
+	/**
+	 * Verifica se o texto inteiro corresponde a expressao, como
+	 * {@link Matcher#matches()}.
+	 *
+	 * @param regex a constante de {@link RegexType}
+	 * @param texto o texto
+	 * @return true, se o texto corresponder a expressao
+	 */
+	public static boolean corresponde(String regex, CharSequence texto) {
+		int indice = indice(regex);
+		Matcher matcher = matcher(indice, texto);
+		try {
+			return matcher.matches();
+		} finally {
+			matcher.reset("");
+		}
+	}
+
+	/**
+	 * Quantas vezes a expressao foi executada desde a inicializacao.
+	 *
+	 * @param regex a constante de {@link RegexType}
+	 * @return a quantidade de execucoes
+	 */
+	public static long getExecucoes(String regex) {
+		return EXECUCOES[indice(regex)].sum();
+	}
+
+	/**
+	 * Quantidade de execucoes de todas as expressoes registradas.
+	 *
+	 * @return as execucoes, indexadas pela expressao
+	 */
+	public static Map<String, Long> getExecucoes() {
+		Map<String, Long> execucoes = new LinkedHashMap<>();
+		for (int i = 0; i < PADROES.length; i++) {
+			execucoes.put(PADROES[i].pattern(), EXECUCOES[i].sum());
+		}
+		return Collections.unmodifiableMap(execucoes);
+	}
+
+	private static Matcher matcher(int indice, CharSequence texto) {
+		EXECUCOES[indice].increment();
+		Matcher[] matchers = MATCHERS.get();
+		Matcher matcher = matchers[indice];
+		if (matcher == null) {
+			matcher = PADROES[indice].matcher(texto);
+			matchers[indice] = matcher;
+			return matcher;
+		}
+		return matcher.reset(texto);
+	}
+
+	private static int indice(String regex) {
+		Integer indice = regex == null ? null : INDICES.get(regex);
+		if (indice == null) {
+			throw new IllegalArgumentException(REGEX_NAO_REGISTRADA);
+		}
+		return indice;
+	}
+
+	private static Map<String, Pattern> compilaConstantes() {
+		Map<String, Pattern> padroes = new LinkedHashMap<>();
+		for (Field campo : RegexType.class.getFields()) {
+			int modificadores = campo.getModifiers();
+			if (Modifier.isStatic(modificadores) && Modifier.isFinal(modificadores)
+					&& campo.getType() == String.class) {
+				String regex = constante(campo);
+				padroes.computeIfAbsent(regex, Pattern::compile);
+			}
+		}
+		return padroes;
+	}
+
+	private static String constante(Field campo) {
+		try {
+			return (String) campo.get(null);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.OBJETO_COM_ERROS;
+
+/**
+ * Resultado de um construtor de entidade: o objeto construido ou todos os
+ * erros encontrados.
+ *
+ * @param <T> o tipo da entidade
+ * @author gabriel.santos
+ */
+public final class ResultadoDeValidacao<T> {
+
+	private final T objeto;
+
+	private final ErrosDeValidacao erros;
+
+	private ResultadoDeValidacao(T objeto, ErrosDeValidacao erros) {
+		this.objeto = objeto;
+		this.erros = erros;
+	}
+
+	/**
+	 * Cria o resultado de uma validacao sem erros.
+	 *
+	 * @param <T>    o tipo da entidade
+	 * @param objeto o objeto construido
+	 * @param erros  o acumulador vazio
+	 * @return o resultado valido
+	 */
+	public static <T> ResultadoDeValidacao<T> valido(T objeto, ErrosDeValidacao erros) {
+		return new ResultadoDeValidacao<>(objeto, erros);
+	}
+
+	/**
+	 * Cria o resultado de uma validacao com erros.
+	 *
+	 * @param <T>   o tipo da entidade
+	 * @param erros os erros acumulados
+	 * @return o resultado invalido
+	 */
+	public static <T> ResultadoDeValidacao<T> invalido(ErrosDeValidacao erros) {
+		return new ResultadoDeValidacao<>(null, erros);
+	}
+
+	public boolean isValido() {
+		return erros.isVazio();
+	}
+
+	/**
+	 * @return o objeto construido
+	 * @throws IllegalStateException se houver erros
+	 */
+	public T getObjeto() {
+		if (!isValido()) {
+			throw new IllegalStateException(OBJETO_COM_ERROS);
+		}
+		return objeto;
+	}
+
+	public ErrosDeValidacao getErros() {
+		return erros;
+	}
+
+	@Override
+	public String toString() {
+		return isValido() ? String.valueOf(objeto) : erros.toString();
+	}
+
+}
@@ -0,0 +1,22 @@
+package br.com.contmatic.util;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * The Class SiteValidoValidator.
+ *
+ * @author gabriel.santos
+ */
+public class SiteValidoValidator implements ConstraintValidator<SiteValido, CharSequence> {
+
+	@Override
+	public void initialize(SiteValido constraintAnnotation) {
+	}
+
+	@Override
+	public boolean isValid(CharSequence texto, ConstraintValidatorContext context) {
+		return texto == null || Automato.URL.corresponde(texto);
+	}
+
+}
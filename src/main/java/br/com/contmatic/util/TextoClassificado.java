@@ -0,0 +1,40 @@
+package br.com.contmatic.util;
+
+/**
+ * Texto que pode responder, sem percorrer os caracteres de novo, as regras dos
+ * validadores de {@link Letras}, {@link LetrasNumeros} e {@link CepValido}.
+ * Os tipos ja validados na criacao, como os nomes e os CEPs das entidades,
+ * sobrescrevem as respostas que guardaram; as demais sao calculadas.
+ *
+ * @author gabriel.santos
+ */
+public interface TextoClassificado extends CharSequence {
+
+	/**
+	 * Verifica se o texto tem apenas letras.
+	 *
+	 * @return true, se o texto atende {@link ClasseDeCaracteres#LETRAS}
+	 */
+	default boolean isLetras() {
+		return ClasseDeCaracteres.LETRAS.corresponde(this);
+	}
+
+	/**
+	 * Verifica se o texto tem apenas letras e numeros.
+	 *
+	 * @return true, se o texto atende {@link ClasseDeCaracteres#LETRAS_NUMEROS}
+	 */
+	default boolean isLetrasNumeros() {
+		return ClasseDeCaracteres.LETRAS_NUMEROS.corresponde(this);
+	}
+
+	/**
+	 * Verifica se o texto e um CEP.
+	 *
+	 * @return true, se o texto atende {@link Automato#CEP}
+	 */
+	default boolean isCep() {
+		return Automato.CEP.corresponde(this);
+	}
+
+}
@@ -0,0 +1,91 @@
+package br.com.contmatic.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validacao paralela das unidades de um lote de grafos de objetos.
+ *
+ * Cada unidade e um objeto com o seu validador gerado: a raiz de um grafo e
+ * validada com os visitados que ja contem os filhos separados, para que a
+ * cascata pule apenas esses filhos, e cada filho com a propria cascata. Cada tarefa
+ * escreve apenas as posicoes do seu intervalo no vetor de resultados, entao
+ * nao precisa de sincronizacao.
+ *
+ * @author gabriel.santos
+ */
+final class ValidacaoDeGrafos extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Abaixo dessa quantidade de unidades a validacao roda na thread chamadora. */
+	static final int LIMIAR_SEQUENCIAL = 256;
+
+	private final Object[] objetos;
+
+	private final ValidadorGerado<Object>[] validadores;
+
+	/** Os visitados de cada raiz, ou null nas posicoes dos filhos. */
+	private final Set<Object>[] raizes;
+
+	private final List<String>[] resultados;
+
+	private final int limiar;
+
+	private final int inicio;
+
+	private final int fim;
+
+	ValidacaoDeGrafos(Object[] objetos, ValidadorGerado<Object>[] validadores, Set<Object>[] raizes,
+			List<String>[] resultados, int limiar, int inicio, int fim) {
+		this.objetos = objetos;
+		this.validadores = validadores;
+		this.raizes = raizes;
+		this.resultados = resultados;
+		this.limiar = limiar;
+		this.inicio = inicio;
+		this.fim = fim;
+	}
+
+	@Override
+	protected void compute() {
+		if (fim - inicio <= limiar) {
+			valida(objetos, validadores, raizes, resultados, inicio, fim);
+			return;
+		}
+		int meio = (inicio + fim) >>> 1;
+		invokeAll(new ValidacaoDeGrafos(objetos, validadores, raizes, resultados, limiar, inicio, meio),
+				new ValidacaoDeGrafos(objetos, validadores, raizes, resultados, limiar, meio, fim));
+	}
+
+	/**
+	 * Valida as unidades do intervalo reaproveitando a lista de mensagens e o
+	 * conjunto de visitados; as unidades sem violacoes ficam com a lista vazia
+	 * compartilhada.
+	 */
+	static void valida(Object[] objetos, ValidadorGerado<Object>[] validadores, Set<Object>[] raizes,
+			List<String>[] resultados, int inicio, int fim) {
+		List<String> mensagens = new ArrayList<>();
+		Set<Object> visitados = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		for (int i = inicio; i < fim; i++) {
+			Set<Object> cascata = raizes[i];
+			if (cascata == null) {
+				visitados.clear();
+				visitados.add(objetos[i]);
+				cascata = visitados;
+			}
+			validadores[i].valida(objetos[i], mensagens, cascata, ModoDeValidacao.COMPLETA);
+			if (mensagens.isEmpty()) {
+				resultados[i] = Collections.emptyList();
+			} else {
+				resultados[i] = new ArrayList<>(mensagens);
+				mensagens.clear();
+			}
+		}
+	}
+
+}
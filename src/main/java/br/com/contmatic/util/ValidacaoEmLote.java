@@ -0,0 +1,77 @@
+package br.com.contmatic.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Validacao em lote de documentos com largura fixa dentro de um buffer ASCII.
+ *
+ * Cada tarefa cobre um intervalo de linhas alinhado em 64, de forma que escreve
+ * apenas as suas proprias palavras do vetor de bits e nao precisa de
+ * sincronizacao. Todas as tarefas usam o mesmo {@link MotorDeValidacao},
+ * escolhido no inicio do lote.
+ *
+ * @author gabriel.santos
+ */
+final class ValidacaoEmLote extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	/** Abaixo dessa quantidade de linhas a validacao roda na thread chamadora. */
+	static final int LIMIAR_SEQUENCIAL = 1 << 15;
+
+	private static final int BITS_POR_PALAVRA = 64;
+
+	private final byte[] buffer;
+
+	private final int offset;
+
+	private final int stride;
+
+	private final boolean cnpj;
+
+	private final MotorDeValidacao motor;
+
+	private final long[] palavras;
+
+	private final int inicio;
+
+	private final int fim;
+
+	ValidacaoEmLote(byte[] buffer, int offset, int stride, boolean cnpj, MotorDeValidacao motor, long[] palavras,
+			int inicio, int fim) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.stride = stride;
+		this.cnpj = cnpj;
+		this.motor = motor;
+		this.palavras = palavras;
+		this.inicio = inicio;
+		this.fim = fim;
+	}
+
+	@Override
+	protected void compute() {
+		if (fim - inicio <= LIMIAR_SEQUENCIAL) {
+			valida(buffer, offset, stride, cnpj, motor, palavras, inicio, fim);
+			return;
+		}
+		int meio = ((inicio + fim) >>> 1) & -BITS_POR_PALAVRA;
+		invokeAll(new ValidacaoEmLote(buffer, offset, stride, cnpj, motor, palavras, inicio, meio),
+				new ValidacaoEmLote(buffer, offset, stride, cnpj, motor, palavras, meio, fim));
+	}
+
+	static void valida(byte[] buffer, int offset, int stride, boolean cnpj, MotorDeValidacao motor, long[] palavras,
+			int inicio, int fim) {
+		ByteBuffer documentos = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+		int posicao = offset + inicio * stride;
+		for (int linha = inicio; linha < fim; linha++, posicao += stride) {
+			boolean valido = cnpj ? motor.isCNPJ(documentos, posicao) : motor.isCPF(documentos, posicao);
+			if (valido) {
+				palavras[linha >>> 6] |= 1L << linha;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,187 @@
+package br.com.contmatic.util;
+
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Suporte dos validadores gerados por
+ * {@link br.com.contmatic.processador.ProcessadorDeValidadores}.
+ *
+ * Os metodos de interpolacao e de leitura de anotacoes sao chamados apenas na
+ * inicializacao das classes geradas; na validacao sao usados somente
+ * {@link #isUrl} e {@link #visitados}.
+ *
+ * @author gabriel.santos
+ */
+public final class ValidacaoGerada {
+
+	private static final String[] PACOTES_DE_MENSAGENS = { "ValidationMessages",
+			"org.hibernate.validator.ValidationMessages" };
+
+	private static final int PROFUNDIDADE_MAXIMA = 10;
+
+	private ValidacaoGerada() {
+	}
+
+	/**
+	 * Interpola a mensagem de uma restricao como o Hibernate Validator: os
+	 * parametros entre chaves sao procurados nos pacotes de mensagens,
+	 * recursivamente, e depois nos atributos da restricao.
+	 *
+	 * @param modelo    a mensagem da restricao
+	 * @param atributos pares de nome e valor dos atributos da restricao
+	 * @return a mensagem interpolada
+	 */
+	public static String interpola(String modelo, Object... atributos) {
+		Map<String, String> valores = new HashMap<>();
+		for (int i = 0; i + 1 < atributos.length; i += 2) {
+			valores.put(String.valueOf(atributos[i]), String.valueOf(atributos[i + 1]));
+		}
+		String mensagem = modelo;
+		for (int i = 0; i < PROFUNDIDADE_MAXIMA; i++) {
+			String resolvida = substitui(mensagem, ValidacaoGerada::doPacoteDeMensagens);
+			if (resolvida.equals(mensagem)) {
+				break;
+			}
+			mensagem = resolvida;
+		}
+		return removeEscapes(substitui(mensagem, valores::get));
+	}
+
+	/**
+	 * Verifica a URL como o {@code URLValidator} do Hibernate Validator.
+	 *
+	 * @param valor     o texto
+	 * @param protocolo o protocolo exigido, ou vazio
+	 * @param host      o host exigido, ou vazio
+	 * @param porta     a porta exigida, ou -1
+	 * @return true, se o texto for nulo, vazio ou uma URL valida
+	 */
+	public static boolean isUrl(CharSequence valor, String protocolo, String host, int porta) {
+		if (valor == null || valor.length() == 0) {
+			return true;
+		}
+		URL url;
+		try {
+			url = new URL(valor.toString());
+		} catch (MalformedURLException e) {
+			return false;
+		}
+		if (!protocolo.isEmpty() && !protocolo.equals(url.getProtocol())) {
+			return false;
+		}
+		if (!host.isEmpty() && !host.equals(url.getHost())) {
+			return false;
+		}
+		return porta == -1 || porta == url.getPort();
+	}
+
+	/**
+	 * Cria o conjunto, por identidade, dos objetos ja validados numa cascata.
+	 *
+	 * @param raiz o objeto validado primeiro
+	 * @return o conjunto com a raiz
+	 */
+	public static Set<Object> visitados(Object raiz) {
+		Set<Object> visitados = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+		visitados.add(raiz);
+		return visitados;
+	}
+
+	/**
+	 * Le a anotacao de um campo para inicializar o validador de uma restricao.
+	 *
+	 * @param <A>    o tipo da anotacao
+	 * @param classe a classe do campo
+	 * @param campo  o nome do campo
+	 * @param tipo   o tipo da anotacao
+	 * @param indice a posicao entre as anotacoes do mesmo tipo
+	 * @return a anotacao
+	 */
+	public static <A extends Annotation> A anotacaoDoCampo(Class<?> classe, String campo, Class<A> tipo, int indice) {
+		try {
+			return classe.getDeclaredField(campo).getAnnotationsByType(tipo)[indice];
+		} catch (NoSuchFieldException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Le a anotacao de um getter para inicializar o validador de uma restricao.
+	 *
+	 * @param <A>    o tipo da anotacao
+	 * @param classe a classe do getter
+	 * @param metodo o nome do getter
+	 * @param tipo   o tipo da anotacao
+	 * @param indice a posicao entre as anotacoes do mesmo tipo
+	 * @return a anotacao
+	 */
+	public static <A extends Annotation> A anotacaoDoMetodo(Class<?> classe, String metodo, Class<A> tipo, int indice) {
+		try {
+			return classe.getDeclaredMethod(metodo).getAnnotationsByType(tipo)[indice];
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String doPacoteDeMensagens(String chave) {
+		for (String pacote : PACOTES_DE_MENSAGENS) {
+			try {
+				ResourceBundle mensagens = ResourceBundle.getBundle(pacote, Locale.getDefault());
+				if (mensagens.containsKey(chave)) {
+					return mensagens.getString(chave);
+				}
+			} catch (MissingResourceException e) {
+				continue;
+			}
+		}
+		return null;
+	}
+
+	/** Troca cada {@code {parametro}} nao escapado pelo valor resolvido, se houver. */
+	private static String substitui(String texto, Function<String, String> resolve) {
+		StringBuilder resultado = new StringBuilder(texto.length());
+		int i = 0;
+		while (i < texto.length()) {
+			char c = texto.charAt(i);
+			if (c == '\\' && i + 1 < texto.length()) {
+				resultado.append(c).append(texto.charAt(i + 1));
+				i += 2;
+				continue;
+			}
+			int fim = c == '{' ? texto.indexOf('}', i) : -1;
+			String valor = fim > 0 ? resolve.apply(texto.substring(i + 1, fim)) : null;
+			if (valor == null) {
+				resultado.append(c);
+				i++;
+			} else {
+				resultado.append(valor);
+				i = fim + 1;
+			}
+		}
+		return resultado.toString();
+	}
+
+	private static String removeEscapes(String texto) {
+		StringBuilder resultado = new StringBuilder(texto.length());
+		for (int i = 0; i < texto.length(); i++) {
+			char c = texto.charAt(i);
+			if (c == '\\' && i + 1 < texto.length() && "{}$\\".indexOf(texto.charAt(i + 1)) >= 0) {
+				c = texto.charAt(++i);
+			}
+			resultado.append(c);
+		}
+		return resultado.toString();
+	}
+
+}
@@ -0,0 +1,271 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.CodigoDeErro.BOLETO_NEGATIVO;
+import static br.com.contmatic.util.CodigoDeErro.CEP_INCORRETO;
+import static br.com.contmatic.util.CodigoDeErro.CEP_INVALIDO;
+import static br.com.contmatic.util.CodigoDeErro.CNPJ_INVALIDO;
+import static br.com.contmatic.util.CodigoDeErro.CNPJ_VAZIO;
+import static br.com.contmatic.util.CodigoDeErro.CPF_INVALIDO;
+import static br.com.contmatic.util.CodigoDeErro.CPF_VAZIO;
+import static br.com.contmatic.util.CodigoDeErro.EMAIL_VAZIO;
+import static br.com.contmatic.util.CodigoDeErro.IDADE_MINIMA_MENSAGEM;
+import static br.com.contmatic.util.CodigoDeErro.ID_VAZIO;
+import static br.com.contmatic.util.CodigoDeErro.NOME_VAZIO;
+import static br.com.contmatic.util.CodigoDeErro.OK;
+import static br.com.contmatic.util.CodigoDeErro.PRECO_MINIMO_MENSAGEM;
+import static br.com.contmatic.util.CodigoDeErro.QUANTIDADE_MINIMA_MENSAGEM;
+import static br.com.contmatic.util.CodigoDeErro.SALARIO_MINIMO_MENSAGEM;
+import static br.com.contmatic.util.CodigoDeErro.SITE_VAZIO;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_CNPJ_GRANDE_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_CNPJ_PEQUENO_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_CPF_GRANDE_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_CPF_PEQUENO_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_EMAIL_GRANDE_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_EMAIL_PEQUENO_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_NOME_GRANDE_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_NOME_PEQUENO_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_SITE_GRANDE_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TAMANHO_DO_SITE_PEQUENO_DEMAIS;
+import static br.com.contmatic.util.CodigoDeErro.TELEFONE_PREENCHIDO_INCORRETAMENTE;
+import static br.com.contmatic.util.Constantes.CEP_SIZE;
+import static br.com.contmatic.util.Constantes.CNPJ_FORMATADO_SIZE;
+import static br.com.contmatic.util.Constantes.CNPJ_SIZE;
+import static br.com.contmatic.util.Constantes.CPF_FORMATADO_SIZE;
+import static br.com.contmatic.util.Constantes.CPF_SIZE;
+import static br.com.contmatic.util.Constantes.EMAIL_MAX_SIZE;
+import static br.com.contmatic.util.Constantes.EMAIL_MIN_SIZE;
+import static br.com.contmatic.util.Constantes.IDADE_MINIMA;
+import static br.com.contmatic.util.Constantes.ID_MINIMO;
+import static br.com.contmatic.util.Constantes.NOME_MAX_SIZE;
+import static br.com.contmatic.util.Constantes.NOME_MIN_SIZE;
+import static br.com.contmatic.util.Constantes.PRECO_MINIMO;
+import static br.com.contmatic.util.Constantes.QUANTIDADE_MINIMA;
+import static br.com.contmatic.util.Constantes.SALARIO_MINIMO;
+import static br.com.contmatic.util.Constantes.SITE_MAX_SIZE;
+import static br.com.contmatic.util.Constantes.SITE_MIN_SIZE;
+import static br.com.contmatic.util.Constantes.TEL_MAX_SIZE;
+import static br.com.contmatic.util.Constantes.TEL_MIN_SIZE;
+
+import java.math.BigDecimal;
+
+/**
+ * Validacoes dos campos das entidades que devolvem um {@link CodigoDeErro} em
+ * vez de lancar excecao.
+ *
+ * Cada metodo faz as mesmas verificacoes, na mesma ordem, que o setter
+ * correspondente, e devolve {@link CodigoDeErro#OK} ou o codigo da primeira
+ * que falhou. Nenhuma excecao nem mensagem e criada; a mensagem de
+ * {@link Constantes} pode ser obtida depois com
+ * {@link CodigoDeErro#mensagem(int)}.
+ *
+ * @author gabriel.santos
+ */
+public final class ValidacaoSemExcecao {
+
+	private ValidacaoSemExcecao() {
+	}
+
+	/**
+	 * Valida um CPF como {@code Cliente.setCpf} e {@code Funcionario.setCpf}.
+	 *
+	 * @param cpf o CPF com ou sem mascara
+	 * @return o codigo de erro
+	 */
+	public static int validaCpf(String cpf) {
+		if (cpf == null || cpf.trim().isEmpty()) {
+			return CPF_VAZIO;
+		}
+		if (cpf.length() < CPF_SIZE) {
+			return TAMANHO_DO_CPF_PEQUENO_DEMAIS;
+		}
+		if (cpf.length() > CPF_SIZE && cpf.length() != CPF_FORMATADO_SIZE) {
+			return TAMANHO_DO_CPF_GRANDE_DEMAIS;
+		}
+		return Validate.isCPFComOuSemMascara(cpf) ? OK : CPF_INVALIDO;
+	}
+
+	/**
+	 * Valida um CNPJ como {@code Empresa.setCnpj} e {@code Fornecedor.setCnpj}.
+	 *
+	 * @param cnpj o CNPJ numerico ou alfanumerico, com ou sem mascara
+	 * @return o codigo de erro
+	 */
+	public static int validaCnpj(String cnpj) {
+		if (cnpj == null || cnpj.trim().isEmpty()) {
+			return CNPJ_VAZIO;
+		}
+		if (cnpj.length() < CNPJ_SIZE) {
+			return TAMANHO_DO_CNPJ_PEQUENO_DEMAIS;
+		}
+		if (cnpj.length() > CNPJ_SIZE && cnpj.length() != CNPJ_FORMATADO_SIZE) {
+			return TAMANHO_DO_CNPJ_GRANDE_DEMAIS;
+		}
+		return Validate.isCNPJComOuSemMascara(cnpj) ? OK : CNPJ_INVALIDO;
+	}
+
+	/**
+	 * Valida um CEP como {@code Endereco.setCep}, incluindo a regra de
+	 * {@link CepValido}.
+	 *
+	 * @param cep o CEP
+	 * @return o codigo de erro
+	 */
+	public static int validaCep(String cep) {
+		if (cep == null || cep.trim().isEmpty() || cep.length() != CEP_SIZE) {
+			return CEP_INCORRETO;
+		}
+		int codigo = validaEspacosIncorretosECaracteresEspeciais(cep);
+		if (codigo != OK) {
+			return codigo;
+		}
+		return Automato.CEP.corresponde(cep) ? OK : CEP_INVALIDO;
+	}
+
+	/**
+	 * Valida o numero de um telefone como {@code Telefone.setNumero}.
+	 *
+	 * @param numero o numero do telefone, sem DDD
+	 * @return o codigo de erro
+	 */
+	public static int validaTelefone(String numero) {
+		if (numero == null || numero.trim().isEmpty() || numero.length() < TEL_MIN_SIZE
+				|| numero.length() > TEL_MAX_SIZE) {
+			return TELEFONE_PREENCHIDO_INCORRETAMENTE;
+		}
+		return OK;
+	}
+
+	/**
+	 * Valida um nome como os setters de nome das entidades.
+	 *
+	 * @param nome o nome
+	 * @return o codigo de erro
+	 */
+	public static int validaNome(String nome) {
+		if (nome == null || nome.trim().isEmpty()) {
+			return NOME_VAZIO;
+		}
+		if (nome.length() < NOME_MIN_SIZE) {
+			return TAMANHO_DO_NOME_PEQUENO_DEMAIS;
+		}
+		if (nome.length() > NOME_MAX_SIZE) {
+			return TAMANHO_DO_NOME_GRANDE_DEMAIS;
+		}
+		return validaEspacosIncorretosECaracteresEspeciais(nome);
+	}
+
+	/**
+	 * Valida um site como {@code Empresa.setSite}.
+	 *
+	 * @param site o site
+	 * @return o codigo de erro
+	 */
+	public static int validaSite(String site) {
+		if (site == null || site.trim().isEmpty()) {
+			return SITE_VAZIO;
+		}
+		if (site.length() < SITE_MIN_SIZE) {
+			return TAMANHO_DO_SITE_PEQUENO_DEMAIS;
+		}
+		if (site.length() > SITE_MAX_SIZE) {
+			return TAMANHO_DO_SITE_GRANDE_DEMAIS;
+		}
+		return OK;
+	}
+
+	/**
+	 * Valida um e-mail como {@code Cliente.setEmail}.
+	 *
+	 * @param email o e-mail
+	 * @return o codigo de erro
+	 */
+	public static int validaEmail(String email) {
+		if (email == null || email.trim().isEmpty()) {
+			return EMAIL_VAZIO;
+		}
+		if (email.length() < EMAIL_MIN_SIZE) {
+			return TAMANHO_DO_EMAIL_PEQUENO_DEMAIS;
+		}
+		if (email.length() > EMAIL_MAX_SIZE) {
+			return TAMANHO_DO_EMAIL_GRANDE_DEMAIS;
+		}
+		return OK;
+	}
+
+	/**
+	 * Valida o valor do boleto como {@code Cliente.setBoleto}. Um valor nulo,
+	 * que no setter causaria {@link NullPointerException}, devolve o mesmo
+	 * codigo de um valor abaixo do minimo.
+	 *
+	 * @param boleto o valor do boleto
+	 * @return o codigo de erro
+	 */
+	public static int validaBoleto(BigDecimal boleto) {
+		return boleto == null || boleto.doubleValue() < 1 ? BOLETO_NEGATIVO : OK;
+	}
+
+	/**
+	 * Valida a idade como {@code Funcionario.setIdade}.
+	 *
+	 * @param idade a idade
+	 * @return o codigo de erro
+	 */
+	public static int validaIdade(Integer idade) {
+		return idade == null || idade < IDADE_MINIMA ? IDADE_MINIMA_MENSAGEM : OK;
+	}
+
+	/**
+	 * Valida o salario como {@code Funcionario.setSalario}; nulo e tratado como
+	 * abaixo do minimo.
+	 *
+	 * @param salario o salario
+	 * @return o codigo de erro
+	 */
+	public static int validaSalario(BigDecimal salario) {
+		return salario == null || salario.doubleValue() < SALARIO_MINIMO ? SALARIO_MINIMO_MENSAGEM : OK;
+	}
+
+	/**
+	 * Valida o id como {@code Produto.setId}.
+	 *
+	 * @param id o id
+	 * @return o codigo de erro
+	 */
+	public static int validaId(Integer id) {
+		return id == null || id < ID_MINIMO ? ID_VAZIO : OK;
+	}
+
+	/**
+	 * Valida a quantidade como {@code Produto.setQuantidade}; nula e tratada
+	 * como abaixo do minimo.
+	 *
+	 * @param quantidade a quantidade
+	 * @return o codigo de erro
+	 */
+	public static int validaQuantidade(Integer quantidade) {
+		return quantidade == null || quantidade < QUANTIDADE_MINIMA ? QUANTIDADE_MINIMA_MENSAGEM : OK;
+	}
+
+	/**
+	 * Valida o preco como {@code Produto.setPreco}; nulo e tratado como abaixo
+	 * do minimo.
+	 *
+	 * @param preco o preco
+	 * @return o codigo de erro
+	 */
+	public static int validaPreco(BigDecimal preco) {
+		return preco == null || preco.doubleValue() < PRECO_MINIMO ? PRECO_MINIMO_MENSAGEM : OK;
+	}
+
+	/**
+	 * Equivalente sem excecao de
+	 * {@link RegexType#validaEspacosIncorretosECaracteresEspeciais(String)}.
+	 *
+	 * @param string o texto
+	 * @return o codigo de erro
+	 */
+	public static int validaEspacosIncorretosECaracteresEspeciais(String string) {
+		return VerificadorDeTexto.verifica(string);
+	}
+
+}
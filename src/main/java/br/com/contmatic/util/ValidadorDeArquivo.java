@@ -0,0 +1,264 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.ARQUIVO_INVALIDO;
+import static br.com.contmatic.util.Validate.TAMANHO_CNPJ;
+import static br.com.contmatic.util.Validate.TAMANHO_CPF;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Validador de arquivos com um CPF ou CNPJ por linha.
+ *
+ * O arquivo e mapeado em memoria com {@link FileChannel#map} e dividido em
+ * segmentos validados em paralelo diretamente sobre os bytes mapeados. Cada
+ * segmento e responsavel pelas linhas que comecam dentro dele; linhas com 11
+ * caracteres sao validadas como CPF, com 14 como CNPJ, e as demais sao
+ * invalidas. Um {@code \r} antes da quebra de linha e ignorado. Os documentos
+ * sao validados pelo {@link MotorDeValidacao#getPadrao() motor padrao}.
+ *
+ * @author gabriel.santos
+ */
+public final class ValidadorDeArquivo {
+
+	/** Tamanho maximo de um segmento mapeado. */
+	static final long TAMANHO_MAXIMO_DO_SEGMENTO = 1L << 28;
+
+	/** Maior linha valida: um CNPJ seguido de {@code \r}. */
+	private static final int MAIOR_LINHA_VALIDA = TAMANHO_CNPJ + 1;
+
+	private static final byte QUEBRA_DE_LINHA = '\n';
+
+	private static final byte RETORNO_DE_CARRO = '\r';
+
+	private ValidadorDeArquivo() {
+	}
+
+	/**
+	 * Valida todas as linhas do arquivo.
+	 *
+	 * @param arquivo o arquivo com um documento por linha
+	 * @return as linhas invalidas, em ordem de posicao no arquivo
+	 * @throws IOException se o arquivo nao puder ser lido
+	 */
+	public static List<DocumentoInvalido> valida(Path arquivo) throws IOException {
+		return valida(arquivo, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Valida todas as linhas do arquivo usando o pool informado.
+	 *
+	 * @param arquivo o arquivo com um documento por linha
+	 * @param pool    o pool que executa os segmentos
+	 * @return as linhas invalidas, em ordem de posicao no arquivo
+	 * @throws IOException se o arquivo nao puder ser lido
+	 */
+	public static List<DocumentoInvalido> valida(Path arquivo, ForkJoinPool pool) throws IOException {
+		if (arquivo == null || pool == null) {
+			throw new IllegalArgumentException(ARQUIVO_INVALIDO);
+		}
+		try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+			long tamanho = canal.size();
+			if (tamanho == 0) {
+				return Collections.emptyList();
+			}
+			List<Segmento> segmentos = divide(canal, tamanho, pool.getParallelism());
+			List<Future<Segmento>> resultados = pool.invokeAll(segmentos);
+			return junta(resultados);
+		}
+	}
+
+	private static List<Segmento> divide(FileChannel canal, long tamanho, int paralelismo) {
+		long quantidade = Math.max(paralelismo, (tamanho + TAMANHO_MAXIMO_DO_SEGMENTO - 1) / TAMANHO_MAXIMO_DO_SEGMENTO);
+		long tamanhoDoSegmento = Math.max(MAIOR_LINHA_VALIDA + 1, (tamanho + quantidade - 1) / quantidade);
+		List<Segmento> segmentos = new ArrayList<>();
+		for (long inicio = 0; inicio < tamanho; inicio += tamanhoDoSegmento) {
+			segmentos.add(new Segmento(canal, tamanho, inicio, Math.min(tamanho, inicio + tamanhoDoSegmento)));
+		}
+		return segmentos;
+	}
+
+	private static List<DocumentoInvalido> junta(List<Future<Segmento>> resultados) throws IOException {
+		List<DocumentoInvalido> invalidos = new ArrayList<>();
+		long linhasAnteriores = 0;
+		for (Future<Segmento> resultado : resultados) {
+			Segmento segmento = obtem(resultado);
+			for (int i = 0; i < segmento.quantidadeDeInvalidos; i++) {
+				invalidos.add(new DocumentoInvalido(linhasAnteriores + segmento.linhasInvalidas[i] + 1,
+						segmento.offsetsInvalidos[i]));
+			}
+			linhasAnteriores += segmento.quantidadeDeLinhas;
+		}
+		return invalidos;
+	}
+
+	private static Segmento obtem(Future<Segmento> resultado) throws IOException {
+		try {
+			return resultado.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Segmento {@code [inicio, fim)} do arquivo. Sao mapeados tambem o byte
+	 * anterior, para saber se {@code inicio} e comeco de linha, e os bytes
+	 * seguintes necessarios para decidir a ultima linha do segmento.
+	 */
+	private static final class Segmento implements Callable<Segmento> {
+
+		private final FileChannel canal;
+
+		private final long tamanhoDoArquivo;
+
+		private final long inicio;
+
+		private final long fim;
+
+		private final MotorDeValidacao motor = MotorDeValidacao.getPadrao();
+
+		private long quantidadeDeLinhas;
+
+		private long[] linhasInvalidas = new long[16];
+
+		private long[] offsetsInvalidos = new long[16];
+
+		private int quantidadeDeInvalidos;
+
+		Segmento(FileChannel canal, long tamanhoDoArquivo, long inicio, long fim) {
+			this.canal = canal;
+			this.tamanhoDoArquivo = tamanhoDoArquivo;
+			this.inicio = inicio;
+			this.fim = fim;
+		}
+
+		@Override
+		public Segmento call() throws IOException {
+			long base = Math.max(0, inicio - 1);
+			long limite = Math.min(tamanhoDoArquivo, fim + MAIOR_LINHA_VALIDA + 1);
+			MappedByteBuffer buffer = canal.map(MapMode.READ_ONLY, base, limite - base);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			int posicao = (int) (inicio - base);
+			int fimRelativo = (int) (fim - base);
+			int limiteRelativo = (int) (limite - base);
+			if (inicio > 0 && buffer.get(posicao - 1) != QUEBRA_DE_LINHA) {
+				posicao = proximaLinha(buffer, posicao, limiteRelativo);
+			}
+			while (posicao < fimRelativo) {
+				int fimDaLinha = fimDaLinha(buffer, posicao, limiteRelativo);
+				if (!linhaValida(buffer, posicao, fimDaLinha)) {
+					registraInvalido(quantidadeDeLinhas, base + posicao);
+				}
+				quantidadeDeLinhas++;
+				posicao = proximaLinha(buffer, fimDaLinha, limiteRelativo);
+			}
+			return this;
+		}
+
+		private static int fimDaLinha(MappedByteBuffer buffer, int posicao, int limite) {
+			int maximo = Math.min(limite, posicao + MAIOR_LINHA_VALIDA + 1);
+			int i = posicao;
+			while (i < maximo && buffer.get(i) != QUEBRA_DE_LINHA) {
+				i++;
+			}
+			return i;
+		}
+
+		private static int proximaLinha(MappedByteBuffer buffer, int posicao, int limite) {
+			int i = posicao;
+			while (i < limite && buffer.get(i) != QUEBRA_DE_LINHA) {
+				i++;
+			}
+			return i == limite ? Integer.MAX_VALUE : i + 1;
+		}
+
+		private boolean linhaValida(MappedByteBuffer buffer, int posicao, int fimDaLinha) {
+			int tamanho = fimDaLinha - posicao;
+			if (tamanho > 0 && buffer.get(fimDaLinha - 1) == RETORNO_DE_CARRO) {
+				tamanho--;
+			}
+			if (tamanho == TAMANHO_CPF) {
+				return motor.isCPF(buffer, posicao);
+			}
+			if (tamanho == TAMANHO_CNPJ) {
+				return motor.isCNPJ(buffer, posicao);
+			}
+			return false;
+		}
+
+		private void registraInvalido(long linha, long offset) {
+			if (quantidadeDeInvalidos == linhasInvalidas.length) {
+				int novoTamanho = quantidadeDeInvalidos * 2;
+				linhasInvalidas = Arrays.copyOf(linhasInvalidas, novoTamanho);
+				offsetsInvalidos = Arrays.copyOf(offsetsInvalidos, novoTamanho);
+			}
+			linhasInvalidas[quantidadeDeInvalidos] = linha;
+			offsetsInvalidos[quantidadeDeInvalidos] = offset;
+			quantidadeDeInvalidos++;
+		}
+	}
+
+	/**
+	 * Linha do arquivo que nao contem um CPF ou CNPJ valido.
+	 */
+	public static final class DocumentoInvalido {
+
+		/** O numero da linha, comecando em 1. */
+		private final long linha;
+
+		/** A posicao em bytes do inicio da linha. */
+		private final long offset;
+
+		DocumentoInvalido(long linha, long offset) {
+			this.linha = linha;
+			this.offset = offset;
+		}
+
+		public long getLinha() {
+			return linha;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(linha) * 31 + Long.hashCode(offset);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof DocumentoInvalido)) {
+				return false;
+			}
+			DocumentoInvalido outro = (DocumentoInvalido) obj;
+			return linha == outro.linha && offset == outro.offset;
+		}
+
+		@Override
+		public String toString() {
+			return "DocumentoInvalido[linha=" + linha + ", offset=" + offset + "]";
+		}
+	}
+
+}
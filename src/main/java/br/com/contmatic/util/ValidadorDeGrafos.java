@@ -0,0 +1,230 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.LIMIAR_INVALIDO;
+import static br.com.contmatic.util.Constantes.OBJETO_VAZIO;
+import static br.com.contmatic.util.Constantes.VALIDADOR_VAZIO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Validacao de agregados grandes, como uma {@code Empresa} ou um
+ * {@code Fornecedor} com os seus telefones e enderecos, em paralelo.
+ *
+ * Cada grafo e dividido em unidades independentes: a raiz e cada filho das
+ * colecoes configuradas. A raiz e validada com as cascatas que nao foram
+ * configuradas, pulando apenas os filhos separados, e cada filho com a
+ * propria cascata. As unidades de todos os grafos do lote sao distribuidas
+ * num {@link ForkJoinPool}, com roubo de trabalho, e as mensagens de cada
+ * grafo sao juntadas na ordem das unidades. Quando as colecoes configuradas
+ * sao as ultimas cascatas da raiz, na mesma ordem, essa e a ordem da validacao
+ * sequencial do validador gerado; senao, as mensagens das demais cascatas vem
+ * antes das dos filhos separados. Com poucas unidades o lote e validado na
+ * thread chamadora.
+ *
+ * Os validadores sao imutaveis e podem ser compartilhados entre threads.
+ *
+ * @param <T> o tipo da raiz dos grafos
+ * @author gabriel.santos
+ */
+public final class ValidadorDeGrafos<T> {
+
+	private final ValidadorGerado<? super T> validador;
+
+	private final List<Filhos<T, ?>> filhos;
+
+	private final int limiarSequencial;
+
+	private ValidadorDeGrafos(Construtor<T> construtor) {
+		this.validador = construtor.validador;
+		this.filhos = Collections.unmodifiableList(new ArrayList<>(construtor.filhos));
+		this.limiarSequencial = construtor.limiarSequencial;
+	}
+
+	/**
+	 * Inicia a configuracao de um validador de grafos.
+	 *
+	 * @param <T>       o tipo da raiz
+	 * @param validador o validador gerado da raiz, como
+	 *                  {@code EmpresaValidador::valida}
+	 * @return o construtor
+	 */
+	public static <T> Construtor<T> construtor(ValidadorGerado<? super T> validador) {
+		return new Construtor<>(validador);
+	}
+
+	/**
+	 * Valida um grafo.
+	 *
+	 * @param grafo a raiz do grafo
+	 * @return as mensagens das restricoes violadas
+	 */
+	public List<String> valida(T grafo) {
+		return valida(Collections.singletonList(grafo)).get(0);
+	}
+
+	/**
+	 * Valida um lote de grafos no pool comum.
+	 *
+	 * @param grafos as raizes dos grafos
+	 * @return as mensagens de cada grafo, na ordem do lote
+	 */
+	public List<List<String>> valida(List<? extends T> grafos) {
+		return valida(grafos, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Valida um lote de grafos no pool informado.
+	 *
+	 * @param grafos as raizes dos grafos
+	 * @param pool   o pool das tarefas
+	 * @return as mensagens de cada grafo, na ordem do lote
+	 */
+	@SuppressWarnings("unchecked")
+	public List<List<String>> valida(List<? extends T> grafos, ForkJoinPool pool) {
+		if (grafos == null || pool == null) {
+			throw new IllegalArgumentException(OBJETO_VAZIO);
+		}
+		List<Object> objetos = new ArrayList<>(grafos.size());
+		List<ValidadorGerado<?>> validadores = new ArrayList<>(grafos.size());
+		List<Set<Object>> visitadosDasRaizes = new ArrayList<>(grafos.size());
+		int[] inicios = new int[grafos.size() + 1];
+		for (int i = 0; i < grafos.size(); i++) {
+			T grafo = grafos.get(i);
+			if (grafo == null) {
+				throw new IllegalArgumentException(OBJETO_VAZIO);
+			}
+			inicios[i] = objetos.size();
+			objetos.add(grafo);
+			validadores.add(validador);
+			Set<Object> visitados = ValidacaoGerada.visitados(grafo);
+			for (Filhos<T, ?> grupo : filhos) {
+				grupo.adiciona(grafo, visitados, objetos, validadores);
+			}
+			visitadosDasRaizes.add(visitados);
+		}
+		int quantidade = objetos.size();
+		inicios[grafos.size()] = quantidade;
+		Set<Object>[] raizes = new Set[quantidade];
+		for (int i = 0; i < grafos.size(); i++) {
+			raizes[inicios[i]] = visitadosDasRaizes.get(i);
+		}
+		Object[] unidades = objetos.toArray();
+		ValidadorGerado<Object>[] porUnidade = validadores.toArray(new ValidadorGerado[quantidade]);
+		List<String>[] resultados = new List[quantidade];
+		if (quantidade <= limiarSequencial) {
+			ValidacaoDeGrafos.valida(unidades, porUnidade, raizes, resultados, 0, quantidade);
+		} else {
+			pool.invoke(new ValidacaoDeGrafos(unidades, porUnidade, raizes, resultados, limiarSequencial, 0,
+					quantidade));
+		}
+		return junta(resultados, inicios);
+	}
+
+	private static List<List<String>> junta(List<String>[] resultados, int[] inicios) {
+		List<List<String>> porGrafo = new ArrayList<>(inicios.length - 1);
+		for (int i = 0; i + 1 < inicios.length; i++) {
+			List<String> mensagens = new ArrayList<>();
+			for (int unidade = inicios[i]; unidade < inicios[i + 1]; unidade++) {
+				mensagens.addAll(resultados[unidade]);
+			}
+			porGrafo.add(Collections.unmodifiableList(mensagens));
+		}
+		return Collections.unmodifiableList(porGrafo);
+	}
+
+	/**
+	 * Uma colecao de filhos da raiz com o validador dos seus elementos.
+	 *
+	 * @param <T> o tipo da raiz
+	 * @param <F> o tipo dos filhos
+	 */
+	private static final class Filhos<T, F> {
+
+		private final Function<? super T, ? extends Iterable<? extends F>> extrator;
+
+		private final ValidadorGerado<? super F> validador;
+
+		Filhos(Function<? super T, ? extends Iterable<? extends F>> extrator, ValidadorGerado<? super F> validador) {
+			this.extrator = extrator;
+			this.validador = validador;
+		}
+
+		/** Adiciona os filhos ainda nao visitados, como faria a cascata gerada. */
+		void adiciona(T raiz, Set<Object> visitados, List<Object> objetos, List<ValidadorGerado<?>> validadores) {
+			Iterable<? extends F> elementos = extrator.apply(raiz);
+			if (elementos == null) {
+				return;
+			}
+			for (F elemento : elementos) {
+				if (elemento != null && visitados.add(elemento)) {
+					objetos.add(elemento);
+					validadores.add(validador);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Configuracao de um {@link ValidadorDeGrafos}.
+	 *
+	 * @param <T> o tipo da raiz
+	 */
+	public static final class Construtor<T> {
+
+		private final ValidadorGerado<? super T> validador;
+
+		private final List<Filhos<T, ?>> filhos = new ArrayList<>();
+
+		private int limiarSequencial = ValidacaoDeGrafos.LIMIAR_SEQUENCIAL;
+
+		Construtor(ValidadorGerado<? super T> validador) {
+			if (validador == null) {
+				throw new IllegalArgumentException(VALIDADOR_VAZIO);
+			}
+			this.validador = validador;
+		}
+
+		/**
+		 * Valida em paralelo os elementos de uma colecao da raiz. A colecao deve
+		 * ser uma das cascatas do validador da raiz: os seus elementos entram
+		 * nos visitados da raiz, e a cascata da raiz pula apenas eles.
+		 *
+		 * @param <F>       o tipo dos filhos
+		 * @param extrator  o getter da colecao
+		 * @param validador o validador gerado dos filhos
+		 * @return o construtor
+		 */
+		public <F> Construtor<T> filhos(Function<? super T, ? extends Iterable<? extends F>> extrator,
+				ValidadorGerado<? super F> validador) {
+			if (extrator == null || validador == null) {
+				throw new IllegalArgumentException(VALIDADOR_VAZIO);
+			}
+			filhos.add(new Filhos<>(extrator, validador));
+			return this;
+		}
+
+		/**
+		 * Quantidade de unidades ate a qual o lote e validado sem dividir.
+		 *
+		 * @param limiarSequencial a quantidade, no minimo 1
+		 * @return o construtor
+		 */
+		public Construtor<T> limiarSequencial(int limiarSequencial) {
+			if (limiarSequencial < 1) {
+				throw new IllegalArgumentException(LIMIAR_INVALIDO);
+			}
+			this.limiarSequencial = limiarSequencial;
+			return this;
+		}
+
+		public ValidadorDeGrafos<T> constroi() {
+			return new ValidadorDeGrafos<>(this);
+		}
+	}
+
+}
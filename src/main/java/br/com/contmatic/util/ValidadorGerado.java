@@ -0,0 +1,28 @@
+package br.com.contmatic.util;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Assinatura do metodo {@code valida} dos validadores gerados por
+ * {@link br.com.contmatic.processador.ProcessadorDeValidadores}, para
+ * referencias como {@code EmpresaValidador::valida}.
+ *
+ * @param <T> o tipo validado
+ * @author gabriel.santos
+ */
+@FunctionalInterface
+public interface ValidadorGerado<T> {
+
+	/**
+	 * Valida o objeto acumulando as mensagens.
+	 *
+	 * @param objeto    o objeto, nao nulo
+	 * @param mensagens as mensagens das restricoes violadas
+	 * @param visitados os objetos ja validados na cascata
+	 * @param modo      quando parar de avaliar restricoes
+	 * @return false, se o modo mandar parar toda a validacao
+	 */
+	boolean valida(T objeto, List<String> mensagens, Set<Object> visitados, ModoDeValidacao modo);
+
+}
@@ -1,146 +1,581 @@
 package br.com.contmatic.util;
 
-import java.util.InputMismatchException;
+import static br.com.contmatic.util.Constantes.LOTE_INVALIDO;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The Class Validate.
+ *
+ * Os digitos verificadores e a verificacao de digitos repetidos sao calculados
+ * em uma unica passada sobre o documento, sem alocacao, tanto para
+ * {@link CharSequence} quanto para {@code char[]}, {@code byte[]} e
+ * {@link ByteBuffer} ASCII. O CNPJ alfanumerico usa uma tabela com o valor de
+ * cada caractere, de forma que CNPJs numericos e alfanumericos sao validados
+ * pelo mesmo laco, sem expressoes regulares nem desvios por caractere.
+ *
+ * @author gabriel.santos
+ */
 public final class Validate {
-	
+
+	/** Tamanho do CPF. */
+	public static final int TAMANHO_CPF = 11;
+
+	/** Tamanho do CNPJ. */
+	public static final int TAMANHO_CNPJ = 14;
+
+	/** Mascara do CPF formatado, {@code #} indica um digito. */
+	public static final String MASCARA_CPF = "###.###.###-##";
+
+	/** Mascara do CNPJ formatado, {@code #} indica um digito. */
+	public static final String MASCARA_CNPJ = "##.###.###/####-##";
+
+	/** Retorno de {@link #digitosDoCpf} e {@link #digitosDoCnpj} quando o formato nao e reconhecido. */
+	public static final long FORMATO_NAO_RECONHECIDO = -1L;
+
+	/** Maior valor numerico com 11 digitos. */
+	private static final long MAIOR_CPF = 99_999_999_999L;
+
+	/** Maior valor numerico com 14 digitos. */
+	private static final long MAIOR_CNPJ = 99_999_999_999_999L;
+
+	/** Pesos do primeiro digito verificador do CNPJ (posicoes 0 a 11). */
+	static final int[] PESOS_PRIMEIRO_DIGITO_CNPJ = { 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+
+	/** Pesos do segundo digito verificador do CNPJ (posicoes 0 a 12). */
+	static final int[] PESOS_SEGUNDO_DIGITO_CNPJ = { 6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2 };
+
+	/** Valor de retorno de {@link #valorDoDigito(int)} para caracteres que nao sao digitos. */
+	private static final int NAO_E_DIGITO = -1;
+
+	/**
+	 * Valor de cada caractere ASCII no calculo do CNPJ alfanumerico: o codigo
+	 * ASCII menos 48, de forma que {@code '0'..'9'} valem 0 a 9 e
+	 * {@code 'A'..'Z'} valem 17 a 42. Os demais caracteres valem
+	 * {@link #NAO_E_DIGITO}.
+	 */
+	private static final byte[] VALORES_DO_CNPJ = new byte[256];
+
+	/** Posicao de cada caractere do CNPJ sem mascara. */
+	private static final int[] POSICOES_DO_CNPJ = new int[TAMANHO_CNPJ];
+
+	/** Posicao de cada caractere do CNPJ no formato {@value #MASCARA_CNPJ}. */
+	private static final int[] POSICOES_DO_CNPJ_FORMATADO = new int[TAMANHO_CNPJ];
+
+	static {
+		Arrays.fill(VALORES_DO_CNPJ, (byte) NAO_E_DIGITO);
+		for (char c = '0'; c <= '9'; c++) {
+			VALORES_DO_CNPJ[c] = (byte) (c - '0');
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			VALORES_DO_CNPJ[c] = (byte) (c - '0');
+		}
+		for (int i = 0; i < TAMANHO_CNPJ; i++) {
+			POSICOES_DO_CNPJ[i] = i;
+		}
+		for (int i = 0, j = 0; i < MASCARA_CNPJ.length(); i++) {
+			if (MASCARA_CNPJ.charAt(i) == '#') {
+				POSICOES_DO_CNPJ_FORMATADO[j++] = i;
+			}
+		}
+	}
+
 	private Validate() {
 	}
 
-	public static boolean isCPF(String cpf) {
-		return validaCpf(cpf);
+	public static boolean isCPF(CharSequence cpf) {
+		if (cpf == null || cpf.length() != TAMANHO_CPF) {
+			return false;
+		}
+		int soma10 = 0;
+		int soma11 = 0;
+		int primeiro = valorDoDigito(cpf.charAt(0));
+		int diferentes = 0;
+		for (int i = 0; i < TAMANHO_CPF - 2; i++) {
+			int num = valorDoDigito(cpf.charAt(i));
+			if (num == NAO_E_DIGITO) {
+				return false;
+			}
+			soma10 += num * (10 - i);
+			soma11 += num * (11 - i);
+			diferentes |= num ^ primeiro;
+		}
+		return verificaDigitosDoCpf(soma10, soma11, diferentes, valorDoDigito(cpf.charAt(9)),
+				valorDoDigito(cpf.charAt(10)), primeiro);
 	}
-	
-	public static boolean isNotCPF(String cpf) {
-		return !isCPF(cpf);
+
+	/**
+	 * Valida o CPF contido em {@code cpf[offset, offset + length)}.
+	 *
+	 * @param cpf    o buffer de caracteres
+	 * @param offset a posicao inicial do CPF
+	 * @param length a quantidade de caracteres do CPF
+	 * @return true, se for um CPF valido
+	 */
+	public static boolean isCPF(char[] cpf, int offset, int length) {
+		if (cpf == null || length != TAMANHO_CPF || offset < 0 || offset > cpf.length - TAMANHO_CPF) {
+			return false;
+		}
+		int soma10 = 0;
+		int soma11 = 0;
+		int primeiro = valorDoDigito(cpf[offset]);
+		int diferentes = 0;
+		for (int i = 0; i < TAMANHO_CPF - 2; i++) {
+			int num = valorDoDigito(cpf[offset + i]);
+			if (num == NAO_E_DIGITO) {
+				return false;
+			}
+			soma10 += num * (10 - i);
+			soma11 += num * (11 - i);
+			diferentes |= num ^ primeiro;
+		}
+		return verificaDigitosDoCpf(soma10, soma11, diferentes, valorDoDigito(cpf[offset + 9]),
+				valorDoDigito(cpf[offset + 10]), primeiro);
 	}
 
-	private static boolean validaCpf(String cpf) {
-		if (verificaCpfIncorreto(cpf)) {
+	/**
+	 * Valida os 11 bytes ASCII a partir de {@code offset} como um CPF.
+	 *
+	 * @param cpf    o buffer de bytes ASCII
+	 * @param offset a posicao inicial do CPF
+	 * @return true, se for um CPF valido
+	 */
+	public static boolean isCPF(byte[] cpf, int offset) {
+		if (cpf == null || offset < 0 || offset > cpf.length - TAMANHO_CPF) {
 			return false;
 		}
-		return realizaCalculoDoDigitoVerificadorDoCpf(cpf);
+		int soma10 = 0;
+		int soma11 = 0;
+		int primeiro = valorDoDigito(cpf[offset]);
+		int diferentes = 0;
+		for (int i = 0; i < TAMANHO_CPF - 2; i++) {
+			int num = valorDoDigito(cpf[offset + i]);
+			if (num == NAO_E_DIGITO) {
+				return false;
+			}
+			soma10 += num * (10 - i);
+			soma11 += num * (11 - i);
+			diferentes |= num ^ primeiro;
+		}
+		return verificaDigitosDoCpf(soma10, soma11, diferentes, valorDoDigito(cpf[offset + 9]),
+				valorDoDigito(cpf[offset + 10]), primeiro);
 	}
 
-	private static boolean verificaCpfIncorreto(String cpf) {
-		return cpf.equals("00000000000") || cpf.equals("11111111111") || cpf.equals("22222222222")
-				|| cpf.equals("33333333333") || cpf.equals("44444444444") || cpf.equals("55555555555")
-				|| cpf.equals("66666666666") || cpf.equals("77777777777") || cpf.equals("88888888888")
-				|| cpf.equals("99999999999") || (cpf.length() != 11);
+	/**
+	 * Valida os 11 bytes ASCII a partir da posicao absoluta {@code index} do
+	 * buffer como um CPF, sem alterar a posicao do buffer.
+	 *
+	 * @param cpf   o buffer de bytes ASCII, por exemplo um arquivo mapeado
+	 * @param index a posicao inicial do CPF
+	 * @return true, se for um CPF valido
+	 */
+	public static boolean isCPF(ByteBuffer cpf, int index) {
+		if (cpf == null || index < 0 || index > cpf.limit() - TAMANHO_CPF) {
+			return false;
+		}
+		int soma10 = 0;
+		int soma11 = 0;
+		int primeiro = valorDoDigito(cpf.get(index));
+		int diferentes = 0;
+		for (int i = 0; i < TAMANHO_CPF - 2; i++) {
+			int num = valorDoDigito(cpf.get(index + i));
+			if (num == NAO_E_DIGITO) {
+				return false;
+			}
+			soma10 += num * (10 - i);
+			soma11 += num * (11 - i);
+			diferentes |= num ^ primeiro;
+		}
+		return verificaDigitosDoCpf(soma10, soma11, diferentes, valorDoDigito(cpf.get(index + 9)),
+				valorDoDigito(cpf.get(index + 10)), primeiro);
 	}
 
-	private static boolean realizaCalculoDoDigitoVerificadorDoCpf(String cpf) {
-		try {
-			char dig10 = calculoDosDigitosVerificadoresDoCpf(cpf, 10);
-			char dig11 = calculoDosDigitosVerificadoresDoCpf(cpf, 11);
-			return verificaPosicaoDosDigitosDoCpf(cpf, dig10, dig11);
-		} catch (InputMismatchException erro) {
-			return (false);
+	/**
+	 * Valida o CPF representado pelo seu valor numerico, com os zeros a esquerda
+	 * implicitos.
+	 *
+	 * @param cpf os 11 digitos do CPF como numero
+	 * @return true, se for um CPF valido
+	 */
+	public static boolean isCPF(long cpf) {
+		if (cpf < 0 || cpf > MAIOR_CPF) {
+			return false;
+		}
+		int dig11 = (int) (cpf % 10);
+		cpf /= 10;
+		int dig10 = (int) (cpf % 10);
+		cpf /= 10;
+		int soma10 = 0;
+		int soma11 = 0;
+		int primeiro = (int) (cpf / 100_000_000L);
+		int diferentes = 0;
+		for (int i = TAMANHO_CPF - 3; i >= 0; i--) {
+			int num = (int) (cpf % 10);
+			cpf /= 10;
+			soma10 += num * (10 - i);
+			soma11 += num * (11 - i);
+			diferentes |= num ^ primeiro;
 		}
+		return verificaDigitosDoCpf(soma10, soma11, diferentes, dig10, dig11, primeiro);
+	}
+
+	/**
+	 * Extrai os digitos de um CPF sem mascara ou no formato
+	 * {@value #MASCARA_CPF}, em uma unica passada e sem criar strings.
+	 *
+	 * @param cpf o CPF com ou sem mascara
+	 * @return os 11 digitos como numero, ou {@link #FORMATO_NAO_RECONHECIDO}
+	 */
+	public static long digitosDoCpf(CharSequence cpf) {
+		return extraiDigitos(cpf, TAMANHO_CPF, MASCARA_CPF);
+	}
+
+	/**
+	 * Valida um CPF sem mascara ou no formato {@value #MASCARA_CPF}.
+	 *
+	 * @param cpf o CPF com ou sem mascara
+	 * @return true, se for um CPF valido
+	 */
+	public static boolean isCPFComOuSemMascara(CharSequence cpf) {
+		return isCPF(digitosDoCpf(cpf));
 	}
 
-	private static char calculoDosDigitosVerificadoresDoCpf(String cpf, int peso) {
-		int soma = realizaContaDoDigitoVerificadorDoCpf(cpf, peso);
-		return verificaResultadoDaContaDoDigitoVerificadorDoCpf(soma);
+	public static boolean isNotCPF(CharSequence cpf) {
+		return !isCPF(cpf);
 	}
 
-	private static int realizaContaDoDigitoVerificadorDoCpf(String cpf, int peso) {
-		int soma = 0;
-		int loop = peso - 1;
-		for (int i = 0; i < loop; i++) {
-			int num = (cpf.charAt(i) - 48);
-			soma = soma + (num * peso);
-			peso = peso - 1;
+	private static boolean verificaDigitosDoCpf(int soma10, int soma11, int diferentes, int dig10, int dig11,
+			int primeiro) {
+		if (dig10 == NAO_E_DIGITO || dig11 == NAO_E_DIGITO) {
+			return false;
+		}
+		if ((diferentes | (dig10 ^ primeiro) | (dig11 ^ primeiro)) == 0) {
+			return false;
 		}
-		return soma;
+		soma11 += dig10 * 2;
+		return dig10 == calculaDigitoVerificador(soma10) && dig11 == calculaDigitoVerificador(soma11);
 	}
 
-	private static char verificaResultadoDaContaDoDigitoVerificadorDoCpf(int soma) {
-		int resultado = 11 - (soma % 11);
-		char dig;
-		if ((resultado == 10) || (resultado == 11)) {
-			dig = '0';
-		} else {
-			dig = (char) (resultado + 48);
+	/**
+	 * Valida um CNPJ numerico ou alfanumerico, sem mascara. As 12 primeiras
+	 * posicoes aceitam digitos e letras maiusculas; os digitos verificadores sao
+	 * sempre numericos.
+	 *
+	 * @param cnpj o CNPJ sem mascara
+	 * @return true, se for um CNPJ valido
+	 */
+	public static boolean isCNPJ(CharSequence cnpj) {
+		if (cnpj == null || cnpj.length() != TAMANHO_CNPJ) {
+			return false;
 		}
-		return dig;
+		return validaCnpj(cnpj, POSICOES_DO_CNPJ);
 	}
 
-	private static boolean verificaPosicaoDosDigitosDoCpf(String cpf, char dig10, char dig11) {
-		if (dig10 == cpf.charAt(9) && dig11 == cpf.charAt(10)) {
-			return true;
-		} else {
+	/**
+	 * Valida o CNPJ contido em {@code cnpj[offset, offset + length)}.
+	 *
+	 * @param cnpj   o buffer de caracteres
+	 * @param offset a posicao inicial do CNPJ
+	 * @param length a quantidade de caracteres do CNPJ
+	 * @return true, se for um CNPJ valido
+	 */
+	public static boolean isCNPJ(char[] cnpj, int offset, int length) {
+		if (cnpj == null || length != TAMANHO_CNPJ || offset < 0 || offset > cnpj.length - TAMANHO_CNPJ) {
+			return false;
+		}
+		int soma13 = 0;
+		int soma14 = 0;
+		int primeiro = valorNoCnpj(cnpj[offset]);
+		int diferentes = 0;
+		int invalidos = 0;
+		for (int i = 0; i < TAMANHO_CNPJ - 2; i++) {
+			int num = valorNoCnpj(cnpj[offset + i]);
+			invalidos |= num;
+			soma13 += num * PESOS_PRIMEIRO_DIGITO_CNPJ[i];
+			soma14 += num * PESOS_SEGUNDO_DIGITO_CNPJ[i];
+			diferentes |= num ^ primeiro;
+		}
+		if (invalidos < 0) {
 			return false;
 		}
+		return verificaDigitosDoCnpj(soma13, soma14, diferentes, valorNoCnpj(cnpj[offset + 12]),
+				valorNoCnpj(cnpj[offset + 13]), primeiro);
 	}
 
-	public static boolean isCNPJ(String cnpj) {
-		return validaCnpj(cnpj);
+	/**
+	 * Valida os 14 bytes ASCII a partir de {@code offset} como um CNPJ.
+	 *
+	 * @param cnpj   o buffer de bytes ASCII
+	 * @param offset a posicao inicial do CNPJ
+	 * @return true, se for um CNPJ valido
+	 */
+	public static boolean isCNPJ(byte[] cnpj, int offset) {
+		if (cnpj == null || offset < 0 || offset > cnpj.length - TAMANHO_CNPJ) {
+			return false;
+		}
+		int soma13 = 0;
+		int soma14 = 0;
+		int primeiro = valorNoCnpj(cnpj[offset]);
+		int diferentes = 0;
+		int invalidos = 0;
+		for (int i = 0; i < TAMANHO_CNPJ - 2; i++) {
+			int num = valorNoCnpj(cnpj[offset + i]);
+			invalidos |= num;
+			soma13 += num * PESOS_PRIMEIRO_DIGITO_CNPJ[i];
+			soma14 += num * PESOS_SEGUNDO_DIGITO_CNPJ[i];
+			diferentes |= num ^ primeiro;
+		}
+		if (invalidos < 0) {
+			return false;
+		}
+		return verificaDigitosDoCnpj(soma13, soma14, diferentes, valorNoCnpj(cnpj[offset + 12]),
+				valorNoCnpj(cnpj[offset + 13]), primeiro);
 	}
-	
-	public static boolean isNotCNPJ(String cnpj) {
-		return !isCNPJ(cnpj);
+
+	/**
+	 * Valida os 14 bytes ASCII a partir da posicao absoluta {@code index} do
+	 * buffer como um CNPJ, sem alterar a posicao do buffer.
+	 *
+	 * @param cnpj  o buffer de bytes ASCII, por exemplo um arquivo mapeado
+	 * @param index a posicao inicial do CNPJ
+	 * @return true, se for um CNPJ valido
+	 */
+	public static boolean isCNPJ(ByteBuffer cnpj, int index) {
+		if (cnpj == null || index < 0 || index > cnpj.limit() - TAMANHO_CNPJ) {
+			return false;
+		}
+		int soma13 = 0;
+		int soma14 = 0;
+		int primeiro = valorNoCnpj(cnpj.get(index));
+		int diferentes = 0;
+		int invalidos = 0;
+		for (int i = 0; i < TAMANHO_CNPJ - 2; i++) {
+			int num = valorNoCnpj(cnpj.get(index + i));
+			invalidos |= num;
+			soma13 += num * PESOS_PRIMEIRO_DIGITO_CNPJ[i];
+			soma14 += num * PESOS_SEGUNDO_DIGITO_CNPJ[i];
+			diferentes |= num ^ primeiro;
+		}
+		if (invalidos < 0) {
+			return false;
+		}
+		return verificaDigitosDoCnpj(soma13, soma14, diferentes, valorNoCnpj(cnpj.get(index + 12)),
+				valorNoCnpj(cnpj.get(index + 13)), primeiro);
 	}
 
-	private static boolean validaCnpj(String cnpj) {
-		if (verificaCnpjIncorreto(cnpj)) {
+	/**
+	 * Valida o CNPJ representado pelo seu valor numerico, com os zeros a
+	 * esquerda implicitos.
+	 *
+	 * @param cnpj os 14 digitos do CNPJ como numero
+	 * @return true, se for um CNPJ valido
+	 */
+	public static boolean isCNPJ(long cnpj) {
+		if (cnpj < 0 || cnpj > MAIOR_CNPJ) {
 			return false;
 		}
-		return realizaCalculoDoDigitoVerificadorDoCnpj(cnpj);
+		int dig14 = (int) (cnpj % 10);
+		cnpj /= 10;
+		int dig13 = (int) (cnpj % 10);
+		cnpj /= 10;
+		int soma13 = 0;
+		int soma14 = 0;
+		int primeiro = (int) (cnpj / 100_000_000_000L);
+		int diferentes = 0;
+		for (int i = TAMANHO_CNPJ - 3; i >= 0; i--) {
+			int num = (int) (cnpj % 10);
+			cnpj /= 10;
+			soma13 += num * PESOS_PRIMEIRO_DIGITO_CNPJ[i];
+			soma14 += num * PESOS_SEGUNDO_DIGITO_CNPJ[i];
+			diferentes |= num ^ primeiro;
+		}
+		return verificaDigitosDoCnpj(soma13, soma14, diferentes, dig13, dig14, primeiro);
 	}
 
-	private static boolean verificaCnpjIncorreto(String cnpj) {
-		return cnpj.equals("00000000000000") || cnpj.equals("11111111111111") || cnpj.equals("22222222222222")
-				|| cnpj.equals("33333333333333") || cnpj.equals("44444444444444") || cnpj.equals("55555555555555")
-				|| cnpj.equals("66666666666666") || cnpj.equals("77777777777777") || cnpj.equals("88888888888888")
-				|| cnpj.equals("99999999999999") || (cnpj.length() != 14);
+	/**
+	 * Extrai os digitos de um CNPJ sem mascara ou no formato
+	 * {@value #MASCARA_CNPJ}, em uma unica passada e sem criar strings.
+	 *
+	 * @param cnpj o CNPJ com ou sem mascara
+	 * @return os 14 digitos como numero, ou {@link #FORMATO_NAO_RECONHECIDO}
+	 */
+	public static long digitosDoCnpj(CharSequence cnpj) {
+		return extraiDigitos(cnpj, TAMANHO_CNPJ, MASCARA_CNPJ);
 	}
 
-	private static boolean realizaCalculoDoDigitoVerificadorDoCnpj(String cnpj) {
-		try {
-			char dig13 = calculoDosDigitosVerificadoresDoCnpj(cnpj, 13);
-			char dig14 = calculoDosDigitosVerificadoresDoCnpj(cnpj, 14);
-			return verificaPosicaoDosDigitosDoCnpj(cnpj, dig13, dig14);
-		} catch (InputMismatchException erro) {
-			return (false);
+	/**
+	 * Valida um CNPJ numerico ou alfanumerico, sem mascara ou no formato
+	 * {@value #MASCARA_CNPJ}.
+	 *
+	 * @param cnpj o CNPJ com ou sem mascara
+	 * @return true, se for um CNPJ valido
+	 */
+	public static boolean isCNPJComOuSemMascara(CharSequence cnpj) {
+		if (cnpj == null || cnpj.length() != MASCARA_CNPJ.length()) {
+			return isCNPJ(cnpj);
+		}
+		for (int i = 0; i < MASCARA_CNPJ.length(); i++) {
+			char separador = MASCARA_CNPJ.charAt(i);
+			if (separador != '#' && cnpj.charAt(i) != separador) {
+				return false;
+			}
 		}
+		return validaCnpj(cnpj, POSICOES_DO_CNPJ_FORMATADO);
 	}
 
-	private static char calculoDosDigitosVerificadoresDoCnpj(String cnpj, int dig) {
-		int soma = realizaContaDoDigitoVerificadorDoCnpj(cnpj, dig);
-		return verificaResultadoDaContaDoDigitoVerificadorDoCnpj(soma);
+	private static boolean validaCnpj(CharSequence cnpj, int[] posicoes) {
+		int soma13 = 0;
+		int soma14 = 0;
+		int primeiro = valorNoCnpj(cnpj.charAt(posicoes[0]));
+		int diferentes = 0;
+		int invalidos = 0;
+		for (int i = 0; i < TAMANHO_CNPJ - 2; i++) {
+			int num = valorNoCnpj(cnpj.charAt(posicoes[i]));
+			invalidos |= num;
+			soma13 += num * PESOS_PRIMEIRO_DIGITO_CNPJ[i];
+			soma14 += num * PESOS_SEGUNDO_DIGITO_CNPJ[i];
+			diferentes |= num ^ primeiro;
+		}
+		if (invalidos < 0) {
+			return false;
+		}
+		return verificaDigitosDoCnpj(soma13, soma14, diferentes, valorNoCnpj(cnpj.charAt(posicoes[12])),
+				valorNoCnpj(cnpj.charAt(posicoes[13])), primeiro);
 	}
 
-	private static int realizaContaDoDigitoVerificadorDoCnpj(String cnpj, int dig) {
-		int soma = 0;
-		int peso = 2;
-		for (int i = dig - 2; i >= 0; i--) {
-			int num = (cnpj.charAt(i) - 48);
-			soma = soma + (num * peso);
-			peso = peso + 1;
-			if (peso == 10) {
-				peso = 2;
-			}
+	public static boolean isNotCNPJ(CharSequence cnpj) {
+		return !isCNPJ(cnpj);
+	}
+
+	private static boolean verificaDigitosDoCnpj(int soma13, int soma14, int diferentes, int dig13, int dig14,
+			int primeiro) {
+		if ((dig13 | dig14) < 0) {
+			return false;
+		}
+		if ((diferentes | (dig13 ^ primeiro) | (dig14 ^ primeiro)) == 0) {
+			return false;
 		}
-		return soma;
+		soma14 += dig13 * 2;
+		return dig13 == calculaDigitoVerificador(soma13) && dig14 == calculaDigitoVerificador(soma14);
 	}
 
-	private static char verificaResultadoDaContaDoDigitoVerificadorDoCnpj(int soma) {
-		char dig;
-		int resultado = soma % 11;
-		if ((resultado == 0) || (resultado == 1)) {
-			dig = '0';
+	/**
+	 * Valida em lote CPFs gravados lado a lado com 11 bytes cada.
+	 *
+	 * @param documentos o buffer ASCII com os CPFs
+	 * @param quantidade a quantidade de CPFs no buffer
+	 * @return os indices dos CPFs validos
+	 */
+	public static BitSet isCPFEmLote(byte[] documentos, int quantidade) {
+		return isCPFEmLote(documentos, 0, TAMANHO_CPF, quantidade);
+	}
+
+	/**
+	 * Valida em lote CPFs com largura fixa, o i-esimo comecando em
+	 * {@code offset + i * stride}.
+	 *
+	 * @param documentos o buffer ASCII com os CPFs
+	 * @param offset     a posicao do primeiro CPF
+	 * @param stride     a distancia em bytes entre dois CPFs (no minimo 11)
+	 * @param quantidade a quantidade de CPFs no buffer
+	 * @return os indices dos CPFs validos
+	 */
+	public static BitSet isCPFEmLote(byte[] documentos, int offset, int stride, int quantidade) {
+		return validaEmLote(documentos, offset, stride, quantidade, TAMANHO_CPF, false);
+	}
+
+	/**
+	 * Valida em lote CNPJs gravados lado a lado com 14 bytes cada.
+	 *
+	 * @param documentos o buffer ASCII com os CNPJs
+	 * @param quantidade a quantidade de CNPJs no buffer
+	 * @return os indices dos CNPJs validos
+	 */
+	public static BitSet isCNPJEmLote(byte[] documentos, int quantidade) {
+		return isCNPJEmLote(documentos, 0, TAMANHO_CNPJ, quantidade);
+	}
+
+	/**
+	 * Valida em lote CNPJs com largura fixa, o i-esimo comecando em
+	 * {@code offset + i * stride}.
+	 *
+	 * @param documentos o buffer ASCII com os CNPJs
+	 * @param offset     a posicao do primeiro CNPJ
+	 * @param stride     a distancia em bytes entre dois CNPJs (no minimo 14)
+	 * @param quantidade a quantidade de CNPJs no buffer
+	 * @return os indices dos CNPJs validos
+	 */
+	public static BitSet isCNPJEmLote(byte[] documentos, int offset, int stride, int quantidade) {
+		return validaEmLote(documentos, offset, stride, quantidade, TAMANHO_CNPJ, true);
+	}
+
+	private static BitSet validaEmLote(byte[] documentos, int offset, int stride, int quantidade, int tamanho,
+			boolean cnpj) {
+		if (documentos == null || offset < 0 || stride < tamanho || quantidade < 0
+				|| (quantidade > 0 && offset + (long) (quantidade - 1) * stride + tamanho > documentos.length)) {
+			throw new IllegalArgumentException(LOTE_INVALIDO);
+		}
+		long[] palavras = new long[(quantidade + 63) >>> 6];
+		MotorDeValidacao motor = MotorDeValidacao.getPadrao();
+		if (quantidade <= ValidacaoEmLote.LIMIAR_SEQUENCIAL) {
+			ValidacaoEmLote.valida(documentos, offset, stride, cnpj, motor, palavras, 0, quantidade);
 		} else {
-			dig = (char) ((11 - resultado) + 48);
+			ForkJoinPool.commonPool()
+					.invoke(new ValidacaoEmLote(documentos, offset, stride, cnpj, motor, palavras, 0, quantidade));
 		}
-		return dig;
+		return BitSet.valueOf(palavras);
 	}
 
-	private static boolean verificaPosicaoDosDigitosDoCnpj(String cnpj, char dig13, char dig14) {
-		if (dig13 == cnpj.charAt(12) && dig14 == cnpj.charAt(13)) {
-			return true;
-		} else {
-			return false;
+	/**
+	 * Digito verificador modulo 11 usado tanto no CPF quanto no CNPJ: restos 0 e 1
+	 * resultam em zero, os demais em {@code 11 - resto}.
+	 */
+	static int calculaDigitoVerificador(int soma) {
+		int resto = soma % 11;
+		return resto < 2 ? 0 : 11 - resto;
+	}
+
+	private static long extraiDigitos(CharSequence documento, int tamanho, String mascara) {
+		if (documento == null) {
+			return FORMATO_NAO_RECONHECIDO;
+		}
+		int comprimento = documento.length();
+		boolean formatado = comprimento == mascara.length();
+		if (!formatado && comprimento != tamanho) {
+			return FORMATO_NAO_RECONHECIDO;
+		}
+		long numero = 0;
+		for (int i = 0; i < comprimento; i++) {
+			char caractere = documento.charAt(i);
+			if (formatado && mascara.charAt(i) != '#') {
+				if (caractere != mascara.charAt(i)) {
+					return FORMATO_NAO_RECONHECIDO;
+				}
+				continue;
+			}
+			int num = valorDoDigito(caractere);
+			if (num == NAO_E_DIGITO) {
+				return FORMATO_NAO_RECONHECIDO;
+			}
+			numero = numero * 10 + num;
 		}
+		return numero;
+	}
+
+	/**
+	 * Valor do caractere no calculo do CNPJ, consultado em
+	 * {@link #VALORES_DO_CNPJ} sem desvios: caracteres fora da tabela, inclusive
+	 * bytes negativos, resultam em um valor negativo.
+	 */
+	static int valorNoCnpj(int caractere) {
+		return VALORES_DO_CNPJ[caractere & 0xFF] | -(caractere >>> 8);
+	}
+
+	private static int valorDoDigito(int caractere) {
+		int num = caractere - '0';
+		return (num | (9 - num)) < 0 ? NAO_E_DIGITO : num;
 	}
-}
\ No newline at end of file
+}
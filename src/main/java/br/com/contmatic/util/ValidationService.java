@@ -0,0 +1,142 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.Constantes.OBJETO_VAZIO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import br.com.contmatic.empresa.Cliente;
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.empresa.Fornecedor;
+import br.com.contmatic.empresa.Funcionario;
+import br.com.contmatic.empresa.Produto;
+import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.telefone.Telefone;
+
+/**
+ * Validacao por Bean Validation com um unico {@link ValidatorFactory}.
+ *
+ * O factory e criado uma vez, no carregamento da classe, e os metadados de
+ * restricao das classes de dominio sao calculados na mesma hora, para que a
+ * primeira validacao nao pague a inicializacao do Hibernate Validator. O
+ * {@link Validator} e thread safe e compartilhado por todas as chamadas.
+ *
+ * @author gabriel.santos
+ */
+public final class ValidationService {
+
+	/** Classes cujos metadados sao calculados na inicializacao. */
+	static final List<Class<?>> CLASSES_DE_DOMINIO = Collections.unmodifiableList(Arrays.asList(Cliente.class,
+			Empresa.class, Fornecedor.class, Funcionario.class, Produto.class, Endereco.class, Telefone.class));
+
+	private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+
+	private static final Validator VALIDADOR = FACTORY.getValidator();
+
+	static {
+		for (Class<?> classe : CLASSES_DE_DOMINIO) {
+			VALIDADOR.getConstraintsForClass(classe);
+		}
+	}
+
+	private ValidationService() {
+	}
+
+	public static Validator getValidador() {
+		return VALIDADOR;
+	}
+
+	/**
+	 * Valida o objeto com o validador compartilhado.
+	 *
+	 * @param <T>    o tipo do objeto
+	 * @param objeto o objeto
+	 * @param grupos os grupos de validacao
+	 * @return as violacoes e suas mensagens
+	 */
+	public static <T> Violacoes<T> validate(T objeto, Class<?>... grupos) {
+		if (objeto == null) {
+			throw new IllegalArgumentException(OBJETO_VAZIO);
+		}
+		return new Violacoes<>(VALIDADOR.validate(objeto, grupos));
+	}
+
+	/**
+	 * Valida uma unica propriedade do objeto.
+	 *
+	 * @param <T>         o tipo do objeto
+	 * @param objeto      o objeto
+	 * @param propriedade o nome da propriedade
+	 * @param grupos      os grupos de validacao
+	 * @return as violacoes e suas mensagens
+	 */
+	public static <T> Violacoes<T> validateProperty(T objeto, String propriedade, Class<?>... grupos) {
+		if (objeto == null) {
+			throw new IllegalArgumentException(OBJETO_VAZIO);
+		}
+		return new Violacoes<>(VALIDADOR.validateProperty(objeto, propriedade, grupos));
+	}
+
+	/**
+	 * Violacoes de uma validacao, com as mensagens ja extraidas.
+	 *
+	 * @param <T> o tipo do objeto validado
+	 */
+	public static final class Violacoes<T> {
+
+		private final Set<ConstraintViolation<T>> violacoes;
+
+		private final List<String> mensagens;
+
+		Violacoes(Set<ConstraintViolation<T>> violacoes) {
+			this.violacoes = Collections.unmodifiableSet(violacoes);
+			List<String> lista = new ArrayList<>(violacoes.size());
+			for (ConstraintViolation<T> violacao : violacoes) {
+				lista.add(violacao.getMessage());
+			}
+			this.mensagens = Collections.unmodifiableList(lista);
+		}
+
+		public boolean isValido() {
+			return violacoes.isEmpty();
+		}
+
+		public Set<ConstraintViolation<T>> getViolacoes() {
+			return violacoes;
+		}
+
+		public List<String> getMensagens() {
+			return mensagens;
+		}
+
+		/**
+		 * Verifica se alguma violacao tem a mensagem informada, ignorando
+		 * maiusculas e minusculas.
+		 *
+		 * @param mensagem a mensagem
+		 * @return true, se houver violacao com a mensagem
+		 */
+		public boolean contem(String mensagem) {
+			for (String existente : mensagens) {
+				if (existente.equalsIgnoreCase(mensagem)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public String toString() {
+			return mensagens.toString();
+		}
+	}
+
+}
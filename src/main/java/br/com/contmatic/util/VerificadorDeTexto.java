@@ -0,0 +1,78 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.util.CodigoDeErro.NAO_ACEITA_CARACTERES_ESPECIAIS;
+import static br.com.contmatic.util.CodigoDeErro.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM;
+import static br.com.contmatic.util.CodigoDeErro.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS;
+import static br.com.contmatic.util.CodigoDeErro.OK;
+
+/**
+ * Verificacao em uma unica passada, sem alocacao, das tres regras de
+ * {@link RegexType#validaEspacosIncorretosECaracteresEspeciais(String)}.
+ *
+ * O resultado e o mesmo das verificacoes originais, feitas em sequencia:
+ * <ol>
+ * <li>caracteres de {@link RegexType#CARACTERES_ESPECIAIS};</li>
+ * <li>caracteres que {@link String#trim()} removeria no inicio ou no fim;</li>
+ * <li>dois espacos seguidos, como em {@link RegexType#ESPACOS_DUPLICADOS}.</li>
+ * </ol>
+ * Um caractere especial e informado mesmo que o texto tambem tenha espacos
+ * incorretos, como acontecia quando as regras eram verificadas nessa ordem.
+ *
+ * @author gabriel.santos
+ */
+public final class VerificadorDeTexto {
+
+	/** Caracteres de {@link RegexType#CARACTERES_ESPECIAIS}, um bit por caractere de 0 a 255. */
+	private static final long[] ESPECIAIS = new long[4];
+
+	/** Espacos de {@code \s}: espaco, tab, quebra de linha, tab vertical, form feed e retorno de carro. */
+	private static final long ESPACOS = 1L << ' ' | 1L << '\t' | 1L << '\n' | 1L << 0x0B | 1L << '\f' | 1L << '\r';
+
+	static {
+		for (char c : "!@#$%¨&*()_+=|`´^~/{}".toCharArray()) {
+			ESPECIAIS[c >>> 6] |= 1L << c;
+		}
+	}
+
+	private VerificadorDeTexto() {
+	}
+
+	/**
+	 * Verifica o texto e devolve a primeira regra violada, na ordem das
+	 * verificacoes originais.
+	 *
+	 * @param texto o texto
+	 * @return {@link CodigoDeErro#OK} ou o codigo da regra violada
+	 */
+	public static int verifica(CharSequence texto) {
+		int tamanho = texto.length();
+		if (tamanho == 0) {
+			return OK;
+		}
+		boolean espacoNasPontas = texto.charAt(0) <= ' ' || texto.charAt(tamanho - 1) <= ' ';
+		boolean espacosRepetidos = false;
+		boolean anteriorEspaco = false;
+		for (int i = 0; i < tamanho; i++) {
+			char caractere = texto.charAt(i);
+			if (isEspecial(caractere)) {
+				return NAO_ACEITA_CARACTERES_ESPECIAIS;
+			}
+			boolean espaco = isEspaco(caractere);
+			espacosRepetidos |= espaco & anteriorEspaco;
+			anteriorEspaco = espaco;
+		}
+		if (espacoNasPontas) {
+			return NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM;
+		}
+		return espacosRepetidos ? NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS : OK;
+	}
+
+	private static boolean isEspecial(char caractere) {
+		return caractere < 256 && (ESPECIAIS[caractere >>> 6] & 1L << caractere) != 0;
+	}
+
+	private static boolean isEspaco(char caractere) {
+		return caractere <= ' ' && (ESPACOS & 1L << caractere) != 0;
+	}
+
+}
@@ -0,0 +1,76 @@
+package br.com.contmatic.documento;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class CnpjTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CnpjTest {
+
+	@Test
+	public void deve_guardar_o_cnpj_como_long() {
+		assertEquals(35667373000103L, Cnpj.valueOf("35667373000103").longValue());
+	}
+
+	@Test
+	public void deve_manter_zeros_a_esquerda_no_toString() {
+		Cnpj cnpj = Cnpj.valueOf("00682547000114");
+		assertEquals("00682547000114", cnpj.toString());
+		assertEquals(cnpj, Cnpj.valueOf(682547000114L));
+	}
+
+	@Test
+	public void deve_guardar_o_texto_depois_da_primeira_chamada() {
+		Cnpj cnpj = Cnpj.valueOf("12ABC34501DE35");
+		assertSame(cnpj.toString(), cnpj.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_vazio() {
+		Cnpj.valueOf("");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_cnpj_invalido() {
+		Cnpj.valueOf("35667373000104");
+	}
+
+	@Test
+	public void deve_comparar_pelo_valor() {
+		Cnpj menor = Cnpj.valueOf("21298596000128");
+		Cnpj maior = Cnpj.valueOf("35667373000103");
+		assertTrue(menor.compareTo(maior) < 0);
+		assertEquals(Cnpj.valueOf("35667373000103").hashCode(), maior.hashCode());
+		assertNotEquals(menor, maior);
+	}
+
+	@Test
+	public void deve_aceitar_cnpj_alfanumerico_com_ou_sem_mascara() {
+		Cnpj cnpj = Cnpj.valueOf("12ABC34501DE35");
+		assertTrue(cnpj.isAlfanumerico());
+		assertEquals("12ABC34501DE35", cnpj.toString());
+		assertEquals(cnpj, Cnpj.valueOf("12.ABC.345/01DE-35"));
+		assertEquals(cnpj, Cnpj.valueOf(cnpj.longValue()));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_cnpj_alfanumerico_com_digito_incorreto() {
+		Cnpj.valueOf("12ABC34501DE36");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_base_alfanumerica_codificada_sem_letras() {
+		Cnpj.valueOf(-2L);
+	}
+
+}
@@ -0,0 +1,64 @@
+package br.com.contmatic.documento;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class CpfTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CpfTest {
+
+	@Test
+	public void deve_guardar_o_cpf_como_long() {
+		assertEquals(39609538878L, Cpf.valueOf("39609538878").longValue());
+	}
+
+	@Test
+	public void deve_manter_zeros_a_esquerda_no_toString() {
+		Cpf cpf = Cpf.valueOf("01234567890");
+		assertEquals(1234567890L, cpf.longValue());
+		assertEquals("01234567890", cpf.toString());
+		assertEquals(cpf, Cpf.valueOf(1234567890L));
+	}
+
+	@Test
+	public void deve_guardar_o_texto_depois_da_primeira_chamada() {
+		Cpf cpf = Cpf.valueOf("39609538878");
+		assertSame(cpf.toString(), cpf.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_null() {
+		Cpf.valueOf((CharSequence) null);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_cpf_invalido() {
+		Cpf.valueOf("39609538877");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_long_invalido() {
+		Cpf.valueOf(11111111111L);
+	}
+
+	@Test
+	public void deve_comparar_pelo_valor() {
+		Cpf menor = Cpf.valueOf("23177895805");
+		Cpf maior = Cpf.valueOf("39609538878");
+		assertTrue(menor.compareTo(maior) < 0);
+		assertEquals(Cpf.valueOf("39609538878"), maior);
+		assertEquals(Cpf.valueOf("39609538878").hashCode(), maior.hashCode());
+		assertNotEquals(menor, maior);
+	}
+
+}
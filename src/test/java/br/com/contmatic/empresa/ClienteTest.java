@@ -6,17 +6,14 @@ import static br.com.contmatic.util.Constantes.NOME_INVALIDO;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.runners.MethodSorters.NAME_ASCENDING;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
-import javax.validation.ConstraintViolation;
-import javax.validation.Validation;
-import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
-
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -25,6 +22,9 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.util.Constantes;
+import br.com.contmatic.util.ResultadoDeValidacao;
+import br.com.contmatic.util.ValidationService;
 import br.com.six2six.fixturefactory.Fixture;
 import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
 
@@ -42,12 +42,6 @@ public class ClienteTest {
 	private Telefone telefone;
 	
 	private Set<Telefone> telefones = new HashSet<>();
-	
-	/** The validator. */
-	private Validator validator;
-	
-	/** The factory. */
-	private ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
 
 	/**
 	 * Set up before class.
@@ -75,13 +69,7 @@ public class ClienteTest {
 	 * @return true, if is valid
 	 */
 	public boolean isValid(Cliente cliente, String mensagem) {
-		validator = factory.getValidator();
-		boolean valido = true;
-		Set<ConstraintViolation<Cliente>> restricoes = validator.validate(cliente);
-		for (ConstraintViolation<Cliente> constraintViolation : restricoes)
-			if (constraintViolation.getMessage().equalsIgnoreCase(mensagem))
-				valido = false;
-		return valido;
+		return !ValidationService.validate(cliente).contem(mensagem);
 	}
 
 	@Test
@@ -90,6 +78,17 @@ public class ClienteTest {
 		assertEquals("43701888817", cliente.getCpf());
 	}
 	
+	@Test
+	public void deve_aceitar_cpf_com_mascara() {
+		cliente.setCpf("437.018.888-17");
+		assertEquals("43701888817", cliente.getCpf());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_cpf_com_mascara_incorreta() {
+		cliente.setCpf("437-018.888.17");
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void nao_deve_aceitar_null_no_cpf() {
 		cliente.setCpf(null);
@@ -352,6 +351,26 @@ public class ClienteTest {
 		assertEquals(cliente.toString(), clienteToString);
 	}
 
+	@Test
+	public void construtor_deve_criar_cliente_igual_ao_construtor_com_setters() {
+		ResultadoDeValidacao<Cliente> resultado = Cliente.construtor().cpf("39609538878").nome("Gabriel")
+				.telefones(telefones).boleto(BigDecimal.valueOf(250.00)).constroi();
+		assertTrue(resultado.isValido());
+		assertEquals(new Cliente("39609538878", "Gabriel", telefones, BigDecimal.valueOf(250.00)),
+				resultado.getObjeto());
+	}
+
+	@Test
+	public void construtor_deve_devolver_os_erros_de_todos_os_campos() {
+		ResultadoDeValidacao<Cliente> resultado = Cliente.construtor().cpf("3960953887").nome("Gabriel@")
+				.email("a@b.c").boleto(BigDecimal.ZERO).constroi();
+		assertFalse(resultado.isValido());
+		assertEquals(5, resultado.getErros().getQuantidade());
+		assertEquals(Arrays.asList(Constantes.TAMANHO_DO_CPF_PEQUENO_DEMAIS, Constantes.NAO_ACEITA_CARACTERES_ESPECIAIS,
+				Constantes.TAMANHO_DO_EMAIL_PEQUENO_DEMAIS, Constantes.TELEFONE_VAZIO, Constantes.BOLETO_NEGATIVO),
+				resultado.getErros().getMensagens());
+	}
+
 	/**
 	 * Tear down.
 	 */
@@ -2,19 +2,17 @@ package br.com.contmatic.empresa;
 
 import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
 import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static br.com.contmatic.util.Constantes.CNPJ_INVALIDO;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.runners.MethodSorters.NAME_ASCENDING;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
-import javax.validation.ConstraintViolation;
-import javax.validation.Validation;
-import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
-
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -24,6 +22,9 @@ import org.junit.Test;
 
 import br.com.contmatic.endereco.Endereco;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.util.Constantes;
+import br.com.contmatic.util.ResultadoDeValidacao;
+import br.com.contmatic.util.ValidationService;
 import br.com.six2six.fixturefactory.Fixture;
 import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;;
 
@@ -45,12 +46,6 @@ public class EmpresaTest {
 	private Endereco endereco;
 	
 	private Set<Endereco> enderecos = new HashSet<>();
-	
-	/** The validator. */
-	private Validator validator;
-	
-	/** The factory. */
-	private ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
 
 	/**
 	 * Set up before class.
@@ -80,13 +75,7 @@ public class EmpresaTest {
 	 * @return true, if is valid
 	 */
 	public boolean isValid(Empresa empresa, String mensagem) {
-		validator = factory.getValidator();
-		boolean valido = true;
-		Set<ConstraintViolation<Empresa>> restricoes = validator.validate(empresa);
-		for (ConstraintViolation<Empresa> constraintViolation : restricoes)
-			if (constraintViolation.getMessage().equalsIgnoreCase(mensagem))
-				valido = false;
-		return valido;
+		return !ValidationService.validate(empresa).contem(mensagem);
 	}
 
 	@Test
@@ -95,6 +84,24 @@ public class EmpresaTest {
 		assertEquals("35667373000103", empresa.getCnpj());
 	}
 	
+	@Test
+	public void deve_aceitar_cnpj_com_mascara() {
+		empresa.setCnpj("35.667.373/0001-03");
+		assertEquals("35667373000103", empresa.getCnpj());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_aceitar_cnpj_com_mascara_e_digito_incorreto() {
+		empresa.setCnpj("35.667.373/0001-04");
+	}
+
+	@Test
+	public void deve_aceitar_cnpj_alfanumerico() {
+		empresa.setCnpj("12.ABC.345/01DE-35");
+		assertEquals("12ABC34501DE35", empresa.getCnpj());
+		assertTrue(isValid(empresa, CNPJ_INVALIDO));
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void nao_deve_aceitar_null_no_cnpj() {
 		empresa.setCnpj(null);
@@ -333,6 +340,25 @@ public class EmpresaTest {
 		assertEquals(empresaPreenchida.toString(), empresaPreenchidaToStringo);
 	}
 
+	@Test
+	public void construtor_deve_criar_empresa_igual_ao_construtor_com_setters() {
+		ResultadoDeValidacao<Empresa> resultado = Empresa.construtor().cnpj("35667373000103")
+				.nome("GB Conserto de computadores").telefones(telefones).enderecos(enderecos).constroi();
+		assertTrue(resultado.isValido());
+		assertEquals(new Empresa("35667373000103", "GB Conserto de computadores", telefones, enderecos),
+				resultado.getObjeto());
+	}
+
+	@Test
+	public void construtor_deve_devolver_os_erros_de_todos_os_campos() {
+		ResultadoDeValidacao<Empresa> resultado = Empresa.construtor().cnpj("35667373000104").nome(" GB")
+				.site("www").constroi();
+		assertFalse(resultado.isValido());
+		assertEquals(Arrays.asList(Constantes.CNPJ_INVALIDO, Constantes.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM,
+				Constantes.TAMANHO_DO_SITE_PEQUENO_DEMAIS, Constantes.TELEFONE_VAZIO, Constantes.ENDERECO_VAZIO),
+				resultado.getErros().getMensagens());
+	}
+
 	/**
 	 * Tear down.
 	 */
@@ -3,7 +3,9 @@ package br.com.contmatic.empresa;
 import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
 import static br.com.contmatic.telefone.TelefoneType.CELULAR;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.runners.MethodSorters.NAME_ASCENDING;
 
 import java.util.HashSet;
@@ -18,6 +20,8 @@ import org.junit.Test;
 
 import br.com.contmatic.endereco.Endereco;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.util.CodigoDeErro;
+import br.com.contmatic.util.ResultadoDeValidacao;
 import br.com.six2six.fixturefactory.Fixture;
 import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;;
 
@@ -70,6 +74,12 @@ public class FornecedorTest {
 		assertEquals("35667373000103", fornecedor.getCnpj());
 	}
 	
+	@Test
+	public void deve_aceitar_cnpj_alfanumerico() {
+		fornecedor.setCnpj("12.ABC.345/01DE-35");
+		assertEquals("12ABC34501DE35", fornecedor.getCnpj());
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void nao_deve_aceitar_null_no_cnpj() {
 		fornecedor.setCnpj(null);
@@ -303,6 +313,33 @@ public class FornecedorTest {
 		assertEquals(fornecedorPreenchido.toString(), fornecedorPreenchidoToString);
 	}
 
+	@Test
+	public void construtor_deve_criar_fornecedor_igual_ao_construtor_com_setters() {
+		ResultadoDeValidacao<Fornecedor> resultado = Fornecedor.construtor().cnpj("35667373000103")
+				.nome("CA peças LTDA").telefones(telefones).produtos(produtos).enderecos(enderecos).constroi();
+		assertTrue(resultado.isValido());
+		assertEquals(new Fornecedor("35667373000103", "CA peças LTDA", telefones, produtos, enderecos),
+				resultado.getObjeto());
+	}
+
+	@Test
+	public void construtor_deve_devolver_os_erros_de_todos_os_campos() {
+		ResultadoDeValidacao<Fornecedor> resultado = Fornecedor.construtor().nome("CA  peças").produtos(produtos)
+				.constroi();
+		assertFalse(resultado.isValido());
+		assertEquals((1L << Fornecedor.Construtor.CNPJ) | (1L << Fornecedor.Construtor.NOME)
+				| (1L << Fornecedor.Construtor.TELEFONES) | (1L << Fornecedor.Construtor.ENDERECOS),
+				resultado.getErros().getCampos());
+		assertEquals(CodigoDeErro.CNPJ_VAZIO, resultado.getErros().getCodigo(Fornecedor.Construtor.CNPJ));
+		assertEquals(CodigoDeErro.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS,
+				resultado.getErros().getCodigo(Fornecedor.Construtor.NOME));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void construtor_nao_deve_entregar_fornecedor_com_erros() {
+		Fornecedor.construtor().constroi().getObjeto();
+	}
+
 	/**
 	 * Tear down.
 	 */
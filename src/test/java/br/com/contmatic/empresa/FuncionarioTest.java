@@ -11,14 +11,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.runners.MethodSorters.NAME_ASCENDING;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
-import javax.validation.ConstraintViolation;
-import javax.validation.Validation;
-import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
-
 import org.joda.time.LocalDate;
 import org.junit.After;
 import org.junit.AfterClass;
@@ -29,6 +25,9 @@ import org.junit.Test;
 
 import br.com.contmatic.endereco.Endereco;
 import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.util.Constantes;
+import br.com.contmatic.util.ResultadoDeValidacao;
+import br.com.contmatic.util.ValidationService;
 import br.com.six2six.fixturefactory.Fixture;
 import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
 
@@ -50,12 +49,6 @@ public class FuncionarioTest {
 	private Endereco endereco;
 	
 	private Set<Endereco> enderecos = new HashSet<>();
-	
-	/** The validator. */
-	private Validator validator;
-	
-	/** The factory. */
-	private ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
 
 	/**
 	 * Set up before class.
@@ -85,13 +78,7 @@ public class FuncionarioTest {
 	 * @return true, if is valid
 	 */
 	public boolean isValid(Funcionario funcionario, String mensagem) {
-		validator = factory.getValidator();
-		boolean valido = true;
-		Set<ConstraintViolation<Funcionario>> restricoes = validator.validate(funcionario);
-		for (ConstraintViolation<Funcionario> constraintViolation : restricoes)
-			if (constraintViolation.getMessage().equalsIgnoreCase(mensagem))
-				valido = false;
-		return valido;
+		return !ValidationService.validate(funcionario).contem(mensagem);
 	}
 
 	@Test
@@ -340,6 +327,27 @@ public class FuncionarioTest {
 		assertEquals(funcionario.getDataSalario(), funcionario.getDataSalario());
 	}
 
+	@Test
+	public void construtor_deve_criar_funcionario_igual_ao_construtor_com_setters() {
+		LocalDate contratacao = new LocalDate(2020, 1, 6);
+		ResultadoDeValidacao<Funcionario> resultado = Funcionario.construtor().cpf("39609538878").nome("Gabriel Bueno")
+				.idade(25).telefones(telefones).enderecos(enderecos).salario(BigDecimal.valueOf(1500.00))
+				.dataContratacao(contratacao).dataSalario(contratacao).constroi();
+		assertTrue(resultado.isValido());
+		assertEquals(new Funcionario("39609538878", "Gabriel Bueno", 25, telefones, enderecos,
+				BigDecimal.valueOf(1500.00), contratacao, contratacao), resultado.getObjeto());
+	}
+
+	@Test
+	public void construtor_deve_devolver_os_erros_de_todos_os_campos() {
+		ResultadoDeValidacao<Funcionario> resultado = Funcionario.construtor().cpf("39609538877").nome("G")
+				.idade(13).telefones(telefones).enderecos(enderecos).salario(BigDecimal.valueOf(1000.00)).constroi();
+		assertFalse(resultado.isValido());
+		assertEquals(Arrays.asList(Constantes.CPF_INVALIDO, Constantes.TAMANHO_DO_NOME_PEQUENO_DEMAIS,
+				Constantes.IDADE_MINIMA_MENSAGEM, Constantes.SALARIO_MINIMO_MENSAGEM),
+				resultado.getErros().getMensagens());
+	}
+
 	/**
 	 * Tear down.
 	 */
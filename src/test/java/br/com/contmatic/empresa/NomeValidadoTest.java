@@ -0,0 +1,118 @@
+package br.com.contmatic.empresa;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.util.Constantes;
+import br.com.contmatic.util.LetrasNumerosValidator;
+import br.com.contmatic.util.LetrasValidator;
+import br.com.contmatic.util.ValidationService;
+import br.com.six2six.fixturefactory.Fixture;
+import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
+
+/**
+ * The Class NomeValidadoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class NomeValidadoTest {
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		FixtureFactoryLoader.loadTemplates("br.com.contmatic.util");
+	}
+
+	@Test
+	public void deve_guardar_o_texto_do_nome() {
+		NomeValidado nome = NomeValidado.valueOf("Gabriel Bueno");
+		assertEquals("Gabriel Bueno", nome.toString());
+		assertEquals(13, nome.length());
+		assertEquals('G', nome.charAt(0));
+		assertEquals("Bueno", nome.subSequence(8, 13));
+	}
+
+	@Test
+	public void deve_marcar_as_classes_de_caracteres_na_criacao() {
+		assertTrue(NomeValidado.valueOf("Gabriel Bueno").isLetras());
+		assertTrue(NomeValidado.valueOf("Gabriel Bueno").isLetrasNumeros());
+		assertFalse(NomeValidado.valueOf("Ryzen 5 2600").isLetras());
+		assertTrue(NomeValidado.valueOf("Ryzen 5 2600").isLetrasNumeros());
+	}
+
+	@Test
+	public void deve_ser_aceito_pelos_validadores_sem_percorrer_o_texto() {
+		assertTrue(new LetrasValidator().isValid(NomeValidado.valueOf("Gabriel Bueno"), null));
+		assertFalse(new LetrasValidator().isValid(NomeValidado.valueOf("Ryzen 5 2600"), null));
+		assertTrue(new LetrasNumerosValidator().isValid(NomeValidado.valueOf("Ryzen 5 2600"), null));
+	}
+
+	@Test
+	public void deve_usar_a_mensagem_do_setter() {
+		String[] textos = { null, "", "   ", "G", " Gabriel", "Gabriel  Bueno", "Gabriel@Bueno" };
+		for (String texto : textos) {
+			String esperada = mensagem(() -> new Empresa().setNome(texto));
+			assertEquals(texto, esperada, mensagem(() -> NomeValidado.valueOf(texto)));
+		}
+	}
+
+	@Test
+	public void deve_guardar_no_setter_o_nome_validado() {
+		Empresa empresa = new Empresa();
+		empresa.setNome("Bueno Developers");
+		assertEquals(NomeValidado.valueOf("Bueno Developers"), empresa.getNomeValidado());
+		assertEquals("Bueno Developers", empresa.getNome());
+	}
+
+	@Test
+	public void deve_atribuir_o_nome_validado_sem_validar_de_novo() {
+		NomeValidado nome = NomeValidado.valueOf("Gustavo Manhani");
+		Cliente cliente = new Cliente();
+		cliente.setNomeValidado(nome);
+		assertSame(nome, cliente.getNomeValidado());
+		assertFalse(ValidationService.validate(cliente).contem(Constantes.NOME_INVALIDO));
+		assertFalse(ValidationService.validate(cliente).contem(Constantes.NOME_VAZIO));
+	}
+
+	@Test
+	public void deve_manter_a_restricao_de_letras_da_entidade() {
+		Produto produto = Fixture.from(Produto.class).gimme("valido");
+		produto.setNomeValidado(NomeValidado.valueOf("Ryzen 5 2600"));
+		assertTrue(ValidationService.validate(produto).contem(Constantes.NOME_INVALIDO));
+		assertTrue(ProdutoValidador.valida(produto).contains(Constantes.NOME_INVALIDO));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_atribuir_nome_validado_nulo() {
+		new Fornecedor().setNomeValidado(null);
+	}
+
+	@Test
+	public void deve_comparar_pelo_texto() {
+		NomeValidado menor = NomeValidado.valueOf("Bueno Developers");
+		NomeValidado maior = NomeValidado.valueOf("Santos Company");
+		assertTrue(menor.compareTo(maior) < 0);
+		assertEquals(NomeValidado.valueOf("Santos Company"), maior);
+		assertEquals(NomeValidado.valueOf("Santos Company").hashCode(), maior.hashCode());
+		assertNotEquals(menor, maior);
+		assertNotEquals(maior, "Santos Company");
+	}
+
+	private static String mensagem(Runnable acao) {
+		try {
+			acao.run();
+			return null;
+		} catch (IllegalArgumentException e) {
+			return e.getMessage();
+		}
+	}
+
+}
@@ -1,11 +1,14 @@
 package br.com.contmatic.empresa;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
+import java.util.Arrays;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -13,6 +16,8 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import br.com.contmatic.util.Constantes;
+import br.com.contmatic.util.ResultadoDeValidacao;
 import br.com.six2six.fixturefactory.Fixture;
 import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
 
@@ -212,6 +217,23 @@ public class ProdutoTest {
 		assertNotEquals(produto, new Object());
 	}
 	
+	@Test
+	public void construtor_deve_criar_produto_igual_ao_construtor_com_setters() {
+		ResultadoDeValidacao<Produto> resultado = Produto.construtor().id(1).nome("Processador").quantidade(2)
+				.preco(BigDecimal.valueOf(900)).constroi();
+		assertTrue(resultado.isValido());
+		assertEquals(new Produto(1, "Processador", 2, BigDecimal.valueOf(900)), resultado.getObjeto());
+	}
+
+	@Test
+	public void construtor_deve_devolver_os_erros_de_todos_os_campos() {
+		ResultadoDeValidacao<Produto> resultado = Produto.construtor().id(0).quantidade(0)
+				.preco(BigDecimal.valueOf(0.5)).constroi();
+		assertFalse(resultado.isValido());
+		assertEquals(Arrays.asList(Constantes.ID_VAZIO, Constantes.NOME_VAZIO, Constantes.QUANTIDADE_MINIMA_MENSAGEM,
+				Constantes.PRECO_MINIMO_MENSAGEM), resultado.getErros().getMensagens());
+	}
+
 	@After
 	public void tearDown() {
 	}
@@ -0,0 +1,95 @@
+package br.com.contmatic.endereco;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.util.CepValidoValidator;
+import br.com.contmatic.util.Constantes;
+
+/**
+ * The Class CepTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class CepTest {
+
+	@Test
+	public void deve_guardar_o_texto_do_cep() {
+		Cep cep = Cep.valueOf("04517020");
+		assertEquals("04517020", cep.toString());
+		assertEquals(8, cep.length());
+		assertEquals('4', cep.charAt(1));
+	}
+
+	@Test
+	public void deve_ser_aceito_pelo_validador_sem_percorrer_o_texto() {
+		assertTrue(new CepValidoValidator().isValid(Cep.valueOf("04517020"), null));
+	}
+
+	@Test
+	public void deve_calcular_as_demais_classes_de_caracteres() {
+		assertTrue(Cep.valueOf("04517020").isCep());
+		assertTrue(Cep.valueOf("04517020").isLetrasNumeros());
+		assertFalse(Cep.valueOf("04517020").isLetras());
+	}
+
+	@Test
+	public void deve_guardar_no_setter_o_cep_validado() {
+		Endereco endereco = new Endereco("04517020", 1);
+		assertEquals(Cep.valueOf("04517020"), endereco.getCepValidado());
+		assertEquals("04517020", endereco.getCep());
+	}
+
+	@Test
+	public void deve_atribuir_o_cep_validado_sem_validar_de_novo() {
+		Cep cep = Cep.valueOf("08121019");
+		Endereco endereco = new Endereco("04517020", 1);
+		endereco.setCepValidado(cep);
+		assertSame(cep, endereco.getCepValidado());
+	}
+
+	@Test
+	public void deve_recusar_no_setter_o_cep_recusado_pelo_cep_valido() {
+		try {
+			new Endereco("0451702a", 1);
+		} catch (IllegalArgumentException e) {
+			assertEquals(Constantes.CEP_INVALIDO, e.getMessage());
+			return;
+		}
+		throw new AssertionError();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_null() {
+		Cep.valueOf(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_tamanho_incorreto() {
+		Cep.valueOf("0451702");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_atribuir_cep_validado_nulo() {
+		new Endereco("04517020", 1).setCepValidado(null);
+	}
+
+	@Test
+	public void deve_comparar_pelo_texto() {
+		Cep menor = Cep.valueOf("04517020");
+		Cep maior = Cep.valueOf("08121019");
+		assertTrue(menor.compareTo(maior) < 0);
+		assertEquals(Cep.valueOf("08121019"), maior);
+		assertEquals(Cep.valueOf("08121019").hashCode(), maior.hashCode());
+		assertNotEquals(menor, maior);
+	}
+
+}
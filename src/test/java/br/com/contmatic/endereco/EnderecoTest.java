@@ -1,7 +1,10 @@
 package br.com.contmatic.endereco;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -461,6 +464,31 @@ public class EnderecoTest {
 		assertEquals(enderecoPreenchido.toString(), enderecoPreenchidoToString);
 	}
 
+	@Test
+	public void deve_compartilhar_o_endereco_canonico() {
+		Endereco igual = new Endereco(endereco.getCep(), endereco.getRua(), endereco.getNumero(),
+				endereco.getComplemento(), endereco.getBairro(), endereco.getCidade(), endereco.getEstado());
+		Endereco canonico = endereco.canonico();
+		assertSame(canonico, igual.canonico());
+		assertEquals(endereco, canonico);
+		assertTrue(canonico.isCongelado());
+		assertFalse(endereco.isCongelado());
+		assertSame(canonico, canonico.canonico());
+	}
+
+	@Test
+	public void deve_guardar_o_hash_do_endereco_congelado() {
+		int hash = endereco.hashCode();
+		assertSame(endereco, endereco.congela());
+		assertEquals(hash, endereco.hashCode());
+		assertSame(endereco, endereco.congela());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_alterar_o_endereco_congelado() {
+		endereco.congela().setCidade(cidade);
+	}
+
     /**
      * Tear down.
      */
@@ -0,0 +1,204 @@
+package br.com.contmatic.processador;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD12;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Cliente;
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.empresa.Fornecedor;
+import br.com.contmatic.empresa.Funcionario;
+import br.com.contmatic.empresa.Produto;
+import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.telefone.Telefone;
+import br.com.six2six.fixturefactory.Fixture;
+import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
+
+/**
+ * The Class ProcessadorDeIgualdadeTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ProcessadorDeIgualdadeTest {
+
+	private static final List<Class<?>> CLASSES = Arrays.asList(Cliente.class, Empresa.class, Fornecedor.class,
+			Funcionario.class, Produto.class, Endereco.class, Telefone.class);
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		FixtureFactoryLoader.loadTemplates("br.com.contmatic.util");
+	}
+
+	/** Copia os campos que entram na igualdade, como o reflectionEquals os ve. */
+	private static void copia(Object origem, Object destino) throws IllegalAccessException {
+		for (Field campo : origem.getClass().getDeclaredFields()) {
+			if (!Modifier.isStatic(campo.getModifiers()) && !Modifier.isTransient(campo.getModifiers())) {
+				FieldUtils.writeField(campo, destino, FieldUtils.readField(campo, origem, true), true);
+			}
+		}
+	}
+
+	@Test
+	public void deve_comparar_como_o_reflection_equals() throws IllegalAccessException {
+		for (Class<?> classe : CLASSES) {
+			Object objeto = Fixture.from(classe).gimme("valido");
+			Object outro = Fixture.from(classe).gimme("valido");
+			assertEquals(classe.getName(), EqualsBuilder.reflectionEquals(objeto, outro), objeto.equals(outro));
+			copia(objeto, outro);
+			assertTrue(classe.getName(), EqualsBuilder.reflectionEquals(objeto, outro));
+			assertTrue(classe.getName(), objeto.equals(outro) && outro.equals(objeto));
+			assertEquals(classe.getName(), objeto.hashCode(), outro.hashCode());
+		}
+	}
+
+	@Test
+	public void deve_diferenciar_objetos_com_um_campo_diferente() {
+		Telefone telefone = new Telefone(DDD11, "940038460", CELULAR);
+		assertNotEquals(telefone, new Telefone(DDD12, "940038460", CELULAR));
+		assertNotEquals(telefone, new Telefone(DDD11, "940038461", CELULAR));
+		assertFalse(telefone.equals(null));
+		assertFalse(telefone.equals("940038460"));
+		assertTrue(telefone.equals(telefone));
+	}
+
+	@Test
+	public void deve_guardar_o_hash_calculado() throws IllegalAccessException {
+		Telefone telefone = new Telefone(DDD11, "940038460", CELULAR);
+		assertEquals(0, FieldUtils.readField(telefone, "hash", true));
+		int hash = telefone.hashCode();
+		assertEquals(hash, FieldUtils.readField(telefone, "hash", true));
+		assertEquals(hash, telefone.hashCode());
+	}
+
+	@Test
+	public void deve_recalcular_o_hash_depois_de_um_setter() throws IllegalAccessException {
+		Telefone telefone = new Telefone(DDD11, "940038460", CELULAR);
+		Telefone outro = new Telefone(DDD11, "940038461", CELULAR);
+		int hash = telefone.hashCode();
+		outro.hashCode();
+		telefone.setNumero("940038461");
+		assertEquals(0, FieldUtils.readField(telefone, "hash", true));
+		assertEquals(outro.hashCode(), telefone.hashCode());
+		assertNotEquals(hash, telefone.hashCode());
+		assertEquals(outro, telefone);
+	}
+
+	@Test
+	public void deve_achar_objetos_iguais_num_hash_set() {
+		Set<Produto> produtos = new HashSet<>();
+		for (int i = 1; i <= 100; i++) {
+			produtos.add(Produto.construtor().id(i).nome("Produto").constroi().getObjeto());
+		}
+		assertEquals(100, produtos.size());
+		assertTrue(produtos.contains(new Produto(42, "Produto")));
+		assertFalse(produtos.contains(new Produto(101, "Produto")));
+	}
+
+	@Test
+	public void deve_gerar_a_igualdade_de_campos_primitivos_e_arrays() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Primitivos",
+				"@br.com.contmatic.processador.GeraIgualdade public class Primitivos {"
+						+ " transient int hash; static int contador; boolean b; char c; long l; float f; double d;"
+						+ " int[] numeros; String[] textos; java.util.List<String> lista; }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void deve_gerar_a_equivalencia_pela_chave() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("ComChave",
+				"@br.com.contmatic.processador.GeraIgualdade public class ComChave {"
+						+ " @br.com.contmatic.processador.Chave long codigo; String nome;"
+						+ " static br.com.contmatic.util.Equivalencia<ComChave> porCodigo() { return ComChaveIgualdade.POR_CHAVE; } }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void nao_deve_aceitar_chave_transiente() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("ChaveTransiente",
+				"@br.com.contmatic.processador.GeraIgualdade public class ChaveTransiente {"
+						+ " @br.com.contmatic.processador.Chave transient String codigo; }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "@Chave nao pode marcar campos estaticos ou transientes"));
+	}
+
+	@Test
+	public void deve_ler_campos_privados_pelos_getters() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("ComGetters",
+				"@br.com.contmatic.processador.GeraIgualdade public class ComGetters {"
+						+ " private String nome; private java.util.Set<String> telefones; private boolean ativo;"
+						+ " public String getNome() { return nome; } public java.util.Set<String> getTelefone() { return telefones; }"
+						+ " public boolean isAtivo() { return ativo; } }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void nao_deve_aceitar_campo_privado() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Privado",
+				"@br.com.contmatic.processador.GeraIgualdade public class Privado { private String nome; }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "nome nao pode ser privado"));
+	}
+
+	@Test
+	public void nao_deve_aceitar_classe_aninhada() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Externa",
+				"public class Externa { @br.com.contmatic.processador.GeraIgualdade static class Interna { } }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "classes de primeiro nivel"));
+	}
+
+	private static boolean contem(List<Diagnostic<? extends JavaFileObject>> diagnosticos, Diagnostic.Kind tipo,
+			String trecho) {
+		for (Diagnostic<? extends JavaFileObject> diagnostico : diagnosticos) {
+			if (diagnostico.getKind() == tipo && diagnostico.getMessage(null).contains(trecho)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<Diagnostic<? extends JavaFileObject>> compila(String classe, String codigo) throws IOException {
+		Path diretorio = Files.createTempDirectory("processador");
+		Path fonte = diretorio.resolve(classe + ".java");
+		Files.write(fonte, codigo.getBytes(StandardCharsets.UTF_8));
+		JavaCompiler compilador = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnosticos = new DiagnosticCollector<>();
+		try (StandardJavaFileManager arquivos = compilador.getStandardFileManager(diagnosticos, null, StandardCharsets.UTF_8)) {
+			List<String> opcoes = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+					diretorio.toString(), "-s", diretorio.toString(), "-processor",
+					ProcessadorDeIgualdade.class.getName());
+			compilador.getTask(null, arquivos, diagnosticos, opcoes, null,
+					arquivos.getJavaFileObjects(new File(fonte.toString()))).call();
+		}
+		return diagnosticos.getDiagnostics();
+	}
+
+}
@@ -0,0 +1,99 @@
+package br.com.contmatic.processador;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class ProcessadorDeTextoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ProcessadorDeTextoTest {
+
+	@Test
+	public void deve_gerar_a_escrita_de_campos_primitivos_e_arrays() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Primitivos",
+				"@br.com.contmatic.processador.GeraTexto public class Primitivos {"
+						+ " transient int hash; static int contador; boolean b; char c; byte y; float f; long l;"
+						+ " int[] numeros; String[] textos; java.util.List<String> lista; }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void deve_ler_campos_privados_pelos_getters() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("ComGetters",
+				"@br.com.contmatic.processador.GeraTexto public class ComGetters {"
+						+ " private String nome; private int[] numeros;"
+						+ " public String getNome() { return nome; } int[] getNumeros() { return numeros; } }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void nao_deve_ler_campo_privado_por_getter_de_outro_tipo() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("OutroTipo",
+				"@br.com.contmatic.processador.GeraTexto public class OutroTipo {"
+						+ " private Integer idade; public int getIdade() { return idade; } }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "idade nao pode ser privado"));
+	}
+
+	@Test
+	public void nao_deve_aceitar_campo_privado() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Privado",
+				"@br.com.contmatic.processador.GeraTexto public class Privado { private String nome; }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "nome nao pode ser privado"));
+	}
+
+	@Test
+	public void nao_deve_aceitar_classe_aninhada() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Externa",
+				"public class Externa { @br.com.contmatic.processador.GeraTexto static class Interna { } }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "classes de primeiro nivel"));
+	}
+
+	private static boolean contem(List<Diagnostic<? extends JavaFileObject>> diagnosticos, Diagnostic.Kind tipo,
+			String trecho) {
+		for (Diagnostic<? extends JavaFileObject> diagnostico : diagnosticos) {
+			if (diagnostico.getKind() == tipo && diagnostico.getMessage(null).contains(trecho)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<Diagnostic<? extends JavaFileObject>> compila(String classe, String codigo) throws IOException {
+		Path diretorio = Files.createTempDirectory("processador");
+		Path fonte = diretorio.resolve(classe + ".java");
+		Files.write(fonte, codigo.getBytes(StandardCharsets.UTF_8));
+		JavaCompiler compilador = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnosticos = new DiagnosticCollector<>();
+		try (StandardJavaFileManager arquivos = compilador.getStandardFileManager(diagnosticos, null, StandardCharsets.UTF_8)) {
+			List<String> opcoes = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+					diretorio.toString(), "-s", diretorio.toString(), "-processor",
+					ProcessadorDeTexto.class.getName());
+			compilador.getTask(null, arquivos, diagnosticos, opcoes, null,
+					arquivos.getJavaFileObjects(new File(fonte.toString()))).call();
+		}
+		return diagnosticos.getDiagnostics();
+	}
+
+}
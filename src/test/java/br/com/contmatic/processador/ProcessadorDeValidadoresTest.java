@@ -0,0 +1,292 @@
+package br.com.contmatic.processador;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Cliente;
+import br.com.contmatic.empresa.ClienteValidador;
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.empresa.EmpresaValidador;
+import br.com.contmatic.empresa.Fornecedor;
+import br.com.contmatic.empresa.FornecedorValidador;
+import br.com.contmatic.empresa.Funcionario;
+import br.com.contmatic.empresa.FuncionarioValidador;
+import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.endereco.EnderecoValidador;
+import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.telefone.TelefoneValidador;
+import br.com.contmatic.util.Constantes;
+import br.com.contmatic.util.ModoDeValidacao;
+import br.com.contmatic.util.ValidationService;
+import br.com.six2six.fixturefactory.Fixture;
+import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
+
+/**
+ * The Class ProcessadorDeValidadoresTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ProcessadorDeValidadoresTest {
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		FixtureFactoryLoader.loadTemplates("br.com.contmatic.util");
+	}
+
+	private static List<String> ordena(List<String> mensagens) {
+		List<String> ordenadas = new ArrayList<>(mensagens);
+		Collections.sort(ordenadas);
+		return ordenadas;
+	}
+
+	private static void altera(Object objeto, String campo, Object valor) throws IllegalAccessException {
+		FieldUtils.writeField(objeto, campo, valor, true);
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_do_hibernate_para_cliente() throws IllegalAccessException {
+		Cliente cliente = Fixture.from(Cliente.class).gimme("valido");
+		assertEquals(ordena(ValidationService.validate(cliente).getMensagens()), ordena(ClienteValidador.valida(cliente)));
+		altera(cliente, "email", "gabriel..santos@contmatic");
+		assertEquals(Collections.singletonList(Constantes.EMAIL_INVALIDO), ClienteValidador.valida(cliente));
+		assertEquals(ordena(ValidationService.validate(cliente).getMensagens()), ordena(ClienteValidador.valida(cliente)));
+		altera(cliente, "email", null);
+		altera(cliente, "telefones", Collections.emptySet());
+		assertEquals(ordena(ValidationService.validate(cliente).getMensagens()), ordena(ClienteValidador.valida(cliente)));
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_do_hibernate_para_empresa() throws IllegalAccessException {
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		altera(empresa, "nome", null);
+		altera(empresa, "site", null);
+		altera(empresa, "enderecos", null);
+		List<String> mensagens = EmpresaValidador.valida(empresa);
+		assertEquals(ordena(ValidationService.validate(empresa).getMensagens()), ordena(mensagens));
+		assertTrue(mensagens.contains(Constantes.SITE_VAZIO));
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_do_hibernate_para_funcionario() throws IllegalAccessException {
+		Funcionario funcionario = Fixture.from(Funcionario.class).gimme("valido");
+		assertEquals(ordena(ValidationService.validate(funcionario).getMensagens()),
+				ordena(FuncionarioValidador.valida(funcionario)));
+		altera(funcionario, "dataContratacao", null);
+		altera(funcionario, "salario", null);
+		assertEquals(ordena(ValidationService.validate(funcionario).getMensagens()),
+				ordena(FuncionarioValidador.valida(funcionario)));
+	}
+
+	@Test
+	public void deve_interpolar_as_mensagens_com_parametros() throws IllegalAccessException {
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		altera(empresa, "site", "abc");
+		String tamanho = ResourceBundle.getBundle("org.hibernate.validator.ValidationMessages")
+				.getString("org.hibernate.validator.constraints.Length.message").replace("{min}", "5").replace("{max}", "60");
+		List<String> mensagens = EmpresaValidador.valida(empresa);
+		assertTrue(mensagens.toString(), mensagens.contains(tamanho));
+		assertTrue(mensagens.contains(Constantes.SITE_INVALIDO));
+	}
+
+	@Test
+	public void deve_validar_em_cascata_uma_vez_cada_objeto() throws IllegalAccessException {
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		Telefone telefone = new Telefone(DDD11, "978457845", CELULAR);
+		altera(telefone, "numero", "12a45678");
+		altera(empresa, "telefones", Collections.singleton(telefone));
+		List<String> mensagens = EmpresaValidador.valida(empresa);
+		assertEquals(1, Collections.frequency(mensagens, "O campo Numero está invalido"));
+		assertEquals(new TreeSet<>(ValidationService.validate(empresa).getMensagens()), new TreeSet<>(mensagens));
+	}
+
+	@Test
+	public void deve_aplicar_o_not_blank_do_bean_validation_2() throws IllegalAccessException {
+		Endereco endereco = Fixture.from(Endereco.class).gimme("valido");
+		assertTrue(EnderecoValidador.valida(endereco).isEmpty());
+		altera(endereco, "rua", "  ");
+		assertEquals(Collections.singletonList(Constantes.RUA_VAZIA), EnderecoValidador.valida(endereco));
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_do_hibernate_para_fornecedor() throws IllegalAccessException {
+		Fornecedor fornecedor = Fixture.from(Fornecedor.class).gimme("valido");
+		assertTrue(FornecedorValidador.valida(fornecedor).isEmpty());
+		altera(fornecedor, "nome", null);
+		altera(fornecedor, "produto", null);
+		List<String> mensagens = FornecedorValidador.valida(fornecedor);
+		assertTrue(mensagens.contains(Constantes.NOME_VAZIO));
+		assertTrue(mensagens.contains(Constantes.PRODUTO_VAZIO));
+		assertEquals(ordena(ValidationService.validate(fornecedor).getMensagens()), ordena(mensagens));
+	}
+
+	@Test
+	public void deve_exigir_os_enums_e_numeros_como_o_hibernate() throws IllegalAccessException {
+		Telefone telefone = new Telefone(DDD11, "978457845", CELULAR);
+		altera(telefone, "ddd", null);
+		altera(telefone, "tipoTelefone", null);
+		assertEquals(ordena(ValidationService.validate(telefone).getMensagens()),
+				ordena(TelefoneValidador.valida(telefone)));
+		assertEquals(2, TelefoneValidador.valida(telefone).size());
+		Endereco endereco = Fixture.from(Endereco.class).gimme("valido");
+		altera(endereco, "numero", null);
+		altera(endereco, "estado", null);
+		assertEquals(Arrays.asList(Constantes.ESTADO_VAZIO, Constantes.NUMERO_VAZIO),
+				ordena(EnderecoValidador.valida(endereco)));
+		assertEquals(ordena(ValidationService.validate(endereco).getMensagens()),
+				ordena(EnderecoValidador.valida(endereco)));
+	}
+
+	@Test
+	public void deve_parar_na_primeira_falha_de_cada_campo() throws IllegalAccessException {
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		altera(empresa, "nome", null);
+		altera(empresa, "site", "abc");
+		List<String> completa = EmpresaValidador.valida(empresa);
+		List<String> porCampo = EmpresaValidador.valida(empresa, ModoDeValidacao.PRIMEIRA_FALHA_POR_CAMPO);
+		assertTrue(completa.contains(Constantes.SITE_INVALIDO));
+		assertEquals(2, porCampo.size());
+		assertEquals(Constantes.NOME_VAZIO, porCampo.get(0));
+		assertTrue(porCampo.get(1), completa.contains(porCampo.get(1)));
+		assertFalse(porCampo.contains(Constantes.SITE_INVALIDO));
+	}
+
+	@Test
+	public void deve_parar_na_primeira_falha_do_objeto() throws IllegalAccessException {
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		altera(empresa, "nome", null);
+		altera(empresa, "site", "abc");
+		assertEquals(Collections.singletonList(Constantes.NOME_VAZIO),
+				EmpresaValidador.valida(empresa, ModoDeValidacao.PRIMEIRA_FALHA_POR_OBJETO));
+	}
+
+	@Test
+	public void deve_validar_os_campos_antes_da_cascata() throws IllegalAccessException {
+		Cliente cliente = Fixture.from(Cliente.class).gimme("valido");
+		Telefone telefone = new Telefone(DDD11, "978457845", CELULAR);
+		altera(telefone, "numero", "12a45678");
+		altera(cliente, "telefones", Collections.singleton(telefone));
+		altera(cliente, "boleto", BigDecimal.ZERO);
+		assertEquals(Collections.singletonList(Constantes.BOLETO_NEGATIVO),
+				ClienteValidador.valida(cliente, ModoDeValidacao.PRIMEIRA_FALHA_POR_OBJETO));
+	}
+
+	@Test
+	public void nao_deve_validar_a_cascata_do_campo_que_falhou() throws IllegalAccessException {
+		Cliente cliente = Fixture.from(Cliente.class).gimme("valido");
+		Set<Telefone> telefones = new HashSet<>();
+		for (int i = 0; i < 4; i++) {
+			Telefone telefone = new Telefone(DDD11, "97845784" + i, CELULAR);
+			altera(telefone, "numero", "1234567" + i + "a");
+			telefones.add(telefone);
+		}
+		altera(cliente, "telefones", telefones);
+		assertEquals(4, Collections.frequency(ClienteValidador.valida(cliente), "O campo Numero está invalido"));
+		List<String> porCampo = ClienteValidador.valida(cliente, ModoDeValidacao.PRIMEIRA_FALHA_POR_CAMPO);
+		assertEquals(porCampo.toString(), 1, porCampo.size());
+		assertFalse(porCampo.contains("O campo Numero está invalido"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_validar_sem_modo() {
+		ClienteValidador.valida(Fixture.from(Cliente.class).<Cliente>gimme("valido"), null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_validar_objeto_nulo() {
+		ClienteValidador.valida(null);
+	}
+
+	@Test
+	public void nao_deve_aceitar_campo_privado_com_restricoes() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Privado",
+				"@br.com.contmatic.processador.GeraValidador public class Privado {"
+						+ " @javax.validation.constraints.NotNull private String nome; }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.ERROR, "nome tem restricoes"));
+	}
+
+	@Test
+	public void deve_ler_campo_privado_com_restricoes_pelo_getter() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("ComGetter",
+				"@br.com.contmatic.processador.GeraValidador public class ComGetter {"
+						+ " @javax.validation.constraints.NotNull private String nome;"
+						+ " public String getNome() { return nome; } }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void deve_ler_campo_empacotado_pelo_acessor_com_o_nome_do_campo() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("ComAcessor",
+				"@br.com.contmatic.processador.GeraValidador public class ComAcessor {"
+						+ " @javax.validation.constraints.NotNull private Integer idade;"
+						+ " public int getIdade() { return idade; } Integer idade() { return idade; } }");
+		assertFalse(diagnosticos.toString(), contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	@Test
+	public void deve_avisar_e_ignorar_restricao_inaplicavel() throws IOException {
+		List<Diagnostic<? extends JavaFileObject>> diagnosticos = compila("Inaplicavel",
+				"@br.com.contmatic.processador.GeraValidador public class Inaplicavel {"
+						+ " @javax.validation.constraints.NotBlank Integer numero; }");
+		assertTrue(contem(diagnosticos, Diagnostic.Kind.WARNING, "@NotBlank nao se aplica a java.lang.Integer"));
+		assertFalse(contem(diagnosticos, Diagnostic.Kind.ERROR, ""));
+	}
+
+	private static boolean contem(List<Diagnostic<? extends JavaFileObject>> diagnosticos, Diagnostic.Kind tipo,
+			String trecho) {
+		for (Diagnostic<? extends JavaFileObject> diagnostico : diagnosticos) {
+			if (diagnostico.getKind() == tipo && diagnostico.getMessage(null).contains(trecho)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<Diagnostic<? extends JavaFileObject>> compila(String classe, String codigo) throws IOException {
+		Path diretorio = Files.createTempDirectory("processador");
+		Path fonte = diretorio.resolve(classe + ".java");
+		Files.write(fonte, codigo.getBytes(StandardCharsets.UTF_8));
+		JavaCompiler compilador = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnosticos = new DiagnosticCollector<>();
+		try (StandardJavaFileManager arquivos = compilador.getStandardFileManager(diagnosticos, null, StandardCharsets.UTF_8)) {
+			List<String> opcoes = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+					diretorio.toString(), "-s", diretorio.toString(), "-processor",
+					ProcessadorDeValidadores.class.getName());
+			compilador.getTask(null, arquivos, diagnosticos, opcoes, null,
+					arquivos.getJavaFileObjects(new File(fonte.toString()))).call();
+		}
+		return diagnosticos.getDiagnostics();
+	}
+
+}
@@ -0,0 +1,155 @@
+package br.com.contmatic.telefone;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD12;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static br.com.contmatic.telefone.TelefoneType.FIXO;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Empresa;
+
+/**
+ * The Class ConjuntoDeTelefonesTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConjuntoDeTelefonesTest {
+
+	private static final Telefone CELULAR_11 = new Telefone(DDD11, "940038460", CELULAR);
+
+	private static final Telefone FIXO_11 = new Telefone(DDD11, "40038460", FIXO);
+
+	private static final Telefone CELULAR_12 = new Telefone(DDD12, "940038460", CELULAR);
+
+	private Set<Telefone> telefones;
+
+	@Before
+	public void setUp() {
+		telefones = new HashSet<>(Arrays.asList(CELULAR_11, FIXO_11, CELULAR_12));
+	}
+
+	@Test
+	public void deve_ser_igual_ao_hash_set_com_os_mesmos_telefones() {
+		Set<Telefone> conjunto = ConjuntoDeTelefones.compacta(telefones);
+		assertTrue(conjunto instanceof ConjuntoDeTelefones);
+		assertEquals(telefones, conjunto);
+		assertEquals(conjunto, telefones);
+		assertEquals(telefones.hashCode(), conjunto.hashCode());
+		assertEquals(conjunto, ConjuntoDeTelefones.compacta(conjunto));
+	}
+
+	@Test
+	public void deve_adicionar_e_remover_telefones() {
+		ConjuntoDeTelefones conjunto = new ConjuntoDeTelefones();
+		assertTrue(conjunto.add(CELULAR_12));
+		assertTrue(conjunto.add(CELULAR_11));
+		assertFalse(conjunto.add(new Telefone(DDD11, "940038460", CELULAR)));
+		assertTrue(conjunto.add(FIXO_11));
+		assertEquals(3, conjunto.size());
+		assertTrue(conjunto.contains(FIXO_11));
+		assertTrue(conjunto.remove(FIXO_11));
+		assertFalse(conjunto.remove(FIXO_11));
+		assertFalse(conjunto.contains(FIXO_11));
+		assertFalse(conjunto.contains("40038460"));
+		assertEquals(2, conjunto.size());
+	}
+
+	@Test
+	public void deve_guardar_os_codigos_em_ordem() {
+		ConjuntoDeTelefones conjunto = (ConjuntoDeTelefones) ConjuntoDeTelefones.compacta(telefones);
+		long[] codigos = { TelefoneCompactado.compacta(CELULAR_11), TelefoneCompactado.compacta(FIXO_11),
+				TelefoneCompactado.compacta(CELULAR_12) };
+		Arrays.sort(codigos);
+		assertArrayEquals(codigos, conjunto.codigos());
+		assertTrue(conjunto.contemCodigo(codigos[1]));
+		assertTrue(conjunto.removeCodigo(codigos[1]));
+		assertFalse(conjunto.contemCodigo(codigos[1]));
+	}
+
+	@Test
+	public void deve_remover_pelo_iterador() {
+		Set<Telefone> conjunto = ConjuntoDeTelefones.compacta(telefones);
+		Iterator<Telefone> iterador = conjunto.iterator();
+		while (iterador.hasNext()) {
+			if (iterador.next().getTipoTelefone() == FIXO) {
+				iterador.remove();
+			}
+		}
+		assertEquals(new HashSet<>(Arrays.asList(CELULAR_11, CELULAR_12)), conjunto);
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void deve_falhar_se_alterado_durante_a_iteracao() {
+		Set<Telefone> conjunto = ConjuntoDeTelefones.compacta(telefones);
+		for (Telefone telefone : conjunto) {
+			conjunto.remove(telefone);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_alterar_o_telefone_lido() {
+		ConjuntoDeTelefones.compacta(telefones).iterator().next().setNumero("40038461");
+	}
+
+	@Test
+	public void deve_copiar_o_conjunto_com_telefone_que_nao_cabe() {
+		Telefone invalido = new Telefone(DDD11, "9400384a0", CELULAR);
+		telefones.add(invalido);
+		Set<Telefone> conjunto = ConjuntoDeTelefones.compacta(telefones);
+		assertNotSame(telefones, conjunto);
+		assertTrue(conjunto instanceof ConjuntoDeTelefones);
+		assertEquals(telefones, conjunto);
+		assertEquals(conjunto, ConjuntoDeTelefones.compacta(conjunto));
+		assertSame(invalido, conjunto.stream().filter(telefone -> telefone == invalido).findFirst().get());
+		telefones.remove(CELULAR_11);
+		assertEquals(4, conjunto.size());
+	}
+
+	@Test
+	public void deve_aceitar_e_remover_telefone_que_nao_cabe() {
+		Set<Telefone> conjunto = ConjuntoDeTelefones.compacta(telefones);
+		Telefone comLetra = new Telefone(DDD12, "9400384b0", CELULAR);
+		assertTrue(conjunto.add(comLetra));
+		assertFalse(conjunto.add(comLetra));
+		assertTrue(conjunto.contains(comLetra));
+		assertEquals(4, conjunto.size());
+		Iterator<Telefone> iterador = conjunto.iterator();
+		while (iterador.hasNext()) {
+			if (iterador.next() == comLetra) {
+				iterador.remove();
+			}
+		}
+		assertFalse(conjunto.contains(comLetra));
+		assertEquals(telefones, conjunto);
+	}
+
+	@Test
+	public void deve_compactar_os_telefones_da_empresa() {
+		Empresa empresa = new Empresa("00682547000114", "Bueno Developers", telefones, new HashSet<>());
+		assertTrue(empresa.getTelefone() instanceof ConjuntoDeTelefones);
+		assertEquals(telefones, empresa.getTelefone());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_adicionar_codigo_invalido() {
+		new ConjuntoDeTelefones().adicionaCodigo(0);
+	}
+
+}
@@ -0,0 +1,77 @@
+package br.com.contmatic.telefone;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD99;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static br.com.contmatic.telefone.TelefoneType.FIXO;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class TelefoneCompactadoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TelefoneCompactadoTest {
+
+	@Test
+	public void deve_descompactar_o_mesmo_telefone() {
+		Telefone celular = new Telefone(DDD11, "940038460", CELULAR);
+		Telefone fixo = new Telefone(DDD99, "00038460", FIXO);
+		assertEquals(celular, TelefoneCompactado.descompacta(TelefoneCompactado.compacta(celular)));
+		assertEquals(fixo, TelefoneCompactado.descompacta(TelefoneCompactado.compacta(fixo)));
+		assertEquals("00038460", TelefoneCompactado.descompacta(TelefoneCompactado.compacta(fixo)).getNumero());
+	}
+
+	@Test
+	public void deve_diferenciar_telefones_com_um_campo_diferente() {
+		long codigo = TelefoneCompactado.compacta(new Telefone(DDD11, "40038460", FIXO));
+		assertNotEquals(codigo, TelefoneCompactado.compacta(new Telefone(DDD99, "40038460", FIXO)));
+		assertNotEquals(codigo, TelefoneCompactado.compacta(new Telefone(DDD11, "40038460", CELULAR)));
+		assertNotEquals(codigo, TelefoneCompactado.compacta(new Telefone(DDD11, "040038460", FIXO)));
+	}
+
+	@Test
+	public void deve_descompactar_um_telefone_congelado() {
+		assertTrue(TelefoneCompactado.descompacta(TelefoneCompactado.compacta(new Telefone(DDD11, "940038460", CELULAR)))
+				.isCongelado());
+	}
+
+	@Test
+	public void nao_deve_compactar_numero_com_letras() throws IllegalAccessException {
+		Telefone telefone = new Telefone(DDD11, "9400384a0", CELULAR);
+		assertFalse(TelefoneCompactado.cabe(telefone));
+		FieldUtils.writeField(telefone, "numero", null, true);
+		assertFalse(TelefoneCompactado.cabe(telefone));
+		assertFalse(TelefoneCompactado.cabe(null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_compactar_telefone_sem_ddd() throws IllegalAccessException {
+		Telefone telefone = new Telefone(DDD11, "940038460", CELULAR);
+		FieldUtils.writeField(telefone, "ddd", null, true);
+		TelefoneCompactado.compacta(telefone);
+	}
+
+	@Test
+	public void nao_deve_aceitar_codigos_que_nao_foram_compactados() {
+		assertFalse(TelefoneCompactado.isValido(0));
+		assertFalse(TelefoneCompactado.isValido(-1));
+		assertFalse(TelefoneCompactado.isValido(TelefoneCompactado.compacta(new Telefone(DDD11, "40038460", FIXO)) + 99999999));
+		assertTrue(TelefoneCompactado.isValido(TelefoneCompactado.compacta(new Telefone(DDD11, "40038460", FIXO))));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_descompactar_codigo_invalido() {
+		TelefoneCompactado.descompacta(1L << 62);
+	}
+
+}
@@ -3,7 +3,10 @@ package br.com.contmatic.telefone;
 import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
 import static br.com.contmatic.telefone.TelefoneType.CELULAR;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -222,6 +225,30 @@ public class TelefoneTest {
 		assertEquals(DDD11, telefone.getDdd());
 	}
 
+	@Test
+	public void deve_compartilhar_o_telefone_canonico() {
+		Telefone igual = new Telefone(telefone.getDdd(), telefone.getNumero(), telefone.getTipoTelefone());
+		Telefone canonico = telefone.canonico();
+		assertSame(canonico, igual.canonico());
+		assertEquals(telefone, canonico);
+		assertTrue(canonico.isCongelado());
+		assertFalse(telefone.isCongelado());
+		assertSame(canonico, canonico.canonico());
+	}
+
+	@Test
+	public void deve_guardar_o_hash_do_telefone_congelado() {
+		int hash = telefone.hashCode();
+		assertSame(telefone, telefone.congela());
+		assertEquals(hash, telefone.hashCode());
+		assertSame(telefone, telefone.congela());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nao_deve_alterar_o_telefone_congelado() {
+		telefone.congela().setDdd(DDD11);
+	}
+
 	/**
 	 * Tear down.
 	 */
@@ -1,12 +1,6 @@
 package br.com.contmatic.util;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-
-import javax.validation.ConstraintViolation;
-import javax.validation.Validation;
-import javax.validation.Validator;
 
 /**
  * The Class Annotations.
@@ -22,12 +16,7 @@ public class Annotations {
 	 * @return true, if successful
 	 */
 	public static boolean MensagemErroAnnotation(Object t) {
-		Validator validador = Validation.buildDefaultValidatorFactory().getValidator();
-		Set<ConstraintViolation<Object>> erros = validador.validate(t);
-		List<String> errosMsg = new ArrayList<>();
-		for (ConstraintViolation<Object> violation : erros) {
-			errosMsg.add(violation.getMessage());
-		}
+		List<String> errosMsg = ValidationService.validate(t).getMensagens();
 		String verificaErros = errosMsg.toString().replace("[", "").replace("]", "");
 		if ((!(verificaErros.isEmpty() || verificaErros.length() < 2))) {
 			return true;
@@ -0,0 +1,85 @@
+package br.com.contmatic.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class AutomatoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class AutomatoTest {
+
+	private static final String[] ALFABETO = { "a", "Z", "0", "9", "_", "-", "@", ".", "w", "!", ":", ",", ";", "|",
+			"+", "{", "}", "\\", "d", " ", "\n", "\r", "\u0085", " ", " ", "é", "😀", "\uD83D" };
+
+	private static final int TAMANHO_HOSTIL = 1_000_000;
+
+	@Test
+	public void deve_aceitar_os_mesmos_textos_que_as_expressoes() {
+		Random aleatorio = new Random(15);
+		for (int i = 0; i < 100_000; i++) {
+			String texto = aleatorio(aleatorio);
+			compara(RegexType.EMAIL, Automato.EMAIL, texto);
+			compara(RegexType.URL, Automato.URL, texto);
+			compara(RegexType.CEP, Automato.CEP, texto);
+		}
+	}
+
+	@Test
+	public void deve_aceitar_exemplos_validos() {
+		assertTrue(Automato.EMAIL.corresponde("gabriel_santos@contmatic.com.br"));
+		assertTrue(Automato.URL.corresponde("www.contmatic.com.br"));
+		assertTrue(Automato.CEP.corresponde("03208070"));
+		assertFalse(Automato.EMAIL.corresponde("gabriel.santos@contmatic.com.br"));
+		assertFalse(Automato.EMAIL.corresponde("gabriel@contmatic"));
+		assertFalse(Automato.URL.corresponde("www.contmatic."));
+		assertFalse(Automato.CEP.corresponde(""));
+	}
+
+	@Test(timeout = 2_000)
+	public void deve_rejeitar_email_hostil_em_tempo_linear() {
+		assertFalse(Automato.EMAIL.corresponde("a@" + repete("a.", TAMANHO_HOSTIL) + "!"));
+		assertFalse(Automato.EMAIL.corresponde(repete("a", TAMANHO_HOSTIL) + "@a"));
+	}
+
+	@Test(timeout = 2_000)
+	public void deve_rejeitar_site_hostil_em_tempo_linear() {
+		assertFalse(Automato.URL.corresponde("www." + repete("a;", TAMANHO_HOSTIL) + "\n"));
+		assertTrue(Automato.URL.corresponde("www." + repete("a;", TAMANHO_HOSTIL) + "a"));
+	}
+
+	private static void compara(String expressao, Automato automato, String texto) {
+		assertEquals(expressao + " " + texto, Pattern.matches(expressao, texto), automato.corresponde(texto));
+	}
+
+	private static String aleatorio(Random aleatorio) {
+		StringBuilder sb = new StringBuilder();
+		if (aleatorio.nextBoolean()) {
+			sb.append("www");
+		}
+		int tamanho = aleatorio.nextInt(10);
+		for (int i = 0; i < tamanho; i++) {
+			sb.append(ALFABETO[aleatorio.nextInt(ALFABETO.length)]);
+		}
+		return sb.toString();
+	}
+
+	private static String repete(String texto, int vezes) {
+		StringBuilder sb = new StringBuilder(texto.length() * vezes);
+		for (int i = 0; i < vezes; i++) {
+			sb.append(texto);
+		}
+		return sb.toString();
+	}
+
+}
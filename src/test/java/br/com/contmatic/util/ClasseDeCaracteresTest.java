@@ -0,0 +1,84 @@
+package br.com.contmatic.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class ClasseDeCaracteresTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ClasseDeCaracteresTest {
+
+	private static final String ALFABETO = "aZ09 _'\\sáÁúÚÇÑ×÷ãõ\t\n-.@ÿĀ";
+
+	@Test
+	public void deve_aceitar_os_mesmos_caracteres_que_as_expressoes() {
+		for (ClasseDeCaracteres classe : ClasseDeCaracteres.values()) {
+			Pattern expressao = expressao(classe);
+			for (int c = 0; c <= Character.MAX_VALUE; c++) {
+				String texto = String.valueOf((char) c);
+				assertEquals(classe + " " + c, expressao.matcher(texto).matches(), classe.corresponde(texto));
+			}
+		}
+	}
+
+	@Test
+	public void deve_aceitar_os_mesmos_textos_que_as_expressoes() {
+		Random aleatorio = new Random(13);
+		for (ClasseDeCaracteres classe : ClasseDeCaracteres.values()) {
+			Pattern expressao = expressao(classe);
+			for (int i = 0; i < 20_000; i++) {
+				char[] texto = new char[aleatorio.nextInt(8)];
+				for (int j = 0; j < texto.length; j++) {
+					texto[j] = ALFABETO.charAt(aleatorio.nextInt(ALFABETO.length()));
+				}
+				String valor = new String(texto);
+				assertEquals(classe + " " + valor, expressao.matcher(valor).matches(), classe.corresponde(valor));
+			}
+		}
+	}
+
+	@Test
+	public void numeros_deve_aceitar_texto_vazio() {
+		assertTrue(ClasseDeCaracteres.NUMEROS.corresponde(""));
+		assertFalse(ClasseDeCaracteres.LETRAS.corresponde(""));
+		assertFalse(ClasseDeCaracteres.LETRAS_NUMEROS.corresponde(""));
+	}
+
+	@Test
+	public void validadores_devem_aceitar_nulo() {
+		assertTrue(new LetrasValidator().isValid(null, null));
+		assertTrue(new LetrasNumerosValidator().isValid(null, null));
+		assertTrue(new NumerosValidator().isValid(null, null));
+	}
+
+	@Test
+	public void validadores_devem_usar_a_classe_de_caracteres() {
+		assertTrue(new LetrasValidator().isValid("João D'Ávila", null));
+		assertFalse(new LetrasValidator().isValid("Rua 1", null));
+		assertTrue(new LetrasNumerosValidator().isValid("Rua 1", null));
+		assertFalse(new NumerosValidator().isValid("12a", null));
+	}
+
+	private static Pattern expressao(ClasseDeCaracteres classe) {
+		switch (classe) {
+		case LETRAS:
+			return Pattern.compile(RegexType.LETRAS);
+		case LETRAS_NUMEROS:
+			return Pattern.compile(RegexType.LETRAS_NUMEROS);
+		default:
+			return Pattern.compile(RegexType.NUMEROS);
+		}
+	}
+
+}
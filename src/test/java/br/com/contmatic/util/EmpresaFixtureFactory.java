@@ -9,7 +9,11 @@ import br.com.contmatic.empresa.Cliente;
 import br.com.contmatic.empresa.Empresa;
 import br.com.contmatic.empresa.Fornecedor;
 import br.com.contmatic.empresa.Funcionario;
+import br.com.contmatic.empresa.NomeValidado;
 import br.com.contmatic.empresa.Produto;
+import br.com.contmatic.documento.Cnpj;
+import br.com.contmatic.documento.Cpf;
+import br.com.contmatic.endereco.Cep;
 import br.com.contmatic.endereco.Endereco;
 import br.com.contmatic.endereco.EstadoType;
 import br.com.contmatic.telefone.Telefone;
@@ -26,6 +30,12 @@ import br.com.six2six.fixturefactory.loader.TemplateLoader;
  */
 public class EmpresaFixtureFactory implements TemplateLoader {
 
+	/** Semente fixa, para que a massa de documentos se repita a cada execucao. */
+	private static final long SEMENTE_DOS_DOCUMENTOS = 20190505L;
+
+	/** Os CPFs e CNPJs dos templates, sem repeticao entre as entidades geradas. */
+	private static final GeradorDeDocumentos DOCUMENTOS = new GeradorDeDocumentos(SEMENTE_DOS_DOCUMENTOS);
+
 	/**
 	 * Load.
 	 */
@@ -33,8 +43,8 @@ public class EmpresaFixtureFactory implements TemplateLoader {
 	public void load() {
 		Fixture.of(Cliente.class).addTemplate("valido", new Rule() {
 			{
-				add("cpf", random("39609538878", "53268874878", "43503105840", "80790840847"));
-				add("nome", random("Gabriel Bueno", "Gustavo Manhani", "Guilherme Santos"));
+				add("cpf", sequence(() -> Cpf.valueOf(DOCUMENTOS.proximoCpf())));
+				add("nome", random(NomeValidado.valueOf("Gabriel Bueno"), NomeValidado.valueOf("Gustavo Manhani"), NomeValidado.valueOf("Guilherme Santos")));
 				add("email", random("gabriel@hotmail.com", "bueno@gmail.com", "manhani@bol.com.br"));
 				add("telefones", has(1).of(Telefone.class, "valido"));
 				add("boleto", BigDecimal.valueOf(200.00));
@@ -43,8 +53,8 @@ public class EmpresaFixtureFactory implements TemplateLoader {
 
 		Fixture.of(Empresa.class).addTemplate("valido", new Rule() {
 			{
-				add("cnpj", random("21298596000128", "00682547000114", "43783294000188", "95635374000190"));
-				add("nome", random("GB suporte de TI", "Bueno Developers", "Santos Company"));
+				add("cnpj", sequence(() -> Cnpj.valueOf(DOCUMENTOS.proximoCnpj())));
+				add("nome", random(NomeValidado.valueOf("GB suporte de TI"), NomeValidado.valueOf("Bueno Developers"), NomeValidado.valueOf("Santos Company")));
 				add("site", random("http://www.gbconsertos.com.br", "www.buenodevs.com", "www.companysantos.com.br"));
 				add("telefones", has(1).of(Telefone.class, "valido"));
 				add("enderecos", has(1).of(Endereco.class, "valido"));
@@ -53,8 +63,8 @@ public class EmpresaFixtureFactory implements TemplateLoader {
 
 		Fixture.of(Fornecedor.class).addTemplate("valido", new Rule() {
 			{
-				add("cnpj", random("16790259000113", "74134048000129", "87449010000197"));
-				add("nome", random("Intel HD Graphics", "Amd Ryzen Series", "Geforce Shadow"));
+				add("cnpj", sequence(() -> Cnpj.valueOf(DOCUMENTOS.proximoCnpj())));
+				add("nome", random(NomeValidado.valueOf("Intel HD Graphics"), NomeValidado.valueOf("Amd Ryzen Series"), NomeValidado.valueOf("Geforce Shadow")));
 				add("telefones", has(1).of(Telefone.class, "valido"));
 				add("produto",  has(1).of(Produto.class, "valido"));
 				add("enderecos", has(1).of(Endereco.class, "valido"));
@@ -63,8 +73,8 @@ public class EmpresaFixtureFactory implements TemplateLoader {
 
 		Fixture.of(Funcionario.class).addTemplate("valido", new Rule() {
 			{
-				add("cpf", random("23177895805", "70413374807", "12642295850", "71183950802"));
-				add("nome", random("Gabriel Bueno", "Lucas Sadboy", "Vinicius Santos"));
+				add("cpf", sequence(() -> Cpf.valueOf(DOCUMENTOS.proximoCpf())));
+				add("nome", random(NomeValidado.valueOf("Gabriel Bueno"), NomeValidado.valueOf("Lucas Sadboy"), NomeValidado.valueOf("Vinicius Santos")));
 				add("idade", random(20, 25, 30, 35, 40));
 				add("telefones", has(1).of(Telefone.class, "valido"));
 				add("enderecos", has(1).of(Endereco.class, "valido"));
@@ -77,7 +87,7 @@ public class EmpresaFixtureFactory implements TemplateLoader {
 		Fixture.of(Produto.class).addTemplate("valido", new Rule() {
 			{
 				add("id", random(1, 2, 3, 4, 5, 6));
-				add("nome", random("Ryzen 5 2600", "Intel i5 7200k", "Geforce 1060TI", "HD 1TB Barracuda Seagate"));
+				add("nome", random(NomeValidado.valueOf("Ryzen 5 2600"), NomeValidado.valueOf("Intel i5 7200k"), NomeValidado.valueOf("Geforce 1060TI"), NomeValidado.valueOf("HD 1TB Barracuda Seagate")));
 				add("quantidade", random(1, 2, 3, 4, 5, 6));
 				add("preco", random(BigDecimal.valueOf(500.00), BigDecimal.valueOf(1000.00), BigDecimal.valueOf(1500.00)));
 
@@ -86,7 +96,7 @@ public class EmpresaFixtureFactory implements TemplateLoader {
 
 		Fixture.of(Endereco.class).addTemplate("valido", new Rule() {
 			{
-				add("cep", random("08121019", "04570050", "02243140", "02243140"));
+				add("cep", random(Cep.valueOf("08121019"), Cep.valueOf("04570050"), Cep.valueOf("02243140"), Cep.valueOf("02243140")));
 				add("rua", random("Rua Padre Estevão Pernet", "Av Conselheiro Carrão", "Av Paulista", "Rua São João"));
 				add("numero", random(02, 05, 10, 15, 20));
 				add("complemento", random("Apartamento", "SN", "Nada Consta", "Bloco 04"));
@@ -0,0 +1,129 @@
+package br.com.contmatic.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Cliente;
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.empresa.Fornecedor;
+import br.com.contmatic.empresa.Funcionario;
+import br.com.contmatic.empresa.Produto;
+import br.com.six2six.fixturefactory.Fixture;
+import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
+
+/**
+ * The Class EquivalenciaTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class EquivalenciaTest {
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		FixtureFactoryLoader.loadTemplates("br.com.contmatic.util");
+	}
+
+	private static <T> T comAChaveDe(T origem, Class<T> classe, String chave) throws IllegalAccessException {
+		T objeto = Fixture.from(classe).gimme("valido");
+		FieldUtils.writeField(objeto, chave, FieldUtils.readField(origem, chave, true), true);
+		return objeto;
+	}
+
+	@Test
+	public void deve_reconhecer_o_mesmo_cliente_atualizado_pelo_cpf() throws IllegalAccessException {
+		Cliente cliente = Fixture.from(Cliente.class).gimme("valido");
+		Cliente atualizado = comAChaveDe(cliente, Cliente.class, "cpf");
+		atualizado.setNome("Atualizado");
+		assertNotEquals(cliente, atualizado);
+		assertTrue(Cliente.porCpf().equivalentes(cliente, atualizado));
+		assertEquals(Cliente.porCpf().hash(cliente), Cliente.porCpf().hash(atualizado));
+		assertEquals(Cliente.porCpf().envolve(cliente), Cliente.porCpf().envolve(atualizado));
+	}
+
+	@Test
+	public void deve_comparar_cada_entidade_pela_sua_chave() throws IllegalAccessException {
+		Funcionario funcionario = Fixture.from(Funcionario.class).gimme("valido");
+		assertTrue(Funcionario.porCpf().equivalentes(funcionario, comAChaveDe(funcionario, Funcionario.class, "cpf")));
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		assertTrue(Empresa.porCnpj().equivalentes(empresa, comAChaveDe(empresa, Empresa.class, "cnpj")));
+		Fornecedor fornecedor = Fixture.from(Fornecedor.class).gimme("valido");
+		assertTrue(Fornecedor.porCnpj().equivalentes(fornecedor, comAChaveDe(fornecedor, Fornecedor.class, "cnpj")));
+		assertTrue(Produto.porId().equivalentes(new Produto(1, "Caneta"), new Produto(1, "Lapis")));
+		assertFalse(Produto.porId().equivalentes(new Produto(1, "Caneta"), new Produto(2, "Caneta")));
+	}
+
+	@Test
+	public void deve_manter_o_primeiro_de_cada_grupo_de_equivalentes() {
+		Produto caneta = new Produto(1, "Caneta");
+		Produto lapis = new Produto(2, "Lapis");
+		List<Produto> distintos = Produto.porId().distintos(Arrays.asList(caneta, lapis, new Produto(1, "Borracha"),
+				new Produto(2, "Lapis")));
+		assertEquals(2, distintos.size());
+		assertSame(caneta, distintos.get(0));
+		assertSame(lapis, distintos.get(1));
+	}
+
+	@Test
+	public void deve_comparar_todos_os_campos_na_equivalencia_estrutural() {
+		Equivalencia<Produto> estrutural = Equivalencia.estrutural();
+		assertEquals(3, estrutural.distintos(Arrays.asList(new Produto(1, "Caneta"), new Produto(1, "Lapis"),
+				new Produto(1, "Caneta"), new Produto(2, "Caneta"))).size());
+		assertTrue(estrutural.equivalentes(new Produto(1, "Caneta"), new Produto(1, "Caneta")));
+	}
+
+	@Test
+	public void deve_usar_a_chave_informada() {
+		Equivalencia<String> porTamanho = Equivalencia.porChave(String::length);
+		assertTrue(porTamanho.equivalentes("abc", "def"));
+		assertFalse(porTamanho.equivalentes("abc", "de"));
+		assertEquals(Arrays.asList("abc", "de"), porTamanho.distintos(Arrays.asList("abc", "de", "fgh")));
+	}
+
+	@Test
+	public void deve_servir_de_chave_de_mapa() {
+		Map<Equivalente<Produto>, Integer> quantidades = new HashMap<>();
+		quantidades.merge(Produto.porId().envolve(new Produto(1, "Caneta")), 1, Integer::sum);
+		quantidades.merge(Produto.porId().envolve(new Produto(1, "Lapis")), 1, Integer::sum);
+		assertEquals(1, quantidades.size());
+		assertEquals(Integer.valueOf(2), quantidades.values().iterator().next());
+		assertEquals("Caneta", quantidades.keySet().iterator().next().getObjeto().getNome());
+	}
+
+	@Test
+	public void nao_deve_igualar_envolvidos_por_equivalencias_diferentes() {
+		Produto produto = new Produto(1, "Caneta");
+		assertNotEquals(Produto.porId().envolve(produto), Equivalencia.<Produto>estrutural().envolve(produto));
+		assertNotEquals(Produto.porId().envolve(produto), produto);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_envolver_objeto_nulo() {
+		Produto.porId().envolve(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_chave_nula() {
+		Equivalencia.porChave(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_hash_nulo() {
+		Equivalencia.<String>de(String::equals, null);
+	}
+
+}
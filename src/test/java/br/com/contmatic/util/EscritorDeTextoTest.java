@@ -0,0 +1,164 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static br.com.contmatic.telefone.TelefoneType.FIXO;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.empresa.Produto;
+import br.com.contmatic.telefone.Telefone;
+import br.com.six2six.fixturefactory.Fixture;
+import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
+
+/**
+ * The Class EscritorDeTextoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class EscritorDeTextoTest {
+
+	private static final Telefone TELEFONE = new Telefone(DDD11, "940038460", CELULAR);
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		FixtureFactoryLoader.loadTemplates("br.com.contmatic.util");
+	}
+
+	private static Empresa empresaComTelefones(Telefone... telefones) throws IllegalAccessException {
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		FieldUtils.writeField(empresa, "telefones", new LinkedHashSet<>(Arrays.asList(telefones)), true);
+		return empresa;
+	}
+
+	@Test
+	public void deve_escrever_em_chave_valor() {
+		assertEquals("Telefone{ddd=DDD11, numero=940038460, tipoTelefone=CELULAR}", TELEFONE.toString());
+	}
+
+	@Test
+	public void deve_escrever_em_json() {
+		assertEquals("{\"ddd\":\"DDD11\",\"numero\":\"940038460\",\"tipoTelefone\":\"CELULAR\"}",
+				EscritorDeTexto.json(new StringBuilder()).escreve(TELEFONE).toString());
+	}
+
+	@Test
+	public void deve_escrever_numeros_sem_aspas_no_json() {
+		Produto produto = new Produto(7, "Caneta", 3, new BigDecimal("2.50"));
+		assertEquals("{\"id\":7,\"nome\":\"Caneta\",\"quantidade\":3,\"preco\":2.50}",
+				EscritorDeTexto.emTexto(produto, FormatoDeTexto.JSON));
+		assertEquals("Produto{id=7, nome=Caneta, quantidade=3, preco=2.50}", produto.toString());
+	}
+
+	@Test
+	public void deve_escapar_textos_no_json() {
+		assertEquals("[\"a\\\"b\",\"c\\\\d\",\"e\\nf\",\"\\u0001\",null]", EscritorDeTexto.json(new StringBuilder())
+				.escreve(Arrays.asList("a\"b", "c\\d", "e\nf", "\u0001", null)).toString());
+	}
+
+	@Test
+	public void deve_escrever_os_objetos_aninhados() throws IllegalAccessException {
+		Telefone fixo = new Telefone(DDD11, "40038460", FIXO);
+		Empresa empresa = empresaComTelefones(TELEFONE, fixo);
+		FieldUtils.writeField(empresa, "enderecos", Collections.emptySet(), true);
+		String texto = empresa.toString();
+		assertTrue(texto, texto.startsWith("Empresa{cnpj="));
+		assertTrue(texto, texto.endsWith(", telefones=[" + TELEFONE + ", " + fixo + "], enderecos=[]}"));
+	}
+
+	@Test
+	public void deve_omitir_os_niveis_alem_da_profundidade_maxima() throws IllegalAccessException {
+		Empresa empresa = empresaComTelefones(TELEFONE);
+		String texto = EscritorDeTexto.chaveValor(new StringBuilder()).comProfundidadeMaxima(1).escreve(empresa)
+				.toString();
+		assertTrue(texto, texto.contains("telefones=[...], enderecos=[...]}"));
+		String json = EscritorDeTexto.json(new StringBuilder()).comProfundidadeMaxima(1).escreve(empresa).toString();
+		assertTrue(json, json.endsWith("\"telefones\":\"...\",\"enderecos\":\"...\"}"));
+		String objetos = EscritorDeTexto.chaveValor(new StringBuilder()).comProfundidadeMaxima(1)
+				.escreve(Arrays.asList(TELEFONE, empresa)).toString();
+		assertTrue(objetos, objetos.startsWith("[" + TELEFONE + ", Empresa{"));
+		assertTrue(objetos, objetos.endsWith("telefones=[...], enderecos=[...]}]"));
+	}
+
+	@Test
+	public void deve_reaproveitar_o_escritor_e_o_destino() {
+		StringBuilder destino = new StringBuilder();
+		EscritorDeTexto escritor = EscritorDeTexto.chaveValor(destino);
+		escritor.escreve(TELEFONE);
+		destino.setLength(0);
+		escritor.escreve(TELEFONE);
+		assertEquals(TELEFONE.toString(), destino.toString());
+	}
+
+	@Test
+	public void deve_escrever_em_qualquer_appendable() {
+		StringWriter destino = new StringWriter();
+		EscritorDeTexto.json(destino).escreve(Arrays.asList(1, 2L, true, 1.5, Double.NaN));
+		assertEquals("[1,2,true,1.5,\"NaN\"]", destino.toString());
+	}
+
+	@Test
+	public void deve_adiar_a_escrita_ate_o_to_string() throws IllegalAccessException {
+		Empresa empresa = empresaComTelefones(TELEFONE);
+		Object preguicoso = EscritorDeTexto.preguicoso(empresa, FormatoDeTexto.CHAVE_VALOR);
+		FieldUtils.writeField(empresa, "site", "www.alterado.com.br", true);
+		assertTrue(preguicoso.toString().contains("site=www.alterado.com.br"));
+		assertEquals(empresa.toString(), preguicoso.toString());
+	}
+
+	@Test
+	public void deve_escrever_campos_nulos() throws IllegalAccessException {
+		Produto produto = new Produto(7, "Caneta");
+		assertEquals("Produto{id=7, nome=Caneta, quantidade=null, preco=null}", produto.toString());
+		assertFalse(EscritorDeTexto.emTexto(null).isEmpty());
+	}
+
+	@Test(expected = UncheckedIOException.class)
+	public void deve_propagar_o_erro_do_destino() {
+		Writer quebrado = new Writer() {
+
+			@Override
+			public void write(char[] cbuf, int off, int len) throws IOException {
+				throw new IOException("quebrado");
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		EscritorDeTexto.chaveValor(quebrado).escreve(TELEFONE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_profundidade_zero() {
+		EscritorDeTexto.chaveValor(new StringBuilder()).comProfundidadeMaxima(0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_destino_nulo() {
+		EscritorDeTexto.json(null);
+	}
+
+}
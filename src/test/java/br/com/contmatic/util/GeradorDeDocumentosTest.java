@@ -0,0 +1,78 @@
+package br.com.contmatic.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class GeradorDeDocumentosTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GeradorDeDocumentosTest {
+
+	@Test
+	public void deve_completar_base_do_cpf() {
+		assertEquals("39609538878", GeradorDeDocumentos.completaCpf("396095388"));
+		assertEquals("23177895805", GeradorDeDocumentos.completaCpf("231778958"));
+	}
+
+	@Test
+	public void deve_completar_base_do_cnpj() {
+		assertEquals("35667373000103", GeradorDeDocumentos.completaCnpj("356673730001"));
+		assertEquals("00682547000114", GeradorDeDocumentos.completaCnpj("006825470001"));
+	}
+
+	@Test
+	public void deve_completar_base_alfanumerica_do_cnpj() {
+		assertEquals("12ABC34501DE35", GeradorDeDocumentos.completaCnpj("12ABC34501DE"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_base_do_cnpj_com_letras_minusculas() {
+		GeradorDeDocumentos.completaCnpj("12abc34501de");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_base_com_letras() {
+		GeradorDeDocumentos.completaCpf("39609538a");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_base_com_tamanho_incorreto() {
+		GeradorDeDocumentos.completaCnpj("3566737300010");
+	}
+
+	@Test
+	public void deve_gerar_cpfs_validos_e_unicos() {
+		GeradorDeDocumentos gerador = new GeradorDeDocumentos(42);
+		Set<String> gerados = new HashSet<>();
+		for (int i = 0; i < 100_000; i++) {
+			String cpf = gerador.proximoCpf();
+			assertTrue(cpf, Validate.isCPF(cpf));
+			assertTrue(cpf, gerados.add(cpf));
+		}
+	}
+
+	@Test
+	public void deve_gerar_lote_de_cnpjs_validos() {
+		int quantidade = 50_000;
+		byte[] cnpjs = new GeradorDeDocumentos(7).geraCnpjs(quantidade);
+		assertEquals(quantidade, Validate.isCNPJEmLote(cnpjs, quantidade).cardinality());
+	}
+
+	@Test
+	public void deve_repetir_a_sequencia_para_a_mesma_semente() {
+		assertEquals(new GeradorDeDocumentos(1).proximoCnpj(), new GeradorDeDocumentos(1).proximoCnpj());
+		assertNotEquals(new GeradorDeDocumentos(1).proximoCpf(), new GeradorDeDocumentos(2).proximoCpf());
+	}
+
+}
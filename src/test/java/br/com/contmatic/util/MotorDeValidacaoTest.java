@@ -0,0 +1,141 @@
+package br.com.contmatic.util;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class MotorDeValidacaoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class MotorDeValidacaoTest {
+
+	private static final byte[] TROCAS = { '0', '5', '9', 'A', 'Z', 'a', '/', ':', '@', '[', ' ', 0, (byte) 0x80,
+			(byte) 0xB9, (byte) 0xFF };
+
+	@After
+	public void tearDown() {
+		MotorDeValidacao.setPadrao(MotorDeValidacao.doSistema());
+	}
+
+	@Test
+	public void deve_validar_documentos_conhecidos() {
+		assertTrue(MotorDeValidacao.SWAR.isCPF(buffer("39609538878"), 0));
+		assertTrue(MotorDeValidacao.SWAR.isCNPJ(buffer("35667373000103"), 0));
+		assertTrue(MotorDeValidacao.SWAR.isCNPJ(buffer("12ABC34501DE35"), 0));
+		assertFalse(MotorDeValidacao.SWAR.isCPF(buffer("39609538877"), 0));
+		assertFalse(MotorDeValidacao.SWAR.isCPF(buffer("11111111111"), 0));
+		assertFalse(MotorDeValidacao.SWAR.isCNPJ(buffer("00000000000000"), 0));
+		assertFalse(MotorDeValidacao.SWAR.isCNPJ(buffer("3566737300010"), 0));
+		assertFalse(MotorDeValidacao.SWAR.isCPF(null, 0));
+	}
+
+	@Test
+	public void deve_dar_o_mesmo_resultado_que_o_escalar_para_cpfs_alterados() {
+		byte[] cpfs = new GeradorDeDocumentos(3).geraCpfs(2_000);
+		for (int i = 0; i < cpfs.length; i += Validate.TAMANHO_CPF) {
+			comparaComAlteracoes(cpfs, i, Validate.TAMANHO_CPF, false);
+		}
+	}
+
+	@Test
+	public void deve_dar_o_mesmo_resultado_que_o_escalar_para_cnpjs_alterados() {
+		byte[] cnpjs = new GeradorDeDocumentos(5).geraCnpjs(2_000);
+		for (int i = 0; i < cnpjs.length; i += Validate.TAMANHO_CNPJ) {
+			comparaComAlteracoes(cnpjs, i, Validate.TAMANHO_CNPJ, true);
+		}
+		comparaComAlteracoes("12ABC34501DE35".getBytes(US_ASCII), 0, Validate.TAMANHO_CNPJ, true);
+	}
+
+	@Test
+	public void deve_dar_o_mesmo_resultado_que_o_escalar_para_digitos_repetidos() {
+		for (char c = '0'; c <= 'Z'; c++) {
+			byte[] repetido = new byte[Validate.TAMANHO_CNPJ];
+			Arrays.fill(repetido, (byte) c);
+			comparaMotores(repetido, 0, false);
+			comparaMotores(repetido, 0, true);
+		}
+	}
+
+	@Test
+	public void deve_ler_buffers_big_endian_e_com_deslocamento() {
+		ByteBuffer buffer = ByteBuffer.wrap("xx35667373000103".getBytes(US_ASCII)).order(ByteOrder.BIG_ENDIAN);
+		assertTrue(MotorDeValidacao.SWAR.isCNPJ(buffer, 2));
+		assertFalse(MotorDeValidacao.SWAR.isCNPJ(buffer, 3));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void deve_usar_o_motor_padrao_na_validacao_em_lote() {
+		byte[] lote = new GeradorDeDocumentos(11).geraCnpjs(1_000);
+		lote[5] = '#';
+		MotorDeValidacao.setPadrao(MotorDeValidacao.ESCALAR);
+		assertEquals(999, Validate.isCNPJEmLote(lote, 1_000).cardinality());
+		MotorDeValidacao.setPadrao(MotorDeValidacao.SWAR);
+		assertEquals(999, Validate.isCNPJEmLote(lote, 1_000).cardinality());
+	}
+
+	@Test
+	public void deve_escolher_o_motor_pela_propriedade_de_sistema() {
+		String anterior = System.getProperty(MotorDeValidacao.PROPRIEDADE);
+		try {
+			System.setProperty(MotorDeValidacao.PROPRIEDADE, "escalar");
+			assertEquals(MotorDeValidacao.ESCALAR, MotorDeValidacao.doSistema());
+			System.setProperty(MotorDeValidacao.PROPRIEDADE, "avx512");
+			assertEquals(MotorDeValidacao.ESCALAR, MotorDeValidacao.doSistema());
+			System.clearProperty(MotorDeValidacao.PROPRIEDADE);
+			assertEquals(MotorDeValidacao.SWAR, MotorDeValidacao.doSistema());
+		} finally {
+			if (anterior != null) {
+				System.setProperty(MotorDeValidacao.PROPRIEDADE, anterior);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_motor_nulo() {
+		MotorDeValidacao.setPadrao(null);
+	}
+
+	private static void comparaComAlteracoes(byte[] documentos, int offset, int tamanho, boolean cnpj) {
+		comparaMotores(documentos, offset, cnpj);
+		for (int posicao = offset; posicao < offset + tamanho; posicao++) {
+			byte original = documentos[posicao];
+			for (byte troca : TROCAS) {
+				documentos[posicao] = troca;
+				comparaMotores(documentos, offset, cnpj);
+			}
+			documentos[posicao] = original;
+		}
+	}
+
+	private static void comparaMotores(byte[] documentos, int offset, boolean cnpj) {
+		ByteBuffer buffer = ByteBuffer.wrap(documentos);
+		String documento = new String(documentos, offset, cnpj ? Validate.TAMANHO_CNPJ : Validate.TAMANHO_CPF,
+				US_ASCII);
+		if (cnpj) {
+			assertEquals(documento, MotorDeValidacao.ESCALAR.isCNPJ(buffer, offset),
+					MotorDeValidacao.SWAR.isCNPJ(buffer, offset));
+		} else {
+			assertEquals(documento, MotorDeValidacao.ESCALAR.isCPF(buffer, offset),
+					MotorDeValidacao.SWAR.isCPF(buffer, offset));
+		}
+	}
+
+	private static ByteBuffer buffer(String documento) {
+		return ByteBuffer.wrap(documento.getBytes(US_ASCII));
+	}
+
+}
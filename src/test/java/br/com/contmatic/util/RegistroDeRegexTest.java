@@ -0,0 +1,83 @@
+package br.com.contmatic.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class RegistroDeRegexTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RegistroDeRegexTest {
+
+	@Test
+	public void deve_compilar_cada_expressao_uma_unica_vez() {
+		assertSame(RegistroDeRegex.getPadrao(RegexType.CARACTERES_ESPECIAIS),
+				RegistroDeRegex.getPadrao(RegexType.CARACTERES_ESPECIAIS));
+		assertTrue(RegistroDeRegex.getExecucoes().keySet().containsAll(
+				Arrays.asList(RegexType.LETRAS, RegexType.NUMEROS, RegexType.LETRAS_NUMEROS, RegexType.URL,
+						RegexType.CEP, RegexType.EMAIL, RegexType.ESPACOS_DUPLICADOS, RegexType.CARACTERES_ESPECIAIS)));
+	}
+
+	@Test
+	public void deve_encontrar_e_corresponder_como_o_matcher() {
+		assertTrue(RegistroDeRegex.encontra(RegexType.ESPACOS_DUPLICADOS, "Gabriel  Bueno"));
+		assertFalse(RegistroDeRegex.encontra(RegexType.ESPACOS_DUPLICADOS, "Gabriel Bueno"));
+		assertTrue(RegistroDeRegex.corresponde(RegexType.EMAIL, "gabriel@contmatic.com.br"));
+		assertFalse(RegistroDeRegex.corresponde(RegexType.EMAIL, "gabriel@"));
+	}
+
+	@Test
+	public void deve_contar_as_execucoes_de_cada_expressao() {
+		long antes = RegistroDeRegex.getExecucoes(RegexType.CARACTERES_ESPECIAIS);
+		RegexType.contemCaracteresEspeciais("Gabriel");
+		RegexType.contemCaracteresEspeciais("Gabriel@");
+		assertEquals(antes + 2, RegistroDeRegex.getExecucoes(RegexType.CARACTERES_ESPECIAIS));
+	}
+
+	@Test
+	public void deve_reaproveitar_matchers_em_varias_threads_sem_misturar_resultados() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> resultados = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				final String texto = t % 2 == 0 ? "Contmatic Phoenix" : "Contmatic  Phoenix";
+				final boolean esperado = t % 2 != 0;
+				resultados.add(executor.submit((Callable<Boolean>) () -> {
+					for (int i = 0; i < 10_000; i++) {
+						if (RegexType.contemMaisQueUmEspacoEntreAsPalavras(texto) != esperado) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> resultado : resultados) {
+				assertTrue(resultado.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_expressao_fora_do_regex_type() {
+		RegistroDeRegex.encontra("[a-z]+", "abc");
+	}
+
+}
@@ -4,12 +4,21 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import br.com.contmatic.documento.CnpjTest;
+import br.com.contmatic.documento.CpfTest;
 import br.com.contmatic.empresa.ClienteTest;
 import br.com.contmatic.empresa.EmpresaTest;
 import br.com.contmatic.empresa.FornecedorTest;
 import br.com.contmatic.empresa.FuncionarioTest;
+import br.com.contmatic.empresa.NomeValidadoTest;
 import br.com.contmatic.empresa.ProdutoTest;
+import br.com.contmatic.endereco.CepTest;
 import br.com.contmatic.endereco.EnderecoTest;
+import br.com.contmatic.processador.ProcessadorDeIgualdadeTest;
+import br.com.contmatic.processador.ProcessadorDeTextoTest;
+import br.com.contmatic.processador.ProcessadorDeValidadoresTest;
+import br.com.contmatic.telefone.ConjuntoDeTelefonesTest;
+import br.com.contmatic.telefone.TelefoneCompactadoTest;
 import br.com.contmatic.telefone.TelefoneTest;
 
 /**
@@ -18,7 +27,13 @@ import br.com.contmatic.telefone.TelefoneTest;
  * @author gabriel.santos
  */
 @RunWith(Suite.class)
-@SuiteClasses({ ClienteTest.class, EmpresaTest.class, FornecedorTest.class, FuncionarioTest.class, ProdutoTest.class, EnderecoTest.class, TelefoneTest.class })
+@SuiteClasses({ ClienteTest.class, EmpresaTest.class, FornecedorTest.class, FuncionarioTest.class, ProdutoTest.class, EnderecoTest.class, TelefoneTest.class,
+		ValidateTest.class, ValidadorDeArquivoTest.class, GeradorDeDocumentosTest.class, MotorDeValidacaoTest.class,
+		ValidacaoSemExcecaoTest.class, RegistroDeRegexTest.class, VerificadorDeTextoTest.class, ClasseDeCaracteresTest.class, AutomatoTest.class,
+		ValidationServiceTest.class, CpfTest.class, CnpjTest.class, ProcessadorDeValidadoresTest.class, ProcessadorDeIgualdadeTest.class, ProcessadorDeTextoTest.class,
+		ValidadorDeGrafosTest.class,
+		NomeValidadoTest.class, CepTest.class, EquivalenciaTest.class, EscritorDeTextoTest.class,
+		TelefoneCompactadoTest.class, ConjuntoDeTelefonesTest.class })
 public class TestRunner {
 
 }
@@ -0,0 +1,139 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Cliente;
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.endereco.Endereco;
+import br.com.contmatic.telefone.Telefone;
+
+/**
+ * The Class ValidacaoSemExcecaoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ValidacaoSemExcecaoTest {
+
+	private static final String[] TEXTOS = { null, "", " ", "  ", "a", "ab", "Gabriel", "Gabriel Bueno", " Gabriel",
+			"Gabriel ", "Gabriel  Bueno", "Gabriel@Bueno", "www.contmatic.com.br", "01234567", "0123-567", "0123 567",
+			"12345678", "123456789", "1234567890", "39609538878", "39609538877", "396.095.388-78", "396.095.388/78",
+			"11111111111", "35667373000103", "35667373000104", "35.667.373/0001-03", "12.ABC.345/01DE-35",
+			"12ABC34501DE36", "1234567890123456789", repete('a', 81), repete('w', 61) };
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_cpf() {
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaCpf(texto), cpf -> new Cliente().setCpf(cpf));
+		}
+	}
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_cnpj() {
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaCnpj(texto), cnpj -> new Empresa().setCnpj(cnpj));
+		}
+	}
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_cep() {
+		Endereco endereco = new Endereco("01234567", 1);
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaCep(texto), endereco::setCep);
+		}
+	}
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_telefone() {
+		Telefone telefone = new Telefone(DDD11, "123456789", CELULAR);
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaTelefone(texto), telefone::setNumero);
+		}
+	}
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_nome() {
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaNome(texto), nome -> new Empresa().setNome(nome));
+			comparaComSetter(texto, ValidacaoSemExcecao.validaNome(texto), nome -> new Cliente().setNome(nome));
+		}
+	}
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_site() {
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaSite(texto), site -> new Empresa().setSite(site));
+		}
+	}
+
+	@Test
+	public void deve_devolver_o_codigo_da_mensagem_do_setter_do_email() {
+		for (String texto : TEXTOS) {
+			comparaComSetter(texto, ValidacaoSemExcecao.validaEmail(texto), email -> new Cliente().setEmail(email));
+		}
+	}
+
+	@Test
+	public void deve_acumular_os_erros_por_campo() {
+		ErrosDeValidacao erros = new ErrosDeValidacao(3);
+		erros.registra(0, CodigoDeErro.OK);
+		erros.registra(2, CodigoDeErro.ID_VAZIO);
+		erros.registra(1, CodigoDeErro.NOME_VAZIO);
+		assertEquals(0b110L, erros.getCampos());
+		assertEquals(CodigoDeErro.OK, erros.getCodigo(0));
+		assertEquals(Arrays.asList(Constantes.NOME_VAZIO, Constantes.ID_VAZIO), erros.getMensagens());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_mais_campos_que_bits() {
+		new ErrosDeValidacao(ErrosDeValidacao.MAXIMO_DE_CAMPOS + 1);
+	}
+
+	@Test
+	public void deve_devolver_ok_e_mensagem_nula_para_valores_validos() {
+		assertEquals(CodigoDeErro.OK, ValidacaoSemExcecao.validaCpf("39609538878"));
+		assertEquals(CodigoDeErro.OK, ValidacaoSemExcecao.validaCnpj("12ABC34501DE35"));
+		assertNull(CodigoDeErro.mensagem(CodigoDeErro.OK));
+	}
+
+	@Test
+	public void deve_devolver_a_mensagem_das_constantes() {
+		assertEquals(Constantes.CPF_INVALIDO, CodigoDeErro.mensagem(ValidacaoSemExcecao.validaCpf("39609538877")));
+		assertEquals(Constantes.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS,
+				CodigoDeErro.mensagem(ValidacaoSemExcecao.validaNome("Gabriel  Bueno")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_codigo_inexistente() {
+		CodigoDeErro.mensagem(-1);
+	}
+
+	private static void comparaComSetter(String texto, int codigo, Consumer<String> setter) {
+		String mensagemDoSetter = null;
+		try {
+			setter.accept(texto);
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			mensagemDoSetter = e.getMessage();
+		}
+		assertEquals(texto, mensagemDoSetter, CodigoDeErro.mensagem(codigo));
+	}
+
+	private static String repete(char caractere, int vezes) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < vezes; i++) {
+			sb.append(caractere);
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,110 @@
+package br.com.contmatic.util;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.util.ValidadorDeArquivo.DocumentoInvalido;
+
+/**
+ * The Class ValidadorDeArquivoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ValidadorDeArquivoTest {
+
+	private static final String[] LINHAS = { "39609538878", "35667373000103", "39609538877", "", "abc",
+			"35667373000104", "21298596000128\r", "123456789012345678901234567890", "23177895805" };
+
+	private static ForkJoinPool pool;
+
+	@Rule
+	public TemporaryFolder pasta = new TemporaryFolder();
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		pool = new ForkJoinPool(7);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void deve_retornar_vazio_para_arquivo_vazio() throws IOException {
+		assertTrue(ValidadorDeArquivo.valida(escreve("")).isEmpty());
+	}
+
+	@Test
+	public void deve_retornar_linha_e_offset_dos_documentos_invalidos() throws IOException {
+		List<DocumentoInvalido> invalidos = ValidadorDeArquivo.valida(escreve(junta(1)), pool);
+		assertEquals(esperados(1), invalidos);
+	}
+
+	@Test
+	public void deve_mostrar_linha_e_offset_no_texto() {
+		assertEquals("DocumentoInvalido[linha=3, offset=24]", new DocumentoInvalido(3, 24).toString());
+	}
+
+	@Test
+	public void deve_dividir_arquivos_maiores_em_segmentos_sem_perder_linhas() throws IOException {
+		List<DocumentoInvalido> invalidos = ValidadorDeArquivo.valida(escreve(junta(500)), pool);
+		assertEquals(esperados(500), invalidos);
+	}
+
+	@Test
+	public void deve_aceitar_ultima_linha_sem_quebra() throws IOException {
+		assertTrue(ValidadorDeArquivo.valida(escreve("39609538878\n35667373000103"), pool).isEmpty());
+	}
+
+	private Path escreve(String conteudo) throws IOException {
+		Path arquivo = pasta.newFile().toPath();
+		Files.write(arquivo, conteudo.getBytes(US_ASCII));
+		return arquivo;
+	}
+
+	private static String junta(int repeticoes) {
+		StringBuilder sb = new StringBuilder();
+		for (int r = 0; r < repeticoes; r++) {
+			for (String linha : LINHAS) {
+				sb.append(linha).append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	private static List<DocumentoInvalido> esperados(int repeticoes) {
+		List<DocumentoInvalido> esperados = new ArrayList<>();
+		long linha = 1;
+		long offset = 0;
+		for (int r = 0; r < repeticoes; r++) {
+			for (String conteudo : LINHAS) {
+				boolean valido = Validate.isCPF(conteudo.trim()) || Validate.isCNPJ(conteudo.trim());
+				if (!valido) {
+					esperados.add(new DocumentoInvalido(linha, offset));
+				}
+				linha++;
+				offset += conteudo.length() + 1;
+			}
+		}
+		return esperados;
+	}
+
+}
@@ -0,0 +1,236 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Cliente;
+import br.com.contmatic.empresa.ClienteValidador;
+import br.com.contmatic.empresa.Empresa;
+import br.com.contmatic.empresa.EmpresaValidador;
+import br.com.contmatic.empresa.Fornecedor;
+import br.com.contmatic.empresa.FornecedorValidador;
+import br.com.contmatic.empresa.Produto;
+import br.com.contmatic.empresa.ProdutoValidador;
+import br.com.contmatic.endereco.EnderecoValidador;
+import br.com.contmatic.telefone.Telefone;
+import br.com.contmatic.telefone.TelefoneValidador;
+import br.com.six2six.fixturefactory.Fixture;
+import br.com.six2six.fixturefactory.loader.FixtureFactoryLoader;
+
+/**
+ * The Class ValidadorDeGrafosTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ValidadorDeGrafosTest {
+
+	private static final int QUANTIDADE_DE_GRAFOS = 200;
+
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		FixtureFactoryLoader.loadTemplates("br.com.contmatic.util");
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void tearDownAfterClass() {
+		pool.shutdown();
+	}
+
+	private static void altera(Object objeto, String campo, Object valor) throws IllegalAccessException {
+		FieldUtils.writeField(objeto, campo, valor, true);
+	}
+
+	/** Telefones validos, com numero nulo e com numero invalido, alternados. */
+	private static Set<Telefone> telefones(int indice) throws IllegalAccessException {
+		Set<Telefone> telefones = new HashSet<>();
+		for (int i = 0; i < 3; i++) {
+			Telefone telefone = new Telefone(DDD11, "98745" + (1000 + indice * 3 + i), CELULAR);
+			if ((indice + i) % 3 == 1) {
+				altera(telefone, "numero", null);
+			} else if ((indice + i) % 3 == 2) {
+				altera(telefone, "numero", "abc");
+			}
+			telefones.add(telefone);
+		}
+		return telefones;
+	}
+
+	private static List<Empresa> empresas() throws IllegalAccessException {
+		List<Empresa> empresas = new ArrayList<>();
+		for (int i = 0; i < QUANTIDADE_DE_GRAFOS; i++) {
+			Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+			altera(empresa, "telefones", telefones(i));
+			if (i % 4 == 0) {
+				altera(empresa, "nome", null);
+			}
+			if (i % 5 == 0) {
+				altera(empresa.getEndereco().iterator().next(), "bairro", "@");
+			}
+			empresas.add(empresa);
+		}
+		return empresas;
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_da_validacao_sequencial_para_empresas() throws IllegalAccessException {
+		List<Empresa> empresas = empresas();
+		ValidadorDeGrafos<Empresa> validador = ValidadorDeGrafos.<Empresa>construtor(EmpresaValidador::valida)
+				.filhos(Empresa::getTelefone, TelefoneValidador::valida)
+				.filhos(Empresa::getEndereco, EnderecoValidador::valida)
+				.limiarSequencial(1).constroi();
+		List<List<String>> mensagens = validador.valida(empresas, pool);
+		assertEquals(empresas.size(), mensagens.size());
+		for (int i = 0; i < empresas.size(); i++) {
+			assertEquals(EmpresaValidador.valida(empresas.get(i)), mensagens.get(i));
+		}
+	}
+
+	@Test
+	public void deve_manter_as_cascatas_nao_configuradas_na_raiz() throws IllegalAccessException {
+		List<Empresa> empresas = empresas();
+		ValidadorDeGrafos<Empresa> validador = ValidadorDeGrafos.<Empresa>construtor(EmpresaValidador::valida)
+				.filhos(Empresa::getTelefone, TelefoneValidador::valida).limiarSequencial(1).constroi();
+		List<List<String>> mensagens = validador.valida(empresas, pool);
+		for (int i = 0; i < empresas.size(); i++) {
+			List<String> esperadas = new ArrayList<>(EmpresaValidador.valida(empresas.get(i)));
+			List<String> obtidas = new ArrayList<>(mensagens.get(i));
+			Collections.sort(esperadas);
+			Collections.sort(obtidas);
+			assertEquals(esperadas, obtidas);
+		}
+		List<String> doEndereco = EnderecoValidador.valida(empresas.get(0).getEndereco().iterator().next());
+		assertFalse(doEndereco.isEmpty());
+		assertTrue(mensagens.get(0).containsAll(doEndereco));
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_pelo_validador_padrao_de_empresas() throws IllegalAccessException {
+		List<Empresa> empresas = empresas();
+		List<List<String>> mensagens = Empresa.validadorDeGrafos().valida(empresas);
+		for (int i = 0; i < empresas.size(); i++) {
+			assertEquals(EmpresaValidador.valida(empresas.get(i)), mensagens.get(i));
+		}
+	}
+
+	@Test
+	public void deve_gerar_as_mesmas_mensagens_da_validacao_sequencial_para_fornecedores()
+			throws IllegalAccessException {
+		List<Fornecedor> fornecedores = new ArrayList<>();
+		for (int i = 0; i < QUANTIDADE_DE_GRAFOS; i++) {
+			Fornecedor fornecedor = Fixture.from(Fornecedor.class).gimme("valido");
+			altera(fornecedor, "telefones", telefones(i));
+			fornecedores.add(fornecedor);
+		}
+		ValidadorDeGrafos<Fornecedor> validador = Fornecedor.validadorDeGrafos();
+		List<List<String>> mensagens = validador.valida(fornecedores, pool);
+		for (int i = 0; i < fornecedores.size(); i++) {
+			assertEquals(FornecedorValidador.valida(fornecedores.get(i)), mensagens.get(i));
+		}
+	}
+
+	@Test
+	public void deve_validar_os_produtos_do_fornecedor_quando_configurados() throws IllegalAccessException {
+		Fornecedor fornecedor = Fixture.from(Fornecedor.class).gimme("valido");
+		Produto produto = fornecedor.getProduto().iterator().next();
+		altera(produto, "nome", null);
+		ValidadorDeGrafos<Fornecedor> validador = ValidadorDeGrafos.<Fornecedor>construtor(FornecedorValidador::valida)
+				.filhos(Fornecedor::getProduto, ProdutoValidador::valida).constroi();
+		List<String> esperadas = new ArrayList<>(FornecedorValidador.valida(fornecedor));
+		esperadas.addAll(ProdutoValidador.valida(produto));
+		assertEquals(esperadas, validador.valida(fornecedor));
+	}
+
+	@Test
+	public void deve_manter_a_ordem_do_lote_em_toda_execucao() throws IllegalAccessException {
+		List<Empresa> empresas = empresas();
+		ValidadorDeGrafos<Empresa> validador = ValidadorDeGrafos.<Empresa>construtor(EmpresaValidador::valida)
+				.filhos(Empresa::getTelefone, TelefoneValidador::valida).limiarSequencial(2).constroi();
+		List<List<String>> primeira = validador.valida(empresas, pool);
+		for (int i = 0; i < 20; i++) {
+			assertEquals(primeira, validador.valida(empresas, pool));
+		}
+	}
+
+	@Test
+	public void deve_validar_na_thread_chamadora_abaixo_do_limiar() throws IllegalAccessException {
+		ForkJoinPool encerrado = new ForkJoinPool(1);
+		encerrado.shutdown();
+		Empresa empresa = Fixture.from(Empresa.class).gimme("valido");
+		altera(empresa, "telefones", telefones(1));
+		assertEquals(EmpresaValidador.valida(empresa),
+				Empresa.validadorDeGrafos().valida(Collections.singletonList(empresa), encerrado).get(0));
+	}
+
+	@Test
+	public void deve_validar_cada_filho_compartilhado_uma_vez() throws IllegalAccessException {
+		Cliente cliente = Fixture.from(Cliente.class).gimme("valido");
+		Telefone telefone = cliente.getTelefone().iterator().next();
+		altera(telefone, "numero", null);
+		ValidadorDeGrafos<Cliente> validador = ValidadorDeGrafos.<Cliente>construtor(ClienteValidador::valida)
+				.filhos(Cliente::getTelefone, TelefoneValidador::valida)
+				.filhos(c -> Arrays.asList(telefone, telefone), TelefoneValidador::valida).constroi();
+		assertEquals(ClienteValidador.valida(cliente), validador.valida(cliente));
+	}
+
+	@Test
+	public void deve_retornar_listas_vazias_para_grafos_validos() {
+		Cliente cliente = Fixture.from(Cliente.class).gimme("valido");
+		ValidadorDeGrafos<Cliente> validador = ValidadorDeGrafos.<Cliente>construtor(ClienteValidador::valida)
+				.filhos(Cliente::getTelefone, TelefoneValidador::valida).limiarSequencial(1).constroi();
+		assertEquals(Arrays.asList(Collections.emptyList(), Collections.emptyList()),
+				validador.valida(Arrays.asList(cliente, cliente), pool));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_validar_lote_nulo() {
+		Empresa.validadorDeGrafos().valida((List<Empresa>) null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_validar_grafo_nulo() {
+		Empresa.validadorDeGrafos().valida((Empresa) null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_validar_sem_pool() {
+		Empresa.validadorDeGrafos().valida(Collections.<Empresa>emptyList(), null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_construir_sem_validador() {
+		ValidadorDeGrafos.<Empresa>construtor(null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_limiar_menor_que_um() {
+		ValidadorDeGrafos.<Empresa>construtor(EmpresaValidador::valida).limiarSequencial(0);
+	}
+
+	@Test
+	public void deve_validar_lote_vazio() {
+		assertTrue(Empresa.validadorDeGrafos().valida(Collections.<Empresa>emptyList(), pool).isEmpty());
+	}
+
+}
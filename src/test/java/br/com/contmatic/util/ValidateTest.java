@@ -0,0 +1,177 @@
+package br.com.contmatic.util;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class ValidateTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ValidateTest {
+
+	@Test
+	public void deve_aceitar_cpf_valido() {
+		assertTrue(Validate.isCPF("39609538878"));
+		assertTrue(Validate.isCPF(new StringBuilder("53268874878")));
+	}
+
+	@Test
+	public void nao_deve_aceitar_cpf_com_digito_incorreto() {
+		assertFalse(Validate.isCPF("39609538877"));
+		assertFalse(Validate.isCPF("39609538868"));
+	}
+
+	@Test
+	public void nao_deve_aceitar_cpf_com_digitos_repetidos() {
+		for (char c = '0'; c <= '9'; c++) {
+			assertFalse(Validate.isCPF(repete(c, 11)));
+		}
+	}
+
+	@Test
+	public void nao_deve_aceitar_cpf_com_tamanho_incorreto_letras_ou_nulo() {
+		assertFalse(Validate.isCPF("3960953887"));
+		assertFalse(Validate.isCPF("396095388780"));
+		assertFalse(Validate.isCPF("3960953887a"));
+		assertFalse(Validate.isCPF((CharSequence) null));
+	}
+
+	@Test
+	public void deve_validar_cpf_em_buffer_de_char() {
+		char[] buffer = "xx39609538878yy".toCharArray();
+		assertTrue(Validate.isCPF(buffer, 2, 11));
+		assertFalse(Validate.isCPF(buffer, 1, 11));
+		assertFalse(Validate.isCPF(buffer, 2, 10));
+		assertFalse(Validate.isCPF(buffer, 5, 11));
+	}
+
+	@Test
+	public void deve_validar_cpf_em_buffer_de_byte() {
+		byte[] buffer = "39609538878\n23177895805\n".getBytes(US_ASCII);
+		assertTrue(Validate.isCPF(buffer, 0));
+		assertTrue(Validate.isCPF(buffer, 12));
+		assertFalse(Validate.isCPF(buffer, 1));
+		assertFalse(Validate.isCPF(buffer, 14));
+	}
+
+	@Test
+	public void deve_aceitar_cnpj_valido() {
+		assertTrue(Validate.isCNPJ("21298596000128"));
+		assertTrue(Validate.isCNPJ("00682547000114"));
+	}
+
+	@Test
+	public void nao_deve_aceitar_cnpj_com_digito_incorreto() {
+		assertFalse(Validate.isCNPJ("35667373000104"));
+		assertFalse(Validate.isCNPJ("35667373000113"));
+	}
+
+	@Test
+	public void nao_deve_aceitar_cnpj_com_digitos_repetidos() {
+		for (char c = '0'; c <= '9'; c++) {
+			assertFalse(Validate.isCNPJ(repete(c, 14)));
+		}
+	}
+
+	@Test
+	public void nao_deve_aceitar_cnpj_com_tamanho_incorreto_letras_ou_nulo() {
+		assertFalse(Validate.isCNPJ("3566737300010"));
+		assertFalse(Validate.isCNPJ("356673730001030"));
+		assertFalse(Validate.isCNPJ("abcdefabcadgef"));
+		assertFalse(Validate.isCNPJ((CharSequence) null));
+	}
+
+	@Test
+	public void deve_validar_cnpj_em_buffers() {
+		assertTrue(Validate.isCNPJ("--35667373000103".toCharArray(), 2, 14));
+		assertTrue(Validate.isCNPJ("--35667373000103".getBytes(US_ASCII), 2));
+		assertFalse(Validate.isCNPJ("--35667373000103".getBytes(US_ASCII), 3));
+	}
+
+	@Test
+	public void deve_validar_cpfs_em_lote() {
+		byte[] buffer = "39609538878396095388773960953887823177895805".getBytes(US_ASCII);
+		BitSet validos = Validate.isCPFEmLote(buffer, 4);
+		assertEquals(3, validos.cardinality());
+		assertFalse(validos.get(1));
+	}
+
+	@Test
+	public void deve_validar_cnpjs_em_lote_com_stride_e_em_paralelo() {
+		int quantidade = 3 * ValidacaoEmLote.LIMIAR_SEQUENCIAL + 17;
+		byte[] validoComQuebra = "35667373000103\n".getBytes(US_ASCII);
+		byte[] invalidoComQuebra = "35667373000104\n".getBytes(US_ASCII);
+		byte[] buffer = new byte[quantidade * 15];
+		for (int i = 0; i < quantidade; i++) {
+			System.arraycopy(i % 3 == 0 ? invalidoComQuebra : validoComQuebra, 0, buffer, i * 15, 15);
+		}
+		BitSet validos = Validate.isCNPJEmLote(buffer, 0, 15, quantidade);
+		for (int i = 0; i < quantidade; i++) {
+			assertEquals(i % 3 != 0, validos.get(i));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_lote_maior_que_o_buffer() {
+		Validate.isCPFEmLote(new byte[21], 2);
+	}
+
+	@Test
+	public void deve_extrair_digitos_de_documentos_com_ou_sem_mascara() {
+		assertEquals(39609538878L, Validate.digitosDoCpf("396.095.388-78"));
+		assertEquals(39609538878L, Validate.digitosDoCpf("39609538878"));
+		assertEquals(682547000114L, Validate.digitosDoCnpj("00.682.547/0001-14"));
+		assertEquals(Validate.FORMATO_NAO_RECONHECIDO, Validate.digitosDoCpf("396.095.388/78"));
+		assertEquals(Validate.FORMATO_NAO_RECONHECIDO, Validate.digitosDoCnpj("00.682.547/0001-1a"));
+		assertEquals(Validate.FORMATO_NAO_RECONHECIDO, Validate.digitosDoCnpj(null));
+	}
+
+	@Test
+	public void deve_validar_documentos_com_ou_sem_mascara() {
+		assertTrue(Validate.isCPFComOuSemMascara("396.095.388-78"));
+		assertFalse(Validate.isCPFComOuSemMascara("396.095.388-77"));
+		assertTrue(Validate.isCNPJComOuSemMascara("35.667.373/0001-03"));
+		assertTrue(Validate.isCNPJComOuSemMascara("35667373000103"));
+		assertFalse(Validate.isCNPJComOuSemMascara("35.667.373.0001-03"));
+	}
+
+	@Test
+	public void deve_validar_cnpj_alfanumerico() {
+		assertTrue(Validate.isCNPJ("12ABC34501DE35"));
+		assertTrue(Validate.isCNPJ("12ABC34501DE35".toCharArray(), 0, 14));
+		assertTrue(Validate.isCNPJ("12ABC34501DE35".getBytes(US_ASCII), 0));
+		assertTrue(Validate.isCNPJ(ByteBuffer.wrap("12ABC34501DE35".getBytes(US_ASCII)), 0));
+		assertTrue(Validate.isCNPJComOuSemMascara("12.ABC.345/01DE-35"));
+		assertFalse(Validate.isCNPJ("12ABC34501DE36"));
+		assertFalse(Validate.isCNPJ("12abc34501de35"));
+		assertFalse(Validate.isCNPJ("12ABC34501DE3A"));
+		assertFalse(Validate.isCNPJ("12\u0100BC34501DE35"));
+		assertFalse(Validate.isCNPJ(new byte[] { '1', '2', (byte) 0xC1, 'B', 'C', '3', '4', '5', '0', '1', 'D', 'E', '3', '5' }, 0));
+	}
+
+	@Test
+	public void deve_validar_cnpj_alfanumerico_em_lote() {
+		byte[] lote = "12ABC34501DE3535667373000103".getBytes(US_ASCII);
+		assertEquals(2, Validate.isCNPJEmLote(lote, 2).cardinality());
+	}
+
+	private static String repete(char c, int vezes) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < vezes; i++) {
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,79 @@
+package br.com.contmatic.util;
+
+import static br.com.contmatic.telefone.TelefoneDDDType.DDD11;
+import static br.com.contmatic.telefone.TelefoneType.CELULAR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import br.com.contmatic.empresa.Produto;
+import br.com.contmatic.telefone.Telefone;
+
+/**
+ * The Class ValidationServiceTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ValidationServiceTest {
+
+	@Test
+	public void deve_conhecer_as_sete_classes_de_dominio() {
+		assertEquals(7, ValidationService.CLASSES_DE_DOMINIO.size());
+		for (Class<?> classe : ValidationService.CLASSES_DE_DOMINIO) {
+			assertTrue(classe.getName(), ValidationService.getValidador().getConstraintsForClass(classe).isBeanConstrained());
+		}
+	}
+
+	@Test
+	public void deve_devolver_as_mensagens_das_violacoes() {
+		Produto produto = new Produto(1, "Processador");
+		assertTrue(ValidationService.validate(produto).isValido());
+		Telefone telefone = new Telefone(DDD11, "978457845", CELULAR);
+		ValidationService.Violacoes<Telefone> violacoes = ValidationService.validate(telefone);
+		assertEquals(violacoes.getViolacoes().size(), violacoes.getMensagens().size());
+	}
+
+	@Test
+	public void deve_encontrar_mensagem_ignorando_maiusculas() {
+		Produto produto = new Produto(1, "Processador");
+		produto.setNome("Placa 1");
+		ValidationService.Violacoes<Produto> violacoes = ValidationService.validate(produto);
+		assertFalse(violacoes.isValido());
+		assertTrue(violacoes.contem(Constantes.NOME_INVALIDO.toUpperCase()));
+	}
+
+	@Test
+	public void deve_validar_em_varias_threads_com_o_mesmo_validador() throws InterruptedException, ExecutionException {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> resultados = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				String nome = i % 2 == 0 ? "Processador" : "Placa " + i;
+				resultados.add(executor.submit(() -> ValidationService.validate(new Produto(1, nome)).isValido()));
+			}
+			for (int i = 0; i < resultados.size(); i++) {
+				assertEquals(i % 2 == 0, resultados.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nao_deve_aceitar_objeto_nulo() {
+		ValidationService.validate(null);
+	}
+
+}
@@ -0,0 +1,87 @@
+package br.com.contmatic.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+/**
+ * The Class VerificadorDeTextoTest.
+ *
+ * @author gabriel.santos
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class VerificadorDeTextoTest {
+
+	private static final Pattern ESPECIAIS = Pattern.compile(RegexType.CARACTERES_ESPECIAIS);
+
+	private static final Pattern ESPACOS_DUPLICADOS = Pattern.compile(RegexType.ESPACOS_DUPLICADOS);
+
+	private static final String ALFABETO = "aZ9çÁ.,-'\\\"!@#$%¨&*()_+=|`´^~/{}[]  \t\n\u000B\f\r\u0000\u001F  ";
+
+	@Test
+	public void deve_aceitar_textos_validos() {
+		assertEquals(CodigoDeErro.OK, VerificadorDeTexto.verifica("Gabriel Bueno"));
+		assertEquals(CodigoDeErro.OK, VerificadorDeTexto.verifica(""));
+		assertEquals(CodigoDeErro.OK, VerificadorDeTexto.verifica("Rua São João, 123 - apto. 4"));
+	}
+
+	@Test
+	public void deve_informar_a_regra_violada() {
+		assertEquals(CodigoDeErro.NAO_ACEITA_CARACTERES_ESPECIAIS, VerificadorDeTexto.verifica("Gabriel@Bueno"));
+		assertEquals(CodigoDeErro.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM, VerificadorDeTexto.verifica(" Gabriel"));
+		assertEquals(CodigoDeErro.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM, VerificadorDeTexto.verifica("Gabriel\t"));
+		assertEquals(CodigoDeErro.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS,
+				VerificadorDeTexto.verifica("Gabriel \tBueno"));
+	}
+
+	@Test
+	public void deve_priorizar_caracteres_especiais_como_a_verificacao_em_sequencia() {
+		assertEquals(CodigoDeErro.NAO_ACEITA_CARACTERES_ESPECIAIS, VerificadorDeTexto.verifica(" Gabriel  Bueno#"));
+		assertEquals(CodigoDeErro.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM, VerificadorDeTexto.verifica(" Gabriel  Bueno"));
+	}
+
+	@Test
+	public void deve_dar_o_mesmo_resultado_que_as_tres_verificacoes_originais() {
+		Random aleatorio = new Random(12);
+		StringBuilder texto = new StringBuilder();
+		for (int i = 0; i < 50_000; i++) {
+			texto.setLength(0);
+			int tamanho = aleatorio.nextInt(8);
+			for (int j = 0; j < tamanho; j++) {
+				texto.append(ALFABETO.charAt(aleatorio.nextInt(ALFABETO.length())));
+			}
+			String gerado = texto.toString();
+			assertEquals(gerado, verificacaoOriginal(gerado), VerificadorDeTexto.verifica(gerado));
+		}
+	}
+
+	@Test
+	public void deve_lancar_a_mensagem_da_regra_violada() {
+		try {
+			RegexType.validaEspacosIncorretosECaracteresEspeciais("Gabriel  Bueno");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(Constantes.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS, e.getMessage());
+		}
+	}
+
+	private static int verificacaoOriginal(String texto) {
+		if (ESPECIAIS.matcher(texto).find()) {
+			return CodigoDeErro.NAO_ACEITA_CARACTERES_ESPECIAIS;
+		}
+		if (!texto.equals(texto.trim())) {
+			return CodigoDeErro.NAO_ACEITA_ESPACO_NO_INICIO_OU_NO_FIM;
+		}
+		if (ESPACOS_DUPLICADOS.matcher(texto).find()) {
+			return CodigoDeErro.NAO_ACEITA_MAIS_QUE_UM_ESPACO_ENTRE_AS_PALAVRAS;
+		}
+		return CodigoDeErro.OK;
+	}
+
+}